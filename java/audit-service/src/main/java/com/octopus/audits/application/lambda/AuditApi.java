@@ -3,6 +3,7 @@ package com.octopus.audits.application.lambda;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.github.jasminb.jsonapi.exceptions.DocumentSerializationException;
 import com.octopus.audits.GlobalConstants;
 import com.octopus.audits.domain.exceptions.EntityNotFound;
 import com.octopus.audits.domain.exceptions.InvalidInput;
@@ -10,32 +11,33 @@ import com.octopus.audits.domain.exceptions.Unauthorized;
 import com.octopus.audits.domain.handlers.AuditsHandler;
 import com.octopus.audits.domain.handlers.HealthHandler;
 import com.octopus.audits.domain.utilities.ProxyResponseBuilder;
-import com.octopus.audits.domain.utilities.RegExUtils;
-import com.octopus.lambda.LambdaHttpHeaderExtractor;
-import com.octopus.lambda.LambdaHttpValueExtractor;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.LambdaRouter;
+import com.octopus.lambda.RouteHandler;
 import cz.jirutka.rsql.parser.RSQLParserException;
 import java.util.Base64;
-import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.transaction.Transactional;
 import lombok.NonNull;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 
 /** The Lambda entry point used to return audit resources. */
 @Named("Audits")
 @ApplicationScoped
 public class AuditApi implements RequestHandler<APIGatewayProxyRequestEvent, ProxyResponse> {
 
-  /** A regular expression matching the collection of entities. */
-  public static final Pattern ROOT_RE = Pattern.compile("/api/audits/?");
-  /** A regular expression matching a single entity. */
-  public static final Pattern INDIVIDUAL_RE = Pattern.compile("/api/audits/(?<id>\\d+)");
-  /** A regular expression matching a health endpoint. */
-  public static final Pattern HEALTH_RE =
-      Pattern.compile("/health/audits/(GET|POST|[A-Za-z0-9]+/(GET|DELETE|PATCH))");
+  /** The path template matching the collection of entities. */
+  public static final String ROOT_PATH = "/api/audits";
+  /** The path template matching a single entity. */
+  public static final String INDIVIDUAL_PATH = "/api/audits/{id}";
+  /** The path template matching the health of the collection of entities. */
+  public static final String HEALTH_PATH = "/health/audits";
+  /** The path template matching the health of a single entity. */
+  public static final String INDIVIDUAL_HEALTH_PATH = "/health/audits/{id}";
 
   @Inject
   AuditsHandler auditsHandler;
@@ -43,11 +45,32 @@ public class AuditApi implements RequestHandler<APIGatewayProxyRequestEvent, Pro
   @Inject
   HealthHandler healthHandler;
 
-  @Inject
-  LambdaHttpValueExtractor lambdaHttpValueExtractor;
-
-  @Inject
-  LambdaHttpHeaderExtractor lambdaHttpHeaderExtractor;
+  /*
+   Lambdas don't enjoy the same middleware and framework support as web servers, so we are
+   on our own with functionality such as routing requests to handlers. The router is built
+   once, and matches the request path against the registered routes.
+  */
+  final LambdaRouter<ProxyResponse> router = LambdaRouter.<ProxyResponse>builder()
+      .route(GlobalConstants.GET_METHOD, ROOT_PATH, this::getAll)
+      .route(GlobalConstants.GET_METHOD, INDIVIDUAL_PATH, this::getOne)
+      .route(GlobalConstants.POST_METHOD, ROOT_PATH, this::createOne)
+      .route(GlobalConstants.GET_METHOD, HEALTH_PATH + "/GET", checkHealth("GET"))
+      .route(GlobalConstants.GET_METHOD, HEALTH_PATH + "/POST", checkHealth("POST"))
+      .route(GlobalConstants.GET_METHOD, INDIVIDUAL_HEALTH_PATH + "/GET", checkHealth("GET"))
+      .route(GlobalConstants.GET_METHOD, INDIVIDUAL_HEALTH_PATH + "/DELETE", checkHealth("DELETE"))
+      .route(GlobalConstants.GET_METHOD, INDIVIDUAL_HEALTH_PATH + "/PATCH", checkHealth("PATCH"))
+      .exception(Unauthorized.class,
+          (e, request) -> ProxyResponseBuilder.buildUnauthorizedRequest(e))
+      .exception(EntityNotFound.class,
+          (e, request) -> ProxyResponseBuilder.buildNotFound())
+      .exception(InvalidInput.class,
+          (e, request) -> ProxyResponseBuilder.buildBadRequest(e))
+      .exception(RSQLParserException.class,
+          (e, request) -> ProxyResponseBuilder.buildBadRequest(e))
+      .notFound(request -> ProxyResponseBuilder.buildNotFound())
+      .methodNotAllowed(request -> ProxyResponseBuilder.buildMethodNotAllowed())
+      .error(this::buildError)
+      .build();
 
   /**
    * See https://github.com/quarkusio/quarkus/issues/5811 for why we need @Transactional.
@@ -60,17 +83,7 @@ public class AuditApi implements RequestHandler<APIGatewayProxyRequestEvent, Pro
   @Transactional
   public ProxyResponse handleRequest(
       @NonNull final APIGatewayProxyRequestEvent input, @NonNull final Context context) {
-
-    /*
-     Lambdas don't enjoy the same middleware and framework support as web servers, so we are
-     on our own with functionality such as routing requests to handlers. This code simply calls
-     each handler to find the first one that responds to the request.
-    */
-    return getAll(input)
-        .or(() -> getOne(input))
-        .or(() -> createOne(input))
-        .or(() -> checkHealth(input))
-        .orElse(ProxyResponseBuilder.buildNotFound());
+    return router.route(LambdaRequestContext.fromEvent(input));
   }
 
   /**
@@ -99,141 +112,100 @@ public class AuditApi implements RequestHandler<APIGatewayProxyRequestEvent, Pro
    * endpoints, but clients can not assume this is always the case, and must check the health of
    * each endpoint to accurately evaluate the health of the service.
    *
-   * @param input The request details
-   * @return The optional proxy response
+   * <p>The health path and method are taken from the matched route rather than the request path,
+   * which may end with a slash.
+   *
+   * @param method The http method whose health is checked
+   * @return The handler for the health endpoint
    */
-  private Optional<ProxyResponse> checkHealth(final APIGatewayProxyRequestEvent input) {
-
-    if (requestIsMatch(input, HEALTH_RE, GlobalConstants.GET_METHOD)) {
-      try {
-        return Optional.of(
-            new ProxyResponse(
-                "200",
-                healthHandler.getHealth(
-                    input.getPath().substring(0, input.getPath().lastIndexOf("/")),
-                    input.getPath().substring(input.getPath().lastIndexOf("/")))));
-      } catch (final Exception e) {
-        e.printStackTrace();
-        return Optional.of(ProxyResponseBuilder.buildError(e));
-      }
-    }
-
-    return Optional.empty();
+  private RouteHandler<ProxyResponse> checkHealth(final String method) {
+    return (request, pathVariables) -> new ProxyResponse(
+        "200",
+        healthHandler.getHealth(
+            pathVariables.containsKey("id")
+                ? HEALTH_PATH + "/" + pathVariables.get("id")
+                : HEALTH_PATH,
+            method));
   }
 
   /**
    * Get a collection of audits.
    *
-   * @param input The Lambda request.
+   * @param request The Lambda request.
+   * @param pathVariables The variables in the request path.
    * @return The Lambda response.
    */
-  private Optional<ProxyResponse> getAll(final APIGatewayProxyRequestEvent input) {
-    try {
-      if (requestIsMatch(input, ROOT_RE, GlobalConstants.GET_METHOD)) {
-        return Optional.of(
-            new ProxyResponse(
-                "200",
-                auditsHandler.getAll(
-                    lambdaHttpHeaderExtractor.getAllHeaders(input, GlobalConstants.DATA_PARTITION_HEADER),
-                    lambdaHttpValueExtractor.getQueryParam(input, GlobalConstants.FILTER_QUERY_PARAM).orElse(null),
-                    lambdaHttpValueExtractor.getQueryParam(input, GlobalConstants.PAGE_OFFSET_QUERY_PARAM).orElse(null),
-                    lambdaHttpValueExtractor.getQueryParam(input, GlobalConstants.PAGE_LIMIT_QUERY_PARAM).orElse(null),
-                    lambdaHttpHeaderExtractor.getFirstHeader(input, GlobalConstants.AUTHORIZATION_HEADER).orElse(null),
-                    lambdaHttpHeaderExtractor.getFirstHeader(input, GlobalConstants.SERVICE_AUTHORIZATION_HEADER).orElse(null))));
-      }
-    } catch (final Unauthorized e) {
-      return Optional.of(ProxyResponseBuilder.buildUnauthorizedRequest(e));
-    } catch (final RSQLParserException e) {
-      return Optional.of(ProxyResponseBuilder.buildBadRequest(e));
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return Optional.of(ProxyResponseBuilder.buildError(e));
-    }
-
-    return Optional.empty();
+  private ProxyResponse getAll(
+      final LambdaRequestContext request, final Map<String, String> pathVariables)
+      throws DocumentSerializationException {
+    return new ProxyResponse(
+        "200",
+        auditsHandler.getAll(
+            request.getAllHeaders(GlobalConstants.DATA_PARTITION_HEADER),
+            request.getQueryParam(GlobalConstants.FILTER_QUERY_PARAM).orElse(null),
+            request.getQueryParam(GlobalConstants.PAGE_OFFSET_QUERY_PARAM).orElse(null),
+            request.getQueryParam(GlobalConstants.PAGE_LIMIT_QUERY_PARAM).orElse(null),
+            request.getFirstHeader(GlobalConstants.AUTHORIZATION_HEADER).orElse(null),
+            request.getFirstHeader(GlobalConstants.SERVICE_AUTHORIZATION_HEADER).orElse(null)));
   }
 
   /**
-   * Return a audit.
+   * Return a audit. Audit IDs are numeric, so any other ID is not found.
    *
-   * @param input The Lambda request.
+   * @param request The Lambda request.
+   * @param pathVariables The variables in the request path.
    * @return The Lambda response.
    */
-  private Optional<ProxyResponse> getOne(final APIGatewayProxyRequestEvent input) {
-    try {
-
-      if (requestIsMatch(input, INDIVIDUAL_RE, GlobalConstants.GET_METHOD)) {
-        final Optional<String> id = RegExUtils.getGroup(INDIVIDUAL_RE, input.getPath(), "id");
+  private ProxyResponse getOne(
+      final LambdaRequestContext request, final Map<String, String> pathVariables)
+      throws DocumentSerializationException {
+    final String id = pathVariables.get("id");
 
-        if (id.isPresent()) {
-          final String entity =
-              auditsHandler.getOne(
-                  id.get(),
-                  lambdaHttpHeaderExtractor.getAllHeaders(input, GlobalConstants.DATA_PARTITION_HEADER),
-                  lambdaHttpHeaderExtractor.getFirstHeader(input, GlobalConstants.AUTHORIZATION_HEADER).orElse(null),
-                  lambdaHttpHeaderExtractor.getFirstHeader(input, GlobalConstants.SERVICE_AUTHORIZATION_HEADER).orElse(null));
-
-          return Optional.of(new ProxyResponse("200", entity));
-        }
-        return Optional.of(ProxyResponseBuilder.buildNotFound());
-      }
-    } catch (final Unauthorized e) {
-      return Optional.of(ProxyResponseBuilder.buildUnauthorizedRequest(e));
-    } catch (final EntityNotFound ex) {
-      return Optional.of(ProxyResponseBuilder.buildNotFound());
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return Optional.of(ProxyResponseBuilder.buildError(e));
+    if (!NumberUtils.isDigits(id)) {
+      return ProxyResponseBuilder.buildNotFound();
     }
 
-    return Optional.empty();
+    return new ProxyResponse(
+        "200",
+        auditsHandler.getOne(
+            id,
+            request.getAllHeaders(GlobalConstants.DATA_PARTITION_HEADER),
+            request.getFirstHeader(GlobalConstants.AUTHORIZATION_HEADER).orElse(null),
+            request.getFirstHeader(GlobalConstants.SERVICE_AUTHORIZATION_HEADER).orElse(null)));
   }
 
   /**
    * Create a audit.
    *
-   * @param input The Lambda request.
+   * @param request The Lambda request.
+   * @param pathVariables The variables in the request path.
    * @return The Lambda response.
    */
-  private Optional<ProxyResponse> createOne(final APIGatewayProxyRequestEvent input) {
-    try {
-      if (requestIsMatch(input, ROOT_RE, GlobalConstants.POST_METHOD)) {
-        return Optional.of(
-            new ProxyResponse(
-                "200",
-                auditsHandler.create(
-                    getBody(input),
-                    lambdaHttpHeaderExtractor.getAllHeaders(input, GlobalConstants.DATA_PARTITION_HEADER),
-                    lambdaHttpHeaderExtractor.getFirstHeader(input, GlobalConstants.AUTHORIZATION_HEADER).orElse(null),
-                    lambdaHttpHeaderExtractor.getFirstHeader(input, GlobalConstants.SERVICE_AUTHORIZATION_HEADER).orElse(null))));
-      }
-    } catch (final Unauthorized e) {
-      return Optional.of(ProxyResponseBuilder.buildUnauthorizedRequest(e));
-    } catch (final InvalidInput e) {
-      return Optional.of(ProxyResponseBuilder.buildBadRequest(e));
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return Optional.of(ProxyResponseBuilder.buildError(e, getBody(input)));
-    }
-
-    return Optional.empty();
+  private ProxyResponse createOne(
+      final LambdaRequestContext request, final Map<String, String> pathVariables)
+      throws DocumentSerializationException {
+    return new ProxyResponse(
+        "200",
+        auditsHandler.create(
+            getBody(request.getEvent()),
+            request.getAllHeaders(GlobalConstants.DATA_PARTITION_HEADER),
+            request.getFirstHeader(GlobalConstants.AUTHORIZATION_HEADER).orElse(null),
+            request.getFirstHeader(GlobalConstants.SERVICE_AUTHORIZATION_HEADER).orElse(null)));
   }
 
   /**
-   * Determine if the Lambda request matches path and method.
+   * Build the response for an unexpected exception, including the request body if there was one.
    *
-   * @param input The Lmabda request.
-   * @param regex The path regex.
-   * @param method The HTTP method.
-   * @return true if this request matches the supplied values, and false otherwise.
+   * @param ex The exception.
+   * @param request The Lambda request.
+   * @return The Lambda response.
    */
-  public boolean requestIsMatch(
-      @NonNull final APIGatewayProxyRequestEvent input,
-      @NonNull final Pattern regex,
-      @NonNull final String method) {
-    final String path = ObjectUtils.defaultIfNull(input.getPath(), "");
-    final String requestMethod = ObjectUtils.defaultIfNull(input.getHttpMethod(), "").toLowerCase();
-    return regex.matcher(path).matches() && method.toLowerCase().equals(requestMethod);
+  private ProxyResponse buildError(final Exception ex, final LambdaRequestContext request) {
+    ex.printStackTrace();
+    final String body = getBody(request.getEvent());
+    return body.isEmpty()
+        ? ProxyResponseBuilder.buildError(ex)
+        : ProxyResponseBuilder.buildError(ex, body);
   }
 
   /**
@@ -1,19 +1,37 @@
 package com.octopus.audits.domain.framework.producers;
 
+import com.octopus.audits.domain.features.impl.AdminJwtGroupFeature;
+import com.octopus.audits.domain.features.impl.DisableSecurityFeature;
 import com.octopus.audits.domain.jsonapi.AcceptHeaderVerifier;
 import com.octopus.audits.domain.jsonapi.impl.VersionOneAcceptHeaderVerifier;
+import com.octopus.audits.domain.utilities.JwtUtils;
+import com.octopus.audits.domain.utilities.impl.JoseJwtVerifier;
+import com.octopus.audits.domain.utilities.impl.JwtVerifierInspector;
+import com.octopus.jwt.AuthContextFactory;
+import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.impl.AuthContextFactoryImpl;
 import com.octopus.lambda.LambdaHttpHeaderExtractor;
 import com.octopus.lambda.LambdaHttpValueExtractor;
 import com.octopus.lambda.impl.CaseInsensitiveHttpHeaderExtractor;
 import com.octopus.lambda.impl.CaseInsensitiveLambdaHttpValueExtractor;
+import com.octopus.utilties.impl.PartitionIdentifierImpl;
+import java.util.Optional;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /**
  * Produces a number of objects for injection.
  */
 @ApplicationScoped
 public class UtilityProducer {
+
+  @ConfigProperty(name = "cognito.admin-claim")
+  String cognitoAdminClaim;
+
+  @ConfigProperty(name = "cognito.client-id")
+  String cognitoClientId;
+
   /**
    * Produces the Lambda query param extractor.
    *
@@ -46,4 +64,31 @@ public class UtilityProducer {
   public AcceptHeaderVerifier getAcceptHeaderVerifier() {
     return new VersionOneAcceptHeaderVerifier();
   }
+
+  /**
+   * Produces the service that builds the authorization context of a request. The audit service
+   * verifies tokens with its own JwtVerifier, which is adapted to the shared JwtInspector interface.
+   *
+   * @return An implementation of AuthContextFactory.
+   */
+  @ApplicationScoped
+  @Produces
+  public AuthContextFactory getAuthContextFactory(
+      JoseJwtVerifier jwtVerifier,
+      JwtUtils jwtUtils,
+      AdminJwtGroupFeature adminJwtGroupFeature,
+      DisableSecurityFeature disableSecurityFeature) {
+    final JwtInspector jwtInspector = new JwtVerifierInspector(jwtVerifier);
+    return new AuthContextFactoryImpl(
+        jwtInspector,
+        jwtUtils::getJwtFromAuthorizationHeader,
+        new PartitionIdentifierImpl(
+            jwtInspector,
+            adminJwtGroupFeature::getAdminGroup,
+            disableSecurityFeature::getCognitoAuthDisabled),
+        () -> Optional.of(cognitoAdminClaim),
+        adminJwtGroupFeature::getAdminGroup,
+        disableSecurityFeature::getCognitoAuthDisabled,
+        cognitoClientId);
+  }
 }
@@ -10,24 +10,20 @@ import com.octopus.audits.domain.entities.Audit;
 import com.octopus.audits.domain.exceptions.EntityNotFound;
 import com.octopus.audits.domain.exceptions.InvalidInput;
 import com.octopus.audits.domain.exceptions.Unauthorized;
-import com.octopus.audits.domain.features.impl.DisableSecurityFeature;
-import com.octopus.audits.domain.utilities.JwtUtils;
-import com.octopus.audits.domain.utilities.PartitionIdentifier;
-import com.octopus.audits.domain.utilities.impl.JoseJwtVerifier;
 import com.octopus.audits.domain.wrappers.FilteredResultWrapper;
 import com.octopus.audits.infrastructure.repositories.AuditRepository;
+import com.octopus.jwt.AuthContext;
+import com.octopus.jwt.AuthContextFactory;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RetryPolicy;
 import io.vavr.control.Try;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /**
  * Handlers take the raw input from the upstream service, like Lambda or a web server, convert the inputs to POJOs, apply the security rules, create an audit
@@ -76,18 +72,6 @@ public class AuditsHandler {
       .withMaxRetries(24)
       .build();
 
-  @ConfigProperty(name = "cognito.admin-claim")
-  String cognitoAdminClaim;
-
-  @ConfigProperty(name = "cognito.client-id")
-  String cognitoClientId;
-
-  @Inject
-  DisableSecurityFeature cognitoDisableAuth;
-
-  @ConfigProperty(name = "cognito.admin-group")
-  Optional<String> adminGroup;
-
   @Inject
   AuditRepository auditRepository;
 
@@ -95,13 +79,7 @@ public class AuditsHandler {
   ResourceConverter resourceConverter;
 
   @Inject
-  PartitionIdentifier partitionIdentifier;
-
-  @Inject
-  JoseJwtVerifier jwtVerifier;
-
-  @Inject
-  JwtUtils jwtUtils;
+  AuthContextFactory authContextFactory;
 
   @Inject
   UntrustedActions untrustedActions;
@@ -121,14 +99,16 @@ public class AuditsHandler {
       final String authorizationHeader,
       final String serviceAuthorizationHeader)
       throws DocumentSerializationException {
-    if (!isAuthorized(authorizationHeader, serviceAuthorizationHeader)) {
+    final AuthContext authContext = authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        dataPartitionHeaders);
+
+    if (!authContext.isAuthorized()) {
       throw new Unauthorized();
     }
 
-    final String partition = partitionIdentifier
-        .getPartition(
-            dataPartitionHeaders,
-            jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader).orElse(null));
+    final String partition = authContext.getDataPartition();
 
     final FilteredResultWrapper<Audit> audits = Failsafe.with(RETRY_POLICY_GET_ALL).get(() ->
         auditRepository.findAll(
@@ -164,14 +144,17 @@ public class AuditsHandler {
 
     final Audit audit = getResourceFromDocument(document);
 
+    final AuthContext authContext = authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        dataPartitionHeaders);
+
     if (!(untrustedActions.getUntrustedActions().contains(audit.getAction())
-        || isAuthorized(authorizationHeader, serviceAuthorizationHeader))) {
+        || authContext.isAuthorized())) {
       throw new Unauthorized();
     }
 
-    audit.dataPartition = partitionIdentifier.getPartition(
-        dataPartitionHeaders,
-        jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader).orElse(null));
+    audit.dataPartition = authContext.getDataPartition();
 
     Failsafe.with(RETRY_POLICY_CREATE_ONE).run(() -> auditRepository.save(audit));
 
@@ -191,12 +174,16 @@ public class AuditsHandler {
       final String authorizationHeader,
       final String serviceAuthorizationHeader)
       throws DocumentSerializationException {
-    if (!isAuthorized(authorizationHeader, serviceAuthorizationHeader)) {
+    final AuthContext authContext = authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        dataPartitionHeaders);
+
+    if (!authContext.isAuthorized()) {
       throw new Unauthorized();
     }
 
-    final String partition = partitionIdentifier
-        .getPartition(dataPartitionHeaders, jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader).orElse(null));
+    final String partition = authContext.getDataPartition();
 
     final int parsedInt = Try.of(() -> Integer.parseInt(id))
         .getOrElseThrow(EntityNotFound::new);
@@ -236,46 +223,4 @@ public class AuditsHandler {
     final JSONAPIDocument<Audit> document = new JSONAPIDocument<Audit>(audit);
     return new String(resourceConverter.writeDocument(document));
   }
-
-  /**
-   * Determines if the supplied token grants the required scopes to execute the operation.
-   *
-   * @param authorizationHeader        The Authorization header.
-   * @param serviceAuthorizationHeader The Service-Authorization header.
-   * @return true if the request is authorized, and false otherwise.
-   */
-  private boolean isAuthorized(
-      final String authorizationHeader,
-      final String serviceAuthorizationHeader) {
-
-    /*
-      This method implements the following logic:
-      * If auth is disabled, return true.
-      * If the Service-Authorization header contains an access token with the correct scope,
-        generated by a known app client, return true.
-      * If the Authorization header contains a known group, return true.
-      * Otherwise, return false.
-     */
-
-    if (cognitoDisableAuth.getCognitoAuthDisabled()) {
-      return true;
-    }
-
-    /*
-      An admin scope granted to an access token generated by a known client credentials
-      app client is accepted as machine-to-machine communication.
-     */
-    if (jwtUtils.getJwtFromAuthorizationHeader(serviceAuthorizationHeader)
-        .map(jwt -> jwtVerifier.jwtContainsScope(jwt, cognitoAdminClaim, cognitoClientId))
-        .orElse(false)) {
-      return true;
-    }
-
-    /*
-      Anyone assigned to the appropriate group is also granted access.
-     */
-    return adminGroup.isPresent() && jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader)
-        .map(jwt -> jwtVerifier.jwtContainsCognitoGroup(jwt, adminGroup.get()))
-        .orElse(false);
-  }
 }
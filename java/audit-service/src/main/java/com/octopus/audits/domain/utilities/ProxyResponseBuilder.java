@@ -47,6 +47,15 @@ public class ProxyResponseBuilder {
     return new ProxyResponse("404", "{\"errors\": [{\"title\": \"Resource not found\"}]}");
   }
 
+  /**
+   * Build a error object for a 405 method not allowed error. https://jsonapi.org/format/#error-objects
+   *
+   * @return The ProxyResponse representing the error.
+   */
+  public static ProxyResponse buildMethodNotAllowed() {
+    return new ProxyResponse("405", "{\"errors\": [{\"title\": \"Method not allowed\"}]}");
+  }
+
   /**
    * Build an error object including the exception name. https://jsonapi.org/format/#error-objects
    *
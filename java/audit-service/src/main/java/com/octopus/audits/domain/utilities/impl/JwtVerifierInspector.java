@@ -0,0 +1,46 @@
+package com.octopus.audits.domain.utilities.impl;
+
+import com.octopus.audits.domain.utilities.JwtVerifier;
+import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.VerifiedJwt;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * Exposes the audit service JwtVerifier as a JwtInspector, allowing the shared AuthContextFactory
+ * to verify the tokens passed to this service. The JwtVerifier only answers group and scope
+ * checks, so claims are not exposed.
+ */
+public class JwtVerifierInspector implements JwtInspector {
+
+  private final JwtVerifier jwtVerifier;
+
+  /**
+   * Constructor.
+   *
+   * @param jwtVerifier The JWT verifier service.
+   */
+  public JwtVerifierInspector(@NonNull final JwtVerifier jwtVerifier) {
+    this.jwtVerifier = jwtVerifier;
+  }
+
+  @Override
+  public boolean jwtContainsCognitoGroup(final String jwt, final String group) {
+    return jwtVerifier.jwtContainsCognitoGroup(jwt, group);
+  }
+
+  @Override
+  public boolean jwtContainsScope(final String jwt, final String claim, final String clientId) {
+    return jwtVerifier.jwtContainsScope(jwt, claim, clientId);
+  }
+
+  @Override
+  public Optional<String> getClaim(final String jwt, final String claim) {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<VerifiedJwt> getVerifiedJwt(final String jwt) {
+    return Optional.empty();
+  }
+}
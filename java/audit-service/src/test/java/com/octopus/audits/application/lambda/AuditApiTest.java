@@ -1,10 +1,10 @@
 package com.octopus.audits.application.lambda;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
-import com.octopus.audits.GlobalConstants;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -15,48 +15,37 @@ public class AuditApiTest {
   @ParameterizedTest
   @ValueSource(strings = {"/health/audits/GET", "/health/audits/POST", "/health/audits/x/GET"})
   public void testHealthRequestMatching(final String path) {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath(path);
-    assertTrue(AUDIT_API.requestIsMatch(event, AuditApi.HEALTH_RE, GlobalConstants.GET_METHOD));
+    assertTrue(AUDIT_API.router.match("GeT", path).isFound());
   }
 
   @Test
   public void testRootRequestMatching() {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath("/api/audits");
-    assertTrue(AUDIT_API.requestIsMatch(event, AuditApi.ROOT_RE, GlobalConstants.GET_METHOD));
+    assertTrue(AUDIT_API.router.match("GeT", "/api/audits").isFound());
+    assertTrue(AUDIT_API.router.match("GeT", "/api/audits/").isFound());
   }
 
   @Test
   public void testIndividualRequestMatching() {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath("/api/audits/1");
-    assertTrue(AUDIT_API.requestIsMatch(event, AuditApi.INDIVIDUAL_RE, GlobalConstants.GET_METHOD));
+    assertEquals(
+        Map.of("id", "1"),
+        AUDIT_API.router.match("GeT", "/api/audits/1").getPathVariables());
   }
 
   @Test
   public void testCreateRequestMatching() {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("PoSt");
-    event.setPath("/api/audits");
-    assertTrue(AUDIT_API.requestIsMatch(event, AuditApi.ROOT_RE, GlobalConstants.POST_METHOD));
+    assertTrue(AUDIT_API.router.match("PoSt", "/api/audits").isFound());
   }
 
   @Test
-  public void testNullParams() {
-    assertThrows(NullPointerException.class, () -> {
-      AUDIT_API.requestIsMatch(new APIGatewayProxyRequestEvent(), AuditApi.ROOT_RE, null);
-    });
-
-    assertThrows(NullPointerException.class, () -> {
-      AUDIT_API.requestIsMatch(new APIGatewayProxyRequestEvent(), null, "");
-    });
-
-    assertThrows(NullPointerException.class, () -> {
-      AUDIT_API.requestIsMatch(null, AuditApi.ROOT_RE, "");
-    });
+  public void testMethodNotAllowed() {
+    assertTrue(AUDIT_API.router.match("DELETE", "/api/audits").isMethodNotAllowed());
+    assertTrue(AUDIT_API.router.match("POST", "/health/audits/GET").isMethodNotAllowed());
+  }
+
+  @Test
+  public void testUnmatchedRequests() {
+    assertFalse(AUDIT_API.router.match("GET", "/api/blah").isFound());
+    assertFalse(AUDIT_API.router.match("GET", "/health/audits/x/POST").isFound());
+    assertFalse(AUDIT_API.router.match(null, null).isFound());
   }
 }
@@ -322,4 +322,16 @@ public class LambdaTests extends BaseTest {
         auditApi.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
     assertEquals("200", postResponse.statusCode);
   }
+
+  @Test
+  public void testHealthTrailingSlash() {
+    final APIGatewayProxyRequestEvent apiGatewayProxyRequestEvent =
+        new APIGatewayProxyRequestEvent();
+    apiGatewayProxyRequestEvent.setHttpMethod("GET");
+    apiGatewayProxyRequestEvent.setPath("/health/audits/x/DELETE/");
+    final ProxyResponse postResponse =
+        auditApi.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
+    assertEquals("200", postResponse.statusCode);
+    assertTrue(postResponse.body.contains("\"/health/audits/x/DELETE\""));
+  }
 }
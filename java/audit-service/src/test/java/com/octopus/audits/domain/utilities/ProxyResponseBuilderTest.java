@@ -68,6 +68,12 @@ public class ProxyResponseBuilderTest {
     assertEquals("404", response.statusCode);
   }
 
+  @Test
+  public void testBuildMethodNotAllowed() {
+    final ProxyResponse response = ProxyResponseBuilder.buildMethodNotAllowed();
+    assertEquals("405", response.statusCode);
+  }
+
   @Test
   public void testBuildUnauthorized() throws JsonProcessingException {
     final ProxyResponse response = ProxyResponseBuilder.buildUnauthorizedRequest(new Exception());
@@ -6,19 +6,19 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.google.common.net.HttpHeaders;
 import com.octopus.Constants;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.LambdaRouter;
 import com.octopus.lambda.RequestBodyExtractor;
-import com.octopus.lambda.RequestMatcher;
 import com.octopus.loginmessage.application.Paths;
 import com.octopus.loginmessage.domain.handlers.HealthHandler;
 import com.octopus.loginmessage.domain.handlers.ResourceHandler;
 import com.octopus.exceptions.InvalidInputException;
 import com.octopus.exceptions.UnauthorizedException;
 import com.octopus.lambda.ApiGatewayProxyResponseEventWithCors;
-import com.octopus.lambda.LambdaHttpHeaderExtractor;
 import com.octopus.lambda.ProxyResponseBuilder;
+import com.octopus.lambda.RouteHandler;
 import java.util.Base64;
-import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -34,38 +34,37 @@ import org.apache.commons.lang3.ObjectUtils;
 public class LambdaRequestHanlder implements
     RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
-  /**
-   * A regular expression matching the collection of entities.
-   */
-  public static final Pattern ROOT_RE = Pattern.compile(Paths.API_ENDPOINT + "/?");
-  /**
-   * A regular expression matching a single entity.
-   */
-  public static final Pattern INDIVIDUAL_RE = Pattern.compile(Paths.API_ENDPOINT + "/(?<id>\\d+)");
-  /**
-   * A regular expression matching a health endpoint.
-   */
-  public static final Pattern HEALTH_RE =
-      Pattern.compile(Paths.HEALTH_ENDPOINT + "/POST");
-
   @Inject
   ResourceHandler resourceHandler;
 
   @Inject
   HealthHandler healthHandler;
 
-  @Inject
-  LambdaHttpHeaderExtractor lambdaHttpHeaderExtractor;
-
   @Inject
   ProxyResponseBuilder proxyResponseBuilder;
 
-  @Inject
-  RequestMatcher requestMatcher;
-
   @Inject
   RequestBodyExtractor requestBodyExtractor;
 
+  /*
+   Lambdas don't enjoy the same middleware and framework support as web servers (although
+   https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it
+   comes out of preview), so we are on our own with functionality such as routing requests to
+   handlers. The router is built once, and matches the request path against the registered routes.
+  */
+  final LambdaRouter<APIGatewayProxyResponseEvent> router =
+      LambdaRouter.<APIGatewayProxyResponseEvent>builder()
+          .route(Constants.Http.POST_METHOD, Paths.API_ENDPOINT, this::createOne)
+          .route(Constants.Http.GET_METHOD, Paths.HEALTH_ENDPOINT + "/POST", checkHealth("POST"))
+          .exception(UnauthorizedException.class,
+              (e, request) -> proxyResponseBuilder.buildUnauthorizedRequest(e))
+          .exception(InvalidInputException.class,
+              (e, request) -> proxyResponseBuilder.buildBadRequest(e))
+          .notFound(request -> proxyResponseBuilder.buildNotFound())
+          .methodNotAllowed(request -> proxyResponseBuilder.buildMethodNotAllowed())
+          .error(this::buildError)
+          .build();
+
   /**
    * See https://github.com/quarkusio/quarkus/issues/5811 for why we need @Transactional.
    *
@@ -77,16 +76,7 @@ public class LambdaRequestHanlder implements
   @Transactional
   public APIGatewayProxyResponseEvent handleRequest(
       @NonNull final APIGatewayProxyRequestEvent input, @NonNull final Context context) {
-
-    /*
-     Lambdas don't enjoy the same middleware and framework support as web servers (although
-     https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it
-     comes out of preview), so we are on our own with functionality such as routing requests to
-     handlers. This code simply calls each handler to find the first one that responds to the request.
-    */
-    return createOne(input)
-        .or(() -> checkHealth(input))
-        .orElse(proxyResponseBuilder.buildNotFound());
+    return router.route(LambdaRequestContext.fromEvent(input));
   }
 
   /**
@@ -115,62 +105,50 @@ public class LambdaRequestHanlder implements
    * endpoints, but clients can not assume this is always the case, and must check the health of
    * each endpoint to accurately evaluate the health of the service.
    *
-   * @param input The request details
-   * @return The optional proxy response
+   * <p>The health path and method are taken from the matched route rather than the request path,
+   * which may end with a slash.
+   *
+   * @param method The http method whose health is checked
+   * @return The handler for the health endpoint
    */
-  private Optional<APIGatewayProxyResponseEvent> checkHealth(
-      final APIGatewayProxyRequestEvent input) {
-
-    if (requestMatcher.requestIsMatch(input, HEALTH_RE, Constants.Http.GET_METHOD)) {
-      try {
-        return Optional.of(
-            new ApiGatewayProxyResponseEventWithCors()
-                .withStatusCode(200)
-                .withBody(healthHandler.getHealth(
-                    input.getPath().substring(0, input.getPath().lastIndexOf("/")),
-                    input.getPath().substring(input.getPath().lastIndexOf("/")))));
-      } catch (final Exception e) {
-        e.printStackTrace();
-        return Optional.of(proxyResponseBuilder.buildError(e));
-      }
-    }
-
-    return Optional.empty();
+  private RouteHandler<APIGatewayProxyResponseEvent> checkHealth(final String method) {
+    return (request, pathVariables) -> new ApiGatewayProxyResponseEventWithCors()
+        .withStatusCode(200)
+        .withBody(healthHandler.getHealth(Paths.HEALTH_ENDPOINT, method));
   }
 
   /**
    * Create a resources.
    *
-   * @param input The Lambda request.
+   * @param request       The Lambda request.
+   * @param pathVariables The variables in the request path.
    * @return The Lambda response.
    */
-  private Optional<APIGatewayProxyResponseEvent> createOne(
-      final APIGatewayProxyRequestEvent input) {
-    try {
-      if (requestMatcher.requestIsMatch(input, ROOT_RE, Constants.Http.POST_METHOD)) {
-
-        resourceHandler.create(
-            requestBodyExtractor.getBody(input),
-            lambdaHttpHeaderExtractor.getAllHeaders(input,
-                Constants.DATA_PARTITION_HEADER),
-            lambdaHttpHeaderExtractor.getFirstHeader(input, HttpHeaders.AUTHORIZATION)
-                .orElse(null),
-            lambdaHttpHeaderExtractor.getFirstHeader(input,
-                Constants.SERVICE_AUTHORIZATION_HEADER).orElse(null),
-            lambdaHttpHeaderExtractor.getFirstHeader(input,
-                Constants.AMAZON_TRACE_ID_HEADER).orElse(null));
-
-        return Optional.of(new ApiGatewayProxyResponseEventWithCors().withStatusCode(202));
-      }
-    } catch (final UnauthorizedException e) {
-      return Optional.of(proxyResponseBuilder.buildUnauthorizedRequest(e));
-    } catch (final InvalidInputException e) {
-      return Optional.of(proxyResponseBuilder.buildBadRequest(e));
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return Optional.of(proxyResponseBuilder.buildError(e, requestBodyExtractor.getBody(input)));
-    }
+  private APIGatewayProxyResponseEvent createOne(
+      final LambdaRequestContext request,
+      final Map<String, String> pathVariables) {
+    resourceHandler.create(
+        requestBodyExtractor.getBody(request.getEvent()),
+        request.getAllHeaders(Constants.DATA_PARTITION_HEADER),
+        request.getFirstHeader(HttpHeaders.AUTHORIZATION)
+            .orElse(null),
+        request.getFirstHeader(Constants.SERVICE_AUTHORIZATION_HEADER).orElse(null),
+        request.getFirstHeader(Constants.AMAZON_TRACE_ID_HEADER).orElse(null));
+
+    return new ApiGatewayProxyResponseEventWithCors().withStatusCode(202);
+  }
 
-    return Optional.empty();
+  /**
+   * Build the response for an exception not mapped to a response.
+   *
+   * @param ex      The exception.
+   * @param request The Lambda request.
+   * @return The Lambda response.
+   */
+  private APIGatewayProxyResponseEvent buildError(
+      final Exception ex,
+      final LambdaRequestContext request) {
+    ex.printStackTrace();
+    return proxyResponseBuilder.buildError(ex, requestBodyExtractor.getBody(request.getEvent()));
   }
 }
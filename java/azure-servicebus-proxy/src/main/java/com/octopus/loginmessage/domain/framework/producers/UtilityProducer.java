@@ -7,6 +7,7 @@ import com.octopus.lambda.RequestMatcher;
 import com.octopus.lambda.impl.RequestBodyExtractorImpl;
 import com.octopus.lambda.impl.RequestMatcherImpl;
 import com.octopus.loginmessage.domain.servicebus.AzureServiceBus;
+import com.octopus.features.AdminJwtClaimFeature;
 import com.octopus.features.AdminJwtGroupFeature;
 import com.octopus.features.CognitoJwkBase64Feature;
 import com.octopus.features.DisableSecurityFeature;
@@ -17,12 +18,14 @@ import com.octopus.jsonapi.AcceptHeaderVerifier;
 import com.octopus.jsonapi.PagedResultsLinksBuilder;
 import com.octopus.jsonapi.impl.PagedResultsLinksBuilderImpl;
 import com.octopus.jsonapi.impl.VersionOneAcceptHeaderVerifier;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.jwt.JwtInspector;
 import com.octopus.jwt.JwtUtils;
 import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.impl.AuthContextFactoryImpl;
+import com.octopus.jwt.impl.CachingJwtValidatorImpl;
 import com.octopus.jwt.impl.JoseJwtInspector;
 import com.octopus.jwt.impl.JwtUtilsImpl;
-import com.octopus.jwt.impl.JwtValidatorImpl;
 import com.octopus.lambda.LambdaHttpHeaderExtractor;
 import com.octopus.lambda.LambdaHttpValueExtractor;
 import com.octopus.lambda.ProxyResponseBuilder;
@@ -39,6 +42,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Produces;
 import javax.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /**
  * Produces a number of objects for injection.
@@ -49,6 +53,9 @@ public class UtilityProducer {
   @Inject
   AzureServiceBus azureServiceBus;
 
+  @ConfigProperty(name = "cognito.client-id")
+  String cognitoClientId;
+
   /**
    * Produces the Lambda query param extractor.
    *
@@ -123,7 +130,7 @@ public class UtilityProducer {
   @ApplicationScoped
   @Produces
   public JwtValidator getJwtValidator() {
-    return new JwtValidatorImpl();
+    return new CachingJwtValidatorImpl();
   }
 
   /**
@@ -170,6 +177,30 @@ public class UtilityProducer {
     return new PartitionIdentifierImpl(jwtInspector, adminJwtGroupFeature, disableSecurityFeature);
   }
 
+  /**
+   * Produces the service that builds the authorization context of a request.
+   *
+   * @return An implementation of AuthContextFactory.
+   */
+  @ApplicationScoped
+  @Produces
+  public AuthContextFactory getAuthContextFactory(
+      JwtInspector jwtInspector,
+      JwtUtils jwtUtils,
+      PartitionIdentifier partitionIdentifier,
+      AdminJwtClaimFeature adminJwtClaimFeature,
+      AdminJwtGroupFeature adminJwtGroupFeature,
+      DisableSecurityFeature disableSecurityFeature) {
+    return new AuthContextFactoryImpl(
+        jwtInspector,
+        jwtUtils,
+        partitionIdentifier,
+        adminJwtClaimFeature,
+        adminJwtGroupFeature,
+        disableSecurityFeature,
+        cognitoClientId);
+  }
+
   /**
    * Produces an azure service bus sender.
    *
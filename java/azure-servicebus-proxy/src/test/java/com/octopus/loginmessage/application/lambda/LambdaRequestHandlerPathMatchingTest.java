@@ -1,12 +1,8 @@
 package com.octopus.loginmessage.application.lambda;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
-import com.octopus.Constants;
-import com.octopus.lambda.RequestMatcher;
-import com.octopus.lambda.impl.RequestMatcherImpl;
 import com.octopus.loginmessage.application.TestPaths;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,31 +10,26 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 public class LambdaRequestHandlerPathMatchingTest {
 
-  private static final RequestMatcher REQUEST_MATCHER = new RequestMatcherImpl();
+  private static final LambdaRequestHanlder LAMBDA_REQUEST_HANDLER = new LambdaRequestHanlder();
 
   @ParameterizedTest
   @ValueSource(strings = {
       TestPaths.HEALTH_ENDPOINT + "/POST"})
   public void testHealthRequestMatching(final String path) {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath(path);
-    assertTrue(REQUEST_MATCHER.requestIsMatch(event, LambdaRequestHanlder.HEALTH_RE, Constants.Http.GET_METHOD));
+    assertTrue(LAMBDA_REQUEST_HANDLER.router.match("GeT", path).isFound());
   }
 
+  @Test
+  public void testCreateRequestMatching() {
+    assertTrue(LAMBDA_REQUEST_HANDLER.router.match("PoSt", TestPaths.API_ENDPOINT).isFound());
+    assertTrue(LAMBDA_REQUEST_HANDLER.router.match("GET", TestPaths.API_ENDPOINT)
+        .isMethodNotAllowed());
+  }
 
   @Test
   public void testNullParams() {
-    assertThrows(NullPointerException.class, () -> {
-      REQUEST_MATCHER.requestIsMatch(new APIGatewayProxyRequestEvent(), LambdaRequestHanlder.ROOT_RE, null);
-    });
-
-    assertThrows(NullPointerException.class, () -> {
-      REQUEST_MATCHER.requestIsMatch(new APIGatewayProxyRequestEvent(), null, "");
-    });
-
-    assertThrows(NullPointerException.class, () -> {
-      REQUEST_MATCHER.requestIsMatch(null, LambdaRequestHanlder.ROOT_RE, "");
-    });
+    assertFalse(LAMBDA_REQUEST_HANDLER.router.match(null, TestPaths.HEALTH_ENDPOINT + "/POST")
+        .isFound());
+    assertFalse(LAMBDA_REQUEST_HANDLER.router.match("GET", null).isFound());
   }
 }
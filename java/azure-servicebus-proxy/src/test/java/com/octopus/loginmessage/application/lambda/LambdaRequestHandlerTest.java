@@ -2,6 +2,7 @@ package com.octopus.loginmessage.application.lambda;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
@@ -159,7 +160,7 @@ public class LambdaRequestHandlerTest extends BaseTest {
             .withPath(TestPaths.API_ENDPOINT);
     final APIGatewayProxyResponseEvent postResponse =
         api.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
-    assertEquals(404, postResponse.getStatusCode());
+    assertEquals(405, postResponse.getStatusCode());
   }
 
   @Test
@@ -172,4 +173,16 @@ public class LambdaRequestHandlerTest extends BaseTest {
         api.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
     assertEquals(200, postResponse.getStatusCode());
   }
+
+  @Test
+  public void testHealthTrailingSlash() {
+    final APIGatewayProxyRequestEvent apiGatewayProxyRequestEvent =
+        new APIGatewayProxyRequestEvent()
+            .withHttpMethod("GET")
+            .withPath(TestPaths.HEALTH_ENDPOINT + "/POST/");
+    final APIGatewayProxyResponseEvent postResponse =
+        api.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
+    assertEquals(200, postResponse.getStatusCode());
+    assertTrue(postResponse.getBody().contains("\"" + TestPaths.HEALTH_ENDPOINT + "/POST\""));
+  }
 }
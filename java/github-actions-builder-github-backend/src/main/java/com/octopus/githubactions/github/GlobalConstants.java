@@ -13,6 +13,7 @@ public final class GlobalConstants {
   public static final String AMAZON_TRACE_ID_HEADER = "X-Amzn-Trace-Id";
   public static final String DATA_PARTITION = "Data-Partition";
   public static final String AUTHORIZATION_HEADER = "Authorization";
+  public static final String GITHUB_API_URL = "https://api.github.com";
   public static final String SERVICE_AUTHORIZATION_HEADER = "Service-Authorization";
   public static final String INVOCATION_TYPE = "Invocation-Type";
   public static final String ASYNC_INVOCATION_TYPE = "Event";
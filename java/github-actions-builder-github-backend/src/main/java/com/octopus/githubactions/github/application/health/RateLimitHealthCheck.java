@@ -0,0 +1,33 @@
+package com.octopus.githubactions.github.application.health;
+
+import com.octopus.http.RateLimitGovernor;
+import com.octopus.http.RateLimitQuota;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Liveness;
+
+/**
+ * Reports the GitHub rate limit quota of each credential. Running low on quota does not make the
+ * application unhealthy, so this check is always up.
+ */
+@Liveness
+@ApplicationScoped
+public class RateLimitHealthCheck implements HealthCheck {
+
+  @Inject
+  RateLimitGovernor rateLimitGovernor;
+
+  @Override
+  public HealthCheckResponse call() {
+    final HealthCheckResponseBuilder response = HealthCheckResponse.named("GitHub rate limit")
+        .up();
+    for (final RateLimitQuota quota : rateLimitGovernor.getQuotas()) {
+      response.withData(quota.getCredential(), quota.getRemaining() + "/" + quota.getLimit()
+          + " remaining, " + quota.getShed() + " shed, " + quota.getDelayed() + " delayed");
+    }
+    return response.build();
+  }
+}
@@ -2,22 +2,32 @@ package com.octopus.githubactions.github.application.http;
 
 import com.octopus.PipelineConstants;
 import com.octopus.githubactions.github.GlobalConstants;
+import com.octopus.githubactions.github.domain.entities.BulkPipelineResult;
 import com.octopus.githubactions.github.domain.entities.Utms;
 import com.octopus.githubactions.github.domain.exceptions.BadRequest;
 import com.octopus.githubactions.github.domain.exceptions.EntityNotFound;
 import com.octopus.githubactions.github.domain.exceptions.ServerError;
+import com.octopus.githubactions.github.domain.exceptions.TooManyRequests;
 import com.octopus.githubactions.github.domain.exceptions.Unauthorized;
 import com.octopus.githubactions.github.domain.hanlder.SimpleResponse;
 import com.octopus.githubactions.github.domain.hanlder.TemplateHandler;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.SerializedProcessor;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import java.util.List;
 import javax.inject.Inject;
+import javax.ws.rs.Consumes;
 import javax.ws.rs.CookieParam;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import org.apache.commons.lang3.StringUtils;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
 /**
  * The REST server.
@@ -80,6 +90,79 @@ public class PipelineResource {
       throw new EntityNotFound();
     }
 
+    if (response.getCode() == 429) {
+      throw new TooManyRequests();
+    }
+
     throw new ServerError();
   }
+
+  /**
+   * Generates a Github Action Workflow for each of the given git repositories. The results are
+   * streamed as newline delimited JSON as each workflow is generated, so they are not in the same
+   * order as the repositories. A repository that could not be processed is returned with the
+   * status code and error that the single repository endpoint would have returned.
+   *
+   * @param repos The repository URLs.
+   * @return The result for each repository.
+   */
+  @POST
+  @Path("bulk")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(RestMediaType.APPLICATION_NDJSON)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  public Multi<BulkPipelineResult> bulkPipeline(
+      final List<String> repos,
+      @HeaderParam(GlobalConstants.AMAZON_TRACE_ID_HEADER) final String xray,
+      @HeaderParam(GlobalConstants.ROUTING_HEADER) final String routingHeaders,
+      @HeaderParam(GlobalConstants.DATA_PARTITION) final String dataPartitionHeaders,
+      @HeaderParam(GlobalConstants.AUTHORIZATION_HEADER) final String authHeaders,
+      @CookieParam(PipelineConstants.GITHUB_SESSION_COOKIE) final String auth,
+      @QueryParam("utm_source") final String source,
+      @QueryParam("utm_medium") final String medium,
+      @QueryParam("utm_campaign") final String campaign,
+      @QueryParam("utm_term") final String term,
+      @QueryParam("utm_content") final String content) {
+
+    if (repos == null || repos.isEmpty()) {
+      throw new BadRequest();
+    }
+
+    final Utms utms = Utms.builder()
+        .source(source)
+        .medium(medium)
+        .campaign(campaign)
+        .term(term)
+        .content(content)
+        .build();
+
+    // The processor buffers the results until the response subscribes, and the serialized
+    // processor allows the results to be pushed by many threads at once
+    final UnicastProcessor<BulkPipelineResult> results = UnicastProcessor.create();
+    final SerializedProcessor<BulkPipelineResult, BulkPipelineResult> serialized =
+        results.serialized();
+
+    try {
+      templateHandler.generatePipelines(
+              repos,
+              auth,
+              xray,
+              StringUtils.defaultString(routingHeaders),
+              StringUtils.defaultString(dataPartitionHeaders),
+              StringUtils.defaultString(authHeaders),
+              utms,
+              serialized::onNext)
+          .whenComplete((result, ex) -> {
+            if (ex == null) {
+              serialized.onComplete();
+            } else {
+              serialized.onError(ex);
+            }
+          });
+    } catch (final IllegalArgumentException ex) {
+      throw new BadRequest();
+    }
+
+    return results;
+  }
 }
\ No newline at end of file
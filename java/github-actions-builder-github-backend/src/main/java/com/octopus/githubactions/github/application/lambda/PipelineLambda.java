@@ -4,6 +4,9 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.octopus.PipelineConstants;
 import com.octopus.features.MicroserviceNameFeature;
@@ -11,13 +14,17 @@ import com.octopus.githubactions.github.GlobalConstants;
 import com.octopus.githubactions.github.domain.entities.Utms;
 import com.octopus.githubactions.github.domain.hanlder.SimpleResponse;
 import com.octopus.githubactions.github.domain.hanlder.TemplateHandler;
-import com.octopus.lambda.LambdaHttpCookieExtractor;
-import com.octopus.lambda.LambdaHttpHeaderExtractor;
-import com.octopus.lambda.LambdaHttpValueExtractor;
+import com.octopus.lambda.LambdaRequestContext;
 import io.quarkus.logging.Log;
+import io.vavr.control.Try;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.apache.commons.lang3.StringUtils;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
 /**
  * The AWS Lambda server.
@@ -27,14 +34,7 @@ import javax.inject.Named;
 public class PipelineLambda implements
     RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
-  @Inject
-  LambdaHttpValueExtractor lambdaHttpValueExtractor;
-
-  @Inject
-  LambdaHttpCookieExtractor lambdaHttpCookieExtractor;
-
-  @Inject
-  LambdaHttpHeaderExtractor lambdaHttpHeaderExtractor;
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   @Inject
   TemplateHandler templateHandler;
@@ -54,35 +54,30 @@ public class PipelineLambda implements
   public APIGatewayProxyResponseEvent handleRequest(final APIGatewayProxyRequestEvent input,
       final Context context) {
 
-    final String session = lambdaHttpCookieExtractor.getCookieValue(
-        input,
-        PipelineConstants.GITHUB_SESSION_COOKIE).orElse(null);
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(input);
 
-    final String routingHeaders = lambdaHttpHeaderExtractor.getFirstHeader(
-        input,
-        GlobalConstants.ROUTING_HEADER).orElse("");
+    final String session = request.getCookieValue(PipelineConstants.GITHUB_SESSION_COOKIE)
+        .orElse(null);
 
-    final String dataPartitionHeaders = lambdaHttpHeaderExtractor.getFirstHeader(
-        input,
-        GlobalConstants.DATA_PARTITION).orElse("");
+    final String routingHeaders = request.getFirstHeader(GlobalConstants.ROUTING_HEADER).orElse("");
 
-    final String authHeaders = lambdaHttpHeaderExtractor.getFirstHeader(
-        input,
-        GlobalConstants.AUTHORIZATION_HEADER).orElse("");
+    final String dataPartitionHeaders = request.getFirstHeader(GlobalConstants.DATA_PARTITION)
+        .orElse("");
 
-    final String xray = lambdaHttpHeaderExtractor.getFirstHeader(
-        input,
-        GlobalConstants.AMAZON_TRACE_ID_HEADER).orElse("");
+    final String authHeaders = request.getFirstHeader(GlobalConstants.AUTHORIZATION_HEADER)
+        .orElse("");
+
+    final String xray = request.getFirstHeader(GlobalConstants.AMAZON_TRACE_ID_HEADER).orElse("");
 
     final Utms utms = Utms.builder()
-        .source(lambdaHttpValueExtractor.getQueryParam(input, "utm_source").orElse(""))
-        .medium(lambdaHttpValueExtractor.getQueryParam(input, "utm_medium").orElse(""))
-        .campaign(lambdaHttpValueExtractor.getQueryParam(input, "utm_campaign").orElse(""))
-        .term(lambdaHttpValueExtractor.getQueryParam(input, "utm_term").orElse(""))
-        .content(lambdaHttpValueExtractor.getQueryParam(input, "utm_content").orElse(""))
+        .source(request.getQueryParam("utm_source").orElse(""))
+        .medium(request.getQueryParam("utm_medium").orElse(""))
+        .campaign(request.getQueryParam("utm_campaign").orElse(""))
+        .term(request.getQueryParam("utm_term").orElse(""))
+        .content(request.getQueryParam("utm_content").orElse(""))
         .build();
 
-    if (lambdaHttpValueExtractor.getQueryParam(input, "action").orElse("").equals("health")) {
+    if (request.getQueryParam("action").orElse("").equals("health")) {
       return new APIGatewayProxyResponseEvent()
           .withStatusCode(201)
           .withBody("OK")
@@ -91,9 +86,14 @@ public class PipelineLambda implements
               .build());
     }
 
+    if (request.getQueryParam("action").orElse("").equals("bulk")) {
+      return bulkPipeline(input, session, xray, routingHeaders, dataPartitionHeaders, authHeaders,
+          utms);
+    }
+
     try {
       final SimpleResponse response = templateHandler.generatePipeline(
-          lambdaHttpValueExtractor.getQueryParam(input, "repo").orElse(""),
+          request.getQueryParam("repo").orElse(""),
           session,
           xray,
           routingHeaders,
@@ -125,4 +125,65 @@ public class PipelineLambda implements
     }
   }
 
+  /**
+   * Generates the pipelines for the JSON array of repos in the request body. API Gateway proxy
+   * integrations can not stream a response, so the results are collected as newline delimited JSON
+   * in the order they were generated and returned once every repo has been processed.
+   */
+  private APIGatewayProxyResponseEvent bulkPipeline(
+      final APIGatewayProxyRequestEvent input,
+      final String session,
+      final String xray,
+      final String routingHeaders,
+      final String dataPartitionHeaders,
+      final String authHeaders,
+      final Utms utms) {
+    try {
+      final List<String> repos = OBJECT_MAPPER.readValue(getBody(input),
+          new TypeReference<List<String>>() {});
+      final StringBuffer results = new StringBuffer();
+
+      templateHandler.generatePipelines(
+              repos == null ? List.of() : repos,
+              session,
+              xray,
+              routingHeaders,
+              dataPartitionHeaders,
+              authHeaders,
+              utms,
+              result -> results.append(Try.of(() -> OBJECT_MAPPER.writeValueAsString(result)).get())
+                  .append('\n'))
+          .join();
+
+      return new APIGatewayProxyResponseEvent()
+          .withStatusCode(200)
+          .withBody(results.toString())
+          .withHeaders(new ImmutableMap.Builder<String, String>()
+              .put("Content-Type", RestMediaType.APPLICATION_NDJSON)
+              .build());
+    } catch (final IllegalArgumentException | JsonProcessingException ex) {
+      return new APIGatewayProxyResponseEvent()
+          .withStatusCode(400)
+          .withBody("The request was invalid.")
+          .withHeaders(new ImmutableMap.Builder<String, String>()
+              .put("Content-Type", "text/plain")
+              .build());
+    } catch (final Exception ex) {
+      Log.error(microserviceNameFeature.getMicroserviceName() + "-Bulk-Error", ex);
+      return new APIGatewayProxyResponseEvent()
+          .withStatusCode(500)
+          .withBody("An internal server error was encountered.")
+          .withHeaders(new ImmutableMap.Builder<String, String>()
+              .put("Content-Type", "text/plain")
+              .build());
+    }
+  }
+
+  private String getBody(final APIGatewayProxyRequestEvent input) {
+    final String body = StringUtils.defaultString(input.getBody());
+    return Boolean.TRUE.equals(input.getIsBase64Encoded())
+        ? new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8)
+        : body;
+  }
+
 }
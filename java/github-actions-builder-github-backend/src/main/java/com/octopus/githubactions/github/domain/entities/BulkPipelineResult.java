@@ -0,0 +1,56 @@
+package com.octopus.githubactions.github.domain.entities;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The result of generating the pipeline for one repo in a bulk request. The code is the HTTP status
+ * code the repo would have returned if it was requested on its own. Successful results hold the
+ * pipeline, and failed results hold the error.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkPipelineResult {
+
+  private String repo;
+  private int code;
+  private String pipeline;
+  private String error;
+
+  /**
+   * Builds a successful result.
+   *
+   * @param repo     The repo URL.
+   * @param pipeline The generated pipeline.
+   * @return The result.
+   */
+  public static BulkPipelineResult success(final String repo, final String pipeline) {
+    return BulkPipelineResult.builder()
+        .repo(repo)
+        .code(200)
+        .pipeline(pipeline)
+        .build();
+  }
+
+  /**
+   * Builds a failed result.
+   *
+   * @param repo  The repo URL.
+   * @param code  The HTTP status code.
+   * @param error The error message.
+   * @return The result.
+   */
+  public static BulkPipelineResult failure(final String repo, final int code, final String error) {
+    return BulkPipelineResult.builder()
+        .repo(repo)
+        .code(code)
+        .error(error)
+        .build();
+  }
+}
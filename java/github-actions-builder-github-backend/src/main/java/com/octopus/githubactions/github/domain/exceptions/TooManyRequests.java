@@ -0,0 +1,16 @@
+package com.octopus.githubactions.github.domain.exceptions;
+
+import lombok.NonNull;
+
+/**
+ * The exception thrown when the request could not be completed because a rate limit was reached.
+ */
+public class TooManyRequests extends RuntimeException {
+  public TooManyRequests() {
+    super();
+  }
+
+  public TooManyRequests(@NonNull final Exception ex) {
+    super(ex);
+  }
+}
@@ -13,6 +13,7 @@ import com.octopus.githubactions.shared.builders.dsl.UsesWith;
 import com.octopus.githubactions.shared.builders.dsl.Workflow;
 import com.octopus.githubactions.shared.builders.dsl.WorkflowDispatch;
 import com.octopus.githubactions.github.domain.entities.Audit;
+import com.octopus.githubactions.github.domain.entities.BulkPipelineResult;
 import com.octopus.githubactions.github.domain.entities.GithubUserLoggedInForFreeToolsEventV1;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 
@@ -31,6 +32,7 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
     WorkflowDispatch.class,
     TimestampDeserializer.class,
     Audit.class,
+    BulkPipelineResult.class,
     GithubUserLoggedInForFreeToolsEventV1.class,
     IntegerIdHandler.class,
     StringIdHandler.class})
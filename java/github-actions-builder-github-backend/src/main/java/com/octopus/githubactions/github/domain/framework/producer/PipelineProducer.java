@@ -1,10 +1,18 @@
 package com.octopus.githubactions.github.domain.framework.producer;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.octopus.builders.PipelineBuilder;
+import com.octopus.builders.PipelineBuilderDetector;
+import com.octopus.builders.PipelineCache;
+import com.octopus.builders.impl.PipelineBuilderDetectorImpl;
+import com.octopus.builders.impl.PipelineCacheImpl;
 import com.octopus.encryption.AsymmetricEncryptor;
 import com.octopus.encryption.CryptoUtils;
-import com.octopus.encryption.impl.AesCryptoUtils;
-import com.octopus.encryption.impl.RsaCryptoUtilsEncryptor;
+import com.octopus.encryption.PublicKeyEncryptor;
+import com.octopus.encryption.impl.CachingAesCryptoUtils;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsEncryptor;
+import com.octopus.encryption.impl.PreloadedPublicKeyEncryptor;
+import com.octopus.features.AdminJwtClaimFeature;
 import com.octopus.features.AdminJwtGroupFeature;
 import com.octopus.features.CognitoJwkBase64Feature;
 import com.octopus.features.DisableSecurityFeature;
@@ -27,14 +35,20 @@ import com.octopus.githubactions.shared.builders.PythonBuilder;
 import com.octopus.githubactions.shared.builders.RubyBuilder;
 import com.octopus.githubactions.github.domain.features.ServiceBusCognitoConfig;
 import com.octopus.githubactions.github.infrastructure.client.CognitoClient;
+import com.octopus.http.RateLimitGovernor;
 import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.http.impl.RateLimitGovernorImpl;
 import com.octopus.http.impl.ReadOnlyHttpClientImpl;
 import com.octopus.json.JsonSerializer;
 import com.octopus.json.impl.JacksonJsonSerializerImpl;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.JwtUtils;
 import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.impl.AuthContextFactoryImpl;
+import com.octopus.jwt.impl.CachingJwtValidatorImpl;
 import com.octopus.jwt.impl.JoseJwtInspector;
-import com.octopus.jwt.impl.JwtValidatorImpl;
+import com.octopus.jwt.impl.JwtUtilsImpl;
 import com.octopus.lambda.LambdaHttpCookieExtractor;
 import com.octopus.lambda.LambdaHttpHeaderExtractor;
 import com.octopus.lambda.LambdaHttpValueExtractor;
@@ -42,18 +56,26 @@ import com.octopus.lambda.impl.CaseInsensitiveCookieExtractor;
 import com.octopus.lambda.impl.CaseInsensitiveHttpHeaderExtractor;
 import com.octopus.lambda.impl.CaseInsensitiveLambdaHttpValueExtractor;
 import com.octopus.oauth.OauthClientCredsAccessor;
+import com.octopus.oauth.TokenCache;
 import com.octopus.oauth.impl.OauthClientCredsAccessorImpl;
+import com.octopus.oauth.impl.TokenCacheImpl;
 import com.octopus.repoclients.RepoClientFactory;
 import com.octopus.repoclients.impl.GitHubRepoClientFactory;
 import com.octopus.utilties.PartitionIdentifier;
 import com.octopus.utilties.impl.PartitionIdentifierImpl;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.crypto.NoSuchPaddingException;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Disposes;
 import javax.enterprise.inject.Produces;
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
@@ -70,6 +92,12 @@ public class PipelineProducer {
   @ConfigProperty(name = "application.github-client-secret", defaultValue = "")
   Optional<String> clientSecret;
 
+  @ConfigProperty(name = "application.pipeline-cache-directory", defaultValue = "")
+  Optional<String> pipelineCacheDirectory;
+
+  @ConfigProperty(name = "application.bulk-parallelism", defaultValue = "8")
+  int bulkParallelism;
+
   @RestClient
   CognitoClient cognitoClient;
 
@@ -110,7 +138,7 @@ public class PipelineProducer {
   @ApplicationScoped
   @Produces
   public CryptoUtils getCryptoUtils() {
-    return new AesCryptoUtils();
+    return new CachingAesCryptoUtils();
   }
 
   /**
@@ -122,7 +150,21 @@ public class PipelineProducer {
   @Produces
   public AsymmetricEncryptor getAsymmetricEncryptor()
       throws NoSuchPaddingException, NoSuchAlgorithmException {
-    return new RsaCryptoUtilsEncryptor();
+    return new CachingRsaCryptoUtilsEncryptor();
+  }
+
+  /**
+   * Produces the PublicKeyEncryptor used to encrypt the email addresses sent to the audit service.
+   * The public key is loaded once rather than with each request.
+   *
+   * @return An implementation of PublicKeyEncryptor.
+   * @throws IOException if the public key could not be read.
+   */
+  @ApplicationScoped
+  @Produces
+  public PublicKeyEncryptor getPublicKeyEncryptor(final AsymmetricEncryptor asymmetricEncryptor)
+      throws IOException {
+    return PreloadedPublicKeyEncryptor.fromResource(asymmetricEncryptor, "public_key.der");
   }
 
   /**
@@ -257,6 +299,75 @@ public class PipelineProducer {
     return new GenericBuilder();
   }
 
+  /**
+   * Produces the detector that tests the pipeline builders against a repo concurrently.
+   *
+   * @return An implementation of PipelineBuilderDetector.
+   */
+  @ApplicationScoped
+  @Produces
+  public PipelineBuilderDetector getPipelineBuilderDetector() {
+    return new PipelineBuilderDetectorImpl();
+  }
+
+  /**
+   * Produces the cache of generated pipelines, which is also persisted to disk if a cache directory
+   * is configured.
+   *
+   * @return An implementation of PipelineCache.
+   */
+  @ApplicationScoped
+  @Produces
+  public PipelineCache getPipelineCache() {
+    return pipelineCacheDirectory
+        .filter(StringUtils::isNotBlank)
+        .<PipelineCache>map(d -> new PipelineCacheImpl(
+            PipelineCacheImpl.DEFAULT_MAX_ENTRIES,
+            PipelineCacheImpl.DEFAULT_MAX_BYTES,
+            Path.of(d),
+            PipelineCacheImpl.DEFAULT_MAX_FILES))
+        .orElseGet(PipelineCacheImpl::new);
+  }
+
+  /**
+   * Produces the governor that tracks the GitHub rate limit quota of each credential. This is the
+   * governor used by the shared HTTP clients.
+   *
+   * @return An implementation of RateLimitGovernor.
+   */
+  @ApplicationScoped
+  @Produces
+  public RateLimitGovernor getRateLimitGovernor() {
+    return RateLimitGovernorImpl.shared();
+  }
+
+  /**
+   * Produces the executor that generates the pipelines of bulk requests. The number of threads
+   * bounds the number of repos that are scanned at once, across all bulk requests.
+   *
+   * @return The bulk executor.
+   */
+  @ApplicationScoped
+  @Produces
+  @Named("bulk")
+  public ExecutorService getBulkExecutor() {
+    return Executors.newFixedThreadPool(
+        bulkParallelism,
+        new ThreadFactoryBuilder()
+            .setNameFormat("bulk-pipeline-%d")
+            .setDaemon(true)
+            .build());
+  }
+
+  /**
+   * Stops the bulk executor when the application shuts down.
+   *
+   * @param executor The bulk executor.
+   */
+  public void closeBulkExecutor(@Disposes @Named("bulk") final ExecutorService executor) {
+    executor.shutdownNow();
+  }
+
   /**
    * Produces the JSON serializer.
    *
@@ -271,12 +382,24 @@ public class PipelineProducer {
   /**
    * Produces the Oauth client creds token generator.
    *
+   * @param tokenCache The cache of access tokens shared with the other services.
    * @return An implementation of OauthClientCredsAccessor.
    */
   @ApplicationScoped
   @Produces
-  public OauthClientCredsAccessor getOauthClientCredsAccessor() {
-    return new OauthClientCredsAccessorImpl(serviceBusCognitoConfig, cognitoClient);
+  public OauthClientCredsAccessor getOauthClientCredsAccessor(final TokenCache tokenCache) {
+    return new OauthClientCredsAccessorImpl(serviceBusCognitoConfig, tokenCache);
+  }
+
+  /**
+   * Produces the cache of client credentials access tokens.
+   *
+   * @return An implementation of TokenCache.
+   */
+  @ApplicationScoped
+  @Produces
+  public TokenCache getTokenCache() {
+    return new TokenCacheImpl(cognitoClient);
   }
 
   /**
@@ -287,7 +410,7 @@ public class PipelineProducer {
   @ApplicationScoped
   @Produces
   public JwtValidator getJwtValidator() {
-    return new JwtValidatorImpl();
+    return new CachingJwtValidatorImpl();
   }
 
   /**
@@ -323,6 +446,42 @@ public class PipelineProducer {
     return new PartitionIdentifierImpl(jwtInspector, adminJwtGroupFeature, disableSecurityFeature);
   }
 
+  /**
+   * Produces the JWT utils service.
+   *
+   * @return An implementation of JwtUtils.
+   */
+  @ApplicationScoped
+  @Produces
+  public JwtUtils getJwtUtils() {
+    return new JwtUtilsImpl();
+  }
+
+  /**
+   * Produces the service that builds the authorization context of a request. This service is only
+   * called with user tokens, so no client id is configured for service tokens.
+   *
+   * @return An implementation of AuthContextFactory.
+   */
+  @ApplicationScoped
+  @Produces
+  public AuthContextFactory getAuthContextFactory(
+      JwtInspector jwtInspector,
+      JwtUtils jwtUtils,
+      PartitionIdentifier partitionIdentifier,
+      AdminJwtClaimFeature adminJwtClaimFeature,
+      AdminJwtGroupFeature adminJwtGroupFeature,
+      DisableSecurityFeature disableSecurityFeature) {
+    return new AuthContextFactoryImpl(
+        jwtInspector,
+        jwtUtils,
+        partitionIdentifier,
+        adminJwtClaimFeature,
+        adminJwtGroupFeature,
+        disableSecurityFeature,
+        null);
+  }
+
   /**
    * Produces the email testing service.
    *
@@ -2,10 +2,12 @@ package com.octopus.githubactions.github.domain.hanlder;
 
 import static org.jboss.logging.Logger.Level.DEBUG;
 
-import com.google.common.io.Resources;
+import com.octopus.builders.GeneratedPipeline;
 import com.octopus.builders.PipelineBuilder;
-import com.octopus.encryption.AsymmetricEncryptor;
+import com.octopus.builders.PipelineBuilderDetector;
+import com.octopus.builders.PipelineCache;
 import com.octopus.encryption.CryptoUtils;
+import com.octopus.encryption.PublicKeyEncryptor;
 import com.octopus.features.MicroserviceNameFeature;
 import com.octopus.github.LoginLogic;
 import com.octopus.github.PublicEmailTester;
@@ -14,22 +16,31 @@ import com.octopus.githubactions.github.GlobalConstants;
 import com.octopus.githubactions.github.application.lambda.PipelineLambda;
 import com.octopus.githubactions.github.domain.audits.AuditGenerator;
 import com.octopus.githubactions.github.domain.entities.Audit;
+import com.octopus.githubactions.github.domain.entities.BulkPipelineResult;
 import com.octopus.githubactions.github.domain.entities.GitHubEmail;
 import com.octopus.githubactions.github.domain.entities.GitHubUser;
 import com.octopus.githubactions.github.domain.entities.GithubUserLoggedInForFreeToolsEventV1;
 import com.octopus.githubactions.github.domain.entities.Utms;
 import com.octopus.githubactions.github.domain.servicebus.ServiceBusMessageGenerator;
 import com.octopus.githubactions.github.infrastructure.client.GitHubApi;
+import com.octopus.http.RateLimitExceededException;
+import com.octopus.http.RateLimitGovernor;
+import com.octopus.http.RequestPriority;
 import com.octopus.json.JsonSerializer;
+import com.octopus.jwt.AuthContext;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.repoclients.RepoClient;
 import com.octopus.repoclients.RepoClientFactory;
 import io.quarkus.logging.Log;
 import io.vavr.control.Try;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
@@ -47,6 +58,8 @@ import org.jboss.logging.Logger;
 public class TemplateHandler {
 
   private static final Logger LOG = Logger.getLogger(PipelineLambda.class.toString());
+  private static final String RATE_LIMIT_MESSAGE =
+      "The GitHub rate limit has been reached. Please try again later.";
 
   @ConfigProperty(name = "github.encryption")
   String githubEncryption;
@@ -54,21 +67,36 @@ public class TemplateHandler {
   @ConfigProperty(name = "github.salt")
   String githubSalt;
 
+  @ConfigProperty(name = "application.bulk-max-repos", defaultValue = "500")
+  int bulkMaxRepos;
+
   @Inject
   RepoClientFactory repoClientFactory;
 
   @Inject
   Instance<PipelineBuilder> builders;
 
+  @Inject
+  PipelineBuilderDetector pipelineBuilderDetector;
+
+  @Inject
+  PipelineCache pipelineCache;
+
+  @Inject
+  RateLimitGovernor rateLimitGovernor;
+
   @Inject
   CryptoUtils cryptoUtils;
 
   @Inject
-  AsymmetricEncryptor asymmetricEncryptor;
+  PublicKeyEncryptor publicKeyEncryptor;
 
   @Inject
   AuditGenerator auditGenerator;
 
+  @Inject
+  AuthContextFactory authContextFactory;
+
   @Inject
   ServiceBusMessageGenerator serviceBusMessageGenerator;
 
@@ -91,6 +119,10 @@ public class TemplateHandler {
   @Inject
   JsonSerializer jsonSerializer;
 
+  @Inject
+  @Named("bulk")
+  ExecutorService bulkExecutor;
+
   /**
    * Generate a github repo.
    *
@@ -115,15 +147,118 @@ public class TemplateHandler {
       throw new IllegalArgumentException("repo can not be blank");
     }
 
-    final String auth = sessionCookie == null
-        ? ""
-        : cryptoUtils.decrypt(sessionCookie, githubEncryption, githubSalt);
+    final String auth = decryptSessionCookie(sessionCookie);
 
     final RepoClient accessor = repoClientFactory.buildRepoClient(repo, auth);
 
-    return checkForPublicRepo(accessor)
-        .orElseGet(() -> buildPipeline(accessor, auth, xray, routingHeaders, dataPartitionHeaders,
-            authHeaders, utms));
+    try {
+      return checkForPublicRepo(accessor)
+          .orElseGet(() -> buildPipeline(accessor, auth, xray, routingHeaders,
+              dataPartitionHeaders, authHeaders, utms));
+    } catch (final RateLimitExceededException ex) {
+      return new SimpleResponse(429, RATE_LIMIT_MESSAGE);
+    }
+  }
+
+  /**
+   * Generate the pipelines for many repos at once. The session cookie is decrypted once, the user
+   * details are logged once, and the repos are scanned concurrently by the bulk executor, sharing
+   * the HTTP and pipeline caches.
+   *
+   * <p>The result of each repo is passed to the consumer as soon as it is generated, so the results
+   * are not in the same order as the repos. The consumer is called by the threads of the bulk
+   * executor, and may be called by more than one thread at once. A repo that fails does not fail
+   * the others: its result holds the status code and error that would have been returned if it was
+   * requested on its own.
+   *
+   * @param repos                The repo URLs.
+   * @param sessionCookie        The session cookie holding the GitHub access token.
+   * @param routingHeaders       The "Routing" headers.
+   * @param dataPartitionHeaders The "Data-Partition" headers.
+   * @param authHeaders          The "Authorization" headers.
+   * @param utms                 The utm query params.
+   * @param resultConsumer       Receives the result of each repo.
+   * @return A future that completes once every repo has a result.
+   */
+  public CompletableFuture<Void> generatePipelines(
+      @NonNull final List<String> repos,
+      final String sessionCookie,
+      final String xray,
+      @NonNull final String routingHeaders,
+      @NonNull final String dataPartitionHeaders,
+      @NonNull final String authHeaders,
+      @NonNull final Utms utms,
+      @NonNull final Consumer<BulkPipelineResult> resultConsumer) {
+    LOG.log(DEBUG, "PipelineLambda.generatePipelines(List<String>)");
+    if (repos.isEmpty()) {
+      throw new IllegalArgumentException("repos can not be empty");
+    }
+
+    if (repos.size() > bulkMaxRepos) {
+      throw new IllegalArgumentException("repos can not have more than " + bulkMaxRepos + " items");
+    }
+
+    final String auth = decryptSessionCookie(sessionCookie);
+    final List<PipelineBuilder> builderList = builders.stream().collect(Collectors.toList());
+
+    final CompletableFuture<?>[] tasks = Stream.concat(
+            repos.stream().map(repo -> CompletableFuture
+                .supplyAsync(() -> generateBulkResult(repo, auth, builderList, xray,
+                    routingHeaders, dataPartitionHeaders, authHeaders), bulkExecutor)
+                .thenAccept(resultConsumer)),
+            Stream.of(CompletableFuture.runAsync(() -> logUserDetails(auth, xray, routingHeaders,
+                dataPartitionHeaders, authHeaders, utms, Optional.empty()), bulkExecutor)))
+        .toArray(CompletableFuture<?>[]::new);
+
+    return CompletableFuture.allOf(tasks);
+  }
+
+  /**
+   * Matches the response of generatePipeline() for a single repo, catching any errors so they are
+   * reported in the result rather than failing the other repos.
+   */
+  private BulkPipelineResult generateBulkResult(
+      final String repo,
+      final String auth,
+      final List<PipelineBuilder> builderList,
+      final String xray,
+      final String routingHeaders,
+      final String dataPartitionHeaders,
+      final String authHeaders) {
+    if (StringUtils.isBlank(repo)) {
+      return BulkPipelineResult.failure(repo, 400, "The repo can not be blank.");
+    }
+
+    try {
+      final RepoClient accessor = repoClientFactory.buildRepoClient(repo, auth);
+
+      final Optional<SimpleResponse> error = checkForPublicRepo(accessor);
+      if (error.isPresent()) {
+        return BulkPipelineResult.failure(repo, error.get().getCode(), error.get().getBody());
+      }
+
+      final GeneratedPipeline pipeline = pipelineCache.get(
+          accessor,
+          builderList,
+          () -> detectAndGenerate(accessor, builderList));
+      findBuilder(pipeline, builderList).ifPresent(b -> auditBuilder(b, xray, routingHeaders,
+          dataPartitionHeaders, authHeaders));
+
+      return BulkPipelineResult.success(repo, pipeline.getPipeline());
+    } catch (final IllegalArgumentException ex) {
+      return BulkPipelineResult.failure(repo, 400, "The repo was invalid.");
+    } catch (final RateLimitExceededException ex) {
+      return BulkPipelineResult.failure(repo, 429, RATE_LIMIT_MESSAGE);
+    } catch (final Exception ex) {
+      Log.error(microserviceNameFeature.getMicroserviceName() + "-Bulk-GenerateFailed", ex);
+      return BulkPipelineResult.failure(repo, 500, "An internal server error was encountered.");
+    }
+  }
+
+  private String decryptSessionCookie(final String sessionCookie) {
+    return sessionCookie == null
+        ? ""
+        : cryptoUtils.decrypt(sessionCookie, githubEncryption, githubSalt);
   }
 
   private void logUserDetails(final String token,
@@ -136,18 +271,19 @@ public class TemplateHandler {
 
     try {
       // Make a best effort to get the users details. We don't break for any errors here though.
-      final GitHubEmail[] emails = StringUtils.isNotBlank(token)
+      final GitHubEmail[] emails = reserveTelemetryRequest(token, "user/public_emails")
           ? Try.of(() -> gitHubApi.publicEmails("token " + token))
           .getOrElse(() -> new GitHubEmail[]{})
           : new GitHubEmail[]{};
 
-      final GitHubUser user = StringUtils.isNotBlank(token)
+      final GitHubUser user = reserveTelemetryRequest(token, "user")
           ? Try.of(() -> gitHubApi.user("token " + token))
           .getOrElse(GitHubUser::new)
           : new GitHubUser();
 
       recordEmailInOctofront(
           xray,
+          authContextFactory.build(authHeaders, null, List.of(dataPartitionHeaders)),
           emails,
           routingHeaders,
           dataPartitionHeaders,
@@ -156,9 +292,16 @@ public class TemplateHandler {
           builder,
           user);
 
-      auditEmail(token, xray, emails, routingHeaders, dataPartitionHeaders, authHeaders);
+      // Encrypt the emails once and share the results with the audit service and the console
+      final List<String> encryptedEmails = Try.of(() -> publicKeyEncryptor.encryptAll(
+              Arrays.stream(emails).map(GitHubEmail::getEmail).collect(Collectors.toList())))
+          .onFailure(ex -> Log.error(
+              microserviceNameFeature.getMicroserviceName() + "-Login-EncryptEmailFailed", ex))
+          .getOrElse(List.of());
+
+      auditEmail(token, xray, encryptedEmails, routingHeaders, dataPartitionHeaders, authHeaders);
 
-      logEmailToConsole(emails);
+      logEmailToConsole(encryptedEmails);
     } catch (final Exception ex) {
       Log.error(
           microserviceNameFeature.getMicroserviceName() + "-Login-RecordEmailFailed",
@@ -166,30 +309,39 @@ public class TemplateHandler {
     }
   }
 
+  /**
+   * The user details are looked up with the same token used to read the repo, so these requests
+   * are skipped once the token's rate limit quota runs low.
+   */
+  private boolean reserveTelemetryRequest(final String token, final String path) {
+    return StringUtils.isNotBlank(token)
+        && rateLimitGovernor.reserve(
+            GlobalConstants.GITHUB_API_URL + "/" + path,
+            "token " + token,
+            RequestPriority.TELEMETRY).isPresent();
+  }
+
   /**
    * Write the audit event as JSON to the console, which allows tools like CloudWatch to pick up the
    * records. See
    * https://docs.aws.amazon.com/AmazonCloudWatch/latest/logs/FilterAndPatternSyntax.html#metric-filters-extract-json
    * for details on how to parse JSON logs in CloudWatch.
    *
-   * @param emails The email addresses associated with the logged-in user
+   * @param encryptedEmails The encrypted email addresses associated with the logged-in user
    */
-  private void logEmailToConsole(final GitHubEmail[] emails) {
-    Try.of(() -> Base64.getEncoder()
-            .encodeToString(Resources.toByteArray(Resources.getResource("public_key.der"))))
-        .onSuccess(key -> Arrays.stream(emails)
-            .map(e -> asymmetricEncryptor.encrypt(e.getEmail(), key))
-            .map(e -> new Audit(
-                microserviceNameFeature.getMicroserviceName(),
-                GlobalConstants.CREATED_TEMPLATE_FOR_ACTION,
-                e,
-                true,
-                false))
-            .forEach(a -> LOG.info(jsonSerializer.toJson(a))));
+  private void logEmailToConsole(final List<String> encryptedEmails) {
+    encryptedEmails.stream()
+        .map(e -> new Audit(
+            microserviceNameFeature.getMicroserviceName(),
+            GlobalConstants.CREATED_TEMPLATE_FOR_ACTION,
+            e,
+            true,
+            false))
+        .forEach(a -> LOG.info(jsonSerializer.toJson(a)));
   }
 
   /**
-   * Query the users email addresses, encrypt them, and log them to the audit.
+   * Log the users encrypted email addresses to the audit.
    *
    * @param token                The GitHub access token.
    * @param routingHeaders       The routing headers.
@@ -198,7 +350,7 @@ public class TemplateHandler {
    */
   private void auditEmail(final String token,
       final String xray,
-      final GitHubEmail[] emails,
+      final List<String> encryptedEmails,
       final String routingHeaders,
       final String dataPartitionHeaders,
       final String authHeaders) {
@@ -209,14 +361,7 @@ public class TemplateHandler {
     }
 
     try {
-
-      final String publicKey = Base64.getEncoder()
-          .encodeToString(Resources.toByteArray(Resources.getResource("public_key.der")));
-
-      // Log first to the audit service
-      for (final GitHubEmail email : emails) {
-        final String encryptedEmail = asymmetricEncryptor.encrypt(email.getEmail(), publicKey);
-
+      for (final String encryptedEmail : encryptedEmails) {
         auditGenerator.createAuditEvent(new Audit(
                 microserviceNameFeature.getMicroserviceName(),
                 GlobalConstants.CREATED_TEMPLATE_FOR_ACTION,
@@ -238,12 +383,14 @@ public class TemplateHandler {
   /**
    * Query the users email addresses, encrypt them, and log them to Octofront.
    *
+   * @param authContext          The AuthContext of the request.
    * @param routingHeaders       The routing headers.
    * @param dataPartitionHeaders The data-partition headers.
    * @param authHeaders          The authorization headers.
    */
   private void recordEmailInOctofront(
       final String xray,
+      final AuthContext authContext,
       final GitHubEmail[] emails,
       final String routingHeaders,
       final String dataPartitionHeaders,
@@ -271,6 +418,7 @@ public class TemplateHandler {
               .lastName(usernameSplitter.getLastName(user.getName()))
               .gitHubUsername(user.getLogin())
               .build(),
+          authContext,
           xray,
           routingHeaders,
           dataPartitionHeaders,
@@ -290,33 +438,54 @@ public class TemplateHandler {
       final String dataPartitionHeaders,
       final String authHeaders,
       final Utms utms) {
-    // Get the builder
-    final Optional<PipelineBuilder> builder = builders.stream()
-        .sorted((o1, o2) -> o2.getPriority().compareTo(o1.getPriority()))
-        .parallel()
-        .filter(b -> b.canBuild(accessor))
-        .findFirst();
+    // Get the builder and the pipeline, reusing the pipeline cached for an unchanged repo
+    final List<PipelineBuilder> builderList = builders.stream().collect(Collectors.toList());
+    final GeneratedPipeline pipeline = pipelineCache.get(
+        accessor,
+        builderList,
+        () -> detectAndGenerate(accessor, builderList));
+    final Optional<PipelineBuilder> builder = findBuilder(pipeline, builderList);
 
     // Audit the details of the user generating the template
     logUserDetails(auth, xray, routingHeaders, dataPartitionHeaders, authHeaders, utms, builder);
 
     // Write an audit message
     builder.ifPresent(b ->
-        auditGenerator.createAuditEvent(new Audit(
-                microserviceNameFeature.getMicroserviceName(),
-                GlobalConstants.CREATED_TEMPLATE_ACTION,
-                b.getName()),
-            xray,
-            routingHeaders,
-            dataPartitionHeaders,
-            authHeaders)
-    );
+        auditBuilder(b, xray, routingHeaders, dataPartitionHeaders, authHeaders));
 
     // Return the template
-    return builder
-        .map(b -> b.generate(accessor))
-        .map(b -> new SimpleResponse(200, b))
-        .orElse(new SimpleResponse(200, "No suitable builders were found.\n"
+    return new SimpleResponse(200, pipeline.getPipeline());
+  }
+
+  private Optional<PipelineBuilder> findBuilder(
+      final GeneratedPipeline pipeline,
+      final List<PipelineBuilder> builderList) {
+    return pipeline.getBuilderName()
+        .flatMap(n -> builderList.stream().filter(b -> n.equals(b.getName())).findFirst());
+  }
+
+  private void auditBuilder(
+      final PipelineBuilder builder,
+      final String xray,
+      final String routingHeaders,
+      final String dataPartitionHeaders,
+      final String authHeaders) {
+    auditGenerator.createAuditEvent(new Audit(
+            microserviceNameFeature.getMicroserviceName(),
+            GlobalConstants.CREATED_TEMPLATE_ACTION,
+            builder.getName()),
+        xray,
+        routingHeaders,
+        dataPartitionHeaders,
+        authHeaders);
+  }
+
+  private GeneratedPipeline detectAndGenerate(
+      final RepoClient accessor,
+      final List<PipelineBuilder> builderList) {
+    return pipelineBuilderDetector.detect(builderList, accessor)
+        .map(d -> new GeneratedPipeline(d.getBuilder().getName(), d.generate(accessor)))
+        .orElseGet(() -> new GeneratedPipeline(null, "No suitable builders were found.\n"
             + "This can happen if no recognised project files were found in the root directory.\n"
             + "You may still be able to use one of the sample projects from the main page, and customize it to suit your project.\n"
             + "Click the heading in the top left corner to return to the main page.\n"));
@@ -2,17 +2,15 @@ package com.octopus.githubactions.github.domain.servicebus;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.jasminb.jsonapi.JSONAPIDocument;
-import com.octopus.Constants;
 import com.octopus.features.MicroserviceNameFeature;
 import com.octopus.githubactions.github.GlobalConstants;
 import com.octopus.githubactions.github.domain.entities.GithubUserLoggedInForFreeToolsEventV1;
 import com.octopus.githubactions.github.domain.framework.jsonapi.JsonApiConverter;
 import com.octopus.githubactions.github.infrastructure.client.ServiceBusProxyClient;
+import com.octopus.jwt.AuthContext;
 import com.octopus.oauth.OauthClientCredsAccessor;
-import com.octopus.utilties.PartitionIdentifier;
 import io.quarkus.logging.Log;
 import io.vavr.control.Try;
-import java.util.List;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.ws.rs.core.Response;
@@ -40,26 +38,25 @@ public class ServiceBusMessageGenerator {
   @Inject
   MicroserviceNameFeature microserviceNameFeature;
 
-  @Inject
-  PartitionIdentifier partitionIdentifier;
-
   /**
    * Create an audit event.
    *
    * @param loginMessage         The details of the login event.
+   * @param authContext          The AuthContext of the request.
    * @param routingHeaders       The "routing" headers to propagate with the request.
    * @param dataPartitionHeaders The "data-partition" headers to propagate with the request.
    * @param authHeaders          The "authorization" headers propagate with the request.
    */
   public void sendLoginMessage(
       @NonNull final GithubUserLoggedInForFreeToolsEventV1 loginMessage,
+      @NonNull final AuthContext authContext,
       final String xrayId,
       @NonNull final String routingHeaders,
       @NonNull final String dataPartitionHeaders,
       @NonNull final String authHeaders) {
 
     // Any testing in another data partition won't be recorded in upstream services
-    if (!Constants.DEFAULT_PARTITION.equals(partitionIdentifier.getPartition(List.of(dataPartitionHeaders), authHeaders))) {
+    if (!authContext.isDefaultPartition()) {
       return;
     }
 
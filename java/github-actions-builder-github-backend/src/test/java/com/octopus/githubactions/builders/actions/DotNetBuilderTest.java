@@ -22,7 +22,7 @@ public class DotNetBuilderTest {
         .repo("https://github.com/OctopusSamples/RandomQuotes-Java")
         .username(System.getenv("APP_GITHUB_ID"))
         .password(System.getenv("APP_GITHUB_SECRET"))
-        .build()));
+        .build()).isBuildable());
 
     Try.run(() -> Thread.sleep(3000));
     assertTrue(DOT_NET_CORE_BUILDER.canBuild(GithubRepoClient
@@ -31,6 +31,6 @@ public class DotNetBuilderTest {
         .repo("https://github.com/OctopusSamples/RandomQuotes")
         .username(System.getenv("APP_GITHUB_ID"))
         .password(System.getenv("APP_GITHUB_SECRET"))
-        .build()));
+        .build()).isBuildable());
   }
 }
@@ -22,7 +22,7 @@ public class JavaMavenBuilderTest {
         .repo("https://github.com/OctopusSamples/RandomQuotes")
         .username(System.getenv("APP_GITHUB_ID"))
         .password(System.getenv("APP_GITHUB_SECRET"))
-        .build()));
+        .build()).isBuildable());
 
     Try.run(() -> Thread.sleep(3000));
     assertTrue(JAVA_MAVEN_BUILDER.canBuild(GithubRepoClient
@@ -31,6 +31,6 @@ public class JavaMavenBuilderTest {
         .repo("https://github.com/mcasperson/SampleMavenProject-SpringBoot")
         .username(System.getenv("APP_GITHUB_ID"))
         .password(System.getenv("APP_GITHUB_SECRET"))
-        .build()));
+        .build()).isBuildable());
   }
 }
@@ -127,7 +127,7 @@ public class PipelineResourceMissingTest {
     Mockito.when(cryptoUtils.decrypt(any(), any(), any())).thenReturn("decrypted");
     doNothing().when(auditGenerator).createAuditEvent(any(), any(), any(), any(), any());
     doNothing().when(serviceBusMessageGenerator)
-        .sendLoginMessage(any(), any(), any(), any(), any());
+        .sendLoginMessage(any(), any(), any(), any(), any(), any());
   }
 
   /**
@@ -1,6 +1,7 @@
 package com.octopus.githubactions.github.application.lambda;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 
@@ -21,6 +22,7 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.mockito.InjectMock;
 import io.vavr.control.Try;
+import java.util.Arrays;
 import javax.inject.Inject;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,7 +71,7 @@ public class PipelineLambdaTest {
     Mockito.when(cryptoUtils.decrypt(any(), any(), any())).thenReturn("decrypted");
     doNothing().when(auditGenerator).createAuditEvent(any(), any(), any(), any(), any());
     doNothing().when(serviceBusMessageGenerator)
-        .sendLoginMessage(any(), any(), any(), any(), any());
+        .sendLoginMessage(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -98,6 +100,42 @@ public class PipelineLambdaTest {
     assertEquals(400, response.getStatusCode());
   }
 
+  @Test
+  public void testBulk() {
+    final APIGatewayProxyResponseEvent response = pipelineLambda.handleRequest(
+        new APIGatewayProxyRequestEvent()
+            .withPath(ENDPOINT)
+            .withHttpMethod("POST")
+            .withBody("[\"" + REPO + "\", \"\"]")
+            .withQueryStringParameters(
+                new ImmutableMap.Builder<String, String>().put("action", "bulk").build()),
+        Mockito.mock(Context.class)
+    );
+
+    assertEquals(200, response.getStatusCode());
+    assertEquals("application/x-ndjson", response.getHeaders().get("Content-Type"));
+
+    final String[] lines = response.getBody().split("\n");
+    assertEquals(2, lines.length);
+    assertTrue(Arrays.stream(lines).anyMatch(l -> l.contains("\"code\":200")));
+    assertTrue(Arrays.stream(lines).anyMatch(l -> l.contains("\"code\":400")));
+  }
+
+  @Test
+  public void testBulkBadRequest() {
+    final APIGatewayProxyResponseEvent response = pipelineLambda.handleRequest(
+        new APIGatewayProxyRequestEvent()
+            .withPath(ENDPOINT)
+            .withHttpMethod("POST")
+            .withBody("not json")
+            .withQueryStringParameters(
+                new ImmutableMap.Builder<String, String>().put("action", "bulk").build()),
+        Mockito.mock(Context.class)
+    );
+
+    assertEquals(400, response.getStatusCode());
+  }
+
   @Test
   public void testHealth() {
     final APIGatewayProxyResponseEvent response = pipelineLambda.handleRequest(
@@ -19,5 +19,7 @@ public class ExceptionsTest {
     assertDoesNotThrow(() -> new BadRequest(new RuntimeException()));
     assertThrows(NullPointerException.class, () -> new EntityNotFound(null));
     assertDoesNotThrow(() -> new EntityNotFound(new RuntimeException()));
+    assertThrows(NullPointerException.class, () -> new TooManyRequests(null));
+    assertDoesNotThrow(() -> new TooManyRequests(new RuntimeException()));
   }
 }
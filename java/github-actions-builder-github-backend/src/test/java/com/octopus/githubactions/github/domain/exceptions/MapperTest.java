@@ -4,6 +4,7 @@ import com.octopus.githubactions.github.domain.TestingProfile;
 import com.octopus.githubactions.github.domain.framework.providers.BadRequestMapper;
 import com.octopus.githubactions.github.domain.framework.providers.EntityNotFoundMapper;
 import com.octopus.githubactions.github.domain.framework.providers.ServerErrorMapper;
+import com.octopus.githubactions.github.domain.framework.providers.TooManyRequestsMapper;
 import com.octopus.githubactions.github.domain.framework.providers.UnauthorizedMapper;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
@@ -28,6 +29,9 @@ public class MapperTest {
   @Inject
   BadRequestMapper badRequestMapper;
 
+  @Inject
+  TooManyRequestsMapper tooManyRequestsMapper;
+
 
   @Test
   public void verifyUnauthorizedMapperNullInputs() {
@@ -84,4 +88,18 @@ public class MapperTest {
         new BadRequest());
     Assertions.assertEquals(400, response.getStatus());
   }
+
+  @Test
+  public void verifyTooManyRequestsMapperNullInputs() {
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      tooManyRequestsMapper.toResponse(null);
+    });
+  }
+
+  @Test
+  public void verifyTooManyRequestsMapperResponse() {
+    final Response response = tooManyRequestsMapper.toResponse(
+        new TooManyRequests());
+    Assertions.assertEquals(429, response.getStatus());
+  }
 }
@@ -4,6 +4,7 @@ import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.githubactions.shared.builders.dsl.Build;
 import com.octopus.githubactions.shared.builders.dsl.Jobs;
@@ -18,6 +19,7 @@ import com.octopus.repoclients.RepoClient;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jboss.logging.Logger;
@@ -31,8 +33,7 @@ public class DotNetCoreBuilder implements PipelineBuilder {
   private static final GitBuilder GIT_BUILDER = new GitBuilder();
   private static final Pattern DOT_NET_CORE_REGEX = Pattern.compile(
       "Sdk\\s*=\\s*\"Microsoft\\.NET\\.Sdk");
-
-  private String workingDirectory = null;
+  private static final String WORKING_DIRECTORY = "workingDirectory";
 
   /**
    * This builder is very permissive, finding any solution files anywhere in the repo. If there are
@@ -51,27 +52,30 @@ public class DotNetCoreBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "DotnetCoreBuilder.canBuild(RepoClient)");
 
     final List<String> solutionFiles = hasSolutionFiles(accessor);
 
-    if (!solutionFiles.isEmpty()) {
-      setWorkingDir(solutionFiles);
-      return hasDotNetCoreProjectFiles(accessor);
+    if (!solutionFiles.isEmpty() && hasDotNetCoreProjectFiles(accessor)) {
+      final DetectionResult.DetectionResultBuilder result = DetectionResult.builder()
+          .buildable(true);
+      getWorkingDir(solutionFiles).ifPresent(dir -> result.property(WORKING_DIRECTORY, dir));
+      return result.build();
     }
 
-    return false;
+    return DetectionResult.notBuildable();
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
-    LOG.log(DEBUG, "DotNetCoreBuilder.generate(RepoClient)");
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
+    LOG.log(DEBUG, "DotNetCoreBuilder.generate(RepoClient, DetectionResult)");
+    final String workingDirectory = detection.getProperty(WORKING_DIRECTORY).orElse(null);
     return "# For a detailed breakdown of this workflow, see https://octopus.com/docs/guides/deploy-aspnetcore-app/to-iis/using-octopus-onprem-github-builtin\n"
         + "#\n"
         + GIT_BUILDER.getInitialComments() + "\n"
-        + SnakeYamlFactory.getConfiguredYaml()
-        .dump(
+        + WorkflowYamlEmitter.toYaml(
             Workflow.builder()
                 .permissions(GIT_BUILDER.buildPermissions())
                 .name("DotNET Core Build")
@@ -256,13 +260,13 @@ public class DotNetCoreBuilder implements PipelineBuilder {
         .anyMatch(f -> DOT_NET_CORE_REGEX.matcher(accessor.getFile(f).getOrElse("")).find());
   }
 
-  private void setWorkingDir(final List<String> solutionFiles) {
+  private Optional<String> getWorkingDir(final List<String> solutionFiles) {
     final List<String> split = new ArrayList<>(Arrays.asList(solutionFiles.get(0).split("/")));
     if (split.size() > 1) {
       split.remove(split.size() - 1);
-      workingDirectory = String.join("/", split);
-    } else {
-      workingDirectory = null;
+      return Optional.of(String.join("/", split));
     }
+
+    return Optional.empty();
   }
 }
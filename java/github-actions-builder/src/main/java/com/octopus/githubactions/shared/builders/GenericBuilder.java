@@ -1,6 +1,7 @@
 package com.octopus.githubactions.shared.builders;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.githubactions.shared.builders.dsl.Build;
 import com.octopus.githubactions.shared.builders.dsl.Jobs;
@@ -30,15 +31,14 @@ public class GenericBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(RepoClient accessor) {
-    return true;
+  public DetectionResult canBuild(RepoClient accessor) {
+    return DetectionResult.of(true);
   }
 
   @Override
-  public String generate(RepoClient accessor) {
+  public String generate(RepoClient accessor, DetectionResult detection) {
     return GIT_BUILDER.getInitialComments() + "\n"
-        + SnakeYamlFactory.getConfiguredYaml()
-        .dump(
+        + WorkflowYamlEmitter.toYaml(
             Workflow.builder()
                 .permissions(GIT_BUILDER.buildPermissions())
                 .name("Generic Build")
@@ -5,11 +5,96 @@ import com.octopus.githubactions.shared.builders.dsl.Permissions;
 import com.octopus.githubactions.shared.builders.dsl.Step;
 import com.octopus.githubactions.shared.builders.dsl.UsesWith;
 import com.octopus.repoclients.RepoClient;
+import java.util.Map;
 import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
 
-/** Contains a number of common steps shared between builders. */
+/**
+ * Contains a number of common steps shared between builders.
+ *
+ * <p>Steps that don't depend on the repo are built once and shared by every workflow. The steps
+ * and their maps are immutable, so a workflow can't change the steps of another. Steps that do
+ * depend on the repo are built on each call, reusing the shared maps for their environment
+ * variables.
+ */
 public class GitBuilder {
+
+  private static final Step CHECKOUT_STEP = UsesWith.builder()
+      .uses("actions/checkout@v3")
+      .with(ImmutableMap.of("fetch-depth", "0"))
+      .build();
+
+  private static final Step GIT_VERSION_INSTALL_STEP = UsesWith.builder()
+      .name("Install GitVersion")
+      .uses("gittools/actions/gitversion/setup@v0.9.15")
+      .with(ImmutableMap.of("versionSpec", "5.x"))
+      .build();
+
+  private static final Step VERSION_CALCULATE_STEP = UsesWith.builder()
+      .name("Determine Version")
+      .id("determine_version")
+      .uses("gittools/actions/gitversion/execute@v0.9.15")
+      .with(ImmutableMap.of("additionalArguments", "/overrideconfig mode=Mainline"))
+      .build();
+
+  private static final Step INSTALL_OCTOPUS_CLI_STEP = UsesWith.builder()
+      .name("Install Octopus Deploy CLI")
+      .uses("OctopusDeploy/install-octopus-cli-action@v1")
+      .with(ImmutableMap.of("version", "latest"))
+      .build();
+
+  private static final Map<String, String> GITHUB_TOKEN_ENV =
+      ImmutableMap.of("GITHUB_TOKEN", "${{ secrets.GITHUB_TOKEN }}");
+
+  private static final Map<String, String> OCTOPUS_CLI_ENV = ImmutableMap.of(
+      "OCTOPUS_API_KEY", "${{ secrets.OCTOPUS_API_TOKEN }}",
+      "OCTOPUS_CLI_SERVER", "${{ secrets.OCTOPUS_SERVER_URL }}");
+
+  private static final Map<String, String> OCTOPUS_BUILD_INFO_ENV = ImmutableMap.of(
+      "OCTOPUS_API_KEY", "${{ secrets.OCTOPUS_API_TOKEN }}",
+      "OCTOPUS_URL", "${{ secrets.OCTOPUS_SERVER_URL }}",
+      "OCTOPUS_SPACE", "${{ secrets.OCTOPUS_SPACE }}");
+
+  private static final Step CREATE_GITHUB_RELEASE_STEP = UsesWith.builder()
+      .name("Create Release")
+      .id("create_release")
+      .uses("actions/create-release@v1")
+      .env(GITHUB_TOKEN_ENV)
+      .with(
+          new ImmutableMap.Builder<String, String>()
+              .put("tag_name", "${{ steps.determine_version.outputs.semVer }}+run${{ github.run_number }}-attempt${{ github.run_attempt }}")
+              .put("release_name", "Release ${{ steps.determine_version.outputs.semVer }} Run ${{ github.run_number }} Attempt ${{ github.run_attempt }}")
+              .put("draft", "false")
+              .put("prerelease", "false")
+              .build())
+      .build();
+
+  private static final Step TAG_REPO_STEP = UsesWith.builder()
+      .name("Tag Release")
+      .uses("mathieudutour/github-tag-action@v6.1")
+      .with(ImmutableMap.of(
+          "custom_tag", "${{ steps.determine_version.outputs.semVer }}",
+          "github_token", "${{ secrets.GITHUB_TOKEN }}"))
+      .build();
+
+  private static final Step COLLECT_DEPENDENCIES_STEP = buildCollectDependencies("");
+
+  private static final Step COLLECT_DEPENDENCY_UPDATES_STEP = buildCollectDependencyUpdates("");
+
+  private static final Step INSTALL_JAVA_STEP = UsesWith.builder()
+      .name("Set up JDK 1.17")
+      .uses("actions/setup-java@v2")
+      .with(ImmutableMap.of(
+          "java-version", "17",
+          "distribution", "adopt"))
+      .build();
+
+  private static final Permissions PERMISSIONS = Permissions.builder()
+      .contents("write")
+      .idToken("write")
+      .checks("write")
+      .build();
+
   /** Builds the common top level comments for the workflow. */
   public String getInitialComments() {
     return "# The following workflow provides an opinionated template you can customize for your own needs.\n"
@@ -28,38 +113,22 @@ public class GitBuilder {
 
   /** Build the checkout step. */
   public Step checkOutStep() {
-    return UsesWith.builder()
-        .uses("actions/checkout@v3")
-        .with(new ImmutableMap.Builder<String, String>().put("fetch-depth", "0").build())
-        .build();
+    return CHECKOUT_STEP;
   }
 
   /** Build the GitVersion installation step. */
   public Step gitVersionInstallStep() {
-    return UsesWith.builder()
-        .name("Install GitVersion")
-        .uses("gittools/actions/gitversion/setup@v0.9.15")
-        .with(new ImmutableMap.Builder<String, String>().put("versionSpec", "5.x").build())
-        .build();
+    return GIT_VERSION_INSTALL_STEP;
   }
 
   /** Build the step to calculate the versions from git. */
   public Step getVersionCalculate() {
-    return UsesWith.builder()
-        .name("Determine Version")
-        .id("determine_version")
-        .uses("gittools/actions/gitversion/execute@v0.9.15")
-        .with(new ImmutableMap.Builder<String, String>().put("additionalArguments", "/overrideconfig mode=Mainline").build())
-        .build();
+    return VERSION_CALCULATE_STEP;
   }
 
   /** Build the Octopus CLI installation step. */
   public Step installOctopusCli() {
-    return UsesWith.builder()
-        .name("Install Octopus Deploy CLI")
-        .uses("OctopusDeploy/install-octopus-cli-action@v1")
-        .with(new ImmutableMap.Builder<String, String>().put("version", "latest").build())
-        .build();
+    return INSTALL_OCTOPUS_CLI_STEP;
   }
 
   /** Build the test processing step. */
@@ -86,35 +155,12 @@ public class GitBuilder {
    * So we embed the run_number and run_attempt in the metadata.
    */
   public Step createGitHubRelease() {
-    return UsesWith.builder()
-        .name("Create Release")
-        .id("create_release")
-        .uses("actions/create-release@v1")
-        .env(
-            new ImmutableMap.Builder<String, String>()
-                .put("GITHUB_TOKEN", "${{ secrets.GITHUB_TOKEN }}")
-                .build())
-        .with(
-            new ImmutableMap.Builder<String, String>()
-                .put("tag_name", "${{ steps.determine_version.outputs.semVer }}+run${{ github.run_number }}-attempt${{ github.run_attempt }}")
-                .put("release_name", "Release ${{ steps.determine_version.outputs.semVer }} Run ${{ github.run_number }} Attempt ${{ github.run_attempt }}")
-                .put("draft", "false")
-                .put("prerelease", "false")
-                .build())
-        .build();
+    return CREATE_GITHUB_RELEASE_STEP;
   }
 
   /** Tag the repo with the release. */
   public Step tagRepo() {
-    return UsesWith.builder()
-        .name("Tag Release")
-        .uses("mathieudutour/github-tag-action@v6.1")
-        .with(
-            new ImmutableMap.Builder<String, String>()
-                .put("custom_tag", "${{ steps.determine_version.outputs.semVer }}")
-                .put("github_token", "${{ secrets.GITHUB_TOKEN }}")
-                .build())
-        .build();
+    return TAG_REPO_STEP;
   }
 
   /** Build the step to upload file to the github release. */
@@ -122,10 +168,7 @@ public class GitBuilder {
     return UsesWith.builder()
         .name("Upload Release Asset")
         .uses("actions/upload-release-asset@v1")
-        .env(
-            new ImmutableMap.Builder<String, String>()
-                .put("GITHUB_TOKEN", "${{ secrets.GITHUB_TOKEN }}")
-                .build())
+        .env(GITHUB_TOKEN_ENV)
         .with(
             new ImmutableMap.Builder<String, String>()
                 .put("upload_url", "${{ steps.create_release.outputs.upload_url }}")
@@ -141,10 +184,7 @@ public class GitBuilder {
     return UsesWith.builder()
         .name("Push packages to Octopus Deploy")
         .uses("OctopusDeploy/push-package-action@v2")
-        .env(new ImmutableMap.Builder<String, String>()
-            .put("OCTOPUS_API_KEY", "${{ secrets.OCTOPUS_API_TOKEN }}")
-            .put("OCTOPUS_CLI_SERVER", "${{ secrets.OCTOPUS_SERVER_URL }}")
-            .build())
+        .env(OCTOPUS_CLI_ENV)
         .with(
             new ImmutableMap.Builder<String, String>()
                 .put("packages", packages)
@@ -158,11 +198,7 @@ public class GitBuilder {
     return UsesWith.builder()
         .name("Generate Octopus Deploy build information")
         .uses("OctopusDeploy/push-build-information-action@v3")
-        .env(new ImmutableMap.Builder<String, String>()
-            .put("OCTOPUS_API_KEY", "${{ secrets.OCTOPUS_API_TOKEN }}")
-            .put("OCTOPUS_URL", "${{ secrets.OCTOPUS_SERVER_URL }}")
-            .put("OCTOPUS_SPACE", "${{ secrets.OCTOPUS_SPACE }}")
-            .build())
+        .env(OCTOPUS_BUILD_INFO_ENV)
         .with(
             new ImmutableMap.Builder<String, String>()
                 .put("version", "${{ steps.determine_version.outputs.semVer }}")
@@ -189,63 +225,54 @@ public class GitBuilder {
   }
 
   public Step collectDependencies() {
-    return collectDependencies(null);
+    return COLLECT_DEPENDENCIES_STEP;
   }
 
   /** Build the dependency collection step. */
   public Step collectDependencies(final String workingDirectory) {
-    final String directory = StringUtils.isBlank(workingDirectory)
-        ? "" : workingDirectory + "/";
-    return UsesWith.builder()
-        .name("Collect Dependencies")
-        .uses("actions/upload-artifact@v2")
-        .with(
-            new ImmutableMap.Builder<String, String>()
-                .put("name", "Dependencies")
-                .put("path", directory + "dependencies.txt")
-                .build())
-        .build();
+    return StringUtils.isBlank(workingDirectory)
+        ? COLLECT_DEPENDENCIES_STEP
+        : buildCollectDependencies(workingDirectory + "/");
   }
 
   public Step collectDependencyUpdates() {
-    return collectDependencyUpdates(null);
+    return COLLECT_DEPENDENCY_UPDATES_STEP;
   }
 
   /** Build the dependency updates collection step. */
   public Step collectDependencyUpdates(final String workingDirectory) {
-    final String directory = StringUtils.isBlank(workingDirectory)
-        ? "" : workingDirectory + "/";
-    return UsesWith.builder()
-        .name("Collect Dependency Updates")
-        .uses("actions/upload-artifact@v2")
-        .with(
-            new ImmutableMap.Builder<String, String>()
-                .put("name", "Dependencies Updates")
-                .put("path", directory + "dependencyUpdates.txt")
-                .build())
-        .build();
+    return StringUtils.isBlank(workingDirectory)
+        ? COLLECT_DEPENDENCY_UPDATES_STEP
+        : buildCollectDependencyUpdates(workingDirectory + "/");
   }
 
   /** Build the java installation step. */
   public Step installJava() {
-    return UsesWith.builder()
-        .name("Set up JDK 1.17")
-        .uses("actions/setup-java@v2")
-        .with(
-            new ImmutableMap.Builder<String, String>()
-                .put("java-version", "17")
-                .put("distribution", "adopt")
-                .build())
-        .build();
+    return INSTALL_JAVA_STEP;
   }
 
   /** Build the permissions object. */
   public Permissions buildPermissions() {
-    return Permissions.builder()
-        .contents("write")
-        .idToken("write")
-        .checks("write")
+    return PERMISSIONS;
+  }
+
+  private static Step buildCollectDependencies(@NonNull final String directory) {
+    return UsesWith.builder()
+        .name("Collect Dependencies")
+        .uses("actions/upload-artifact@v2")
+        .with(ImmutableMap.of(
+            "name", "Dependencies",
+            "path", directory + "dependencies.txt"))
         .build();
   }
-}
 
+  private static Step buildCollectDependencyUpdates(@NonNull final String directory) {
+    return UsesWith.builder()
+        .name("Collect Dependency Updates")
+        .uses("actions/upload-artifact@v2")
+        .with(ImmutableMap.of(
+            "name", "Dependencies Updates",
+            "path", directory + "dependencyUpdates.txt"))
+        .build();
+  }
+}
\ No newline at end of file
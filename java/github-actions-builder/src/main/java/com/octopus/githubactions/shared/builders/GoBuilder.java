@@ -4,6 +4,7 @@ import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.githubactions.shared.builders.dsl.Build;
 import com.octopus.githubactions.shared.builders.dsl.Jobs;
@@ -34,19 +35,19 @@ public class GoBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     final Try<List<String>> files = accessor.getWildcardFiles("*.go", 1);
 
-    return accessor.testFile("go.mod")
-        || (files.isSuccess() && !files.get().isEmpty());
+    return DetectionResult.of(accessor.testFile("go.mod")
+        || (files.isSuccess() && !files.get().isEmpty()));
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
-    LOG.log(DEBUG, "GoBuilder.generate(RepoClient)");
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
+    LOG.log(DEBUG, "GoBuilder.generate(RepoClient, DetectionResult)");
     return GIT_BUILDER.getInitialComments() + "\n"
-        + SnakeYamlFactory.getConfiguredYaml()
-        .dump(
+        + WorkflowYamlEmitter.toYaml(
             Workflow.builder()
                 .permissions(GIT_BUILDER.buildPermissions())
                 .name("Go Build")
@@ -3,6 +3,7 @@ package com.octopus.githubactions.shared.builders;
 import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.githubactions.shared.builders.dsl.Build;
 import com.octopus.githubactions.shared.builders.dsl.Jobs;
@@ -25,7 +26,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
   private static final Logger LOG = Logger.getLogger(JavaGradleBuilder.class.toString());
   private static final GitBuilder GIT_BUILDER = new GitBuilder();
   private static final String[] GRADLE_BUILD_FILES = {"build.gradle", "build.gradle.kts"};
-  private boolean usesWrapper = false;
+  private static final String WRAPPER = "wrapper";
 
   @Override
   public String getName() {
@@ -33,25 +34,30 @@ public class JavaGradleBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "JavaGradleBuilder.canBuild(RepoClient)");
 
     if (Arrays.stream(GRADLE_BUILD_FILES).anyMatch(accessor::testFile)) {
       LOG.log(DEBUG, String.join(" or ", GRADLE_BUILD_FILES) + " was found");
-      usesWrapper = usesWrapper(accessor);
+      final boolean usesWrapper = usesWrapper(accessor);
       LOG.log(DEBUG, "Wrapper script was " + (usesWrapper ? "" : "not ") + "found");
-      return true;
+      final DetectionResult.DetectionResultBuilder result = DetectionResult.builder()
+          .buildable(true);
+      if (usesWrapper) {
+        result.feature(WRAPPER);
+      }
+      return result.build();
     }
 
-    return false;
+    return DetectionResult.notBuildable();
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
-    LOG.log(DEBUG, "JavaMavenBuilder.generate(RepoClient)");
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
+    LOG.log(DEBUG, "JavaGradleBuilder.generate(RepoClient, DetectionResult)");
     return GIT_BUILDER.getInitialComments() + "\n"
-        + SnakeYamlFactory.getConfiguredYaml()
-        .dump(
+        + WorkflowYamlEmitter.toYaml(
             Workflow.builder()
                 .permissions(GIT_BUILDER.buildPermissions())
                 .name("Java Gradle Build")
@@ -74,7 +80,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
                                                 .name("List Dependencies")
                                                 .shell("bash")
                                                 .run(
-                                                    gradleExecutable()
+                                                    gradleExecutable(detection)
                                                         + " dependencies --console=plain > dependencies.txt")
                                                 .build())
                                         .add(GIT_BUILDER.collectDependencies())
@@ -83,7 +89,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
                                                 .name("Test")
                                                 .shell("bash")
                                                 .run(
-                                                    gradleExecutable()
+                                                    gradleExecutable(detection)
                                                         + " check --console=plain")
                                                 .build())
                                         .add(
@@ -94,7 +100,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
                                                 .name("Package")
                                                 .shell("bash")
                                                 .run(
-                                                    gradleExecutable()
+                                                    gradleExecutable(detection)
                                                         + " clean assemble --console=plain")
                                                 .build())
                                         .add(
@@ -157,8 +163,8 @@ public class JavaGradleBuilder implements PipelineBuilder {
                 .build());
   }
 
-  private String gradleExecutable() {
-    return usesWrapper ? "./gradlew" : "gradle";
+  private String gradleExecutable(@NonNull final DetectionResult detection) {
+    return detection.hasFeature(WRAPPER) ? "./gradlew" : "gradle";
   }
 
   private boolean usesWrapper(@NonNull final RepoClient accessor) {
@@ -3,6 +3,7 @@ package com.octopus.githubactions.shared.builders;
 import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.githubactions.shared.builders.dsl.Build;
 import com.octopus.githubactions.shared.builders.dsl.Jobs;
@@ -23,7 +24,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
 
   private static final Logger LOG = Logger.getLogger(JavaMavenBuilder.class.toString());
   private static final GitBuilder GIT_BUILDER = new GitBuilder();
-  private boolean usesWrapper = false;
+  private static final String WRAPPER = "wrapper";
 
   @Override
   public String getName() {
@@ -31,24 +32,28 @@ public class JavaMavenBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "JavaMavenBuilder.canBuild(RepoClient)");
     if (accessor.testFile("pom.xml")) {
-      usesWrapper = usesWrapper(accessor);
-      return true;
+      final DetectionResult.DetectionResultBuilder result = DetectionResult.builder()
+          .buildable(true);
+      if (usesWrapper(accessor)) {
+        result.feature(WRAPPER);
+      }
+      return result.build();
     }
 
-    return false;
+    return DetectionResult.notBuildable();
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
-    LOG.log(DEBUG, "JavaMavenBuilder.generate(RepoClient)");
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
+    LOG.log(DEBUG, "JavaMavenBuilder.generate(RepoClient, DetectionResult)");
     return "# For a detailed breakdown of this workflow, see https://octopus.com/docs/guides/deploy-java-app/to-tomcat/using-octopus-onprem-github-builtin\n"
         + "#\n"
         + GIT_BUILDER.getInitialComments() + "\n"
-        + SnakeYamlFactory.getConfiguredYaml()
-        .dump(
+        + WorkflowYamlEmitter.toYaml(
             Workflow.builder()
                 .permissions(GIT_BUILDER.buildPermissions())
                 .name("Java Maven Build")
@@ -71,7 +76,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                                                 .name("Set Version")
                                                 .shell("bash")
                                                 .run(
-                                                    mavenExecutable()
+                                                    mavenExecutable(detection)
                                                         + " --batch-mode versions:set -DnewVersion=${{ steps.determine_version.outputs.semVer }}")
                                                 .build())
                                         .add(
@@ -79,7 +84,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                                                 .name("List Dependencies")
                                                 .shell("bash")
                                                 .run(
-                                                    mavenExecutable()
+                                                    mavenExecutable(detection)
                                                         + " --batch-mode dependency:tree --no-transfer-progress > dependencies.txt")
                                                 .build())
                                         .add(GIT_BUILDER.collectDependencies())
@@ -88,7 +93,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                                                 .name("List Dependency Updates")
                                                 .shell("bash")
                                                 .run(
-                                                    mavenExecutable()
+                                                    mavenExecutable(detection)
                                                         + " --batch-mode versions:display-dependency-updates > dependencyUpdates.txt")
                                                 .build())
                                         .add(GIT_BUILDER.collectDependencyUpdates())
@@ -97,7 +102,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                                                 .name("Test")
                                                 .shell("bash")
                                                 .run(
-                                                    mavenExecutable()
+                                                    mavenExecutable(detection)
                                                         + " --batch-mode test")
                                                 .build())
                                         .add(
@@ -108,7 +113,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                                                 .name("Package")
                                                 .shell("bash")
                                                 .run(
-                                                    mavenExecutable()
+                                                    mavenExecutable(detection)
                                                         + " --batch-mode -DskipTests=true package")
                                                 .build())
                                         .add(
@@ -172,8 +177,8 @@ public class JavaMavenBuilder implements PipelineBuilder {
                 .build());
   }
 
-  private String mavenExecutable() {
-    return usesWrapper ? "./mvnw" : "mvn";
+  private String mavenExecutable(@NonNull final DetectionResult detection) {
+    return detection.hasFeature(WRAPPER) ? "./mvnw" : "mvn";
   }
 
   private boolean usesWrapper(@NonNull final RepoClient accessor) {
@@ -5,6 +5,7 @@ import static org.jboss.logging.Logger.Level.DEBUG;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.githubactions.shared.builders.dsl.Build;
 import com.octopus.githubactions.shared.builders.dsl.Jobs;
@@ -27,8 +28,8 @@ public class NodeJsBuilder implements PipelineBuilder {
 
   private static final Logger LOG = Logger.getLogger(NodeJsBuilder.class.toString());
   private static final GitBuilder GIT_BUILDER = new GitBuilder();
-  private boolean useYarn = false;
-  private boolean packageLock = false;
+  private static final String YARN = "yarn";
+  private static final String PACKAGE_LOCK = "packageLock";
 
   @Override
   public String getName() {
@@ -36,21 +37,31 @@ public class NodeJsBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "NodeJsBuilder.canBuild(RepoClient)");
-    useYarn = accessor.testFile("yarn.lock");
-    packageLock = accessor.testFile("package-lock.json");
-    return accessor.testFile("package.json");
+    if (!accessor.testFile("package.json")) {
+      return DetectionResult.notBuildable();
+    }
+
+    final DetectionResult.DetectionResultBuilder result = DetectionResult.builder()
+        .buildable(true);
+    if (accessor.testFile("yarn.lock")) {
+      result.feature(YARN);
+    }
+    if (accessor.testFile("package-lock.json")) {
+      result.feature(PACKAGE_LOCK);
+    }
+    return result.build();
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
-    LOG.log(DEBUG, "NodeJsBuilder.generate(RepoClient)");
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
+    LOG.log(DEBUG, "NodeJsBuilder.generate(RepoClient, DetectionResult)");
     return "# For a detailed breakdown of this workflow, see https://octopus.com/docs/guides/deploy-node-app/to-nginx/using-octopus-onprem-github-builtin\n"
         + "#\n"
         + GIT_BUILDER.getInitialComments() + "\n"
-        + SnakeYamlFactory.getConfiguredYaml()
-        .dump(
+        + WorkflowYamlEmitter.toYaml(
             Workflow.builder()
                 .permissions(GIT_BUILDER.buildPermissions())
                 .name("Node.js Build")
@@ -76,14 +87,16 @@ public class NodeJsBuilder implements PipelineBuilder {
                                                 .name("Install Dependencies")
                                                 .shell("bash")
                                                 // npm ci can be used when the package-lock.json file exists
-                                                .run(getPackageManager() + (packageLock && !useYarn ? " ci" : " install"))
+                                                .run(getPackageManager(detection)
+                                                    + (detection.hasFeature(PACKAGE_LOCK) && !detection.hasFeature(YARN)
+                                                    ? " ci" : " install"))
                                                 .build())
                                         .add(
                                             RunStep.builder()
                                                 .name("List Dependencies")
                                                 .shell("bash")
                                                 .run(
-                                                    getPackageManager()
+                                                    getPackageManager(detection)
                                                         + " list --all > dependencies.txt")
                                                 .build())
                                         .add(GIT_BUILDER.collectDependencies())
@@ -92,7 +105,7 @@ public class NodeJsBuilder implements PipelineBuilder {
                                                 .name("List Dependency Updates")
                                                 .shell("bash")
                                                 .run(
-                                                    getPackageManager()
+                                                    getPackageManager(detection)
                                                         + " outdated > dependencyUpdates.txt")
                                                 .build())
                                         .add(GIT_BUILDER.collectDependencyUpdates())
@@ -100,7 +113,7 @@ public class NodeJsBuilder implements PipelineBuilder {
                                             RunStep.builder()
                                                 .name("Test")
                                                 .shell("bash")
-                                                .run(getPackageManager() + " test")
+                                                .run(getPackageManager(detection) + " test")
                                                 .build())
                                         .add(
                                             RunStep.builder()
@@ -110,7 +123,7 @@ public class NodeJsBuilder implements PipelineBuilder {
                                                     (!scriptExists(accessor, "build")
                                                         ? "# package.json does not define a build script, so the build command is commented out.\n# "
                                                         : "")
-                                                        + getPackageManager()
+                                                        + getPackageManager(detection)
                                                         + " run build")
                                                 .build())
                                         .add(
@@ -184,7 +197,7 @@ public class NodeJsBuilder implements PipelineBuilder {
         .getOrElse(false);
   }
 
-  private String getPackageManager() {
-    return useYarn ? "yarn" : "npm";
+  private String getPackageManager(@NonNull final DetectionResult detection) {
+    return detection.hasFeature(YARN) ? "yarn" : "npm";
   }
 }
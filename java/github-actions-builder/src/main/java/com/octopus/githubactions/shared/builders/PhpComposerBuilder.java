@@ -3,6 +3,7 @@ package com.octopus.githubactions.shared.builders;
 import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.githubactions.shared.builders.dsl.Build;
 import com.octopus.githubactions.shared.builders.dsl.Jobs;
@@ -30,19 +31,19 @@ public class PhpComposerBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "PhpComposerBuilder.canBuild(RepoClient)");
-    return accessor.testFile("composer.json");
+    return DetectionResult.of(accessor.testFile("composer.json"));
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
-    LOG.log(DEBUG, "PhpComposerBuilder.generate(RepoClient)");
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
+    LOG.log(DEBUG, "PhpComposerBuilder.generate(RepoClient, DetectionResult)");
     return "# For a detailed breakdown of this workflow, see https://octopus.com/docs/guides/deploy-php-app/to-nginx/using-octopus-onprem-github-builtin\n"
         + "#\n"
         + GIT_BUILDER.getInitialComments() + "\n"
-        + SnakeYamlFactory.getConfiguredYaml()
-        .dump(
+        + WorkflowYamlEmitter.toYaml(
             Workflow.builder()
                 .permissions(GIT_BUILDER.buildPermissions())
                 .name("PHP Build")
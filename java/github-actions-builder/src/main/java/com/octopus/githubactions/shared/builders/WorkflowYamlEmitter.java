@@ -0,0 +1,308 @@
+package com.octopus.githubactions.shared.builders;
+
+import com.octopus.githubactions.shared.builders.dsl.Build;
+import com.octopus.githubactions.shared.builders.dsl.Jobs;
+import com.octopus.githubactions.shared.builders.dsl.On;
+import com.octopus.githubactions.shared.builders.dsl.Permissions;
+import com.octopus.githubactions.shared.builders.dsl.RunStep;
+import com.octopus.githubactions.shared.builders.dsl.Step;
+import com.octopus.githubactions.shared.builders.dsl.UsesWith;
+import com.octopus.githubactions.shared.builders.dsl.Workflow;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.DumperOptions.FlowStyle;
+import org.yaml.snakeyaml.DumperOptions.ScalarStyle;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ImplicitTuple;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.external.biz.base64Coder.Base64Coder;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Writes a workflow as YAML by walking the DSL classes directly, rather than building a node graph
+ * from the beans with reflection like SnakeYAML's object dumper does.
+ *
+ * <p>The document is written as a stream of events to SnakeYAML's emitter, which decides how each
+ * value is quoted. The properties are written in the same order, and the values are given the same
+ * tags and styles, as the object dumper, so the YAML is identical. This means multi-line values
+ * like run scripts are written as literal blocks, and values that would otherwise be read as
+ * another type, like 'on' or '0', are quoted.
+ *
+ * <p>Null properties are skipped. Objects that appear more than once are written in full each time,
+ * where SnakeYAML would use an anchor and alias.
+ */
+public final class WorkflowYamlEmitter {
+
+  private static final Pattern MULTILINE_PATTERN = Pattern.compile("\n|\u0085|\u2028|\u2029");
+  private static final Resolver RESOLVER = new Resolver();
+  private static final String MAP_TAG = Tag.MAP.getValue();
+  private static final String SEQ_TAG = Tag.SEQ.getValue();
+
+  private final DumperOptions options = new DumperOptions();
+  private final Emitter emitter;
+
+  private WorkflowYamlEmitter(@NonNull final Writer writer) {
+    options.setDefaultFlowStyle(FlowStyle.BLOCK);
+    options.setWidth(4096);
+    emitter = new Emitter(writer, options);
+  }
+
+  /**
+   * Writes a workflow as YAML to a string.
+   *
+   * @param workflow The workflow.
+   * @return The workflow YAML.
+   */
+  public static String toYaml(@NonNull final Workflow workflow) {
+    final StringWriter writer = new StringWriter();
+    try {
+      emit(workflow, writer);
+    } catch (final IOException ex) {
+      // A StringWriter does not throw IOExceptions
+      throw new UncheckedIOException(ex);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Writes a workflow as YAML.
+   *
+   * @param workflow The workflow.
+   * @param out      The destination of the YAML.
+   * @throws IOException If the YAML could not be written.
+   */
+  public static void emit(@NonNull final Workflow workflow, @NonNull final Appendable out)
+      throws IOException {
+    new WorkflowYamlEmitter(out instanceof Writer ? (Writer) out : new AppendableWriter(out))
+        .document(workflow);
+  }
+
+  /**
+   * Writes a workflow as UTF-8 encoded YAML. The stream is flushed but not closed.
+   *
+   * @param workflow The workflow.
+   * @param out      The destination of the YAML.
+   * @throws IOException If the YAML could not be written.
+   */
+  public static void emit(@NonNull final Workflow workflow, @NonNull final OutputStream out)
+      throws IOException {
+    final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    emit(workflow, writer);
+    writer.flush();
+  }
+
+  private void document(@NonNull final Workflow workflow) throws IOException {
+    try {
+      emit(new StreamStartEvent(null, null));
+      emit(new DocumentStartEvent(null, null, options.isExplicitStart(), options.getVersion(),
+          options.getTags()));
+      workflow(workflow);
+      emit(new DocumentEndEvent(null, null, options.isExplicitEnd()));
+      emit(new StreamEndEvent(null, null));
+    } catch (final UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  private void workflow(@NonNull final Workflow workflow) {
+    mapping(() -> {
+      property("name", workflow.getName());
+      property("on", workflow.getOn(), this::on);
+      property("jobs", workflow.getJobs(), this::jobs);
+      property("permissions", workflow.getPermissions(), this::permissions);
+    });
+  }
+
+  private void on(@NonNull final On on) {
+    mapping(() -> {
+      property("workflow_dispatch", on.getWorkflowDispatch(), d -> mapping(() -> { }));
+      property("push", on.getPush(), p -> mapping(() -> { }));
+    });
+  }
+
+  private void jobs(@NonNull final Jobs jobs) {
+    mapping(() -> property("build", jobs.getBuild(), this::build));
+  }
+
+  private void build(@NonNull final Build build) {
+    mapping(() -> {
+      property("runs-on", build.getRunsOn());
+      property("steps", build.getSteps(), this::steps);
+    });
+  }
+
+  private void steps(@NonNull final List<Step> steps) {
+    sequence(() -> steps.forEach(this::step));
+  }
+
+  private void step(final Step step) {
+    if (step instanceof RunStep) {
+      runStep((RunStep) step);
+    } else if (step instanceof UsesWith) {
+      usesWith((UsesWith) step);
+    } else if (step == null) {
+      scalar(null);
+    } else {
+      throw new IllegalArgumentException("Steps of type " + step.getClass().getName()
+          + " can not be written as YAML");
+    }
+  }
+
+  private void runStep(@NonNull final RunStep step) {
+    mapping(() -> {
+      property("working-directory", step.getWorkingDirectory());
+      property("id", step.getId());
+      property("name", step.getName());
+      property("run", step.getRun());
+      property("shell", step.getShell());
+    });
+  }
+
+  private void usesWith(@NonNull final UsesWith step) {
+    mapping(() -> {
+      property("if", step.getIfProperty());
+      property("id", step.getId());
+      property("name", step.getName());
+      property("uses", step.getUses());
+      property("env", step.getEnv(), this::map);
+      property("with", step.getWith(), this::map);
+    });
+  }
+
+  private void permissions(@NonNull final Permissions permissions) {
+    mapping(() -> {
+      property("id-token", permissions.getIdToken());
+      property("checks", permissions.getChecks());
+      property("contents", permissions.getContents());
+    });
+  }
+
+  private void map(@NonNull final Map<String, String> map) {
+    mapping(() -> map.forEach((key, value) -> {
+      scalar(key);
+      scalar(value);
+    }));
+  }
+
+  private void property(@NonNull final String name, final String value) {
+    property(name, value, this::scalar);
+  }
+
+  private <T> void property(@NonNull final String name, final T value,
+      @NonNull final Consumer<T> writer) {
+    if (value != null) {
+      scalar(name);
+      writer.accept(value);
+    }
+  }
+
+  private void mapping(@NonNull final Runnable entries) {
+    emit(new MappingStartEvent(null, MAP_TAG, true, null, null, FlowStyle.BLOCK));
+    entries.run();
+    emit(new MappingEndEvent(null, null));
+  }
+
+  private void sequence(@NonNull final Runnable items) {
+    emit(new SequenceStartEvent(null, SEQ_TAG, true, null, null, FlowStyle.BLOCK));
+    items.run();
+    emit(new SequenceEndEvent(null, null));
+  }
+
+  /**
+   * Strings are tagged and styled the same way as SnakeYAML's representer: null is written as
+   * null, strings with characters that can't be printed are written as base64 binary, and
+   * multi-line strings are written as literal blocks.
+   */
+  private void scalar(final String scalar) {
+    Tag tag = scalar == null ? Tag.NULL : Tag.STR;
+    String value = scalar == null ? "null" : scalar;
+    ScalarStyle style = ScalarStyle.PLAIN;
+
+    if (scalar != null && !StreamReader.isPrintable(value)) {
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      if (!new String(bytes, StandardCharsets.UTF_8).equals(value)) {
+        throw new YAMLException("invalid string value has occurred");
+      }
+      tag = Tag.BINARY;
+      value = String.valueOf(Base64Coder.encode(bytes));
+      style = ScalarStyle.LITERAL;
+    }
+
+    if (MULTILINE_PATTERN.matcher(value).find()) {
+      style = ScalarStyle.LITERAL;
+    }
+
+    final ImplicitTuple implicit = new ImplicitTuple(
+        tag.equals(RESOLVER.resolve(NodeId.scalar, value, true)),
+        tag.equals(RESOLVER.resolve(NodeId.scalar, value, false)));
+    emit(new ScalarEvent(null, tag.getValue(), implicit, value, null, null, style));
+  }
+
+  /**
+   * The lambdas that write the mappings can't throw checked exceptions, so IOExceptions are
+   * wrapped here and unwrapped by document().
+   */
+  private void emit(@NonNull final Event event) {
+    try {
+      emitter.emit(event);
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Adapts an Appendable that is not a Writer to the Writer used by the emitter.
+   */
+  private static final class AppendableWriter extends Writer {
+
+    private final Appendable out;
+
+    AppendableWriter(@NonNull final Appendable out) {
+      this.out = out;
+    }
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length)
+        throws IOException {
+      out.append(CharBuffer.wrap(buffer, offset, length));
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (out instanceof Flushable) {
+        ((Flushable) out).flush();
+      }
+    }
+
+    @Override
+    public void close() {
+      // The caller owns the Appendable
+    }
+  }
+}
@@ -1,10 +1,10 @@
 package com.octopus.githubactions.shared.builders.dsl;
 
 import lombok.Builder;
-import lombok.Data;
+import lombok.Value;
 
-/** Represents the permissions assigned to the workflow. */
-@Data
+/** Represents the permissions assigned to the workflow. The permissions are immutable. */
+@Value
 @Builder
 public class Permissions {
   private String idToken;
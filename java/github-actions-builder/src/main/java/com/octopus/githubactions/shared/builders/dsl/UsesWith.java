@@ -2,11 +2,14 @@ package com.octopus.githubactions.shared.builders.dsl;
 
 import java.util.Map;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Value;
 
-/** Represents a step with name, id, uses, with, and env properties. */
+/**
+ * Represents a step with name, id, uses, with, and env properties. Steps are immutable, so the
+ * steps that don't depend on the repo can be shared by every workflow.
+ */
 @Builder
-@Data
+@Value
 public class UsesWith implements Step {
 
   private String name;
@@ -0,0 +1,179 @@
+package com.octopus.githubactions.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.octopus.builders.PipelineBuilder;
+import com.octopus.githubactions.shared.builders.DotNetCoreBuilder;
+import com.octopus.githubactions.shared.builders.GenericBuilder;
+import com.octopus.githubactions.shared.builders.GoBuilder;
+import com.octopus.githubactions.shared.builders.JavaGradleBuilder;
+import com.octopus.githubactions.shared.builders.JavaMavenBuilder;
+import com.octopus.githubactions.shared.builders.NodeJsBuilder;
+import com.octopus.githubactions.shared.builders.PhpComposerBuilder;
+import com.octopus.githubactions.shared.builders.PythonBuilder;
+import com.octopus.githubactions.shared.builders.RubyBuilder;
+import com.octopus.githubactions.shared.builders.SnakeYamlFactory;
+import com.octopus.githubactions.shared.builders.WorkflowYamlEmitter;
+import com.octopus.githubactions.shared.builders.dsl.Build;
+import com.octopus.githubactions.shared.builders.dsl.Jobs;
+import com.octopus.githubactions.shared.builders.dsl.On;
+import com.octopus.githubactions.shared.builders.dsl.Permissions;
+import com.octopus.githubactions.shared.builders.dsl.Push;
+import com.octopus.githubactions.shared.builders.dsl.RunStep;
+import com.octopus.githubactions.shared.builders.dsl.Step;
+import com.octopus.githubactions.shared.builders.dsl.UsesWith;
+import com.octopus.githubactions.shared.builders.dsl.Workflow;
+import com.octopus.githubactions.shared.builders.dsl.WorkflowDispatch;
+import com.octopus.repoclients.RepoClient;
+import com.octopus.test.repoclients.DotnetTestRepoClient;
+import com.octopus.test.repoclients.GenericTestRepoClient;
+import com.octopus.test.repoclients.GoTestRepoClient;
+import com.octopus.test.repoclients.GradleTestRepoClient;
+import com.octopus.test.repoclients.MavenTestRepoClient;
+import com.octopus.test.repoclients.NodeTestRepoClient;
+import com.octopus.test.repoclients.PhpTestRepoClient;
+import com.octopus.test.repoclients.PythonTestRepoClient;
+import com.octopus.test.repoclients.RubyTestRepoClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Compares the workflows generated by each builder with the golden files in
+ * src/test/resources/workflows, which hold the workflows SnakeYAML generated before the builders
+ * used WorkflowYamlEmitter.
+ */
+public class WorkflowYamlEmitterTest {
+
+  private static Stream<Arguments> builders() {
+    return Stream.of(
+        Arguments.of("maven", new JavaMavenBuilder(),
+            new MavenTestRepoClient("https://github.com/o/maven", true)),
+        Arguments.of("gradle", new JavaGradleBuilder(),
+            new GradleTestRepoClient("https://github.com/o/gradle", false)),
+        Arguments.of("nodejs", new NodeJsBuilder(),
+            new NodeTestRepoClient("https://github.com/o/node")),
+        Arguments.of("php", new PhpComposerBuilder(),
+            new PhpTestRepoClient("https://github.com/o/php")),
+        Arguments.of("dotnet", new DotNetCoreBuilder(),
+            new DotnetTestRepoClient("https://github.com/o/dotnet")),
+        Arguments.of("python", new PythonBuilder(),
+            new PythonTestRepoClient("https://github.com/o/python", "main")),
+        Arguments.of("go", new GoBuilder(),
+            new GoTestRepoClient("https://github.com/o/go", "main")),
+        Arguments.of("ruby", new RubyBuilder(),
+            new RubyTestRepoClient("https://github.com/o/ruby", "main")),
+        Arguments.of("generic", new GenericBuilder(),
+            new GenericTestRepoClient("https://github.com/o/generic")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("builders")
+  public void testWorkflowsMatchGoldenFiles(final String name, final PipelineBuilder builder,
+      final RepoClient accessor) throws IOException {
+    assertEquals(readGoldenFile(name), builder.generate(accessor, builder.canBuild(accessor)));
+  }
+
+  @Test
+  public void testValuesAreQuotedLikeSnakeYaml() {
+    final Map<String, String> with = new LinkedHashMap<>();
+    with.put("number", "0");
+    with.put("float", "1.5");
+    with.put("boolean", "false");
+    with.put("yes", "yes");
+    with.put("null", "null");
+    with.put("empty", "");
+    with.put("tilde", "~");
+    with.put("expression", "${{ secrets.GITHUB_TOKEN }}");
+    with.put("colon", "key: value");
+    with.put("comment", "value # comment");
+    with.put("leading space", " value");
+    with.put("trailing space", "value ");
+    with.put("quotes", "'single' and \"double\"");
+    with.put("indicator", "- item");
+    with.put("flow", "{a: b}");
+    with.put("glob", "*.xml");
+    with.put("unicode", "café ✓");
+    with.put("tab", "a\tb");
+    with.put("trailing newline", "line\n");
+    with.put("leading newline", "\nline");
+    with.put("indented lines", "  indented\nline");
+    with.put("trailing spaces in block", "line  \nline");
+    with.put("control", "bell\u0007");
+    with.put("line separator", "a\u2028b");
+    with.put("null value", null);
+
+    final Workflow workflow = Workflow.builder()
+        .name("on")
+        .on(On.builder().push(new Push()).workflowDispatch(new WorkflowDispatch()).build())
+        .permissions(Permissions.builder().idToken("write").contents("read").build())
+        .jobs(Jobs.builder()
+            .build(Build.builder()
+                .runsOn("ubuntu-latest")
+                .steps(List.<Step>of(
+                    RunStep.builder()
+                        .name("Script")
+                        .workingDirectory("src")
+                        .run("echo \"one\"\necho 'two'\n\n  echo three")
+                        .shell("bash")
+                        .build(),
+                    UsesWith.builder()
+                        .ifProperty("always()")
+                        .uses("actions/checkout@v3")
+                        .env(Map.of("TOKEN", "${{ secrets.TOKEN }}"))
+                        .with(with)
+                        .build()))
+                .build())
+            .build())
+        .build();
+
+    assertEquals(SnakeYamlFactory.dump(workflow), WorkflowYamlEmitter.toYaml(workflow));
+  }
+
+  @Test
+  public void testEmptyWorkflowsMatchSnakeYaml() {
+    final Workflow workflow = Workflow.builder()
+        .jobs(Jobs.builder().build(Build.builder().steps(List.of()).build()).build())
+        .build();
+    assertEquals(SnakeYamlFactory.dump(workflow), WorkflowYamlEmitter.toYaml(workflow));
+  }
+
+  @Test
+  public void testWorkflowsAreStreamed() throws IOException {
+    final Workflow workflow = Workflow.builder()
+        .name("Build")
+        .jobs(Jobs.builder()
+            .build(Build.builder()
+                .runsOn("ubuntu-latest")
+                .steps(List.of(RunStep.builder().name("Test ✓").run("make test").build()))
+                .build())
+            .build())
+        .build();
+    final String expected = WorkflowYamlEmitter.toYaml(workflow);
+
+    final StringBuilder builder = new StringBuilder("# comment\n");
+    WorkflowYamlEmitter.emit(workflow, builder);
+    assertEquals("# comment\n" + expected, builder.toString());
+
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    WorkflowYamlEmitter.emit(workflow, stream);
+    assertEquals(expected, stream.toString(StandardCharsets.UTF_8));
+  }
+
+  private String readGoldenFile(final String name) throws IOException {
+    try (InputStream stream = getClass().getResourceAsStream("/workflows/" + name + ".yml")) {
+      assertNotNull(stream, "The golden file for " + name + " was not found");
+      return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
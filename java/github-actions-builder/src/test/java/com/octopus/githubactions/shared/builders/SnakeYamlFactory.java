@@ -7,12 +7,12 @@ import com.octopus.githubactions.shared.builders.dsl.RunStep;
 import com.octopus.githubactions.shared.builders.dsl.UsesWith;
 import com.octopus.githubactions.shared.builders.dsl.Workflow;
 import com.octopus.githubactions.shared.builders.dsl.WorkflowDispatch;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.StringUtils;
+import lombok.NonNull;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.DumperOptions.FlowStyle;
 import org.yaml.snakeyaml.TypeDescription;
@@ -26,18 +26,28 @@ import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.representer.Representer;
 
 /**
- * Builds preconfigured instances of SnakeYAML.
+ * Serializes workflows with SnakeYAML's object dumper, the way the builders did before they used
+ * WorkflowYamlEmitter. The tests use it as the reference the emitter's YAML is compared with.
  */
 public final class SnakeYamlFactory {
 
+  private static final List<String> PROPERTY_ORDER = List.of("runsOn", "steps", "id", "name",
+      "on", "uses", "ifProperty", "env", "with", "run", "shell");
+
+  /**
+   * Properties in PROPERTY_ORDER come first in that order, followed by the rest by name.
+   */
+  private static final Comparator<Property> PROPERTY_COMPARATOR = Comparator
+      .<Property>comparingInt(p -> PROPERTY_ORDER.contains(p.getName())
+          ? PROPERTY_ORDER.indexOf(p.getName())
+          : PROPERTY_ORDER.size())
+      .thenComparing(Property::getName);
+
   /**
    * A custom representer that ignores null entries and preserves the order of elements.
    */
   private static final class CustomRepresenter extends Representer {
 
-    private static final List<String> PROPERTY_ORDER = List.of("runsOn", "steps", "id", "name",
-        "on", "uses", "ifProperty", "env", "with", "run", "shell");
-
     private CustomRepresenter() {
       super();
       final PropertyUtils propUtil = new PropertyUtils() {
@@ -47,29 +57,7 @@ public final class SnakeYamlFactory {
           return getPropertiesMap(type, beanAccess).values().stream().sequential()
               .filter(
                   prop -> prop.isReadable() && (isAllowReadOnlyProperties() || prop.isWritable()))
-              .sorted((t1, t2) -> {
-                if (StringUtils.equals(t1.getName(), t2.getName())) {
-                  return 0;
-                }
-
-                if (PROPERTY_ORDER.contains(t1.getName()) && !PROPERTY_ORDER.contains(
-                    t2.getName())) {
-                  return -1;
-                }
-
-                if (!PROPERTY_ORDER.contains(t1.getName()) && PROPERTY_ORDER.contains(
-                    t2.getName())) {
-                  return 1;
-                }
-
-                if (!PROPERTY_ORDER.contains(t1.getName()) && !PROPERTY_ORDER.contains(
-                    t2.getName())) {
-                  return StringUtils.compare(t1.getName(), t2.getName());
-                }
-
-                return PROPERTY_ORDER.indexOf(t1.getName()) < PROPERTY_ORDER.indexOf(t2.getName())
-                    ? -1 : 1;
-              })
+              .sorted(PROPERTY_COMPARATOR)
               .collect(Collectors.toCollection(LinkedHashSet::new));
         }
       };
@@ -105,11 +93,16 @@ public final class SnakeYamlFactory {
   }
 
   /**
-   * Builds an instance of SnakeYAML configured to generate workflow DSLs.
+   * Serializes a workflow to YAML with SnakeYAML.
    *
-   * @return A configured instance of SnakeYAML.
+   * @param workflow The workflow to serialize.
+   * @return The workflow YAML.
    */
-  public static Yaml getConfiguredYaml() {
+  public static String dump(@NonNull final Workflow workflow) {
+    return getConfiguredYaml().dump(workflow);
+  }
+
+  private static Yaml getConfiguredYaml() {
     final Representer representer = new CustomRepresenter();
 
     final TypeDescription onDesc = new TypeDescription(On.class, Tag.MAP);
@@ -130,18 +123,20 @@ public final class SnakeYamlFactory {
     representer.addTypeDescription(runDesc);
 
     final TypeDescription usesWith = new TypeDescription(UsesWith.class, Tag.MAP);
-    usesWith.substituteProperty("if", String.class, "getIfProperty", "setIfProperty");
+    usesWith.substituteProperty("if", String.class, "getIfProperty", null);
     usesWith.setExcludes("ifProperty");
     representer.addTypeDescription(usesWith);
 
     final TypeDescription permissions = new TypeDescription(Permissions.class, Tag.MAP);
-    permissions.substituteProperty("id-token", String.class, "getIdToken", "setIdToken");
+    permissions.substituteProperty("id-token", String.class, "getIdToken", null);
     permissions.setExcludes("idToken");
     representer.addTypeDescription(permissions);
 
     final DumperOptions options = new DumperOptions();
     options.setDefaultFlowStyle(FlowStyle.BLOCK);
     options.setWidth(4096);
+    // UsesWith and Permissions are immutable, so their properties have no setters
+    options.setAllowReadOnlyProperties(true);
 
     return new Yaml(representer, options);
   }
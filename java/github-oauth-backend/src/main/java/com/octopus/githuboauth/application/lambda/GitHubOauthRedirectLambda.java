@@ -7,8 +7,7 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent
 import com.octopus.githuboauth.OauthBackendConstants;
 import com.octopus.githuboauth.domain.handlers.GitHubOauthRedirect;
 import com.octopus.githuboauth.domain.handlers.SimpleResponse;
-import com.octopus.lambda.LambdaHttpCookieExtractor;
-import com.octopus.lambda.LambdaHttpValueExtractor;
+import com.octopus.lambda.LambdaRequestContext;
 import java.util.List;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -25,12 +24,6 @@ import lombok.NonNull;
 public class GitHubOauthRedirectLambda implements
     RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
-  @Inject
-  LambdaHttpValueExtractor lambdaHttpValueExtractor;
-
-  @Inject
-  LambdaHttpCookieExtractor lambdaHttpCookieExtractor;
-
   @Inject
   GitHubOauthRedirect gitHubOauthRedirect;
 
@@ -39,16 +32,15 @@ public class GitHubOauthRedirectLambda implements
       @NonNull final APIGatewayProxyRequestEvent input,
       @NonNull final Context context) {
 
-    final String state = lambdaHttpValueExtractor.getAllQueryParams(
-        input,
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(input);
+
+    final String state = request.getAllQueryParams(
         OauthBackendConstants.STATE_QUERY_PARAM).get(0);
 
-    final List<String> savedState = lambdaHttpCookieExtractor.getAllCookieValues(
-        input,
+    final List<String> savedState = request.getAllCookieValues(
         OauthBackendConstants.STATE_COOKIE);
 
-    final String code = lambdaHttpValueExtractor.getAllQueryParams(
-        input,
+    final String code = request.getAllQueryParams(
         OauthBackendConstants.CODE_QUERY_PARAM).get(0);
 
     final SimpleResponse response = gitHubOauthRedirect.oauthRedirect(state, savedState, code);
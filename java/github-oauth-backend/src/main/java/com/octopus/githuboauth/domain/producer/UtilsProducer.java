@@ -1,7 +1,7 @@
 package com.octopus.githuboauth.domain.producer;
 
 import com.octopus.encryption.CryptoUtils;
-import com.octopus.encryption.impl.AesCryptoUtils;
+import com.octopus.encryption.impl.CachingAesCryptoUtils;
 import com.octopus.http.CookieDateUtils;
 import com.octopus.http.impl.CookieDateUtilsImpl;
 import com.octopus.lambda.LambdaHttpCookieExtractor;
@@ -47,7 +47,7 @@ public class UtilsProducer {
   @ApplicationScoped
   @Produces
   public CryptoUtils getCryptoUtils() {
-    return new AesCryptoUtils();
+    return new CachingAesCryptoUtils();
   }
 
   /**
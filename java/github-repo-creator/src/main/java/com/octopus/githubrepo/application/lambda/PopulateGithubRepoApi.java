@@ -4,6 +4,7 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.github.jasminb.jsonapi.exceptions.DocumentSerializationException;
 import com.google.common.net.HttpHeaders;
 import com.octopus.Constants;
 import com.octopus.exceptions.InvalidInputException;
@@ -12,15 +13,13 @@ import com.octopus.githubrepo.domain.ServiceConstants;
 import com.octopus.githubrepo.domain.handlers.GitHubRepoHandler;
 import com.octopus.githubrepo.domain.handlers.HealthHandler;
 import com.octopus.lambda.ApiGatewayProxyResponseEventWithCors;
-import com.octopus.lambda.LambdaHttpCookieExtractor;
-import com.octopus.lambda.LambdaHttpHeaderExtractor;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.LambdaRouter;
 import com.octopus.lambda.ProxyResponseBuilder;
 import com.octopus.lambda.RequestBodyExtractor;
-import com.octopus.lambda.RequestMatcher;
+import com.octopus.lambda.RouteHandler;
 import io.quarkus.logging.Log;
-import io.vavr.control.Try;
-import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -46,36 +45,38 @@ public class PopulateGithubRepoApi implements
   private static final String API_PATH = "/api/populategithubrepo";
   private static final String HEALTH_PATH = "/health/populategithubrepo";
 
-  /**
-   * A regular expression matching the collection of entities.
-   */
-  public static final Pattern ROOT_RE = Pattern.compile(API_PATH + "/?");
-  /**
-   * A regular expression matching a health endpoint.
-   */
-  public static final Pattern HEALTH_RE = Pattern.compile(HEALTH_PATH + "/POST");
-
   @Inject
   GitHubRepoHandler gitHubRepoHandler;
 
   @Inject
   HealthHandler healthHandler;
 
-  @Inject
-  LambdaHttpHeaderExtractor lambdaHttpHeaderExtractor;
-
-  @Inject
-  LambdaHttpCookieExtractor lambdaHttpCookieExtractor;
-
   @Inject
   ProxyResponseBuilder proxyResponseBuilder;
 
-  @Inject
-  RequestMatcher requestMatcher;
-
   @Inject
   RequestBodyExtractor requestBodyExtractor;
 
+  /*
+   Lambdas don't enjoy the same middleware and framework support as web servers (although
+   https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it
+   comes out of preview), so we are on our own with functionality such as routing requests to
+   handlers. The router is built once, and matches the request path against the registered routes.
+  */
+  final LambdaRouter<APIGatewayProxyResponseEvent> router =
+      LambdaRouter.<APIGatewayProxyResponseEvent>builder()
+          .route(Constants.Http.POST_METHOD, API_PATH, this::createOne)
+          .route(Constants.Http.GET_METHOD, HEALTH_PATH + "/POST", checkHealth("POST"))
+          .exception(UnauthorizedException.class,
+              (e, request) -> proxyResponseBuilder.buildUnauthorizedRequest(e))
+          .exception(InvalidInputException.class,
+              (e, request) -> proxyResponseBuilder.buildBadRequest(e))
+          .exception(IllegalArgumentException.class,
+              (e, request) -> proxyResponseBuilder.buildBadRequest(e))
+          .notFound(this::notFound)
+          .methodNotAllowed(request -> proxyResponseBuilder.buildMethodNotAllowed())
+          .error(this::buildError)
+          .build();
 
   /**
    * See https://github.com/quarkusio/quarkus/issues/5811 for why we need @Transactional.
@@ -88,16 +89,7 @@ public class PopulateGithubRepoApi implements
   @Transactional
   public APIGatewayProxyResponseEvent handleRequest(
       @NonNull final APIGatewayProxyRequestEvent input, @NonNull final Context context) {
-
-    /*
-     Lambdas don't enjoy the same middleware and framework support as web servers (although
-     https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it
-     comes out of preview), so we are on our own with functionality such as routing requests to
-     handlers. This code simply calls each handler to find the first one that responds to the request.
-    */
-    return createOne(input)
-        .or(() -> checkHealth(input))
-        .orElseGet(() -> notFound(input));
+    return router.route(LambdaRequestContext.fromEvent(input));
   }
 
   /**
@@ -120,60 +112,58 @@ public class PopulateGithubRepoApi implements
    * endpoints, but clients can not assume this is always the case, and must check the health of each endpoint to accurately evaluate the health of the
    * service.
    *
-   * @param input The request details
-   * @return The optional proxy response
+   * <p>The health path and method are taken from the matched route rather than the request path,
+   * which may end with a slash.
+   *
+   * @param method The http method whose health is checked
+   * @return The handler for the health endpoint
    */
-  private Optional<APIGatewayProxyResponseEvent> checkHealth(
-      final APIGatewayProxyRequestEvent input) {
-
-    if (!requestMatcher.requestIsMatch(input, HEALTH_RE, Constants.Http.GET_METHOD)) {
-      return Optional.empty();
-    }
-
-    return Try.of(() -> Optional.of(
-            new ApiGatewayProxyResponseEventWithCors()
-                .withStatusCode(200)
-                .withBody(healthHandler.getHealth(
-                    input.getPath().substring(0, input.getPath().lastIndexOf("/")),
-                    input.getPath().substring(input.getPath().lastIndexOf("/"))))))
-        .onFailure(Throwable::printStackTrace)
-        .recover(e -> Optional.of(proxyResponseBuilder.buildError(e, requestBodyExtractor.getBody(input))))
-        .get();
+  private RouteHandler<APIGatewayProxyResponseEvent> checkHealth(final String method) {
+    return (request, pathVariables) -> new ApiGatewayProxyResponseEventWithCors()
+        .withStatusCode(200)
+        .withBody(healthHandler.getHealth(HEALTH_PATH, method));
   }
 
   /**
    * Create a github commit. Note this endpoint returns a 202, as the actual commit is created in an async operation after this request has returned. The
    * returned entity contains the details of the repo that the commit will be placed into.
    *
-   * @param input The Lambda request.
+   * @param request       The Lambda request.
+   * @param pathVariables The variables in the request path.
    * @return The Lambda response.
    */
-  private Optional<APIGatewayProxyResponseEvent> createOne(final APIGatewayProxyRequestEvent input) {
-
-    if (!requestMatcher.requestIsMatch(input, ROOT_RE, Constants.Http.POST_METHOD)) {
-      return Optional.empty();
-    }
+  private APIGatewayProxyResponseEvent createOne(
+      final LambdaRequestContext request,
+      final Map<String, String> pathVariables) throws DocumentSerializationException {
+    return new ApiGatewayProxyResponseEventWithCors()
+        .withStatusCode(201)
+        .withBody(
+            gitHubRepoHandler.create(
+                requestBodyExtractor.getBody(request.getEvent()),
+                request.getFirstHeader(HttpHeaders.AUTHORIZATION).orElse(null),
+                request.getFirstHeader(Constants.SERVICE_AUTHORIZATION_HEADER).orElse(null),
+                request.getFirstHeader(Constants.ROUTING_HEADER).orElse(null),
+                request.getCookieValue(ServiceConstants.GITHUB_SESSION_COOKIE).orElse("")));
+  }
 
-    return Try.of(() -> Optional.of(
-            new ApiGatewayProxyResponseEventWithCors()
-                .withStatusCode(201)
-                .withBody(
-                    gitHubRepoHandler.create(
-                        requestBodyExtractor.getBody(input),
-                        lambdaHttpHeaderExtractor.getFirstHeader(input, HttpHeaders.AUTHORIZATION).orElse(null),
-                        lambdaHttpHeaderExtractor.getFirstHeader(input, Constants.SERVICE_AUTHORIZATION_HEADER).orElse(null),
-                        lambdaHttpHeaderExtractor.getFirstHeader(input, Constants.ROUTING_HEADER).orElse(null),
-                        lambdaHttpCookieExtractor.getCookieValue(input, ServiceConstants.GITHUB_SESSION_COOKIE).orElse("")))))
-        .recover(UnauthorizedException.class, e -> Optional.of(proxyResponseBuilder.buildUnauthorizedRequest(e)))
-        .recover(InvalidInputException.class, e -> Optional.of(proxyResponseBuilder.buildBadRequest(e)))
-        .recover(IllegalArgumentException.class, e -> Optional.of(proxyResponseBuilder.buildBadRequest(e)))
-        .onFailure(Throwable::printStackTrace)
-        .recover(e -> Optional.of(proxyResponseBuilder.buildError(e, requestBodyExtractor.getBody(input))))
-        .get();
+  /**
+   * Any exception not mapped to a response is probably a server side error. Log the exception so
+   * it can be diagnosed later on.
+   *
+   * @param ex      The exception.
+   * @param request The Lambda request.
+   * @return The Lambda response.
+   */
+  private APIGatewayProxyResponseEvent buildError(
+      final Exception ex,
+      final LambdaRequestContext request) {
+    ex.printStackTrace();
+    return proxyResponseBuilder.buildError(ex, requestBodyExtractor.getBody(request.getEvent()));
   }
 
-  private APIGatewayProxyResponseEvent notFound(@NonNull final APIGatewayProxyRequestEvent input) {
-    Log.info("PopulateGithubRepoApi reported path to " + input.getPath() + " was not found");
+  private APIGatewayProxyResponseEvent notFound(@NonNull final LambdaRequestContext request) {
+    Log.info("PopulateGithubRepoApi reported path to " + request.getEvent().getPath()
+        + " was not found");
     return proxyResponseBuilder.buildNotFound();
   }
 }
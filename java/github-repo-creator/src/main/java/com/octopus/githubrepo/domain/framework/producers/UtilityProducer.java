@@ -4,9 +4,12 @@ import com.github.jasminb.jsonapi.ResourceConverter;
 import com.octopus.encryption.AsymmetricDecryptor;
 import com.octopus.encryption.AsymmetricEncryptor;
 import com.octopus.encryption.CryptoUtils;
-import com.octopus.encryption.impl.AesCryptoUtils;
-import com.octopus.encryption.impl.RsaCryptoUtilsDecryptor;
-import com.octopus.encryption.impl.RsaCryptoUtilsEncryptor;
+import com.octopus.encryption.PublicKeyEncryptor;
+import com.octopus.encryption.impl.CachingAesCryptoUtils;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsDecryptor;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsEncryptor;
+import com.octopus.encryption.impl.PreloadedPublicKeyEncryptor;
+import com.octopus.features.AdminJwtClaimFeature;
 import com.octopus.features.AdminJwtGroupFeature;
 import com.octopus.features.CognitoJwkBase64Feature;
 import com.octopus.features.DisableSecurityFeature;
@@ -18,16 +21,19 @@ import com.octopus.githubrepo.domain.utils.JsonApiResourceUtils;
 import com.octopus.githubrepo.domain.utils.impl.JsonApiServiceUtilsCreateGithubCommit;
 import com.octopus.githubrepo.domain.utils.impl.JsonApiServiceUtilsCreateGithubRepo;
 import com.octopus.githubrepo.domain.utils.impl.JsonApiServiceUtilsGenerateTemplate;
+import com.octopus.githubrepo.infrastructure.clients.CognitoClient;
 import com.octopus.jsonapi.AcceptHeaderVerifier;
 import com.octopus.jsonapi.PagedResultsLinksBuilder;
 import com.octopus.jsonapi.impl.PagedResultsLinksBuilderImpl;
 import com.octopus.jsonapi.impl.VersionOneAcceptHeaderVerifier;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.jwt.JwtInspector;
 import com.octopus.jwt.JwtUtils;
 import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.impl.AuthContextFactoryImpl;
+import com.octopus.jwt.impl.CachingJwtValidatorImpl;
 import com.octopus.jwt.impl.JoseJwtInspector;
 import com.octopus.jwt.impl.JwtUtilsImpl;
-import com.octopus.jwt.impl.JwtValidatorImpl;
 import com.octopus.lambda.LambdaHttpCookieExtractor;
 import com.octopus.lambda.LambdaHttpHeaderExtractor;
 import com.octopus.lambda.LambdaHttpValueExtractor;
@@ -40,15 +46,20 @@ import com.octopus.lambda.impl.CaseInsensitiveLambdaHttpValueExtractor;
 import com.octopus.lambda.impl.ProxyResponseBuilderImpl;
 import com.octopus.lambda.impl.RequestBodyExtractorImpl;
 import com.octopus.lambda.impl.RequestMatcherImpl;
+import com.octopus.oauth.TokenCache;
+import com.octopus.oauth.impl.TokenCacheImpl;
 import com.octopus.utilties.PartitionIdentifier;
 import com.octopus.utilties.RegExUtils;
 import com.octopus.utilties.impl.PartitionIdentifierImpl;
 import com.octopus.utilties.impl.RegExUtilsImpl;
+import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import javax.crypto.NoSuchPaddingException;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Produces;
 import javax.inject.Named;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.kohsuke.github.GitHubBuilder;
 
 /**
@@ -57,6 +68,12 @@ import org.kohsuke.github.GitHubBuilder;
 @ApplicationScoped
 public class UtilityProducer {
 
+  @ConfigProperty(name = "cognito.client-id")
+  String cognitoClientId;
+
+  @RestClient
+  CognitoClient cognitoClient;
+
   /**
    * Produces the Lambda query param extractor.
    *
@@ -142,7 +159,7 @@ public class UtilityProducer {
   @ApplicationScoped
   @Produces
   public JwtValidator getJwtValidator() {
-    return new JwtValidatorImpl();
+    return new CachingJwtValidatorImpl();
   }
 
   /**
@@ -189,6 +206,30 @@ public class UtilityProducer {
     return new PartitionIdentifierImpl(jwtInspector, adminJwtGroupFeature, disableSecurityFeature);
   }
 
+  /**
+   * Produces the service that builds the authorization context of a request.
+   *
+   * @return An implementation of AuthContextFactory.
+   */
+  @ApplicationScoped
+  @Produces
+  public AuthContextFactory getAuthContextFactory(
+      JwtInspector jwtInspector,
+      JwtUtils jwtUtils,
+      PartitionIdentifier partitionIdentifier,
+      AdminJwtClaimFeature adminJwtClaimFeature,
+      AdminJwtGroupFeature adminJwtGroupFeature,
+      DisableSecurityFeature disableSecurityFeature) {
+    return new AuthContextFactoryImpl(
+        jwtInspector,
+        jwtUtils,
+        partitionIdentifier,
+        adminJwtClaimFeature,
+        adminJwtGroupFeature,
+        disableSecurityFeature,
+        cognitoClientId);
+  }
+
   /**
    * Produces a JsonApiResourceUtils typed for CreateServiceAccount.
    *
@@ -239,24 +280,24 @@ public class UtilityProducer {
   @ApplicationScoped
   @Produces
   public CryptoUtils getCryptoUtils() {
-    return new AesCryptoUtils();
+    return new CachingAesCryptoUtils();
   }
 
   /**
    * Produces the AsymmetricDecryptor utils instance.
    *
    * @return An implementation of AsymmetricDecryptor.
-   * @throws NoSuchAlgorithmException if the transformer used by RsaCryptoUtilsDecryptor is an
-   *                                  invalid format, or if no {@code Provider} supports a
+   * @throws NoSuchAlgorithmException if the transformer used by CachingRsaCryptoUtilsDecryptor is
+   *                                  an invalid format, or if no {@code Provider} supports a
    *                                  {@code CipherSpi} implementation for the specified algorithm
-   * @throws NoSuchPaddingException   if the transformer used by RsaCryptoUtilsDecryptor contains a
-   *                                  padding scheme that is not available
+   * @throws NoSuchPaddingException   if the transformer used by CachingRsaCryptoUtilsDecryptor
+   *                                  contains a padding scheme that is not available
    */
   @ApplicationScoped
   @Produces
   public AsymmetricDecryptor getAsymmetricDecryptor()
       throws NoSuchPaddingException, NoSuchAlgorithmException {
-    return new RsaCryptoUtilsDecryptor();
+    return new CachingRsaCryptoUtilsDecryptor();
   }
 
   /**
@@ -295,6 +336,31 @@ public class UtilityProducer {
   @Produces
   public AsymmetricEncryptor getAsymmetricEncryptor()
       throws NoSuchPaddingException, NoSuchAlgorithmException {
-    return new RsaCryptoUtilsEncryptor();
+    return new CachingRsaCryptoUtilsEncryptor();
+  }
+
+  /**
+   * Produces the PublicKeyEncryptor used to encrypt the email addresses sent to the audit service.
+   * The public key is loaded once rather than with each request.
+   *
+   * @return An implementation of PublicKeyEncryptor.
+   * @throws IOException if the public key could not be read.
+   */
+  @ApplicationScoped
+  @Produces
+  public PublicKeyEncryptor getPublicKeyEncryptor(final AsymmetricEncryptor asymmetricEncryptor)
+      throws IOException {
+    return PreloadedPublicKeyEncryptor.fromResource(asymmetricEncryptor, "public_key.der");
+  }
+
+  /**
+   * Produces the cache of client credentials access tokens.
+   *
+   * @return An implementation of TokenCache.
+   */
+  @ApplicationScoped
+  @Produces
+  public TokenCache getTokenCache() {
+    return new TokenCacheImpl(cognitoClient);
   }
 }
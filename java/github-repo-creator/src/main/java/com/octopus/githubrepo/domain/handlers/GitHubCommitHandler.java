@@ -2,13 +2,13 @@ package com.octopus.githubrepo.domain.handlers;
 
 import com.github.jasminb.jsonapi.exceptions.DocumentSerializationException;
 import com.google.common.base.Preconditions;
-import com.google.common.io.Resources;
-import com.octopus.encryption.AsymmetricEncryptor;
 import com.octopus.encryption.CryptoUtils;
+import com.octopus.encryption.PublicKeyEncryptor;
 import com.octopus.exceptions.InvalidInputException;
 import com.octopus.exceptions.ServerErrorException;
 import com.octopus.exceptions.UnauthorizedException;
 import com.octopus.features.MicroserviceNameFeature;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.githubrepo.GlobalConstants;
 import com.octopus.githubrepo.domain.audit.AuditGenerator;
 import com.octopus.githubrepo.domain.entities.Audit;
@@ -24,7 +24,6 @@ import com.octopus.githubrepo.domain.features.DisableServiceFeature;
 import com.octopus.githubrepo.domain.github.PublicEmailTester;
 import com.octopus.githubrepo.domain.utils.JsonApiResourceUtils;
 import com.octopus.githubrepo.domain.utils.ScopeVerifier;
-import com.octopus.githubrepo.domain.utils.ServiceAuthUtils;
 import com.octopus.githubrepo.infrastructure.clients.GitHubClient;
 import com.octopus.githubrepo.infrastructure.clients.PopulateRepoClient;
 import io.quarkus.logging.Log;
@@ -32,7 +31,7 @@ import io.vavr.control.Option;
 import io.vavr.control.Try;
 
 import java.util.Arrays;
-import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -122,7 +121,7 @@ public class GitHubCommitHandler {
   AuditGenerator auditGenerator;
 
   @Inject
-  ServiceAuthUtils serviceAuthUtils;
+  AuthContextFactory authContextFactory;
 
   @Inject
   @Named("JsonApiServiceUtilsCreateGithubCommit")
@@ -148,7 +147,7 @@ public class GitHubCommitHandler {
   PublicEmailTester publicEmailTester;
 
   @Inject
-  AsymmetricEncryptor asymmetricEncryptor;
+  PublicKeyEncryptor publicKeyEncryptor;
 
   /**
    * Creates a new service account in the Octopus cloud instance.
@@ -177,7 +176,10 @@ public class GitHubCommitHandler {
     Preconditions.checkArgument(StringUtils.isNotBlank(githubToken),
         "githubToken can not be blank");
 
-    if (!serviceAuthUtils.isAuthorized(authorizationHeader, serviceAuthorizationHeader)) {
+    if (!authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        Collections.singletonList(dataPartitionHeaders)).isAuthorized()) {
       throw new UnauthorizedException();
     }
 
@@ -306,22 +308,18 @@ public class GitHubCommitHandler {
 
     /*
       Auditing is a best effort exercise. We don't throw any exceptions here, nor do we block any processing if anything goes wrong.
-      Start by loading the public key.
+      Start by getting the email addresses associated with the github user.
      */
     final List<String> emails = Try.of(
-            () -> Resources.toByteArray(Resources.getResource("public_key.der")))
-        // convert it to a base64 string
-        .map(Base64.getEncoder()::encodeToString)
-        // now try and get the email addresses associated with the github user
-        .map(k -> Arrays.stream(gitHubClient.publicEmails("token " + githubToken))
-            // extract the email
-            .map(GitHubEmail::getEmail)
-            // limit the results to public emails
-            .filter(publicEmailTester::isPublicEmail)
-            // encrypt the email
-            .map(e -> asymmetricEncryptor.encrypt(e, k))
-            // collect the list
-            .collect(Collectors.toList()))
+            () -> Arrays.stream(gitHubClient.publicEmails("token " + githubToken))
+                // extract the email
+                .map(GitHubEmail::getEmail)
+                // limit the results to public emails
+                .filter(publicEmailTester::isPublicEmail)
+                // collect the list
+                .collect(Collectors.toList()))
+        // encrypt the emails in one batch
+        .map(publicKeyEncryptor::encryptAll)
         // get the resulting list, or an empty list if anything went wrong.
         .getOrElse(List.of());
 
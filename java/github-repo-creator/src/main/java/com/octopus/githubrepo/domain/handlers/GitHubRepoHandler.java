@@ -19,6 +19,7 @@ import com.octopus.exceptions.ServerErrorException;
 import com.octopus.exceptions.UnauthorizedException;
 import com.octopus.features.MicroserviceNameFeature;
 import com.octopus.files.TemporaryResources;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.githubrepo.domain.entities.GenerateTemplate;
 import com.octopus.githubrepo.domain.entities.PopulateGithubRepo;
 import com.octopus.githubrepo.domain.entities.Secret;
@@ -35,7 +36,6 @@ import com.octopus.githubrepo.domain.framework.producers.JsonApiConverter;
 import com.octopus.githubrepo.domain.utils.JsonApiResourceUtils;
 import com.octopus.githubrepo.domain.utils.LinksHeaderParsing;
 import com.octopus.githubrepo.domain.utils.ScopeVerifier;
-import com.octopus.githubrepo.domain.utils.ServiceAuthUtils;
 import com.octopus.githubrepo.infrastructure.clients.GenerateTemplateClient;
 import com.octopus.githubrepo.infrastructure.clients.GitHubClient;
 import dev.failsafe.Failsafe;
@@ -134,7 +134,7 @@ public class GitHubRepoHandler {
   GenerateTemplateClient generateTemplateClient;
 
   @Inject
-  ServiceAuthUtils serviceAuthUtils;
+  AuthContextFactory authContextFactory;
 
   @Inject
   @Named("JsonApiServiceUtilsCreateGithubRepo")
@@ -185,7 +185,10 @@ public class GitHubRepoHandler {
     Preconditions.checkArgument(StringUtils.isNotBlank(document), "document can not be blank");
     Preconditions.checkArgument(StringUtils.isNotBlank(githubToken), "githubToken can not be blank");
 
-    if (!serviceAuthUtils.isAuthorized(authorizationHeader, serviceAuthorizationHeader)) {
+    if (!authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        List.of()).isAuthorized()) {
       throw new UnauthorizedException();
     }
 
@@ -1,77 +0,0 @@
-package com.octopus.githubrepo.domain.utils.impl;
-
-import com.octopus.features.AdminJwtClaimFeature;
-import com.octopus.features.AdminJwtGroupFeature;
-import com.octopus.githubrepo.domain.features.impl.DisableSecurityFeatureImpl;
-import com.octopus.githubrepo.domain.utils.ServiceAuthUtils;
-import com.octopus.jwt.JwtInspector;
-import com.octopus.jwt.JwtUtils;
-import javax.enterprise.context.ApplicationScoped;
-import javax.inject.Inject;
-import org.eclipse.microprofile.config.inject.ConfigProperty;
-
-/**
- * An implementation of ServiceAuthUtils.
- */
-@ApplicationScoped
-public class ServiceAuthUtilsImpl implements ServiceAuthUtils {
-
-  @ConfigProperty(name = "cognito.client-id")
-  String cognitoClientId;
-
-  @Inject
-  DisableSecurityFeatureImpl cognitoDisableAuth;
-
-  @Inject
-  AdminJwtGroupFeature adminJwtGroupFeature;
-
-  @Inject
-  AdminJwtClaimFeature adminJwtClaimFeature;
-
-  @Inject
-  JwtInspector jwtInspector;
-
-  @Inject
-  JwtUtils jwtUtils;
-
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  public boolean isAuthorized(String authorizationHeader,
-      String serviceAuthorizationHeader) {
-    /*
-      This method implements the following logic:
-      * If auth is disabled, return true.
-      * If the Service-Authorization header contains an access token with the correct scope,
-        generated by a known app client, return true.
-      * If the Authorization header contains a known group, return true.
-      * Otherwise, return false.
-     */
-
-    if (cognitoDisableAuth.getCognitoAuthDisabled()) {
-      return true;
-    }
-
-    /*
-      An admin scope granted to an access token generated by a known client credentials
-      app client is accepted as machine-to-machine communication.
-     */
-    if (adminJwtClaimFeature.getAdminClaim().isPresent() && jwtUtils.getJwtFromAuthorizationHeader(
-            serviceAuthorizationHeader)
-        .map(jwt -> jwtInspector.jwtContainsScope(jwt, adminJwtClaimFeature.getAdminClaim().get(),
-            cognitoClientId))
-        .orElse(false)) {
-      return true;
-    }
-
-    /*
-      Anyone assigned to the appropriate group is also granted access.
-     */
-    return adminJwtGroupFeature.getAdminGroup().isPresent()
-        && jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader)
-        .map(jwt -> jwtInspector.jwtContainsCognitoGroup(jwt,
-            adminJwtGroupFeature.getAdminGroup().get()))
-        .orElse(false);
-  }
-}
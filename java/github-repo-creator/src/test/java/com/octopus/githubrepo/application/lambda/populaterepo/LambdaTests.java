@@ -2,6 +2,7 @@ package com.octopus.githubrepo.application.lambda.populaterepo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
@@ -97,4 +98,16 @@ public class LambdaTests extends BaseTest {
     assertEquals(200, postResponse.getStatusCode());
   }
 
+  @Test
+  public void testHealthTrailingSlash() {
+    final APIGatewayProxyRequestEvent apiGatewayProxyRequestEvent =
+        new APIGatewayProxyRequestEvent();
+    apiGatewayProxyRequestEvent.setHttpMethod("GET");
+    apiGatewayProxyRequestEvent.setPath(HEALTH_ENDPOINT + "/POST/");
+    final APIGatewayProxyResponseEvent postResponse =
+        api.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
+    assertEquals(200, postResponse.getStatusCode());
+    assertTrue(postResponse.getBody().contains("\"" + HEALTH_ENDPOINT + "/POST\""));
+  }
+
 }
@@ -13,14 +13,11 @@ import com.octopus.githubproxy.application.Paths;
 import com.octopus.githubproxy.domain.handlers.HealthHandler;
 import com.octopus.githubproxy.domain.handlers.ResourceHandler;
 import com.octopus.lambda.ApiGatewayProxyResponseEventWithCors;
-import com.octopus.lambda.LambdaHttpCookieExtractor;
-import com.octopus.lambda.LambdaHttpHeaderExtractor;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.LambdaRouter;
 import com.octopus.lambda.ProxyResponseBuilder;
-import com.octopus.lambda.RequestMatcher;
-import com.octopus.utilties.RegExUtils;
-import io.vavr.control.Try;
-import java.util.Optional;
-import java.util.regex.Pattern;
+import com.octopus.lambda.RouteHandler;
+import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -36,16 +33,13 @@ public class LambdaRequestHanlder implements
     RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
   /**
-   * A regular expression matching a single entity.
+   * The path template matching a single entity.
    */
-  public static final Pattern INDIVIDUAL_RE = Pattern.compile(Paths.API_ENDPOINT + "/(?<id>.+)");
-  public static final Pattern WORKFLOW_RUNS_INDIVIDUAL_RE = Pattern.compile(
-      Paths.WORKFLOW_RUNS_API_ENDPOINT + "/(?<id>.+)");
+  public static final String INDIVIDUAL_PATH = Paths.API_ENDPOINT + "/{id+}";
   /**
-   * A regular expression matching a health endpoint.
+   * The path template matching the health of a single entity.
    */
-  public static final Pattern HEALTH_RE =
-      Pattern.compile(Paths.HEALTH_ENDPOINT + "/(GET|POST|[A-Za-z0-9]+/(GET|DELETE|PATCH))");
+  public static final String INDIVIDUAL_HEALTH_PATH = Paths.HEALTH_ENDPOINT + "/{id}";
 
   @Inject
   ResourceHandler resourceHandler;
@@ -53,21 +47,34 @@ public class LambdaRequestHanlder implements
   @Inject
   HealthHandler healthHandler;
 
-  @Inject
-  LambdaHttpHeaderExtractor lambdaHttpHeaderExtractor;
-
-  @Inject
-  LambdaHttpCookieExtractor lambdaHttpCookieExtractor;
-
   @Inject
   ProxyResponseBuilder proxyResponseBuilder;
 
-  @Inject
-  RegExUtils regExUtils;
-
-  @Inject
-  RequestMatcher requestMatcher;
-
+  /*
+   Lambdas don't enjoy the same middleware and framework support as web servers (although
+   https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it
+   comes out of preview), so we are on our own with functionality such as routing requests to
+   handlers. The router is built once, and matches the request path against the registered routes.
+  */
+  final LambdaRouter<APIGatewayProxyResponseEvent> router =
+      LambdaRouter.<APIGatewayProxyResponseEvent>builder()
+          .route(Constants.Http.GET_METHOD, INDIVIDUAL_PATH, this::getOne)
+          .route(Constants.Http.GET_METHOD, Paths.HEALTH_ENDPOINT + "/GET", checkHealth("GET"))
+          .route(Constants.Http.GET_METHOD, Paths.HEALTH_ENDPOINT + "/POST", checkHealth("POST"))
+          .route(Constants.Http.GET_METHOD, INDIVIDUAL_HEALTH_PATH + "/GET", checkHealth("GET"))
+          .route(Constants.Http.GET_METHOD, INDIVIDUAL_HEALTH_PATH + "/DELETE", checkHealth("DELETE"))
+          .route(Constants.Http.GET_METHOD, INDIVIDUAL_HEALTH_PATH + "/PATCH", checkHealth("PATCH"))
+          .exception(UnauthorizedException.class,
+              (e, request) -> proxyResponseBuilder.buildUnauthorizedRequest(e))
+          .exception(EntityNotFoundException.class,
+              (e, request) -> proxyResponseBuilder.buildNotFound())
+          .notFound(request -> proxyResponseBuilder.buildPathNotFound())
+          .methodNotAllowed(request -> proxyResponseBuilder.buildMethodNotAllowed())
+          .error((e, request) -> {
+            e.printStackTrace();
+            return proxyResponseBuilder.buildError(e);
+          })
+          .build();
 
   /**
    * See https://github.com/quarkusio/quarkus/issues/5811 for why we need @Transactional.
@@ -80,16 +87,7 @@ public class LambdaRequestHanlder implements
   @Transactional
   public APIGatewayProxyResponseEvent handleRequest(
       @NonNull final APIGatewayProxyRequestEvent input, @NonNull final Context context) {
-
-    /*
-     Lambdas don't enjoy the same middleware and framework support as web servers (although
-     https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it
-     comes out of preview), so we are on our own with functionality such as routing requests to
-     handlers. This code simply calls each handler to find the first one that responds to the request.
-    */
-    return getOne(input)
-        .or(() -> checkHealth(input))
-        .orElseGet(() -> proxyResponseBuilder.buildPathNotFound());
+    return router.route(LambdaRequestContext.fromEvent(input));
   }
 
   /**
@@ -113,62 +111,42 @@ public class LambdaRequestHanlder implements
    * endpoints, but clients can not assume this is always the case, and must check the health of each endpoint to accurately evaluate the health of the
    * service.
    *
-   * @param input The request details
-   * @return The optional proxy response
+   * <p>The health path and method are taken from the matched route rather than the request path,
+   * which may end with a slash.
+   *
+   * @param method The http method whose health is checked
+   * @return The handler for the health endpoint
    */
-  private Optional<APIGatewayProxyResponseEvent> checkHealth(
-      final APIGatewayProxyRequestEvent input) {
-
-    if (!requestMatcher.requestIsMatch(input, HEALTH_RE, Constants.Http.GET_METHOD)) {
-      return Optional.empty();
-    }
-
-    try {
-      return Optional.of(
-          new ApiGatewayProxyResponseEventWithCors()
-              .withStatusCode(200)
-              .withBody(healthHandler.getHealth(
-                  input.getPath().substring(0, input.getPath().lastIndexOf("/")),
-                  input.getPath().substring(input.getPath().lastIndexOf("/")))));
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return Optional.of(proxyResponseBuilder.buildError(e));
-    }
-
+  private RouteHandler<APIGatewayProxyResponseEvent> checkHealth(final String method) {
+    return (request, pathVariables) -> new ApiGatewayProxyResponseEventWithCors()
+        .withStatusCode(200)
+        .withBody(healthHandler.getHealth(
+            pathVariables.containsKey("id")
+                ? Paths.HEALTH_ENDPOINT + "/" + pathVariables.get("id")
+                : Paths.HEALTH_ENDPOINT,
+            method));
   }
 
   /**
    * Return a resources.
    *
-   * @param input The Lambda request.
+   * @param request       The Lambda request.
+   * @param pathVariables The variables in the request path.
    * @return The Lambda response.
    */
-  private Optional<APIGatewayProxyResponseEvent> getOne(final APIGatewayProxyRequestEvent input) {
-
-    if (!requestMatcher.requestIsMatch(input, INDIVIDUAL_RE, Constants.Http.GET_METHOD)) {
-      return Optional.empty();
-    }
-
-    final Optional<String> id = regExUtils.getGroup(INDIVIDUAL_RE, input.getPath(), "id");
-
-    if (id.isEmpty()) {
-      return Optional.of(proxyResponseBuilder.buildNotFound());
-    }
-
-    return Try.of(() -> resourceHandler.getOne(
-            id.get(),
-            lambdaHttpHeaderExtractor.getAllHeaders(input, Constants.DATA_PARTITION_HEADER),
-            lambdaHttpHeaderExtractor.getFirstHeader(input, HttpHeaders.AUTHORIZATION).orElse(null),
-            lambdaHttpHeaderExtractor.getFirstHeader(input, Constants.SERVICE_AUTHORIZATION_HEADER).orElse(null),
-            lambdaHttpCookieExtractor.getCookieValue(input, ServiceConstants.GITHUB_SESSION_COOKIE).orElse(""))
-            .await().indefinitely())
-        .map(entity -> Optional.of(
-            new ApiGatewayProxyResponseEventWithCors()
-                .withStatusCode(200)
-                .withBody(entity)))
-        .recover(UnauthorizedException.class, e -> Optional.of(proxyResponseBuilder.buildUnauthorizedRequest(e)))
-        .recover(EntityNotFoundException.class, e -> Optional.of(proxyResponseBuilder.buildNotFound()))
-        .recover(Exception.class, e -> Optional.of(proxyResponseBuilder.buildError(e)))
-        .get();
+  private APIGatewayProxyResponseEvent getOne(
+      final LambdaRequestContext request,
+      final Map<String, String> pathVariables) {
+    final String entity = resourceHandler.getOne(
+            pathVariables.get("id"),
+            request.getAllHeaders(Constants.DATA_PARTITION_HEADER),
+            request.getFirstHeader(HttpHeaders.AUTHORIZATION).orElse(null),
+            request.getFirstHeader(Constants.SERVICE_AUTHORIZATION_HEADER).orElse(null),
+            request.getCookieValue(ServiceConstants.GITHUB_SESSION_COOKIE).orElse(""))
+        .await().indefinitely();
+
+    return new ApiGatewayProxyResponseEventWithCors()
+        .withStatusCode(200)
+        .withBody(entity);
   }
 }
@@ -1,7 +1,8 @@
 package com.octopus.githubproxy.domain.framework.producers;
 
 import com.octopus.encryption.CryptoUtils;
-import com.octopus.encryption.impl.AesCryptoUtils;
+import com.octopus.encryption.impl.CachingAesCryptoUtils;
+import com.octopus.features.AdminJwtClaimFeature;
 import com.octopus.features.AdminJwtGroupFeature;
 import com.octopus.features.CognitoJwkBase64Feature;
 import com.octopus.features.DisableSecurityFeature;
@@ -10,12 +11,14 @@ import com.octopus.jsonapi.AcceptHeaderVerifier;
 import com.octopus.jsonapi.PagedResultsLinksBuilder;
 import com.octopus.jsonapi.impl.PagedResultsLinksBuilderImpl;
 import com.octopus.jsonapi.impl.VersionOneAcceptHeaderVerifier;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.jwt.JwtInspector;
 import com.octopus.jwt.JwtUtils;
 import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.impl.AuthContextFactoryImpl;
+import com.octopus.jwt.impl.CachingJwtValidatorImpl;
 import com.octopus.jwt.impl.JoseJwtInspector;
 import com.octopus.jwt.impl.JwtUtilsImpl;
-import com.octopus.jwt.impl.JwtValidatorImpl;
 import com.octopus.lambda.LambdaHttpCookieExtractor;
 import com.octopus.lambda.LambdaHttpHeaderExtractor;
 import com.octopus.lambda.LambdaHttpValueExtractor;
@@ -34,6 +37,7 @@ import com.octopus.utilties.impl.PartitionIdentifierImpl;
 import com.octopus.utilties.impl.RegExUtilsImpl;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /**
  * Produces a number of objects for injection.
@@ -41,6 +45,9 @@ import javax.enterprise.inject.Produces;
 @ApplicationScoped
 public class UtilityProducer {
 
+  @ConfigProperty(name = "cognito.client-id")
+  String cognitoClientId;
+
   /**
    * Produces the crypto utils instance.
    *
@@ -49,7 +56,7 @@ public class UtilityProducer {
   @ApplicationScoped
   @Produces
   public CryptoUtils getCryptoUtils() {
-    return new AesCryptoUtils();
+    return new CachingAesCryptoUtils();
   }
 
   /**
@@ -137,7 +144,7 @@ public class UtilityProducer {
   @ApplicationScoped
   @Produces
   public JwtValidator getJwtValidator() {
-    return new JwtValidatorImpl();
+    return new CachingJwtValidatorImpl();
   }
 
   /**
@@ -184,6 +191,30 @@ public class UtilityProducer {
     return new PartitionIdentifierImpl(jwtInspector, adminJwtGroupFeature, disableSecurityFeature);
   }
 
+  /**
+   * Produces the service that builds the authorization context of a request.
+   *
+   * @return An implementation of AuthContextFactory.
+   */
+  @ApplicationScoped
+  @Produces
+  public AuthContextFactory getAuthContextFactory(
+      JwtInspector jwtInspector,
+      JwtUtils jwtUtils,
+      PartitionIdentifier partitionIdentifier,
+      AdminJwtClaimFeature adminJwtClaimFeature,
+      AdminJwtGroupFeature adminJwtGroupFeature,
+      DisableSecurityFeature disableSecurityFeature) {
+    return new AuthContextFactoryImpl(
+        jwtInspector,
+        jwtUtils,
+        partitionIdentifier,
+        adminJwtClaimFeature,
+        adminJwtGroupFeature,
+        disableSecurityFeature,
+        cognitoClientId);
+  }
+
 
 
   /**
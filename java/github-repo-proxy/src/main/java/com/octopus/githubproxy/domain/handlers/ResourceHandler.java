@@ -7,8 +7,6 @@ import com.github.jasminb.jsonapi.exceptions.DocumentSerializationException;
 import com.octopus.encryption.CryptoUtils;
 import com.octopus.exceptions.EntityNotFoundException;
 import com.octopus.exceptions.UnauthorizedException;
-import com.octopus.features.AdminJwtClaimFeature;
-import com.octopus.features.AdminJwtGroupFeature;
 import com.octopus.githubproxy.domain.entities.GitHubRepo;
 import com.octopus.githubproxy.domain.entities.GitHubRepoMeta;
 import com.octopus.githubproxy.domain.entities.WorkflowRun;
@@ -16,10 +14,8 @@ import com.octopus.githubproxy.domain.entities.WorkflowRuns;
 import com.octopus.githubproxy.domain.entities.Repo;
 import com.octopus.githubproxy.domain.entities.RepoId;
 import com.octopus.githubproxy.domain.entities.GitHubWorkflowRun;
-import com.octopus.githubproxy.domain.features.impl.DisableSecurityFeatureImpl;
 import com.octopus.githubproxy.infrastructure.clients.GitHubClient;
-import com.octopus.jwt.JwtInspector;
-import com.octopus.jwt.JwtUtils;
+import com.octopus.jwt.AuthContextFactory;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.unchecked.Unchecked;
@@ -54,26 +50,11 @@ public class ResourceHandler {
   @ConfigProperty(name = "github.salt")
   String githubSalt;
 
-  @Inject
-  AdminJwtClaimFeature adminJwtClaimFeature;
-
-  @ConfigProperty(name = "cognito.client-id")
-  String cognitoClientId;
-
-  @Inject
-  DisableSecurityFeatureImpl cognitoDisableAuth;
-
-  @Inject
-  AdminJwtGroupFeature adminJwtGroupFeature;
-
   @Inject
   ResourceConverter resourceConverter;
 
   @Inject
-  JwtInspector jwtInspector;
-
-  @Inject
-  JwtUtils jwtUtils;
+  AuthContextFactory authContextFactory;
 
   @RestClient
   GitHubClient gitHubClient;
@@ -91,7 +72,10 @@ public class ResourceHandler {
       final String authorizationHeader,
       final String serviceAuthorizationHeader,
       @NonNull final String githubToken) {
-    if (!isAuthorized(authorizationHeader, serviceAuthorizationHeader)) {
+    if (!authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        dataPartitionHeaders).isAuthorized()) {
       throw new UnauthorizedException();
     }
 
@@ -184,52 +168,6 @@ public class ResourceHandler {
     return new String(resourceConverter.writeDocument(document, serializationSettings));
   }
 
-  /**
-   * Determines if the supplied token grants the required scopes to execute the operation.
-   *
-   * @param authorizationHeader        The Authorization header.
-   * @param serviceAuthorizationHeader The Service-Authorization header.
-   * @return true if the request is authorized, and false otherwise.
-   */
-  private boolean isAuthorized(
-      final String authorizationHeader,
-      final String serviceAuthorizationHeader) {
-
-    /*
-      This method implements the following logic:
-      * If auth is disabled, return true.
-      * If the Service-Authorization header contains an access token with the correct scope,
-        generated by a known app client, return true.
-      * If the Authorization header contains a known group, return true.
-      * Otherwise, return false.
-     */
-
-    if (cognitoDisableAuth.getCognitoAuthDisabled()) {
-      return true;
-    }
-
-    /*
-      An admin scope granted to an access token generated by a known client credentials
-      app client is accepted as machine-to-machine communication.
-     */
-    if (adminJwtClaimFeature.getAdminClaim().isPresent() && jwtUtils.getJwtFromAuthorizationHeader(
-            serviceAuthorizationHeader)
-        .map(jwt -> jwtInspector.jwtContainsScope(jwt, adminJwtClaimFeature.getAdminClaim().get(),
-            cognitoClientId))
-        .orElse(false)) {
-      return true;
-    }
-
-    /*
-      Anyone assigned to the appropriate group is also granted access.
-     */
-    return adminJwtGroupFeature.getAdminGroup().isPresent()
-        && jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader)
-        .map(jwt -> jwtInspector.jwtContainsCognitoGroup(jwt,
-            adminJwtGroupFeature.getAdminGroup().get()))
-        .orElse(false);
-  }
-
   private static class GitHubDetails {
 
     public Repo repo;
@@ -1,6 +1,7 @@
 package com.octopus.githubproxy.application.lambda;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
@@ -46,4 +47,16 @@ public class LambdaRequestHandlerHealthTest {
         api.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
     assertEquals(200, postResponse.getStatusCode());
   }
+
+  @Test
+  public void testHealthTrailingSlash() {
+    final APIGatewayProxyRequestEvent apiGatewayProxyRequestEvent =
+        new APIGatewayProxyRequestEvent();
+    apiGatewayProxyRequestEvent.setHttpMethod("GET");
+    apiGatewayProxyRequestEvent.setPath(Paths.HEALTH_ENDPOINT + "/x/GET/");
+    final APIGatewayProxyResponseEvent postResponse =
+        api.handleRequest(apiGatewayProxyRequestEvent, Mockito.mock(Context.class));
+    assertEquals(200, postResponse.getStatusCode());
+    assertTrue(postResponse.getBody().contains("\"" + Paths.HEALTH_ENDPOINT + "/x/GET\""));
+  }
 }
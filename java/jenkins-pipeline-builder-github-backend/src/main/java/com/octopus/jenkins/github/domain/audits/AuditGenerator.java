@@ -7,16 +7,13 @@ import com.octopus.jenkins.github.GlobalConstants;
 import com.octopus.jenkins.github.domain.entities.Audit;
 import com.octopus.jenkins.github.domain.framework.jsonapi.JsonApiConverter;
 import com.octopus.jenkins.github.infrastructure.client.AuditClient;
-import com.octopus.jenkins.github.infrastructure.client.CognitoClient;
+import com.octopus.oauth.TokenCache;
 import io.quarkus.logging.Log;
 import io.vavr.control.Try;
-import java.util.Base64;
-import java.util.Date;
 import java.util.Optional;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import lombok.NonNull;
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
@@ -27,14 +24,12 @@ import org.eclipse.microprofile.rest.client.inject.RestClient;
 public class AuditGenerator {
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-  private static long expiry;
-  private static String accessToken;
 
   @RestClient
   AuditClient auditClient;
 
-  @RestClient
-  CognitoClient cognitoClient;
+  @Inject
+  TokenCache tokenCache;
 
   @Inject
   JsonApiConverter jsonApiConverter;
@@ -83,26 +78,11 @@ public class AuditGenerator {
   }
 
   private Try<String> getAccessToken() {
-    if (!StringUtils.isEmpty(accessToken) && new Date().getTime() < expiry) {
-      return Try.of(() -> accessToken);
-    }
-
     if (cognitoClientId.isPresent() && cognitoClientSecret.isPresent()) {
-      return Try.of(() -> cognitoClient.getToken(
-              "Basic " + Base64.getEncoder()
-                  .encodeToString(
-                      (cognitoClientId.get() + ":" + cognitoClientSecret.get()).getBytes()),
-              GlobalConstants.CLIENT_CREDENTIALS,
-              cognitoClientId.get(),
-              GlobalConstants.AUDIT_SCOPE))
-          // We expect to see an access token. Fail if the value is empty.
-          .filter(oauth -> StringUtils.isNotEmpty(oauth.getAccessToken()))
-          // We can reuse a token for an hour, but we set the expiry 10 mins before just to be safe.
-          .mapTry(oauth -> {
-            accessToken = oauth.getAccessToken();
-            expiry = new Date().getTime() + ((long) oauth.getExpiresIn() * 1000) - (10 * 60 * 1000);
-            return accessToken;
-          });
+      return tokenCache.getAccessToken(
+          cognitoClientId.get(),
+          cognitoClientSecret.get(),
+          GlobalConstants.AUDIT_SCOPE);
     }
 
     return Try.failure(new Exception("Cognito client ID or secret were not set"));
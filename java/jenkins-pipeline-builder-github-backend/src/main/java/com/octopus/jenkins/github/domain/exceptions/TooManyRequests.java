@@ -0,0 +1,10 @@
+package com.octopus.jenkins.github.domain.exceptions;
+
+/**
+ * The exception thrown when the request could not be completed because a rate limit was reached.
+ */
+public class TooManyRequests extends RuntimeException {
+  public TooManyRequests() {
+    super();
+  }
+}
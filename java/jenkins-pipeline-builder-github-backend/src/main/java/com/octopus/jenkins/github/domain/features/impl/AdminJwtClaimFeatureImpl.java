@@ -0,0 +1,19 @@
+package com.octopus.jenkins.github.domain.features.impl;
+
+import com.octopus.features.AdminJwtClaimFeature;
+import java.util.Optional;
+import javax.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Simple wrapper around a property setting to aid with mocking in tests.
+ */
+@ApplicationScoped
+public class AdminJwtClaimFeatureImpl implements AdminJwtClaimFeature {
+  @ConfigProperty(name = "cognito.admin-claim")
+  Optional<String> adminClaim;
+
+  public Optional<String> getAdminClaim() {
+    return adminClaim;
+  }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.deser.std.DateDeserializers.TimestampDeser
 import com.github.jasminb.jsonapi.IntegerIdHandler;
 import com.github.jasminb.jsonapi.StringIdHandler;
 import com.octopus.jenkins.github.domain.entities.Audit;
+import com.octopus.jenkins.github.domain.entities.BulkPipelineResult;
 import com.octopus.jenkins.github.domain.entities.GithubUserLoggedInForFreeToolsEventV1;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 
@@ -13,6 +14,7 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
 @RegisterForReflection(targets = {
     TimestampDeserializer.class,
     Audit.class,
+    BulkPipelineResult.class,
     IntegerIdHandler.class,
     StringIdHandler.class,
     GithubUserLoggedInForFreeToolsEventV1.class})
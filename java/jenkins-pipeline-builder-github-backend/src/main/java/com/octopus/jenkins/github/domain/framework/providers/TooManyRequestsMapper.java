@@ -0,0 +1,21 @@
+package com.octopus.jenkins.github.domain.framework.providers;
+
+import com.octopus.jenkins.github.domain.exceptions.TooManyRequests;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.Provider;
+import lombok.NonNull;
+
+/**
+ * Converts a TooManyRequests exception to a HTTP response.
+ */
+@Provider
+public class TooManyRequestsMapper implements ExceptionMapper<TooManyRequests> {
+
+  @Override
+  public Response toResponse(@NonNull final TooManyRequests exception) {
+    return Response.status(Status.TOO_MANY_REQUESTS.getStatusCode(), "The GitHub rate limit has been reached")
+        .build();
+  }
+}
@@ -1,6 +1,7 @@
 package com.octopus.jenkins.github.application.http;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 
@@ -17,8 +18,11 @@ import com.octopus.test.repoclients.MavenTestRepoClient;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.mockito.InjectMock;
+import io.restassured.http.ContentType;
 import io.vavr.control.Try;
+import java.util.List;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -64,7 +68,7 @@ public class PipelineResourceTest {
     Mockito.when(cryptoUtils.decrypt(any(), any(), any())).thenReturn("decrypted");
     doNothing().when(auditGenerator).createAuditEvent(any(), any(), any(), any(), any());
     doNothing().when(serviceBusMessageGenerator)
-        .sendLoginMessage(any(), any(), any(), any(), any());
+        .sendLoginMessage(any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -81,6 +85,38 @@ public class PipelineResourceTest {
         .statusCode(200);
   }
 
+  @Test
+  public void testBulkHttpInterface() {
+    given()
+        .contentType(ContentType.JSON)
+        .body(List.of(REPO, ""))
+        .header(GlobalConstants.AMAZON_TRACE_ID_HEADER, XRAY)
+        .header(GlobalConstants.ROUTING_HEADER, "")
+        .header(GlobalConstants.DATA_PARTITION, "")
+        .header(GlobalConstants.AUTHORIZATION_HEADER, "")
+        .when()
+        .post(ENDPOINT + "/bulk")
+        .then()
+        .statusCode(200)
+        .contentType(RestMediaType.APPLICATION_NDJSON)
+        .body(containsString("\"code\":200"), containsString("\"code\":400"));
+  }
+
+  @Test
+  public void bulkBadRequest() {
+    given()
+        .contentType(ContentType.JSON)
+        .body(List.of())
+        .header(GlobalConstants.AMAZON_TRACE_ID_HEADER, XRAY)
+        .header(GlobalConstants.ROUTING_HEADER, "")
+        .header(GlobalConstants.DATA_PARTITION, "")
+        .header(GlobalConstants.AUTHORIZATION_HEADER, "")
+        .when()
+        .post(ENDPOINT + "/bulk")
+        .then()
+        .statusCode(400);
+  }
+
   @Test
   public void badRequest() {
     given()
@@ -74,7 +74,7 @@ public class TemplateHandlerPrivateRepoTest {
         .thenReturn(new GitHubEmail[]{GitHubEmail.builder().email(TEST_EMAIL).build()});
     when(cryptoUtils.decrypt(any(), any(), any())).thenReturn("decrypted");
     doNothing().when(auditGenerator).createAuditEvent(any(), any(), any(), any(), any());
-    doNothing().when(serviceBusMessageGenerator).sendLoginMessage(any(), any(), any(), any(), any());
+    doNothing().when(serviceBusMessageGenerator).sendLoginMessage(any(), any(), any(), any(), any(), any());
   }
 
   @ParameterizedTest
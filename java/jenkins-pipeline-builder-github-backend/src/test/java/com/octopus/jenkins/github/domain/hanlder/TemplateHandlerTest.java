@@ -10,19 +10,34 @@ import static org.mockito.Mockito.doNothing;
 import com.octopus.encryption.CryptoUtils;
 import com.octopus.jenkins.github.domain.TestingProfile;
 import com.octopus.jenkins.github.domain.audits.AuditGenerator;
+import com.octopus.jenkins.github.domain.entities.BulkPipelineResult;
 import com.octopus.jenkins.github.domain.entities.GitHubEmail;
 import com.octopus.jenkins.github.domain.entities.GitHubUser;
 import com.octopus.jenkins.github.domain.entities.GithubUserLoggedInForFreeToolsEventV1;
 import com.octopus.jenkins.github.domain.entities.Utms;
 import com.octopus.jenkins.github.domain.servicebus.ServiceBusMessageGenerator;
 import com.octopus.jenkins.github.infrastructure.client.GitHubApi;
+import com.octopus.http.RateLimitGovernor;
+import com.octopus.http.RateLimitQuota;
+import com.octopus.http.RequestPriority;
+import com.octopus.http.impl.HttpResponseCacheImpl;
+import com.octopus.http.impl.PooledHttpClients;
+import com.octopus.http.impl.ReadOnlyHttpClientImpl;
 import com.octopus.oauth.OauthClientCredsAccessor;
 import com.octopus.repoclients.RepoClientFactory;
+import com.octopus.repoclients.impl.GithubRepoClient;
 import com.octopus.test.repoclients.MavenTestRepoClient;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.mockito.InjectMock;
 import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 import javax.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
@@ -95,7 +110,7 @@ public class TemplateHandlerTest {
       assertEquals("source", message.getUtmParameters().get("utm_source"));
       assertEquals("campaign", message.getUtmParameters().get("utm_campaign"));
       return null;
-    }).when(serviceBusMessageGenerator).sendLoginMessage(any(), any(), any(), any(), any());
+    }).when(serviceBusMessageGenerator).sendLoginMessage(any(), any(), any(), any(), any(), any());
   }
 
   @ParameterizedTest
@@ -120,6 +135,111 @@ public class TemplateHandlerTest {
     assertEquals(200, response.getCode());
   }
 
+  @Test
+  public void testBulkTemplateCreation() {
+    final Queue<BulkPipelineResult> results = new ConcurrentLinkedQueue<>();
+    templateHandler.generatePipelines(
+            List.of(REPO, REPO + "2", ""),
+            "sessioncookie",
+            XRAY,
+            "",
+            "",
+            "",
+            Utms
+                .builder()
+                .content("content")
+                .term("term")
+                .medium("medium")
+                .source("source")
+                .campaign("campaign")
+                .build(),
+            results::add)
+        .join();
+
+    assertEquals(3, results.size());
+    assertEquals(2, results.stream().filter(r -> r.getCode() == 200).count());
+    assertTrue(results.stream()
+        .filter(r -> r.getCode() == 200)
+        .allMatch(r -> StringUtils.isNotBlank(r.getPipeline()) && r.getError() == null));
+    assertTrue(results.stream().anyMatch(r -> "".equals(r.getRepo()) && r.getCode() == 400));
+
+    // The session cookie is decrypted once for all the repos
+    Mockito.verify(cryptoUtils, Mockito.times(1)).decrypt(any(), any(), any());
+  }
+
+  @Test
+  public void testRateLimitedRepos() {
+    // Every request is shed, so the repo can not be scanned
+    Mockito.when(repoClientFactory.buildRepoClient(any(), any()))
+        .thenAnswer(invocation -> GithubRepoClient.builder()
+            .repo(invocation.getArgument(0))
+            .readOnlyHttpClient(new ReadOnlyHttpClientImpl(
+                new HttpResponseCacheImpl(),
+                PooledHttpClients.shared(),
+                new SheddingGovernor()))
+            .build());
+
+    assertEquals(429, templateHandler.generatePipeline(
+        REPO,
+        "sessioncookie",
+        XRAY,
+        "",
+        "",
+        "",
+        Utms.builder().build()).getCode());
+
+    final Queue<BulkPipelineResult> results = new ConcurrentLinkedQueue<>();
+    templateHandler.generatePipelines(
+            List.of(REPO, REPO + "2"),
+            "sessioncookie",
+            XRAY,
+            "",
+            "",
+            "",
+            Utms.builder().build(),
+            results::add)
+        .join();
+
+    assertEquals(2, results.size());
+    assertTrue(results.stream().allMatch(r -> r.getCode() == 429 && r.getPipeline() == null));
+  }
+
+  @Test
+  public void testBulkInvalidArguments() {
+    assertThrows(IllegalArgumentException.class,
+        () -> templateHandler.generatePipelines(
+            List.of(),
+            "",
+            "",
+            "",
+            "",
+            "",
+            Utms.builder().build(),
+            r -> {}));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> templateHandler.generatePipelines(
+            Collections.nCopies(501, REPO),
+            "",
+            "",
+            "",
+            "",
+            "",
+            Utms.builder().build(),
+            r -> {}));
+
+    assertThrows(NullPointerException.class,
+        () -> templateHandler.generatePipelines(
+            null,
+            "",
+            "",
+            "",
+            "",
+            "",
+            Utms.builder().build(),
+            r -> {}));
+  }
+
   @Test
   public void testNullArguments() {
     assertThrows(NullPointerException.class,
@@ -182,4 +302,26 @@ public class TemplateHandlerTest {
             "",
             null));
   }
+
+  /**
+   * A governor that sheds every request, as if the quota was exhausted.
+   */
+  private static class SheddingGovernor implements RateLimitGovernor {
+
+    @Override
+    public Optional<Duration> reserve(final String url, final String authorization,
+        final RequestPriority priority) {
+      return Optional.empty();
+    }
+
+    @Override
+    public void update(final String url, final String authorization, final int statusCode,
+        final Function<String, Optional<String>> headers) {
+    }
+
+    @Override
+    public List<RateLimitQuota> getQuotas() {
+      return List.of();
+    }
+  }
 }
@@ -5,12 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.octopus.Constants;
 import com.octopus.jenkins.github.domain.TestingProfile;
 import com.octopus.jenkins.github.domain.entities.GithubUserLoggedInForFreeToolsEventV1;
 import com.octopus.jenkins.github.infrastructure.client.ServiceBusProxyClient;
+import com.octopus.jwt.AuthContext;
 import com.octopus.oauth.OauthClientCredsAccessor;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
@@ -48,6 +52,9 @@ public class ServiceBusMessageGeneratorTest {
   private static final String PARTITION = "partition";
   private static final String AUTH = "auth";
 
+  private static final AuthContext AUTH_CONTEXT =
+      AuthContext.authDisabled(Constants.DEFAULT_PARTITION);
+
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   @RestClient
@@ -90,16 +97,40 @@ public class ServiceBusMessageGeneratorTest {
   public void sendServiceMessageTest() {
     serviceBusMessageGenerator.sendLoginMessage(
         GithubUserLoggedInForFreeToolsEventV1.builder().build(),
+        AUTH_CONTEXT,
+        XRAY,
+        ROUTING,
+        PARTITION,
+        AUTH);
+  }
+
+  @Test
+  public void sendServiceMessageTestingPartitionTest() {
+    serviceBusMessageGenerator.sendLoginMessage(
+        GithubUserLoggedInForFreeToolsEventV1.builder().build(),
+        AuthContext.authDisabled("testing"),
         XRAY,
         ROUTING,
         PARTITION,
         AUTH);
+
+    verify(serviceBusProxyClient, never())
+        .createLoginMessage(any(), any(), any(), any(), any(), any(), any());
   }
 
   @Test
   public void sendServiceMessageNullParamsTest() {
+    assertThrows(NullPointerException.class, () -> serviceBusMessageGenerator.sendLoginMessage(
+        GithubUserLoggedInForFreeToolsEventV1.builder().build(),
+        null,
+        XRAY,
+        ROUTING,
+        PARTITION,
+        AUTH));
+
     assertThrows(NullPointerException.class, () -> serviceBusMessageGenerator.sendLoginMessage(
         null,
+        AUTH_CONTEXT,
         XRAY,
         ROUTING,
         PARTITION,
@@ -107,6 +138,7 @@ public class ServiceBusMessageGeneratorTest {
 
     assertThrows(NullPointerException.class, () -> serviceBusMessageGenerator.sendLoginMessage(
         GithubUserLoggedInForFreeToolsEventV1.builder().build(),
+        AUTH_CONTEXT,
         XRAY,
         null,
         PARTITION,
@@ -114,6 +146,7 @@ public class ServiceBusMessageGeneratorTest {
 
     assertThrows(NullPointerException.class, () -> serviceBusMessageGenerator.sendLoginMessage(
         GithubUserLoggedInForFreeToolsEventV1.builder().build(),
+        AUTH_CONTEXT,
         XRAY,
         ROUTING,
         null,
@@ -121,6 +154,7 @@ public class ServiceBusMessageGeneratorTest {
 
     assertThrows(NullPointerException.class, () -> serviceBusMessageGenerator.sendLoginMessage(
         GithubUserLoggedInForFreeToolsEventV1.builder().build(),
+        AUTH_CONTEXT,
         XRAY,
         ROUTING,
         PARTITION,
@@ -5,6 +5,7 @@ import com.octopus.jenkins.shared.dsl.ArgType;
 import com.octopus.jenkins.shared.dsl.Argument;
 import com.octopus.jenkins.shared.dsl.Comment;
 import com.octopus.jenkins.shared.dsl.Element;
+import com.octopus.jenkins.shared.dsl.Fragment;
 import com.octopus.jenkins.shared.dsl.Function1ArgTrailingLambda;
 import com.octopus.jenkins.shared.dsl.FunctionManyArgs;
 import com.octopus.jenkins.shared.dsl.FunctionTrailingLambda;
@@ -15,33 +16,338 @@ import lombok.NonNull;
 
 /**
  * The base class containing common functions to build shared parts of the pipeline.
+ *
+ * <p>Parts of the pipeline that don't depend on the repo are built once as fragments, which are
+ * shared by every pipeline and only rendered the first time they are used.
  */
 public class GitBuilder {
 
   protected static final String DEFAULT_APPLICATION = "application";
 
+  private static final List<Element> TOP_COMMENTS = ImmutableList.of(
+      Fragment.of(Comment.builder()
+          .content(
+              "The following pipeline provides an opinionated template you can customize for your own needs.\n\n"
+                  + "Instructions for configuring the Octopus plugin can be found at\n"
+                  + "https://octopus.com/docs/packaging-applications/build-servers/jenkins#configure-the-octopus-deploy-plugin\n\n"
+                  + "Get a trial Octopus instance from https://octopus.com/start\n\n"
+                  +
+                  "This pipeline requires the following plugins:\n"
+                  + "* Pipeline Utility Steps Plugin: https://wiki.jenkins.io/display/JENKINS/Pipeline+Utility+Steps+Plugin\n"
+                  + "* Git: https://plugins.jenkins.io/git/\n"
+                  + "* Workflow Aggregator: https://plugins.jenkins.io/workflow-aggregator/\n"
+                  + "* Octopus Deploy: https://plugins.jenkins.io/octopusdeploy/."
+          )
+          .build()));
+
+  private static final Element ENVIRONMENT_STAGE = Fragment.of(Function1ArgTrailingLambda.builder()
+      .name("stage")
+      .arg("Environment")
+      .children(steps(new ImmutableList.Builder<Element>()
+          .add(StringContent.builder()
+              .content("echo \"PATH = ${env.PATH}\"")
+              .build())
+          .build()))
+      .build());
+
+  private static final List<Element> GIT_VERSION_STEPS = ImmutableList.of(
+      Fragment.of(Comment.builder()
+          .content(
+              "Gitversion is available from https://github.com/GitTools/GitVersion/releases.\n"
+                  + "We attempt to run gitversion if the executable is available.")
+          .build()),
+      Fragment.of(FunctionManyArgs.builder()
+          .name("sh")
+          .args(new ImmutableList.Builder<Argument>()
+              .add(new Argument(
+                  "script",
+                  "which gitversion && gitversion /output buildserver || true",
+                  ArgType.STRING))
+              .build())
+          .build()),
+      Fragment.of(Comment.builder()
+          .content(
+              "Capture the git version as an environment variable, or use a default version if gitversion wasn't available.\n"
+                  + "https://gitversion.net/docs/reference/build-servers/jenkins")
+          .build()),
+      Fragment.of(FunctionTrailingLambda.builder()
+          .name("script")
+          .children(new ImmutableList.Builder<Element>()
+              .add(StringContent.builder()
+                  .content(
+                      "if (fileExists('gitversion.properties')) {\n"
+                          + "  def props = readProperties file: 'gitversion.properties'\n"
+                          + "  env.VERSION_SEMVER = props.GitVersion_SemVer\n"
+                          + "  env.VERSION_BRANCHNAME = props.GitVersion_BranchName\n"
+                          + "  env.VERSION_ASSEMBLYSEMVER = props.GitVersion_AssemblySemVer\n"
+                          + "  env.VERSION_MAJORMINORPATCH = props.GitVersion_MajorMinorPatch\n"
+                          + "  env.VERSION_SHA = props.GitVersion_Sha\n"
+                          + "} else {\n"
+                          + "  env.VERSION_SEMVER = \"1.0.0.\" + env.BUILD_NUMBER\n"
+                          + "}"
+                  )
+                  .build())
+              .build())
+          .build()));
+
+  private static final Element DEPLOY_STAGE = Fragment.of(Function1ArgTrailingLambda.builder()
+      .name("stage")
+      .arg("Deployment")
+      .children(steps(new ImmutableList.Builder<Element>()
+          .add(Comment.builder()
+              .content("This stage assumes you perform the deployment with Octopus Deploy.\n"
+                  + "The steps shown below can be replaced with your own custom steps to deploy to other platforms if needed.")
+              .build())
+          .add(FunctionManyArgs.builder()
+              .name("octopusPushPackage")
+              .args(new ImmutableList.Builder<Argument>()
+                  .add(new Argument(
+                      "additionalArgs",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "packagePaths",
+                      "env.ARTIFACTS.split(\":\").join(\"\\n\")",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "overwriteMode",
+                      "OverwriteExisting",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "serverId",
+                      "params.ServerId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "spaceId",
+                      "params.SpaceId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "toolId",
+                      "Default",
+                      ArgType.STRING))
+                  .build())
+              .build())
+          .add(FunctionManyArgs.builder()
+              .name("octopusPushBuildInformation")
+              .args(new ImmutableList.Builder<Argument>()
+                  .add(new Argument(
+                      "additionalArgs",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "commentParser",
+                      "GitHub",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "overwriteMode",
+                      "OverwriteExisting",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "packageId",
+                      "env.ARTIFACTS.split(\":\")[0].substring(env.ARTIFACTS.split(\":\")[0].lastIndexOf(\"/\") + 1, env.ARTIFACTS.split(\":\")[0].length()).replaceAll(\"\\\\.\" + env.VERSION_SEMVER + \"\\\\..+\", \"\")",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "packageVersion",
+                      "env.VERSION_SEMVER",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "serverId",
+                      "params.ServerId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "spaceId",
+                      "params.SpaceId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "toolId",
+                      "Default",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "verboseLogging",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "gitUrl",
+                      "env.GIT_URL",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "gitCommit",
+                      "env.GIT_COMMIT",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "gitBranch",
+                      "env.GIT_BRANCH",
+                      ArgType.CODE))
+                  .build())
+              .build())
+          .add(FunctionManyArgs.builder()
+              .name("octopusCreateRelease")
+              .args(new ImmutableList.Builder<Argument>()
+                  .add(new Argument(
+                      "additionalArgs",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "cancelOnTimeout",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "channel",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "defaultPackageVersion",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "deployThisRelease",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "deploymentTimeout",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "environment",
+                      "params.EnvironmentName",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "jenkinsUrlLinkback",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "project",
+                      "params.ProjectName",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "releaseNotes",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "releaseNotesFile",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "releaseVersion",
+                      "env.VERSION_SEMVER",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "serverId",
+                      "params.ServerId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "spaceId",
+                      "params.SpaceId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "tenant",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "tenantTag",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "toolId",
+                      "Default",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "verboseLogging",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "waitForDeployment",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .build())
+              .build())
+          .add(FunctionManyArgs.builder()
+              .name("octopusDeployRelease")
+              .args(new ImmutableList.Builder<Argument>()
+                  .add(new Argument(
+                      "cancelOnTimeout",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "deploymentTimeout",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "environment",
+                      "params.EnvironmentName",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "project",
+                      "params.ProjectName",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "releaseVersion",
+                      "env.VERSION_SEMVER",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "serverId",
+                      "params.ServerId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "spaceId",
+                      "params.SpaceId",
+                      ArgType.CODE))
+                  .add(new Argument(
+                      "tenant",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "tenantTag",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "toolId",
+                      "Default",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "variables",
+                      "",
+                      ArgType.STRING))
+                  .add(new Argument(
+                      "verboseLogging",
+                      "false",
+                      ArgType.BOOLEAN))
+                  .add(new Argument(
+                      "waitForDeployment",
+                      "true",
+                      ArgType.BOOLEAN))
+                  .build())
+              .build())
+          .build()))
+      .build());
+
+  private static final Element CHECKOUT_COMMENT = Fragment.of(Comment.builder()
+      .content(
+          "If this pipeline is saved as a Jenkinsfile in a git repo, the checkout stage can be deleted as\n"
+              + "Jenkins will check out the code for you.")
+      .build());
+
+  private static final Element PARAMETERS_COMMENT = Fragment.of(Comment.builder()
+      .content(
+          "Parameters are only available after the first run. See https://issues.jenkins.io/browse/JENKINS-41929 for more details.")
+      .build());
+
+  private static final Element SPACE_ID_PARAMETER =
+      Fragment.of(stringParameter("Spaces-1", "SpaceId"));
+
+  private static final Element ENVIRONMENT_NAME_PARAMETER =
+      Fragment.of(stringParameter("Dev", "EnvironmentName"));
+
+  private static final Element SERVER_ID_PARAMETER =
+      Fragment.of(stringParameter("Octopus", "ServerId"));
+
   /**
    * Creates the comments that appear at the top of the pipeline.
    *
    * @return A list of Comment elements.
    */
   public List<Element> createTopComments() {
-    return new ImmutableList.Builder<Element>()
-        .add(Comment.builder()
-            .content(
-                "The following pipeline provides an opinionated template you can customize for your own needs.\n\n"
-                    + "Instructions for configuring the Octopus plugin can be found at\n"
-                    + "https://octopus.com/docs/packaging-applications/build-servers/jenkins#configure-the-octopus-deploy-plugin\n\n"
-                    + "Get a trial Octopus instance from https://octopus.com/start\n\n"
-                    +
-                    "This pipeline requires the following plugins:\n"
-                    + "* Pipeline Utility Steps Plugin: https://wiki.jenkins.io/display/JENKINS/Pipeline+Utility+Steps+Plugin\n"
-                    + "* Git: https://plugins.jenkins.io/git/\n"
-                    + "* Workflow Aggregator: https://plugins.jenkins.io/workflow-aggregator/\n"
-                    + "* Octopus Deploy: https://plugins.jenkins.io/octopusdeploy/."
-            )
-            .build())
-        .build();
+    return TOP_COMMENTS;
   }
 
   /**
@@ -50,15 +356,7 @@ public class GitBuilder {
    * @return The stage element with a script displaying environment variables.
    */
   public Element createEnvironmentStage() {
-    return Function1ArgTrailingLambda.builder()
-        .name("stage")
-        .arg("Environment")
-        .children(createStepsElement(new ImmutableList.Builder<Element>()
-            .add(StringContent.builder()
-                .content("echo \"PATH = ${env.PATH}\"")
-                .build())
-            .build()))
-        .build();
+    return ENVIRONMENT_STAGE;
   }
 
   /**
@@ -71,11 +369,7 @@ public class GitBuilder {
     return Function1ArgTrailingLambda.builder().name("stage")
         .arg("Checkout")
         .children(createStepsElement(new ImmutableList.Builder<Element>()
-            .add(Comment.builder()
-                .content(
-                    "If this pipeline is saved as a Jenkinsfile in a git repo, the checkout stage can be deleted as\n"
-                        + "Jenkins will check out the code for you.")
-                .build())
+            .add(CHECKOUT_COMMENT)
             .add(FunctionTrailingLambda.builder()
                 .name("script")
                 .children(new ImmutableList.Builder<Element>()
@@ -131,13 +425,7 @@ public class GitBuilder {
    * @return A list with the single steps element.
    */
   public List<Element> createStepsElement(@NonNull final List<Element> children) {
-    return new ImmutableList.Builder<Element>().add(
-            FunctionTrailingLambda.builder()
-                .name("steps")
-                .children(children)
-                .build())
-        .build();
-
+    return steps(children);
   }
 
   /**
@@ -146,46 +434,7 @@ public class GitBuilder {
    * @return A list of steps executing and processing gitversion.
    */
   public List<Element> createGitVersionSteps() {
-    return new ImmutableList.Builder<Element>()
-        .add(Comment.builder()
-            .content(
-                "Gitversion is available from https://github.com/GitTools/GitVersion/releases.\n"
-                    + "We attempt to run gitversion if the executable is available.")
-            .build())
-        .add(FunctionManyArgs.builder()
-            .name("sh")
-            .args(new ImmutableList.Builder<Argument>()
-                .add(new Argument(
-                    "script",
-                    "which gitversion && gitversion /output buildserver || true",
-                    ArgType.STRING))
-                .build())
-            .build())
-        .add(Comment.builder()
-            .content(
-                "Capture the git version as an environment variable, or use a default version if gitversion wasn't available.\n"
-                    + "https://gitversion.net/docs/reference/build-servers/jenkins")
-            .build())
-        .add(FunctionTrailingLambda.builder()
-            .name("script")
-            .children(new ImmutableList.Builder<Element>()
-                .add(StringContent.builder()
-                    .content(
-                        "if (fileExists('gitversion.properties')) {\n"
-                            + "  def props = readProperties file: 'gitversion.properties'\n"
-                            + "  env.VERSION_SEMVER = props.GitVersion_SemVer\n"
-                            + "  env.VERSION_BRANCHNAME = props.GitVersion_BranchName\n"
-                            + "  env.VERSION_ASSEMBLYSEMVER = props.GitVersion_AssemblySemVer\n"
-                            + "  env.VERSION_MAJORMINORPATCH = props.GitVersion_MajorMinorPatch\n"
-                            + "  env.VERSION_SHA = props.GitVersion_Sha\n"
-                            + "} else {\n"
-                            + "  env.VERSION_SEMVER = \"1.0.0.\" + env.BUILD_NUMBER\n"
-                            + "}"
-                    )
-                    .build())
-                .build())
-            .build())
-        .build();
+    return GIT_VERSION_STEPS;
   }
 
   /**
@@ -197,94 +446,12 @@ public class GitBuilder {
   public Element createParameters(@NonNull final RepoClient accessor) {
     return FunctionTrailingLambda.builder().name("parameters")
         .children(new ImmutableList.Builder<Element>()
-            .add(Comment.builder()
-                .content(
-                    "Parameters are only available after the first run. See https://issues.jenkins.io/browse/JENKINS-41929 for more details.")
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("string")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "defaultValue",
-                        "Spaces-1",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "description",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "name",
-                        "SpaceId",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "trim",
-                        "true",
-                        ArgType.BOOLEAN))
-                    .build())
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("string")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "defaultValue",
-                        accessor.getRepoName().getOrElse(DEFAULT_APPLICATION),
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "description",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "name",
-                        "ProjectName",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "trim",
-                        "true",
-                        ArgType.BOOLEAN))
-                    .build())
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("string")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "defaultValue",
-                        "Dev",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "description",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "name",
-                        "EnvironmentName",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "trim",
-                        "true",
-                        ArgType.BOOLEAN))
-                    .build())
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("string")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "defaultValue",
-                        "Octopus",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "description",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "name",
-                        "ServerId",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "trim",
-                        "true",
-                        ArgType.BOOLEAN))
-                    .build())
-                .build())
+            .add(PARAMETERS_COMMENT)
+            .add(SPACE_ID_PARAMETER)
+            .add(stringParameter(accessor.getRepoName().getOrElse(DEFAULT_APPLICATION),
+                "ProjectName"))
+            .add(ENVIRONMENT_NAME_PARAMETER)
+            .add(SERVER_ID_PARAMETER)
             .build())
         .build();
   }
@@ -296,234 +463,40 @@ public class GitBuilder {
    * @return The deploy stage block DSL element.
    */
   public Element createDeployStage(@NonNull final RepoClient accessor) {
-    return Function1ArgTrailingLambda.builder().name("stage")
-        .arg("Deployment")
-        .children(createStepsElement(new ImmutableList.Builder<Element>()
-            .add(Comment.builder()
-                .content("This stage assumes you perform the deployment with Octopus Deploy.\n"
-                    + "The steps shown below can be replaced with your own custom steps to deploy to other platforms if needed.")
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("octopusPushPackage")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "additionalArgs",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "packagePaths",
-                        "env.ARTIFACTS.split(\":\").join(\"\\n\")",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "overwriteMode",
-                        "OverwriteExisting",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "serverId",
-                        "params.ServerId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "spaceId",
-                        "params.SpaceId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "toolId",
-                        "Default",
-                        ArgType.STRING))
-                    .build())
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("octopusPushBuildInformation")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "additionalArgs",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "commentParser",
-                        "GitHub",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "overwriteMode",
-                        "OverwriteExisting",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "packageId",
-                        "env.ARTIFACTS.split(\":\")[0].substring(env.ARTIFACTS.split(\":\")[0].lastIndexOf(\"/\") + 1, env.ARTIFACTS.split(\":\")[0].length()).replaceAll(\"\\\\.\" + env.VERSION_SEMVER + \"\\\\..+\", \"\")",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "packageVersion",
-                        "env.VERSION_SEMVER",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "serverId",
-                        "params.ServerId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "spaceId",
-                        "params.SpaceId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "toolId",
-                        "Default",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "verboseLogging",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "gitUrl",
-                        "env.GIT_URL",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "gitCommit",
-                        "env.GIT_COMMIT",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "gitBranch",
-                        "env.GIT_BRANCH",
-                        ArgType.CODE))
-                    .build())
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("octopusCreateRelease")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "additionalArgs",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "cancelOnTimeout",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "channel",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "defaultPackageVersion",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "deployThisRelease",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "deploymentTimeout",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "environment",
-                        "params.EnvironmentName",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "jenkinsUrlLinkback",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "project",
-                        "params.ProjectName",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "releaseNotes",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "releaseNotesFile",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "releaseVersion",
-                        "env.VERSION_SEMVER",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "serverId",
-                        "params.ServerId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "spaceId",
-                        "params.SpaceId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "tenant",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "tenantTag",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "toolId",
-                        "Default",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "verboseLogging",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "waitForDeployment",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .build())
-                .build())
-            .add(FunctionManyArgs.builder()
-                .name("octopusDeployRelease")
-                .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument(
-                        "cancelOnTimeout",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "deploymentTimeout",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "environment",
-                        "params.EnvironmentName",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "project",
-                        "params.ProjectName",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "releaseVersion",
-                        "env.VERSION_SEMVER",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "serverId",
-                        "params.ServerId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "spaceId",
-                        "params.SpaceId",
-                        ArgType.CODE))
-                    .add(new Argument(
-                        "tenant",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "tenantTag",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "toolId",
-                        "Default",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "variables",
-                        "",
-                        ArgType.STRING))
-                    .add(new Argument(
-                        "verboseLogging",
-                        "false",
-                        ArgType.BOOLEAN))
-                    .add(new Argument(
-                        "waitForDeployment",
-                        "true",
-                        ArgType.BOOLEAN))
-                    .build())
+    return DEPLOY_STAGE;
+  }
+
+  private static List<Element> steps(@NonNull final List<Element> children) {
+    return new ImmutableList.Builder<Element>().add(
+            FunctionTrailingLambda.builder()
+                .name("steps")
+                .children(children)
                 .build())
-            .build()))
+        .build();
+  }
+
+  private static Element stringParameter(@NonNull final String defaultValue,
+      @NonNull final String name) {
+    return FunctionManyArgs.builder()
+        .name("string")
+        .args(new ImmutableList.Builder<Argument>()
+            .add(new Argument(
+                "defaultValue",
+                defaultValue,
+                ArgType.STRING))
+            .add(new Argument(
+                "description",
+                "",
+                ArgType.STRING))
+            .add(new Argument(
+                "name",
+                name,
+                ArgType.STRING))
+            .add(new Argument(
+                "trim",
+                "true",
+                ArgType.BOOLEAN))
+            .build())
         .build();
   }
 }
@@ -4,6 +4,7 @@ import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
 import com.octopus.jenkins.shared.builders.GitBuilder;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
 import com.octopus.jenkins.shared.dsl.Argument;
@@ -47,10 +48,10 @@ public class DotnetCoreBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "DotnetCoreBuilder.canBuild(RepoClient)");
 
-    return hasSolutionFiles(accessor) && hasDotNetCoreProjectFiles(accessor);
+    return DetectionResult.of(hasSolutionFiles(accessor) && hasDotNetCoreProjectFiles(accessor));
   }
 
   private boolean hasDotNetCoreProjectFiles(@NonNull final RepoClient accessor) {
@@ -75,7 +76,8 @@ public class DotnetCoreBuilder implements PipelineBuilder {
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -1,6 +1,7 @@
 package com.octopus.jenkins.shared.builders.generic;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.builders.java.JavaGitBuilder;
 import com.octopus.jenkins.shared.dsl.Element;
@@ -31,12 +32,13 @@ public class GenericBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
-    return true;
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
+    return DetectionResult.of(true);
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -1,6 +1,7 @@
 package com.octopus.jenkins.shared.builders.go;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.builders.java.JavaGitBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
@@ -15,6 +16,7 @@ import com.octopus.jenkins.shared.dsl.StringContent;
 import com.octopus.repoclients.RepoClient;
 import io.vavr.control.Try;
 import java.util.List;
+import java.util.Set;
 import lombok.NonNull;
 import org.jboss.logging.Logger;
 
@@ -32,15 +34,21 @@ public class GoBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public Set<String> getProbedFiles() {
+    return Set.of("go.mod");
+  }
+
+  @Override
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     final Try<List<String>> files = accessor.getWildcardFiles("*.go", 1);
 
-    return accessor.testFile("go.mod")
-        || (files.isSuccess() && !files.get().isEmpty());
+    return DetectionResult.of(accessor.testFile("go.mod")
+        || (files.isSuccess() && !files.get().isEmpty()));
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -3,6 +3,7 @@ package com.octopus.jenkins.shared.builders.java;
 import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
 import com.octopus.jenkins.shared.dsl.Argument;
@@ -15,6 +16,7 @@ import com.octopus.jenkins.shared.dsl.FunctionTrailingLambda;
 import com.octopus.repoclients.RepoClient;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import lombok.NonNull;
 import org.jboss.logging.Logger;
 
@@ -27,7 +29,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
   private static final JavaGitBuilder GIT_BUILDER = new JavaGitBuilder();
   private static final String[] GRADLE_BUILD_FILES = {"build.gradle", "build.gradle.kts"};
   private static final String GRADLE_OUTPUT_DIR = "build/libs";
-  private boolean usesWrapper = false;
+  private static final String WRAPPER = "wrapper";
 
   @Override
   public String getName() {
@@ -35,21 +37,32 @@ public class JavaGradleBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public Set<String> getProbedFiles() {
+    return Set.of("build.gradle", "build.gradle.kts", "gradlew");
+  }
+
+  @Override
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "JavaGradleBuilder.canBuild(RepoClient)");
 
     if (Arrays.stream(GRADLE_BUILD_FILES).anyMatch(accessor::testFile)) {
       LOG.log(DEBUG, String.join(" or ", GRADLE_BUILD_FILES) + " was found");
-      usesWrapper = usesWrapper(accessor);
+      final boolean usesWrapper = usesWrapper(accessor);
       LOG.log(DEBUG, "Wrapper script was " + (usesWrapper ? "" : "not ") + "found");
-      return true;
+      final DetectionResult.DetectionResultBuilder result = DetectionResult.builder()
+          .buildable(true);
+      if (usesWrapper) {
+        result.feature(WRAPPER);
+      }
+      return result.build();
     }
 
-    return false;
+    return DetectionResult.notBuildable();
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -62,7 +75,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
             .add(GIT_BUILDER.createParameters(accessor))
             .add(FunctionTrailingLambda.builder()
                 .name("tools")
-                .children(createTools())
+                .children(createTools(detection))
                 .build())
             .add(Function1Arg.builder().name("agent").value("any").build())
             .add(FunctionTrailingLambda.builder()
@@ -70,9 +83,9 @@ public class JavaGradleBuilder implements PipelineBuilder {
                 .children(new ImmutableList.Builder<Element>()
                     .add(GIT_BUILDER.createEnvironmentStage())
                     .add(GIT_BUILDER.createCheckoutStep(accessor))
-                    .add(createDependenciesStep())
-                    .add(createBuildStep())
-                    .add(createTestStep())
+                    .add(createDependenciesStep(detection))
+                    .add(createBuildStep(detection))
+                    .add(createTestStep(detection))
                     .add(GIT_BUILDER.createDeployStep(GRADLE_OUTPUT_DIR, accessor))
                     .add(GIT_BUILDER.createDeployStage(accessor))
                     .build())
@@ -87,22 +100,22 @@ public class JavaGradleBuilder implements PipelineBuilder {
     return accessor.testFile("gradlew");
   }
 
-  private String gradleExecutable() {
-    return usesWrapper ? "./gradlew" : "gradle";
+  private String gradleExecutable(@NonNull final DetectionResult detection) {
+    return detection.hasFeature(WRAPPER) ? "./gradlew" : "gradle";
   }
 
-  private List<Element> createTools() {
+  private List<Element> createTools(@NonNull final DetectionResult detection) {
     final ImmutableList.Builder<Element> list = new ImmutableList.Builder<Element>()
         .add(Function1Arg.builder().name("jdk").value("Java").build());
 
-    if (!usesWrapper) {
+    if (!detection.hasFeature(WRAPPER)) {
       list.add(Function1Arg.builder().name("gradle").value("Gradle").build());
     }
 
     return list.build();
   }
 
-  private Element createDependenciesStep() {
+  private Element createDependenciesStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Dependencies")
@@ -115,7 +128,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        gradleExecutable() + " dependencies --console=plain > dependencies.txt",
+                        gradleExecutable(detection) + " dependencies --console=plain > dependencies.txt",
                         ArgType.STRING))
                     .build())
                 .build())
@@ -130,7 +143,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
         .build();
   }
 
-  private Element createBuildStep() {
+  private Element createBuildStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Build")
@@ -140,7 +153,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        gradleExecutable() + " clean assemble --console=plain", ArgType.STRING))
+                        gradleExecutable(detection) + " clean assemble --console=plain", ArgType.STRING))
                     .add(new Argument("returnStdout", "true", ArgType.BOOLEAN))
                     .build())
                 .build())
@@ -148,7 +161,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
         .build();
   }
 
-  private Element createTestStep() {
+  private Element createTestStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Test")
@@ -157,7 +170,7 @@ public class JavaGradleBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        gradleExecutable() + " check --console=plain",
+                        gradleExecutable(detection) + " check --console=plain",
                         ArgType.STRING))
                     .build())
                 .build())
@@ -3,6 +3,7 @@ package com.octopus.jenkins.shared.builders.java;
 import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
 import com.octopus.jenkins.shared.dsl.Argument;
@@ -15,6 +16,7 @@ import com.octopus.jenkins.shared.dsl.FunctionTrailingLambda;
 import com.octopus.jenkins.shared.dsl.StringContent;
 import com.octopus.repoclients.RepoClient;
 import java.util.List;
+import java.util.Set;
 import lombok.NonNull;
 import org.jboss.logging.Logger;
 
@@ -25,7 +27,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
 
   private static final Logger LOG = Logger.getLogger(JavaMavenBuilder.class.toString());
   private static final JavaGitBuilder GIT_BUILDER = new JavaGitBuilder();
-  private boolean usesWrapper = false;
+  private static final String WRAPPER = "wrapper";
 
   @Override
   public String getName() {
@@ -33,21 +35,32 @@ public class JavaMavenBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
+  public Set<String> getProbedFiles() {
+    return Set.of("pom.xml", "mvnw");
+  }
+
+  @Override
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
     LOG.log(DEBUG, "JavaMavenBuilder.canBuild(RepoClient)");
 
     if (accessor.testFile("pom.xml")) {
       LOG.log(DEBUG, "pom.xml file was found");
-      usesWrapper = usesWrapper(accessor);
+      final boolean usesWrapper = usesWrapper(accessor);
       LOG.log(DEBUG, "Wrapper script was " + (usesWrapper ? "" : "not ") + "found");
-      return true;
+      final DetectionResult.DetectionResultBuilder result = DetectionResult.builder()
+          .buildable(true);
+      if (usesWrapper) {
+        result.feature(WRAPPER);
+      }
+      return result.build();
     }
 
-    return false;
+    return DetectionResult.notBuildable();
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -60,7 +73,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
             .add(GIT_BUILDER.createParameters(accessor))
             .add(FunctionTrailingLambda.builder()
                 .name("tools")
-                .children(createTools())
+                .children(createTools(detection))
                 .build())
             .add(Function1Arg.builder().name("agent").value("any").build())
             .add(FunctionTrailingLambda.builder()
@@ -68,10 +81,10 @@ public class JavaMavenBuilder implements PipelineBuilder {
                 .children(new ImmutableList.Builder<Element>()
                     .add(GIT_BUILDER.createEnvironmentStage())
                     .add(GIT_BUILDER.createCheckoutStep(accessor))
-                    .add(createDependenciesStep())
-                    .add(createBuildStep())
-                    .add(createTestStep())
-                    .add(createPackageStep())
+                    .add(createDependenciesStep(detection))
+                    .add(createBuildStep(detection))
+                    .add(createTestStep(detection))
+                    .add(createPackageStep(detection))
                     .add(GIT_BUILDER.createDeployStep("target", accessor))
                     .add(GIT_BUILDER.createDeployStage(accessor))
                     .build())
@@ -86,22 +99,22 @@ public class JavaMavenBuilder implements PipelineBuilder {
     return accessor.testFile("mvnw");
   }
 
-  private String mavenExecutable() {
-    return usesWrapper ? "./mvnw" : "mvn";
+  private String mavenExecutable(@NonNull final DetectionResult detection) {
+    return detection.hasFeature(WRAPPER) ? "./mvnw" : "mvn";
   }
 
-  private List<Element> createTools() {
+  private List<Element> createTools(@NonNull final DetectionResult detection) {
     final ImmutableList.Builder<Element> list = new ImmutableList.Builder<Element>()
         .add(Function1Arg.builder().name("jdk").value("Java").build());
 
-    if (!usesWrapper) {
+    if (!detection.hasFeature(WRAPPER)) {
       list.add(Function1Arg.builder().name("maven").value("Maven").build());
     }
 
     return list.build();
   }
 
-  private Element createDependenciesStep() {
+  private Element createDependenciesStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Dependencies")
@@ -113,7 +126,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
             .add(FunctionManyArgs.builder()
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument("script", mavenExecutable()
+                    .add(new Argument("script", mavenExecutable(detection)
                         + " --batch-mode dependency:resolve-plugins dependency:go-offline",
                         ArgType.STRING))
                     .build())
@@ -126,7 +139,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        mavenExecutable() + " --batch-mode dependency:tree > dependencies.txt",
+                        mavenExecutable(detection) + " --batch-mode dependency:tree > dependencies.txt",
                         ArgType.STRING))
                     .build())
                 .build())
@@ -143,7 +156,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
             .add(FunctionManyArgs.builder()
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument("script", mavenExecutable()
+                    .add(new Argument("script", mavenExecutable(detection)
                         + " --batch-mode versions:display-dependency-updates > dependencieupdates.txt",
                         ArgType.STRING))
                     .build())
@@ -159,7 +172,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
         .build();
   }
 
-  private Element createBuildStep() {
+  private Element createBuildStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Build")
@@ -169,14 +182,14 @@ public class JavaMavenBuilder implements PipelineBuilder {
                 .build())
             .add(Function1Arg.builder()
                 .name("sh")
-                .value(mavenExecutable()
+                .value(mavenExecutable(detection)
                     + " --batch-mode build-helper:parse-version versions:set \\\n"
                     + "-DnewVersion=\\\\${parsedVersion.majorVersion}.\\\\${parsedVersion.minorVersion}.\\\\${parsedVersion.incrementalVersion}.${BUILD_NUMBER}")
                 .build())
             .add(FunctionManyArgs.builder()
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
-                    .add(new Argument("script", mavenExecutable() + " --batch-mode -DskipTests clean compile",
+                    .add(new Argument("script", mavenExecutable(detection) + " --batch-mode -DskipTests clean compile",
                         ArgType.STRING))
                     .add(new Argument("returnStdout", "true", ArgType.BOOLEAN))
                     .build())
@@ -185,7 +198,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                 .name("script")
                 .children(new ImmutableList.Builder<Element>()
                     .add(StringContent.builder()
-                        .content("env.VERSION_SEMVER = sh (script: '" + mavenExecutable()
+                        .content("env.VERSION_SEMVER = sh (script: '" + mavenExecutable(detection)
                             + " -q -Dexec.executable=echo -Dexec.args=\\'${project.version}\\' --non-recursive exec:exec', returnStdout: true)\n"
                           + "env.VERSION_SEMVER = env.VERSION_SEMVER.trim()")
                         .build())
@@ -195,7 +208,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
         .build();
   }
 
-  private Element createTestStep() {
+  private Element createTestStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Test")
@@ -204,7 +217,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        mavenExecutable() + " --batch-mode test",
+                        mavenExecutable(detection) + " --batch-mode test",
                         ArgType.STRING))
                     .build())
                 .build())
@@ -220,7 +233,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
         .build();
   }
 
-  private Element createPackageStep() {
+  private Element createPackageStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Package")
@@ -229,7 +242,7 @@ public class JavaMavenBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        mavenExecutable() + " --batch-mode package -DskipTests", ArgType.STRING))
+                        mavenExecutable(detection) + " --batch-mode package -DskipTests", ArgType.STRING))
                     .build())
                 .build())
             .build()))
@@ -2,6 +2,7 @@ package com.octopus.jenkins.shared.builders.nodejs;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.builders.java.JavaGitBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
@@ -15,6 +16,7 @@ import com.octopus.jenkins.shared.dsl.FunctionTrailingLambda;
 import com.octopus.jenkins.shared.dsl.StringContent;
 import com.octopus.repoclients.RepoClient;
 import java.util.Map;
+import java.util.Set;
 import lombok.NonNull;
 import org.jboss.logging.Logger;
 
@@ -25,7 +27,7 @@ public class NodejsBuilder implements PipelineBuilder {
 
   private static final Logger LOG = Logger.getLogger(NodejsBuilder.class.toString());
   private static final JavaGitBuilder GIT_BUILDER = new JavaGitBuilder();
-  private boolean useYarn = false;
+  private static final String YARN = "yarn";
 
   @Override
   public String getName() {
@@ -33,13 +35,27 @@ public class NodejsBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
-    useYarn = accessor.testFile("yarn.lock");
-    return accessor.testFile("package.json");
+  public Set<String> getProbedFiles() {
+    return Set.of("package.json", "yarn.lock");
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
+    if (!accessor.testFile("package.json")) {
+      return DetectionResult.notBuildable();
+    }
+
+    final DetectionResult.DetectionResultBuilder result = DetectionResult.builder()
+        .buildable(true);
+    if (accessor.testFile("yarn.lock")) {
+      result.feature(YARN);
+    }
+    return result.build();
+  }
+
+  @Override
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -51,9 +67,9 @@ public class NodejsBuilder implements PipelineBuilder {
                 .children(new ImmutableList.Builder<Element>()
                     .add(GIT_BUILDER.createEnvironmentStage())
                     .add(GIT_BUILDER.createCheckoutStep(accessor))
-                    .add(createDependenciesStep())
-                    .add(createTestStep())
-                    .add(createBuildStep(accessor))
+                    .add(createDependenciesStep(detection))
+                    .add(createTestStep(detection))
+                    .add(createBuildStep(accessor, detection))
                     .add(createPackageStep(accessor))
                     .add(GIT_BUILDER.createDeployStage(accessor))
                     .build())
@@ -64,11 +80,11 @@ public class NodejsBuilder implements PipelineBuilder {
         .toString();
   }
 
-  private String getPackageManager() {
-    return useYarn ? "yarn" : "npm";
+  private String getPackageManager(@NonNull final DetectionResult detection) {
+    return detection.hasFeature(YARN) ? "yarn" : "npm";
   }
 
-  private Element createDependenciesStep() {
+  private Element createDependenciesStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Dependencies")
@@ -77,7 +93,7 @@ public class NodejsBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        getPackageManager() + " install",
+                        getPackageManager(detection) + " install",
                         ArgType.STRING))
                     .build())
                 .build())
@@ -89,7 +105,7 @@ public class NodejsBuilder implements PipelineBuilder {
                 .name("sh")
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument("script",
-                        getPackageManager() + " list --all > dependencies.txt",
+                        getPackageManager(detection) + " list --all > dependencies.txt",
                         ArgType.STRING))
                     .build())
                 .build())
@@ -108,7 +124,7 @@ public class NodejsBuilder implements PipelineBuilder {
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument(
                         "script",
-                        getPackageManager() + " outdated > dependencieupdates.txt || true",
+                        getPackageManager(detection) + " outdated > dependencieupdates.txt || true",
                         ArgType.STRING))
                     .build())
                 .build())
@@ -123,7 +139,7 @@ public class NodejsBuilder implements PipelineBuilder {
         .build();
   }
 
-  private Element createTestStep() {
+  private Element createTestStep(@NonNull final DetectionResult detection) {
     return Function1ArgTrailingLambda.builder()
         .name("stage")
         .arg("Test")
@@ -133,7 +149,7 @@ public class NodejsBuilder implements PipelineBuilder {
                 .args(new ImmutableList.Builder<Argument>()
                     .add(new Argument(
                         "script",
-                        getPackageManager() + " test",
+                        getPackageManager(detection) + " test",
                         ArgType.STRING))
                     .add(new Argument("returnStdout", "true", ArgType.BOOLEAN))
                     .build())
@@ -161,7 +177,8 @@ public class NodejsBuilder implements PipelineBuilder {
         .build();
   }
 
-  private Element createBuildStep(@NonNull final RepoClient accessor) {
+  private Element createBuildStep(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     if (scriptExists(accessor, "build")) {
       return Function1ArgTrailingLambda.builder()
           .name("stage")
@@ -172,7 +189,7 @@ public class NodejsBuilder implements PipelineBuilder {
                   .args(new ImmutableList.Builder<Argument>()
                       .add(new Argument(
                           "script",
-                          getPackageManager() + " run build",
+                          getPackageManager(detection) + " run build",
                           ArgType.STRING))
                       .add(new Argument("returnStdout", "true", ArgType.BOOLEAN))
                       .build())
@@ -1,6 +1,7 @@
 package com.octopus.jenkins.shared.builders.php;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.builders.java.JavaGitBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
@@ -15,6 +16,7 @@ import com.octopus.jenkins.shared.dsl.StringContent;
 import com.octopus.repoclients.RepoClient;
 import io.vavr.control.Try;
 import java.util.List;
+import java.util.Set;
 import lombok.NonNull;
 import org.apache.commons.io.FilenameUtils;
 import org.jboss.logging.Logger;
@@ -33,12 +35,18 @@ public class PhpComposerBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
-    return accessor.testFile("composer.json");
+  public Set<String> getProbedFiles() {
+    return Set.of("composer.json");
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
+    return DetectionResult.of(accessor.testFile("composer.json"));
+  }
+
+  @Override
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -1,6 +1,7 @@
 package com.octopus.jenkins.shared.builders.python;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.builders.java.JavaGitBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
@@ -13,6 +14,7 @@ import com.octopus.jenkins.shared.dsl.FunctionManyArgs;
 import com.octopus.jenkins.shared.dsl.FunctionTrailingLambda;
 import com.octopus.jenkins.shared.dsl.StringContent;
 import com.octopus.repoclients.RepoClient;
+import java.util.Set;
 import lombok.NonNull;
 import org.jboss.logging.Logger;
 
@@ -30,12 +32,18 @@ public class PythonBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
-    return accessor.testFile("requirements.txt");
+  public Set<String> getProbedFiles() {
+    return Set.of("requirements.txt", "setup.py");
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
+    return DetectionResult.of(accessor.testFile("requirements.txt"));
+  }
+
+  @Override
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
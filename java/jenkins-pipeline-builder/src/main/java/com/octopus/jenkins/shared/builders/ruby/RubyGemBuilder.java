@@ -1,6 +1,7 @@
 package com.octopus.jenkins.shared.builders.ruby;
 
 import com.google.common.collect.ImmutableList;
+import com.octopus.builders.DetectionResult;
 import com.octopus.builders.PipelineBuilder;
 import com.octopus.jenkins.shared.builders.java.JavaGitBuilder;
 import com.octopus.jenkins.shared.dsl.ArgType;
@@ -15,6 +16,7 @@ import com.octopus.jenkins.shared.dsl.StringContent;
 import com.octopus.repoclients.RepoClient;
 import io.vavr.control.Try;
 import java.util.List;
+import java.util.Set;
 import lombok.NonNull;
 import org.jboss.logging.Logger;
 
@@ -32,12 +34,18 @@ public class RubyGemBuilder implements PipelineBuilder {
   }
 
   @Override
-  public Boolean canBuild(@NonNull final RepoClient accessor) {
-    return accessor.testFile("Gemfile");
+  public Set<String> getProbedFiles() {
+    return Set.of("Gemfile");
   }
 
   @Override
-  public String generate(@NonNull final RepoClient accessor) {
+  public DetectionResult canBuild(@NonNull final RepoClient accessor) {
+    return DetectionResult.of(accessor.testFile("Gemfile"));
+  }
+
+  @Override
+  public String generate(@NonNull final RepoClient accessor,
+      @NonNull final DetectionResult detection) {
     return FunctionTrailingLambda.builder()
         .name("pipeline")
         .children(new ImmutableList.Builder<Element>()
@@ -1,7 +1,10 @@
 package com.octopus.jenkins.shared.dsl;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -22,21 +25,47 @@ public class Argument {
    */
   public String toString() {
     final StringBuilder builder = new StringBuilder();
+    try {
+      appendTo(builder);
+    } catch (final IOException ex) {
+      // A StringBuilder does not throw IOExceptions
+      throw new UncheckedIOException(ex);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Appends the string representation of the argument.
+   *
+   * @param out The destination of the argument.
+   * @throws IOException If the argument could not be appended.
+   */
+  void appendTo(@NonNull final Appendable out) throws IOException {
     if (!StringUtils.isBlank(name)) {
-      builder.append(name);
-      builder.append(": ");
+      out.append(name);
+      out.append(": ");
     }
     if (type == ArgType.STRING) {
-      builder.append("'");
+      out.append("'");
     } else if (type == ArgType.EXPANDED_STRING) {
-      builder.append("\"");
+      out.append("\"");
     }
-    builder.append(value);
+    out.append(String.valueOf(value));
     if (type == ArgType.STRING) {
-      builder.append("'");
+      out.append("'");
     } else if (type == ArgType.EXPANDED_STRING) {
-      builder.append("\"");
+      out.append("\"");
     }
-    return builder.toString();
+  }
+
+  /**
+   * An argument is blank if it has no name, no quotes, and a blank value.
+   */
+  boolean isBlank() {
+    return StringUtils.isBlank(name)
+        && type != ArgType.STRING
+        && type != ArgType.EXPANDED_STRING
+        && value != null
+        && value.isBlank();
   }
 }
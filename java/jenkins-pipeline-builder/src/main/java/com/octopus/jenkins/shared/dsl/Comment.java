@@ -1,7 +1,6 @@
 package com.octopus.jenkins.shared.dsl;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.io.IOException;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
@@ -14,13 +13,16 @@ public class Comment extends Element {
 
   private String content;
 
+  @Override
+  public void accept(final ElementVisitor visitor, final int depth) throws IOException {
+    visitor.visitComment(this, depth);
+  }
+
   /**
-   * Returns the content as a comment.
-   *
-   * @return The groovy comment
+   * A comment made up of only line breaks has no lines to render.
    */
-  public String toString() {
-    return Arrays.stream(content.split("\n")).map(c -> getIndent() + "// " + c)
-        .collect(Collectors.joining("\n"));
+  @Override
+  protected boolean isBlank() {
+    return !content.isEmpty() && content.chars().allMatch(c -> c == '\n');
   }
 }
@@ -0,0 +1,219 @@
+package com.octopus.jenkins.shared.dsl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Renders a tree of DSL elements as groovy in a single pass, appending each element to the same
+ * Appendable.
+ *
+ * <p>The depth of each element is passed down as the tree is visited, and the elements are not
+ * modified, so a tree, or a subtree shared between trees, can be rendered by many threads at once.
+ *
+ * <p>Elements that render as blank text, like the empty Element returned by a builder for an
+ * optional stage, are left out of their parent.
+ */
+public final class DslRenderer implements ElementVisitor {
+
+  private static final String INDENT = "  ";
+  private static final int MAX_ARGS_SINGLE_LINE = 4;
+
+  private final Appendable out;
+
+  private DslRenderer(@NonNull final Appendable out) {
+    this.out = out;
+  }
+
+  /**
+   * Renders an element that is not nested in another element.
+   *
+   * @param element The element to render.
+   * @return The groovy code.
+   */
+  public static String render(@NonNull final Element element) {
+    return render(element, 0);
+  }
+
+  /**
+   * Renders an element that is not nested in another element.
+   *
+   * @param element The element to render.
+   * @param out     The destination of the groovy code.
+   * @throws IOException If the groovy code could not be appended.
+   */
+  public static void render(@NonNull final Element element, @NonNull final Appendable out)
+      throws IOException {
+    element.accept(new DslRenderer(out), 0);
+  }
+
+  static String render(@NonNull final Element element, final int depth) {
+    final StringBuilder builder = new StringBuilder();
+    try {
+      element.accept(new DslRenderer(builder), depth);
+    } catch (final IOException ex) {
+      // A StringBuilder does not throw IOExceptions
+      throw new UncheckedIOException(ex);
+    }
+    return builder.toString();
+  }
+
+  @Override
+  public void visitElement(@NonNull final Element element, final int depth) {
+    // The base element is empty
+  }
+
+  @Override
+  public void visitComment(@NonNull final Comment comment, final int depth) throws IOException {
+    appendLines(comment.getContent(), depth, "// ");
+  }
+
+  @Override
+  public void visitStringContent(@NonNull final StringContent content, final int depth)
+      throws IOException {
+    appendIndentedLines(content.getContent(), depth + 1);
+  }
+
+  @Override
+  public void visitFunction1Arg(@NonNull final Function1Arg function, final int depth)
+      throws IOException {
+    final String value = function.getValue();
+    if (value == null) {
+      throw new IllegalStateException("Value can not be null");
+    }
+
+    appendIndent(depth);
+    out.append(function.getName());
+    if (value.contains("\n")) {
+      out.append(" '''\n");
+      appendIndentedLines(value, depth + 1);
+      out.append('\n');
+      appendIndent(depth);
+      out.append("'''");
+    } else {
+      out.append(" '").append(value).append('\'');
+    }
+  }
+
+  @Override
+  public void visitFunctionManyArgs(@NonNull final FunctionManyArgs function, final int depth)
+      throws IOException {
+    final List<Argument> args = function.getArgs();
+    final boolean multiline = args.size() > MAX_ARGS_SINGLE_LINE;
+
+    appendIndent(depth);
+    out.append(function.getName()).append('(');
+    boolean first = true;
+    for (final Argument arg : args) {
+      if (arg.isBlank()) {
+        continue;
+      }
+
+      if (!first) {
+        out.append(',');
+        if (multiline) {
+          out.append('\n');
+          appendIndent(depth + 1);
+        } else {
+          out.append(' ');
+        }
+      }
+      arg.appendTo(out);
+      first = false;
+    }
+    out.append(')');
+  }
+
+  @Override
+  public void visitFunctionTrailingLambda(@NonNull final FunctionTrailingLambda function,
+      final int depth) throws IOException {
+    appendIndent(depth);
+    out.append(function.getName()).append(" {\n");
+    appendChildren(function.getSafeChildren(), depth);
+    out.append('\n');
+    appendIndent(depth);
+    out.append('}');
+  }
+
+  @Override
+  public void visitFunction1ArgTrailingLambda(@NonNull final Function1ArgTrailingLambda function,
+      final int depth) throws IOException {
+    appendIndent(depth);
+    out.append(function.getName()).append("('").append(function.getArg()).append("') {\n");
+    appendChildren(function.getSafeChildren(), depth);
+    out.append('\n');
+    appendIndent(depth);
+    out.append('}');
+  }
+
+  @Override
+  public void visitFragment(@NonNull final Fragment fragment, final int depth)
+      throws IOException {
+    out.append(fragment.render(depth));
+  }
+
+  private void appendChildren(@NonNull final List<Element> children, final int depth)
+      throws IOException {
+    boolean first = true;
+    for (final Element child : children) {
+      if (child.isBlank()) {
+        continue;
+      }
+
+      if (!first) {
+        out.append('\n');
+      }
+      child.accept(this, depth + 1);
+      first = false;
+    }
+  }
+
+  private void appendIndent(final int depth) throws IOException {
+    for (int i = 0; i < depth; ++i) {
+      out.append(INDENT);
+    }
+  }
+
+  /**
+   * Appends each line indented to the depth, always appending the indent even if there are no
+   * lines.
+   */
+  private void appendIndentedLines(@NonNull final String content, final int depth)
+      throws IOException {
+    if (!appendLines(content, depth, "")) {
+      appendIndent(depth);
+    }
+  }
+
+  /**
+   * Appends each line indented to the depth and prefixed with the marker. The lines are split the
+   * same way as String.split("\n"), which drops trailing empty lines.
+   *
+   * @return true if any lines were appended.
+   */
+  private boolean appendLines(@NonNull final String content, final int depth,
+      @NonNull final String marker) throws IOException {
+    int end = content.length();
+    while (end > 0 && content.charAt(end - 1) == '\n') {
+      --end;
+    }
+
+    if (end == 0 && !content.isEmpty()) {
+      return false;
+    }
+
+    int start = 0;
+    while (true) {
+      final int lineEnd = content.indexOf('\n', start);
+      appendIndent(depth);
+      out.append(marker);
+      if (lineEnd == -1 || lineEnd >= end) {
+        out.append(content, start, end);
+        return true;
+      }
+      out.append(content, start, lineEnd).append('\n');
+      start = lineEnd + 1;
+    }
+  }
+}
@@ -1,33 +1,40 @@
 package com.octopus.jenkins.shared.dsl;
 
-import lombok.Getter;
+import java.io.IOException;
 import lombok.experimental.SuperBuilder;
 
 /**
  * The base class for all the DSL elements. Also used to represent an empty element in the DSL.
  */
-@Getter
 @SuperBuilder
 public class Element {
 
-  protected Element parent;
-
-  protected int getDepth() {
-    Element currentParent = parent;
-    int depth = 0;
-    while (currentParent != null) {
-      ++depth;
-      currentParent = currentParent.parent;
-    }
-    return depth;
+  /**
+   * Passes this element to the matching method of the visitor.
+   *
+   * @param visitor The visitor.
+   * @param depth   The number of elements this element is nested in.
+   * @throws IOException If the visitor could not write the element.
+   */
+  public void accept(final ElementVisitor visitor, final int depth) throws IOException {
+    visitor.visitElement(this, depth);
   }
 
-  protected String getIndent() {
-    final int depth = getDepth();
-    return "  ".repeat(Math.max(0, depth));
+  /**
+   * Blank elements are left out when their parent is rendered.
+   *
+   * @return true if this element renders as blank text.
+   */
+  protected boolean isBlank() {
+    return true;
   }
 
+  /**
+   * Renders the element with DslRenderer, as if it is not nested in another element.
+   *
+   * @return The groovy code.
+   */
   public String toString() {
-    return "";
+    return DslRenderer.render(this);
   }
 }
@@ -0,0 +1,28 @@
+package com.octopus.jenkins.shared.dsl;
+
+import java.io.IOException;
+
+/**
+ * Visits each type of DSL element. The depth is the number of elements the visited element is
+ * nested in, which is passed down the tree rather than read from the element's parent.
+ */
+public interface ElementVisitor {
+
+  void visitElement(Element element, int depth) throws IOException;
+
+  void visitComment(Comment comment, int depth) throws IOException;
+
+  void visitStringContent(StringContent content, int depth) throws IOException;
+
+  void visitFunction1Arg(Function1Arg function, int depth) throws IOException;
+
+  void visitFunctionManyArgs(FunctionManyArgs function, int depth) throws IOException;
+
+  void visitFunctionTrailingLambda(FunctionTrailingLambda function, int depth)
+      throws IOException;
+
+  void visitFunction1ArgTrailingLambda(Function1ArgTrailingLambda function, int depth)
+      throws IOException;
+
+  void visitFragment(Fragment fragment, int depth) throws IOException;
+}
@@ -17,4 +17,12 @@ public class ElementWithChildren extends Element {
   protected List<Element> getSafeChildren() {
     return children == null ? List.of() : children;
   }
+
+  /**
+   * Functions always render their name, so are never blank.
+   */
+  @Override
+  protected boolean isBlank() {
+    return false;
+  }
 }
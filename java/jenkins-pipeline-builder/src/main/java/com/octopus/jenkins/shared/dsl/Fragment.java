@@ -0,0 +1,53 @@
+package com.octopus.jenkins.shared.dsl;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Wraps an element that is shared between pipelines, like a stage that doesn't depend on the repo.
+ * The groovy the element renders at each depth is cached the first time it is rendered, and
+ * appended as is after that.
+ *
+ * <p>The wrapped element must not be modified once it has been rendered.
+ */
+@SuperBuilder
+public class Fragment extends Element {
+
+  @Getter
+  @NonNull
+  private final Element element;
+
+  private final ConcurrentMap<Integer, String> rendered = new ConcurrentHashMap<>();
+
+  /**
+   * Wraps an element in a fragment.
+   *
+   * @param element The shared element.
+   * @return The fragment.
+   */
+  public static Fragment of(@NonNull final Element element) {
+    return Fragment.builder().element(element).build();
+  }
+
+  @Override
+  public void accept(final ElementVisitor visitor, final int depth) throws IOException {
+    visitor.visitFragment(this, depth);
+  }
+
+  @Override
+  protected boolean isBlank() {
+    return element.isBlank();
+  }
+
+  /**
+   * Renders the wrapped element, or returns the cached groovy if it has been rendered at this
+   * depth before.
+   */
+  String render(final int depth) {
+    return rendered.computeIfAbsent(depth, d -> DslRenderer.render(element, d));
+  }
+}
@@ -1,5 +1,6 @@
 package com.octopus.jenkins.shared.dsl;
 
+import java.io.IOException;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
@@ -12,20 +13,8 @@ public class Function1Arg extends ElementWithChildren {
 
   private String value;
 
-  /**
-   * Returns the function with an argument.
-   *
-   * @return The groovy function
-   */
-  public String toString() {
-    if (value == null) {
-      throw new IllegalStateException("Value can not be null");
-    }
-
-    if (value.contains("\n")) {
-      return getIndent() + name + " '''\n" + getIndent() + "  " + String.join(
-          "\n" + getIndent() + "  ", value.split("\n")) + "\n" + getIndent() + "'''";
-    }
-    return getIndent() + name + " '" + value + "'";
+  @Override
+  public void accept(final ElementVisitor visitor, final int depth) throws IOException {
+    visitor.visitFunction1Arg(this, depth);
   }
 }
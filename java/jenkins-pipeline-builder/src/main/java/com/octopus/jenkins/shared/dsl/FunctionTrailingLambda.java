@@ -1,7 +1,6 @@
 package com.octopus.jenkins.shared.dsl;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
@@ -12,18 +11,8 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class FunctionTrailingLambda extends ElementWithChildren {
 
-  /**
-   * Builds a function with a trailing lambda containing the children.
-   *
-   * @return The groovy function.
-   */
-  public String toString() {
-    final List<Element> safeChildren = getSafeChildren();
-    safeChildren.forEach(c -> c.parent = this);
-
-    return getIndent() + name + " {\n"
-        + safeChildren.stream().map(Object::toString).filter(c -> !c.isBlank())
-        .collect(Collectors.joining("\n"))
-        + "\n" + getIndent() + "}";
+  @Override
+  public void accept(final ElementVisitor visitor, final int depth) throws IOException {
+    visitor.visitFunctionTrailingLambda(this, depth);
   }
 }
@@ -1,7 +1,6 @@
 package com.octopus.jenkins.shared.dsl;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.io.IOException;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
@@ -14,13 +13,13 @@ public class StringContent extends Element {
 
   private String content;
 
-  /**
-   * Returns the content as plain, indented string.
-   *
-   * @return The groovy content
-   */
-  public String toString() {
-    return getIndent() + "  " + Arrays.stream(content.split("\n"))
-        .collect(Collectors.joining("\n" + getIndent() + "  "));
+  @Override
+  public void accept(final ElementVisitor visitor, final int depth) throws IOException {
+    visitor.visitStringContent(this, depth);
+  }
+
+  @Override
+  protected boolean isBlank() {
+    return content.isBlank();
   }
 }
@@ -0,0 +1,102 @@
+package com.octopus.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.octopus.jenkins.shared.builders.java.JavaMavenBuilder;
+import com.octopus.jenkins.shared.builders.nodejs.NodejsBuilder;
+import com.octopus.repoclients.RepoClient;
+import com.octopus.test.repoclients.MavenTestRepoClient;
+import com.octopus.test.repoclients.NodeTestRepoClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Builders are shared between requests, so generating pipelines for different repos at the same
+ * time must not mix up what was detected in each repo.
+ */
+public class ConcurrentBuilderTest {
+
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 50;
+  private static final PipelineBuilder MAVEN_BUILDER = new JavaMavenBuilder();
+  private static final PipelineBuilder NODE_BUILDER = new NodejsBuilder();
+
+  @Test
+  public void testConcurrentGeneration() throws Exception {
+    final RepoClient mavenWrapper =
+        new MavenTestRepoClient("https://github.com/OctopusSamples/RandomQuotes-Java", true);
+    final RepoClient maven =
+        new MavenTestRepoClient("https://github.com/OctopusSamples/RandomQuotes-Java", false);
+    final RepoClient yarn =
+        new NodeTestRepoClient("https://github.com/OctopusSamples/RandomQuotes-Js") {
+          @Override
+          public boolean testFile(final String path) {
+            return path.endsWith("yarn.lock") || super.testFile(path);
+          }
+        };
+    final RepoClient npm =
+        new NodeTestRepoClient("https://github.com/OctopusSamples/RandomQuotes-Js");
+
+    final List<Case> cases = List.of(
+        new Case(MAVEN_BUILDER, mavenWrapper),
+        new Case(MAVEN_BUILDER, maven),
+        new Case(NODE_BUILDER, yarn),
+        new Case(NODE_BUILDER, npm));
+
+    assertTrue(cases.get(0).expected.contains("./mvnw --batch-mode test"));
+    assertFalse(cases.get(1).expected.contains("./mvnw"));
+    assertTrue(cases.get(1).expected.contains("mvn --batch-mode test"));
+    assertTrue(cases.get(2).expected.contains("yarn install"));
+    assertFalse(cases.get(3).expected.contains("yarn"));
+    assertTrue(cases.get(3).expected.contains("npm install"));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < ITERATIONS * cases.size(); ++i) {
+        final Case testCase = cases.get(i % cases.size());
+        results.add(executor.submit(() -> {
+          start.await();
+          assertEquals(testCase.expected, testCase.generate());
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (final Future<?> result : results) {
+        result.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * A repo, the builder that detects it, and the pipeline generated when nothing else is running.
+   */
+  private static class Case {
+
+    private final PipelineBuilder builder;
+    private final RepoClient accessor;
+    private final String expected;
+
+    Case(final PipelineBuilder builder, final RepoClient accessor) {
+      this.builder = builder;
+      this.accessor = accessor;
+      this.expected = generate();
+    }
+
+    String generate() {
+      return builder.generate(accessor, builder.canBuild(accessor));
+    }
+  }
+}
@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import lombok.NonNull;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.StringEscapeUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -265,8 +266,9 @@ public class JenkinsBuilderTest {
     System.out.println("Testing " + accessor.getClass().getName());
 
     final Optional<String> template = Arrays.stream(PIPELINE_BUILDERS)
-        .filter(p -> p.canBuild(accessor))
-        .map(p -> p.generate(accessor))
+        .map(p -> Pair.of(p, p.canBuild(accessor)))
+        .filter(p -> p.getRight().isBuildable())
+        .map(p -> p.getLeft().generate(accessor, p.getRight()))
         .findFirst();
 
     if (template.isEmpty()) {
@@ -0,0 +1,79 @@
+package com.octopus.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.octopus.jenkins.shared.builders.dotnet.DotnetCoreBuilder;
+import com.octopus.jenkins.shared.builders.generic.GenericBuilder;
+import com.octopus.jenkins.shared.builders.go.GoBuilder;
+import com.octopus.jenkins.shared.builders.java.JavaGradleBuilder;
+import com.octopus.jenkins.shared.builders.java.JavaMavenBuilder;
+import com.octopus.jenkins.shared.builders.nodejs.NodejsBuilder;
+import com.octopus.jenkins.shared.builders.php.PhpComposerBuilder;
+import com.octopus.jenkins.shared.builders.python.PythonBuilder;
+import com.octopus.jenkins.shared.builders.ruby.RubyGemBuilder;
+import com.octopus.repoclients.RepoClient;
+import com.octopus.test.repoclients.DotnetTestRepoClient;
+import com.octopus.test.repoclients.GenericTestRepoClient;
+import com.octopus.test.repoclients.GoTestRepoClient;
+import com.octopus.test.repoclients.GradleTestRepoClient;
+import com.octopus.test.repoclients.MavenTestRepoClient;
+import com.octopus.test.repoclients.NodeTestRepoClient;
+import com.octopus.test.repoclients.PhpTestRepoClient;
+import com.octopus.test.repoclients.PythonTestRepoClient;
+import com.octopus.test.repoclients.RubyTestRepoClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Compares the pipelines generated by each builder with the golden files in
+ * src/test/resources/pipelines, which hold the pipelines generated before the DSL was rendered by
+ * DslRenderer.
+ */
+public class JenkinsPipelineGoldenTest {
+
+  private static Stream<Arguments> builders() {
+    return Stream.of(
+        Arguments.of("maven", new JavaMavenBuilder(),
+            new MavenTestRepoClient("https://github.com/o/maven", true)),
+        Arguments.of("maven-nowrapper", new JavaMavenBuilder(),
+            new MavenTestRepoClient("https://github.com/o/maven", false)),
+        Arguments.of("gradle", new JavaGradleBuilder(),
+            new GradleTestRepoClient("https://github.com/o/gradle", true)),
+        Arguments.of("gradle-nowrapper", new JavaGradleBuilder(),
+            new GradleTestRepoClient("https://github.com/o/gradle", false)),
+        Arguments.of("nodejs", new NodejsBuilder(),
+            new NodeTestRepoClient("https://github.com/o/node")),
+        Arguments.of("php", new PhpComposerBuilder(),
+            new PhpTestRepoClient("https://github.com/o/php")),
+        Arguments.of("dotnet", new DotnetCoreBuilder(),
+            new DotnetTestRepoClient("https://github.com/o/dotnet")),
+        Arguments.of("python", new PythonBuilder(),
+            new PythonTestRepoClient("https://github.com/o/python", "main")),
+        Arguments.of("go", new GoBuilder(),
+            new GoTestRepoClient("https://github.com/o/go", "main")),
+        Arguments.of("ruby", new RubyGemBuilder(),
+            new RubyTestRepoClient("https://github.com/o/ruby", "main")),
+        Arguments.of("generic", new GenericBuilder(),
+            new GenericTestRepoClient("https://github.com/o/generic")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("builders")
+  public void testPipelinesMatchGoldenFiles(final String name, final PipelineBuilder builder,
+      final RepoClient accessor) throws IOException {
+    assertEquals(readGoldenFile(name), builder.generate(accessor, builder.canBuild(accessor)));
+  }
+
+  private String readGoldenFile(final String name) throws IOException {
+    try (InputStream stream = getClass().getResourceAsStream("/pipelines/" + name + ".groovy")) {
+      assertNotNull(stream, "The golden file for " + name + " was not found");
+      return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.octopus.jenkins.dsl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.collect.ImmutableList;
+import com.octopus.jenkins.shared.dsl.ArgType;
+import com.octopus.jenkins.shared.dsl.Argument;
+import com.octopus.jenkins.shared.dsl.Comment;
+import com.octopus.jenkins.shared.dsl.DslRenderer;
+import com.octopus.jenkins.shared.dsl.Element;
+import com.octopus.jenkins.shared.dsl.Function1Arg;
+import com.octopus.jenkins.shared.dsl.Function1ArgTrailingLambda;
+import com.octopus.jenkins.shared.dsl.FunctionManyArgs;
+import com.octopus.jenkins.shared.dsl.FunctionTrailingLambda;
+import com.octopus.jenkins.shared.dsl.StringContent;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+public class DslRendererTest {
+
+  @Test
+  public void testNestedElements() {
+    final Element element = FunctionTrailingLambda.builder()
+        .name("pipeline")
+        .children(new ImmutableList.Builder<Element>()
+            .add(Comment.builder().content("first\nsecond").build())
+            .add(Element.builder().build())
+            .add(Comment.builder().content("\n\n").build())
+            .add(StringContent.builder().content(" ").build())
+            .add(Function1ArgTrailingLambda.builder()
+                .name("stage")
+                .arg("Test")
+                .children(new ImmutableList.Builder<Element>()
+                    .add(Function1Arg.builder().name("sh").value("one\ntwo\n").build())
+                    .add(FunctionManyArgs.builder()
+                        .name("junit")
+                        .args(new ImmutableList.Builder<Argument>()
+                            .add(new Argument("", "", ArgType.CODE))
+                            .add(new Argument("testResults", "*.xml", ArgType.STRING))
+                            .add(new Argument("allowEmptyResults", "true", ArgType.BOOLEAN))
+                            .build())
+                        .build())
+                    .add(StringContent.builder().content("a\n  b").build())
+                    .build())
+                .build())
+            .build())
+        .build();
+
+    assertEquals("pipeline {\n"
+        + "  // first\n"
+        + "  // second\n"
+        + "  stage('Test') {\n"
+        + "    sh '''\n"
+        + "      one\n"
+        + "      two\n"
+        + "    '''\n"
+        + "    junit(testResults: '*.xml', allowEmptyResults: true)\n"
+        + "      a\n"
+        + "        b\n"
+        + "  }\n"
+        + "}", DslRenderer.render(element));
+  }
+
+  @Test
+  public void testManyArgsAreSplitOverLines() {
+    final Element element = FunctionTrailingLambda.builder()
+        .name("steps")
+        .children(new ImmutableList.Builder<Element>()
+            .add(FunctionManyArgs.builder()
+                .name("octopusPack")
+                .args(new ImmutableList.Builder<Argument>()
+                    .add(new Argument("a", "1", ArgType.STRING))
+                    .add(new Argument("b", "2", ArgType.EXPANDED_STRING))
+                    .add(new Argument("c", "3", ArgType.BOOLEAN))
+                    .add(new Argument("d", "4", ArgType.NUMBER))
+                    .add(new Argument("e", "5", ArgType.CODE))
+                    .build())
+                .build())
+            .build())
+        .build();
+
+    assertEquals("steps {\n"
+        + "  octopusPack(a: '1',\n"
+        + "    b: \"2\",\n"
+        + "    c: 3,\n"
+        + "    d: 4,\n"
+        + "    e: 5)\n"
+        + "}", element.toString());
+  }
+
+  @Test
+  public void testSharedElementsAreNotModified() {
+    final Element shared = Function1ArgTrailingLambda.builder()
+        .name("stage")
+        .arg("Checkout")
+        .children(new ImmutableList.Builder<Element>()
+            .add(Function1Arg.builder().name("echo").value("checkout").build())
+            .build())
+        .build();
+    final Element first = FunctionTrailingLambda.builder()
+        .name("stages")
+        .children(new ImmutableList.Builder<Element>().add(shared).build())
+        .build();
+    final Element second = FunctionTrailingLambda.builder()
+        .name("pipeline")
+        .children(new ImmutableList.Builder<Element>().add(first).build())
+        .build();
+
+    assertEquals("stages {\n"
+        + "  stage('Checkout') {\n"
+        + "    echo 'checkout'\n"
+        + "  }\n"
+        + "}", DslRenderer.render(first));
+    assertEquals("pipeline {\n"
+        + "  stages {\n"
+        + "    stage('Checkout') {\n"
+        + "      echo 'checkout'\n"
+        + "    }\n"
+        + "  }\n"
+        + "}", DslRenderer.render(second));
+    assertEquals("stage('Checkout') {\n  echo 'checkout'\n}", shared.toString());
+  }
+
+  @Test
+  public void testRenderToAppendable() throws IOException {
+    final StringBuilder builder = new StringBuilder("// header\n");
+    DslRenderer.render(Comment.builder().content("comment").build(), builder);
+    assertEquals("// header\n// comment", builder.toString());
+  }
+}
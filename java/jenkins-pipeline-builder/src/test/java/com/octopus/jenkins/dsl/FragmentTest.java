@@ -0,0 +1,58 @@
+package com.octopus.jenkins.dsl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import com.octopus.jenkins.shared.dsl.Comment;
+import com.octopus.jenkins.shared.dsl.DslRenderer;
+import com.octopus.jenkins.shared.dsl.Element;
+import com.octopus.jenkins.shared.dsl.Fragment;
+import com.octopus.jenkins.shared.dsl.Function1Arg;
+import com.octopus.jenkins.shared.dsl.FunctionTrailingLambda;
+import org.junit.jupiter.api.Test;
+
+public class FragmentTest {
+
+  @Test
+  public void testFragmentRendersLikeItsElement() {
+    final Element stage = FunctionTrailingLambda.builder()
+        .name("stage")
+        .children(new ImmutableList.Builder<Element>()
+            .add(Function1Arg.builder().name("echo").value("one\ntwo").build())
+            .build())
+        .build();
+    final Element fragment = Fragment.of(stage);
+
+    assertEquals(DslRenderer.render(stage), DslRenderer.render(fragment));
+    assertEquals(
+        DslRenderer.render(wrap(stage)),
+        DslRenderer.render(wrap(fragment)));
+    assertEquals(
+        DslRenderer.render(wrap(wrap(stage))),
+        DslRenderer.render(wrap(wrap(fragment))));
+  }
+
+  @Test
+  public void testFragmentIsSharedBetweenDepths() {
+    final Fragment fragment = Fragment.of(Comment.builder().content("comment").build());
+
+    assertEquals("function {\n  // comment\n}", DslRenderer.render(wrap(fragment)));
+    assertEquals("// comment", DslRenderer.render(fragment));
+    assertEquals("function {\n  // comment\n}", DslRenderer.render(wrap(fragment)));
+    assertEquals("function {\n  function {\n    // comment\n  }\n}",
+        DslRenderer.render(wrap(wrap(fragment))));
+  }
+
+  @Test
+  public void testBlankFragmentsAreSkipped() {
+    final Element element = wrap(Fragment.of(Comment.builder().content("\n").build()));
+    assertEquals("function {\n\n}", DslRenderer.render(element));
+  }
+
+  private static Element wrap(final Element child) {
+    return FunctionTrailingLambda.builder()
+        .name("function")
+        .children(new ImmutableList.Builder<Element>().add(child).build())
+        .build();
+  }
+}
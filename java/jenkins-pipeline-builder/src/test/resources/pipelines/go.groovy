@@ -0,0 +1,65 @@
+pipeline {
+  // The following pipeline provides an opinionated template you can customize for your own needs.
+  // 
+  // Instructions for configuring the Octopus plugin can be found at
+  // https://octopus.com/docs/packaging-applications/build-servers/jenkins#configure-the-octopus-deploy-plugin
+  // 
+  // Get a trial Octopus instance from https://octopus.com/start
+  // 
+  // This pipeline requires the following plugins:
+  // * Pipeline Utility Steps Plugin: https://wiki.jenkins.io/display/JENKINS/Pipeline+Utility+Steps+Plugin
+  // * Git: https://plugins.jenkins.io/git/
+  // * Workflow Aggregator: https://plugins.jenkins.io/workflow-aggregator/
+  // * Octopus Deploy: https://plugins.jenkins.io/octopusdeploy/.
+  // * JUnit: https://plugins.jenkins.io/junit/
+  agent 'any'
+  stages {
+    stage('Environment') {
+      steps {
+          echo "PATH = ${env.PATH}"
+          echo "GOPATH = ${env.GOPATH}"
+      }
+    }
+    stage('Checkout') {
+      steps {
+        // If this pipeline is saved as a Jenkinsfile in a git repo, the checkout stage can be deleted as
+        // Jenkins will check out the code for you.
+        script {
+            /*
+              This is from the Jenkins "Global Variable Reference" documentation:
+              SCM-specific variables such as GIT_COMMIT are not automatically defined as environment variables; rather you can use the return value of the checkout step.
+            */
+            def checkoutVars = checkout([$class: 'GitSCM', branches: [[name: '*/main']], userRemoteConfigs: [[url: 'https://github.com/o/go']]])
+            env.GIT_URL = checkoutVars.GIT_URL
+            env.GIT_COMMIT = checkoutVars.GIT_COMMIT
+            env.GIT_BRANCH = checkoutVars.GIT_BRANCH
+        }
+      }
+    }
+    stage('Dependencies') {
+      steps {
+        sh(script: 'go get ./...')
+        // Save the dependencies that went into this build into an artifact. This allows you to review any builds for vulnerabilities later on.
+        sh(script: 'go list > dependencies.txt')
+        archiveArtifacts(artifacts: 'dependencies.txt', fingerprint: true)
+        // List any dependency updates.
+        // https://stackoverflow.com/a/55866702/8246539
+        sh(script: 'go list -u -m -f "{{if .Update}}{{.}}{{end}}" all > dependencieupdates.txt')
+        archiveArtifacts(artifacts: 'dependencieupdates.txt', fingerprint: true)
+      }
+    }
+    stage('Test') {
+      steps {
+        // https://golangrepo.com/repo/gotestyourself-gotestsum
+        sh(script: 'go install gotest.tools/gotestsum@latest', returnStdout: true)
+        sh(script: 'gotestsum --junitfile results.xml', returnStdout: true)
+        junit(testResults: 'results.xml', allowEmptyResults : true)
+      }
+    }
+    stage('Build') {
+      steps {
+        sh(script: 'go build', returnStdout: true)
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.octopus.benchmarks.builders;
+
+import com.octopus.builders.DetectionResult;
+import com.octopus.builders.PipelineBuilder;
+import com.octopus.jenkins.shared.builders.dotnet.DotnetCoreBuilder;
+import com.octopus.jenkins.shared.builders.generic.GenericBuilder;
+import com.octopus.jenkins.shared.builders.go.GoBuilder;
+import com.octopus.jenkins.shared.builders.java.JavaGradleBuilder;
+import com.octopus.jenkins.shared.builders.java.JavaMavenBuilder;
+import com.octopus.jenkins.shared.builders.nodejs.NodejsBuilder;
+import com.octopus.jenkins.shared.builders.php.PhpComposerBuilder;
+import com.octopus.jenkins.shared.builders.python.PythonBuilder;
+import com.octopus.jenkins.shared.builders.ruby.RubyGemBuilder;
+import com.octopus.repoclients.RepoClient;
+import com.octopus.test.repoclients.DotnetTestRepoClient;
+import com.octopus.test.repoclients.GenericTestRepoClient;
+import com.octopus.test.repoclients.GoTestRepoClient;
+import com.octopus.test.repoclients.GradleTestRepoClient;
+import com.octopus.test.repoclients.MavenTestRepoClient;
+import com.octopus.test.repoclients.NodeTestRepoClient;
+import com.octopus.test.repoclients.PhpTestRepoClient;
+import com.octopus.test.repoclients.PythonTestRepoClient;
+import com.octopus.test.repoclients.RubyTestRepoClient;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures generating a Jenkins pipeline with each builder, against the mock repo clients used by
+ * the builder tests. Detection is done once in setup, so the benchmark measures building the
+ * pipeline DSL and rendering it as groovy.
+ *
+ * <p>BenchmarkRunner enables the GC profiler, which reports the memory allocated for each pipeline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JenkinsPipelineBenchmark {
+
+  @Param({"maven", "gradle", "nodejs", "php", "dotnet", "python", "go", "ruby", "generic"})
+  public String builder;
+
+  private PipelineBuilder pipelineBuilder;
+  private RepoClient repoClient;
+  private DetectionResult detectionResult;
+
+  /**
+   * Create the builder and the repo it detects.
+   */
+  @Setup
+  public void setup() {
+    switch (builder) {
+      case "maven":
+        pipelineBuilder = new JavaMavenBuilder();
+        repoClient = new MavenTestRepoClient("https://github.com/owner/repo", true);
+        break;
+      case "gradle":
+        pipelineBuilder = new JavaGradleBuilder();
+        repoClient = new GradleTestRepoClient("https://github.com/owner/repo", true);
+        break;
+      case "nodejs":
+        pipelineBuilder = new NodejsBuilder();
+        repoClient = new NodeTestRepoClient("https://github.com/owner/repo");
+        break;
+      case "php":
+        pipelineBuilder = new PhpComposerBuilder();
+        repoClient = new PhpTestRepoClient("https://github.com/owner/repo");
+        break;
+      case "dotnet":
+        pipelineBuilder = new DotnetCoreBuilder();
+        repoClient = new DotnetTestRepoClient("https://github.com/owner/repo");
+        break;
+      case "python":
+        pipelineBuilder = new PythonBuilder();
+        repoClient = new PythonTestRepoClient("https://github.com/owner/repo", "main");
+        break;
+      case "go":
+        pipelineBuilder = new GoBuilder();
+        repoClient = new GoTestRepoClient("https://github.com/owner/repo", "main");
+        break;
+      case "ruby":
+        pipelineBuilder = new RubyGemBuilder();
+        repoClient = new RubyTestRepoClient("https://github.com/owner/repo", "main");
+        break;
+      default:
+        pipelineBuilder = new GenericBuilder();
+        repoClient = new GenericTestRepoClient("https://github.com/owner/repo");
+    }
+
+    detectionResult = pipelineBuilder.canBuild(repoClient);
+  }
+
+  @Benchmark
+  public String generate() {
+    return pipelineBuilder.generate(repoClient, detectionResult);
+  }
+}
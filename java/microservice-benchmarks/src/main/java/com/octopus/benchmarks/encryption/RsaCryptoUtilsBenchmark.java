@@ -0,0 +1,96 @@
+package com.octopus.benchmarks.encryption;
+
+import com.octopus.encryption.AsymmetricDecryptor;
+import com.octopus.encryption.AsymmetricEncryptor;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsDecryptor;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsEncryptor;
+import com.octopus.encryption.impl.RsaCryptoUtilsDecryptor;
+import com.octopus.encryption.impl.RsaCryptoUtilsEncryptor;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of decrypting an Octopus API key and encrypting email addresses when
+ * the service is handling concurrent requests. The uncached implementations share a single cipher,
+ * so their calls are serialized.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RsaCryptoUtilsBenchmark {
+
+  /**
+   * A value the same length as an Octopus API key.
+   */
+  private static final String VALUE = "API-ABCDEFGHIJKLMNOPQRSTUVWXYZ12";
+  private static final int BATCH_SIZE = 10;
+
+  @Param({"uncached", "cached"})
+  public String implementation;
+
+  private AsymmetricEncryptor encryptor;
+  private AsymmetricDecryptor decryptor;
+  private String publicKeyBase64;
+  private String privateKeyBase64;
+  private String encrypted;
+  private List<String> encryptedBatch;
+
+  /**
+   * Generate a key pair and create the implementations being measured.
+   */
+  @Setup
+  public void setup() throws GeneralSecurityException {
+    final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    final KeyPair keyPair = generator.generateKeyPair();
+    publicKeyBase64 = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+    privateKeyBase64 = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+
+    if ("cached".equals(implementation)) {
+      encryptor = new CachingRsaCryptoUtilsEncryptor();
+      decryptor = new CachingRsaCryptoUtilsDecryptor();
+    } else {
+      encryptor = new RsaCryptoUtilsEncryptor();
+      decryptor = new RsaCryptoUtilsDecryptor();
+    }
+
+    encrypted = encryptor.encrypt(VALUE, publicKeyBase64);
+    encryptedBatch = Collections.nCopies(BATCH_SIZE, encrypted);
+  }
+
+  @Benchmark
+  public String encrypt() {
+    return encryptor.encrypt(VALUE, publicKeyBase64);
+  }
+
+  @Benchmark
+  public String decrypt() {
+    return decryptor.decrypt(encrypted, privateKeyBase64);
+  }
+
+  @Benchmark
+  public List<String> decryptAll() {
+    return decryptor.decryptAll(encryptedBatch, privateKeyBase64);
+  }
+}
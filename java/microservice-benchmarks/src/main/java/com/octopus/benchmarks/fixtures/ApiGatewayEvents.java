@@ -0,0 +1,108 @@
+package com.octopus.benchmarks.fixtures;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Creates API Gateway proxy events with the same shape as those received by the Lambda entry
+ * points. API Gateway populates both the single and multi value header and query string maps, and
+ * requests routed through CloudFront carry around twenty headers.
+ */
+public final class ApiGatewayEvents {
+
+  public static final String SESSION_COOKIE = "GitHubUserSession";
+  public static final String TRACE_ID = "Root=1-63441c4a-abcdef012345678912345678";
+
+  private ApiGatewayEvents() {
+  }
+
+  /**
+   * Create a request for a generated pipeline, as sent by the browser to the pipeline backends.
+   *
+   * @param authorization        The value of the Authorization header.
+   * @param serviceAuthorization The value of the Service-Authorization header.
+   * @return The API Gateway event.
+   */
+  public static APIGatewayProxyRequestEvent pipelineRequest(
+      final String authorization,
+      final String serviceAuthorization) {
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");
+    headers.put("Accept-Encoding", "gzip, deflate, br");
+    headers.put("Accept-Language", "en-US,en;q=0.5");
+    headers.put("Authorization", "Bearer " + authorization);
+    headers.put("CloudFront-Forwarded-Proto", "https");
+    headers.put("CloudFront-Is-Desktop-Viewer", "true");
+    headers.put("CloudFront-Is-Mobile-Viewer", "false");
+    headers.put("CloudFront-Is-SmartTV-Viewer", "false");
+    headers.put("CloudFront-Is-Tablet-Viewer", "false");
+    headers.put("CloudFront-Viewer-Country", "AU");
+    headers.put("Cookie", "_ga=GA1.2.1234567890.1665400000; _gid=GA1.2.987654321.1665400000; "
+        + SESSION_COOKIE + "=bG9uZ2VuY3J5cHRlZHNlc3Npb252YWx1ZQ==; "
+        + "GitHubUserSessionRedirect=https%3A%2F%2Fgithubactionsworkflowgenerator.octopus.com");
+    headers.put("Data-Partition", "main");
+    headers.put("Host", "githubactionsworkflowgenerator.octopus.com");
+    headers.put("Routing", "route[/api/pipeline/github/generate:GET]=lambda[PipelineBackend]");
+    headers.put("Service-Authorization", "Bearer " + serviceAuthorization);
+    headers.put("User-Agent",
+        "Mozilla/5.0 (X11; Linux x86_64; rv:105.0) Gecko/20100101 Firefox/105.0");
+    headers.put("Via", "2.0 4a5f3d5c4f0b1c2e6f7a8b9c0d1e2f3a.cloudfront.net (CloudFront)");
+    headers.put("X-Amz-Cf-Id", "kN3rgRn-F0jSDBh4Bxq4Dm0FfZbRrF5Mgy-Yj8WYnO1mPQq6NtLIDg==");
+    headers.put("X-Amzn-Trace-Id", TRACE_ID);
+    headers.put("X-Forwarded-For", "203.0.113.10, 130.176.137.135");
+    headers.put("X-Forwarded-Port", "443");
+    headers.put("X-Forwarded-Proto", "https");
+
+    final Map<String, String> query = new LinkedHashMap<>();
+    query.put("repo", "https://github.com/OctopusSamples/RandomQuotes-Java");
+    query.put("utm_source", "octopus");
+    query.put("utm_medium", "blog");
+    query.put("utm_campaign", "github-actions");
+    query.put("utm_term", "workflow");
+    query.put("utm_content", "header");
+
+    return new APIGatewayProxyRequestEvent()
+        .withHttpMethod("GET")
+        .withPath("/api/pipeline/github/generate")
+        .withHeaders(headers)
+        .withMultiValueHeaders(toMultiValue(headers))
+        .withQueryStringParameters(query)
+        .withMultiValueQueryStringParameters(toMultiValue(query));
+  }
+
+  /**
+   * Create a request for a page of audit records, as sent by the audit web UI.
+   *
+   * @param authorization The value of the Authorization header.
+   * @return The API Gateway event.
+   */
+  public static APIGatewayProxyRequestEvent auditCollectionRequest(final String authorization) {
+    final APIGatewayProxyRequestEvent event = pipelineRequest(authorization, "");
+    event.getHeaders().put("Accept", "application/vnd.api+json");
+    event.getHeaders().remove("Service-Authorization");
+
+    final Map<String, String> query = new LinkedHashMap<>();
+    query.put("filter", "subject==\"CreateTemplateFor\"");
+    query.put("page[limit]", "30");
+    query.put("page[offset]", "60");
+
+    return event
+        .withHttpMethod("GET")
+        .withPath("/api/audits")
+        .withMultiValueHeaders(toMultiValue(event.getHeaders()))
+        .withQueryStringParameters(query)
+        .withMultiValueQueryStringParameters(toMultiValue(query));
+  }
+
+  private static Map<String, List<String>> toMultiValue(final Map<String, String> values) {
+    final Map<String, List<String>> multiValues = new HashMap<>();
+    for (final Entry<String, String> entry : values.entrySet()) {
+      multiValues.put(entry.getKey(), List.of(entry.getValue()));
+    }
+    return multiValues;
+  }
+}
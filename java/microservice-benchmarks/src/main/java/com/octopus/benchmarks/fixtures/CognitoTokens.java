@@ -0,0 +1,96 @@
+package com.octopus.benchmarks.fixtures;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates tokens with the same shape as those issued by Cognito.
+ */
+public final class CognitoTokens {
+
+  public static final String CLIENT_ID = "710octav2qdu4fjd5v3u3qb1p8";
+  public static final String ADMIN_SCOPE = "audit.content-team/admin";
+  public static final String ADMIN_GROUP = "Developers";
+  private static final long ONE_HOUR_SECONDS = 3600;
+
+  private CognitoTokens() {
+  }
+
+  /**
+   * Generate a signing key like those found in a Cognito user pool JWK set.
+   *
+   * @return The new RSA key.
+   * @throws JOSEException If the key could not be generated.
+   */
+  public static RSAKey generateKey() throws JOSEException {
+    return new RSAKeyGenerator(2048)
+        .keyID(Base64.getEncoder().encodeToString(UUID.randomUUID().toString().getBytes()))
+        .keyUse(KeyUse.SIGNATURE)
+        .algorithm(JWSAlgorithm.RS256)
+        .generate();
+  }
+
+  /**
+   * Create a client credentials access token, as sent in the Service-Authorization header.
+   *
+   * @param key The key used to sign the token.
+   * @return The serialized token.
+   * @throws JOSEException If the token could not be signed.
+   */
+  public static String createAccessToken(final RSAKey key) throws JOSEException {
+    final long now = System.currentTimeMillis() / 1000;
+    return sign(key, Map.of(
+        "sub", CLIENT_ID,
+        "token_use", "access",
+        "scope", ADMIN_SCOPE,
+        "auth_time", now,
+        "iss", "https://cognito-idp.us-west-1.amazonaws.com/us-west-1_VkAfnzqZF",
+        "exp", now + ONE_HOUR_SECONDS,
+        "iat", now,
+        "version", 2,
+        "jti", UUID.randomUUID().toString(),
+        "client_id", CLIENT_ID));
+  }
+
+  /**
+   * Create a user access token, as sent in the Authorization header.
+   *
+   * @param key The key used to sign the token.
+   * @return The serialized token.
+   * @throws JOSEException If the token could not be signed.
+   */
+  public static String createUserToken(final RSAKey key) throws JOSEException {
+    final long now = System.currentTimeMillis() / 1000;
+    return sign(key, Map.of(
+        "sub", UUID.randomUUID().toString(),
+        "cognito:groups", List.of(ADMIN_GROUP, "us-west-1_VkAfnzqZF_Google"),
+        "token_use", "access",
+        "scope", "openid profile email",
+        "auth_time", now,
+        "iss", "https://cognito-idp.us-west-1.amazonaws.com/us-west-1_VkAfnzqZF",
+        "exp", now + ONE_HOUR_SECONDS,
+        "iat", now,
+        "client_id", "4cmmv2ee8hb5h3o6r4e4n7dc1v",
+        "username", "google_110592371520519823475"));
+  }
+
+  private static String sign(final RSAKey key, final Map<String, Object> claims)
+      throws JOSEException {
+    final JWSObject jwsObject = new JWSObject(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+        new Payload(claims));
+    jwsObject.sign(new RSASSASigner(key));
+    return jwsObject.serialize();
+  }
+}
@@ -0,0 +1,128 @@
+package com.octopus.benchmarks.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.octopus.http.CachedHttpResponse;
+import com.octopus.http.HttpClientSettings;
+import com.octopus.http.HttpResponseCache;
+import com.octopus.http.HttpResponseCacheStats;
+import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.http.impl.HttpResponseCacheImpl;
+import com.octopus.http.impl.PooledHttpClients;
+import com.octopus.http.impl.ReadOnlyHttpClientImpl;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency distribution of many threads requesting an overlapping set of URLs from a
+ * server that takes 20ms to respond, and that handles a limited number of requests at once.
+ *
+ * <p>Responses are immediately stale, so every request that is not coalesced reaches the server.
+ * The "uncoalesced" implementation makes every request, as happens when the same URL is requested
+ * concurrently by detections of the same repo. The "coalesced" implementation shares requests for
+ * a URL that is already in flight. Compare the p0.99 and p0.999 percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(32)
+@Fork(1)
+public class CoalescedRequestBenchmark {
+
+  private static final int URLS = 8;
+  private static final int SERVER_THREADS = 8;
+  private static final int SERVER_DELAY_MILLIS = 20;
+
+  @Param({"uncoalesced", "coalesced"})
+  public String implementation;
+
+  private WireMockServer server;
+  private CloseableHttpClient httpClient;
+  private ReadOnlyHttpClient readOnlyHttpClient;
+  private List<String> urls;
+
+  /**
+   * Start the server and build the URLs.
+   */
+  @Setup
+  public void setup() {
+    server = new WireMockServer(options()
+        .dynamicPort()
+        .containerThreads(SERVER_THREADS + 2)
+        .jettyAcceptors(1)
+        .disableRequestJournal());
+    server.start();
+    server.stubFor(any(urlPathMatching("/repos/owner/repo/contents/.*"))
+        .willReturn(aResponse().withStatus(200).withFixedDelay(SERVER_DELAY_MILLIS)));
+
+    urls = IntStream.range(0, URLS)
+        .mapToObj(i -> "http://localhost:" + server.port() + "/repos/owner/repo/contents/file" + i)
+        .collect(Collectors.toList());
+
+    httpClient = PooledHttpClients.create(HttpClientSettings.builder().build());
+    readOnlyHttpClient = new ReadOnlyHttpClientImpl(
+        "coalesced".equals(implementation)
+            ? new HttpResponseCacheImpl(Duration.ZERO, Duration.ZERO, 100, 1024 * 1024)
+            : new UncachedResponses(),
+        httpClient);
+  }
+
+  /**
+   * Stop the server and close the pool.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    httpClient.close();
+    server.stop();
+  }
+
+  @Benchmark
+  public boolean probe() {
+    return readOnlyHttpClient.head(
+        urls.get(ThreadLocalRandom.current().nextInt(URLS)), List.of());
+  }
+
+  /**
+   * A cache that always makes the request.
+   */
+  private static class UncachedResponses implements HttpResponseCache {
+
+    @Override
+    public CachedHttpResponse get(final String key,
+        final Function<Optional<CachedHttpResponse>, CachedHttpResponse> fetcher) {
+      return fetcher.apply(Optional.empty());
+    }
+
+    @Override
+    public HttpResponseCacheStats getStats() {
+      return new HttpResponseCacheStats(0, 0, 0, 0, 0);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.octopus.benchmarks.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.octopus.http.CachedHttpResponse;
+import com.octopus.http.HttpClientSettings;
+import com.octopus.http.HttpResponseCache;
+import com.octopus.http.HttpResponseCacheStats;
+import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.http.impl.PooledHttpClients;
+import com.octopus.http.impl.ReadOnlyHttpClientImpl;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.ssl.SSLContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a builder detection run, which makes 30 HEAD requests to probe for the files that
+ * identify a project type. A local WireMock server stands in for the GitHub contents API, and is
+ * accessed over HTTPS like GitHub.
+ *
+ * <p>The "unpooled" implementation opens a new connection for each request, as
+ * ReadOnlyHttpClientImpl did when it created a client for each request. The response cache is
+ * bypassed so that every probe reaches the server. The server is on the loopback interface, so
+ * the benchmark measures the cost of the TCP and TLS handshakes but not the network round trips
+ * they would add when talking to GitHub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepoProbeBenchmark {
+
+  private static final List<String> FILES = List.of(
+      "pom.xml", "mvnw", "build.gradle", "build.gradle.kts", "gradlew",
+      "package.json", "package-lock.json", "yarn.lock", "requirements.txt", "setup.py",
+      "Gemfile", "composer.json", "go.mod", "global.json", "Dockerfile");
+  private static final List<String> BRANCHES = List.of("main", "master");
+
+  @Param({"unpooled", "pooled"})
+  public String implementation;
+
+  private WireMockServer server;
+  private CloseableHttpClient httpClient;
+  private ReadOnlyHttpClient readOnlyHttpClient;
+  private List<String> urls;
+
+  /**
+   * Start the server and build the probe URLs. Half the files exist.
+   */
+  @Setup
+  public void setup() throws GeneralSecurityException {
+    server = new WireMockServer(options()
+        .dynamicPort()
+        .dynamicHttpsPort()
+        .disableRequestJournal());
+    server.start();
+    server.stubFor(any(urlPathMatching("/repos/owner/repo/contents/.*"))
+        .atPriority(10)
+        .willReturn(aResponse().withStatus(404)));
+    for (int i = 0; i < FILES.size(); i += 2) {
+      server.stubFor(any(urlPathMatching("/repos/owner/repo/contents/" + FILES.get(i)))
+          .atPriority(1)
+          .willReturn(aResponse().withStatus(200).withHeader("ETag", "\"" + i + "\"")));
+    }
+
+    urls = FILES.stream()
+        .flatMap(file -> BRANCHES.stream().map(branch -> "https://localhost:" + server.httpsPort()
+            + "/repos/owner/repo/contents/" + file + "?ref=" + branch))
+        .collect(Collectors.toList());
+
+    // WireMock uses a self signed certificate
+    final SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
+        SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build(),
+        NoopHostnameVerifier.INSTANCE);
+
+    httpClient = "pooled".equals(implementation)
+        ? PooledHttpClients.create(HttpClientSettings.builder().build(), sslSocketFactory)
+        : HttpClients.custom()
+            .setSSLSocketFactory(sslSocketFactory)
+            .setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE)
+            .build();
+    readOnlyHttpClient = new ReadOnlyHttpClientImpl(new UncachedResponses(), httpClient);
+  }
+
+  /**
+   * Stop the server and close the pool.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    httpClient.close();
+    server.stop();
+  }
+
+  @Benchmark
+  public int detectBuilder() {
+    int found = 0;
+    for (final String url : urls) {
+      if (readOnlyHttpClient.head(url, List.of())) {
+        ++found;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * A cache that always makes the request.
+   */
+  private static class UncachedResponses implements HttpResponseCache {
+
+    @Override
+    public CachedHttpResponse get(final String key,
+        final Function<Optional<CachedHttpResponse>, CachedHttpResponse> fetcher) {
+      return fetcher.apply(Optional.empty());
+    }
+
+    @Override
+    public HttpResponseCacheStats getStats() {
+      return new HttpResponseCacheStats(0, 0, 0, 0, 0);
+    }
+  }
+}
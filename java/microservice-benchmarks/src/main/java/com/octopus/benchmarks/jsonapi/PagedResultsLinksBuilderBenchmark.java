@@ -0,0 +1,42 @@
+package com.octopus.benchmarks.jsonapi;
+
+import com.github.jasminb.jsonapi.JSONAPIDocument;
+import com.octopus.jsonapi.PagedResultsLinksBuilder;
+import com.octopus.jsonapi.impl.PagedResultsLinksBuilderImpl;
+import com.octopus.wrappers.FilteredResultWrapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of adding the paging links to a JSONAPI collection response. The page sits in
+ * the middle of the collection, so all four links are generated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagedResultsLinksBuilderBenchmark {
+
+  private final PagedResultsLinksBuilder pagedResultsLinksBuilder =
+      new PagedResultsLinksBuilderImpl();
+  private final FilteredResultWrapper<String> resources =
+      new FilteredResultWrapper<>(List.of("audit"), 1000L);
+
+  @Benchmark
+  public JSONAPIDocument<List<String>> generatePageLinks() {
+    final JSONAPIDocument<List<String>> document = new JSONAPIDocument<>(resources.getList());
+    pagedResultsLinksBuilder.generatePageLinks(document, "30", "60", resources, "audits");
+    return document;
+  }
+}
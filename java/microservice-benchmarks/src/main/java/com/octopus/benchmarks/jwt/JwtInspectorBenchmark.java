@@ -0,0 +1,100 @@
+package com.octopus.benchmarks.jwt;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.octopus.benchmarks.fixtures.ApiGatewayEvents;
+import com.octopus.benchmarks.fixtures.CognitoTokens;
+import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.JwtUtils;
+import com.octopus.jwt.impl.CachingJwtValidatorImpl;
+import com.octopus.jwt.impl.JoseJwtInspector;
+import com.octopus.jwt.impl.JwtUtilsImpl;
+import com.octopus.lambda.LambdaHttpHeaderExtractor;
+import com.octopus.lambda.impl.CaseInsensitiveHttpHeaderExtractor;
+import com.octopus.utilties.PartitionIdentifier;
+import com.octopus.utilties.impl.PartitionIdentifierImpl;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the authorization checks made by the services for each request: the scope check on the
+ * Service-Authorization header, the group check on the Authorization header, and the data
+ * partition lookup, which repeats the group check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtInspectorBenchmark {
+
+  private final LambdaHttpHeaderExtractor headerExtractor = new CaseInsensitiveHttpHeaderExtractor();
+  private final JwtUtils jwtUtils = new JwtUtilsImpl();
+
+  private JwtInspector jwtInspector;
+  private PartitionIdentifier partitionIdentifier;
+  private APIGatewayProxyRequestEvent event;
+  private String accessToken;
+  private String userToken;
+
+  /**
+   * Build the JWK set and the request carrying the user and service tokens.
+   */
+  @Setup
+  public void setup() throws JOSEException {
+    final RSAKey key = CognitoTokens.generateKey();
+    final String jwkBase64 = Base64.getEncoder().encodeToString(
+        new JWKSet(List.of(CognitoTokens.generateKey(), key)).toString(true).getBytes());
+    accessToken = CognitoTokens.createAccessToken(key);
+    userToken = CognitoTokens.createUserToken(key);
+    event = ApiGatewayEvents.pipelineRequest(userToken, accessToken);
+
+    jwtInspector = new JoseJwtInspector(
+        () -> Optional.of(jwkBase64),
+        () -> false,
+        new CachingJwtValidatorImpl(),
+        () -> "Benchmark");
+    partitionIdentifier = new PartitionIdentifierImpl(
+        jwtInspector,
+        () -> Optional.of(CognitoTokens.ADMIN_GROUP),
+        () -> false);
+  }
+
+  @Benchmark
+  public boolean jwtContainsScope() {
+    return jwtInspector.jwtContainsScope(
+        accessToken, CognitoTokens.ADMIN_SCOPE, CognitoTokens.CLIENT_ID);
+  }
+
+  @Benchmark
+  public boolean jwtContainsCognitoGroup() {
+    return jwtInspector.jwtContainsCognitoGroup(userToken, CognitoTokens.ADMIN_GROUP);
+  }
+
+  /**
+   * The partition lookup made by the handlers, including extracting the headers from the event.
+   */
+  @Benchmark
+  public String getPartition() {
+    return partitionIdentifier.getPartition(
+        headerExtractor.getAllHeaders(event, "Data-Partition"),
+        headerExtractor.getFirstHeader(event, "Authorization")
+            .flatMap(jwtUtils::getJwtFromAuthorizationHeader)
+            .orElse(null));
+  }
+}
@@ -0,0 +1,78 @@
+package com.octopus.benchmarks.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.octopus.benchmarks.fixtures.CognitoTokens;
+import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.impl.CachingJwtValidatorImpl;
+import com.octopus.jwt.impl.JwtValidatorImpl;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of validating a Cognito access token. The JWK set mirrors the one published
+ * by a Cognito user pool, which contains two RS256 keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidatorBenchmark {
+
+  @Param({"uncached", "cached"})
+  public String implementation;
+
+  private JwtValidator jwtValidator;
+  private JWSVerifier verifier;
+  private String jwkBase64;
+  private String jwt;
+
+  /**
+   * Build the JWK set and sign a token with the second key in the set.
+   */
+  @Setup
+  public void setup() throws JOSEException {
+    final RSAKey idTokenKey = CognitoTokens.generateKey();
+    final RSAKey accessTokenKey = CognitoTokens.generateKey();
+    jwkBase64 = Base64.getEncoder().encodeToString(
+        new JWKSet(List.of(idTokenKey, accessTokenKey)).toString(true).getBytes());
+    jwt = CognitoTokens.createAccessToken(accessTokenKey);
+    verifier = new RSASSAVerifier(accessTokenKey.toRSAPublicKey());
+    jwtValidator = "cached".equals(implementation)
+        ? new CachingJwtValidatorImpl()
+        : new JwtValidatorImpl();
+  }
+
+  @Benchmark
+  public boolean jwtIsValid() throws ParseException, IOException, JOSEException {
+    return jwtValidator.jwtIsValid(jwt, jwkBase64);
+  }
+
+  /**
+   * The floor for any validator: parse the token and verify the signature with a prebuilt verifier.
+   */
+  @Benchmark
+  public boolean verifySignatureOnly() throws ParseException, JOSEException {
+    return JWSObject.parse(jwt).verify(verifier);
+  }
+}
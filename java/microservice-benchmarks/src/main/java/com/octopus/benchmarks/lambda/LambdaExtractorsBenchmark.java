@@ -0,0 +1,109 @@
+package com.octopus.benchmarks.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.octopus.benchmarks.fixtures.ApiGatewayEvents;
+import com.octopus.lambda.LambdaHttpCookieExtractor;
+import com.octopus.lambda.LambdaHttpHeaderExtractor;
+import com.octopus.lambda.LambdaHttpValueExtractor;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.impl.CaseInsensitiveCookieExtractor;
+import com.octopus.lambda.impl.CaseInsensitiveHttpHeaderExtractor;
+import com.octopus.lambda.impl.CaseInsensitiveLambdaHttpValueExtractor;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of reading headers, cookies and query params from an API Gateway event. The
+ * pipelineLambda benchmark performs the lookups made by PipelineLambda.handleRequest with the
+ * extractors, and pipelineLambdaContext performs the same lookups with a LambdaRequestContext.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LambdaExtractorsBenchmark {
+
+  private final LambdaHttpHeaderExtractor headerExtractor = new CaseInsensitiveHttpHeaderExtractor();
+  private final LambdaHttpCookieExtractor cookieExtractor = new CaseInsensitiveCookieExtractor();
+  private final LambdaHttpValueExtractor valueExtractor =
+      new CaseInsensitiveLambdaHttpValueExtractor();
+
+  private APIGatewayProxyRequestEvent event;
+
+  @Setup
+  public void setup() {
+    event = ApiGatewayEvents.pipelineRequest("usertoken", "servicetoken");
+  }
+
+  @Benchmark
+  public Optional<String> firstHeader() {
+    return headerExtractor.getFirstHeader(event, "x-amzn-trace-id");
+  }
+
+  @Benchmark
+  public Optional<String> cookieValue() {
+    return cookieExtractor.getCookieValue(event, ApiGatewayEvents.SESSION_COOKIE);
+  }
+
+  @Benchmark
+  public Optional<String> queryParam() {
+    return valueExtractor.getQueryParam(event, "repo");
+  }
+
+  /**
+   * The header, cookie and query param lookups made for every pipeline generation request.
+   */
+  @Benchmark
+  public void pipelineLambda(final Blackhole blackhole) {
+    blackhole.consume(cookieExtractor.getCookieValue(event, ApiGatewayEvents.SESSION_COOKIE));
+    blackhole.consume(headerExtractor.getFirstHeader(event, "Routing"));
+    blackhole.consume(headerExtractor.getFirstHeader(event, "Data-Partition"));
+    blackhole.consume(headerExtractor.getFirstHeader(event, "Authorization"));
+    blackhole.consume(headerExtractor.getFirstHeader(event, "X-Amzn-Trace-Id"));
+    blackhole.consume(valueExtractor.getQueryParam(event, "utm_source"));
+    blackhole.consume(valueExtractor.getQueryParam(event, "utm_medium"));
+    blackhole.consume(valueExtractor.getQueryParam(event, "utm_campaign"));
+    blackhole.consume(valueExtractor.getQueryParam(event, "utm_term"));
+    blackhole.consume(valueExtractor.getQueryParam(event, "utm_content"));
+    blackhole.consume(valueExtractor.getQueryParam(event, "action"));
+    blackhole.consume(valueExtractor.getQueryParam(event, "repo"));
+  }
+
+  @Benchmark
+  public LambdaRequestContext buildContext() {
+    return LambdaRequestContext.fromEvent(event);
+  }
+
+  /**
+   * The lookups made by pipelineLambda, including the cost of building the context.
+   */
+  @Benchmark
+  public void pipelineLambdaContext(final Blackhole blackhole) {
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(event);
+    blackhole.consume(request.getCookieValue(ApiGatewayEvents.SESSION_COOKIE));
+    blackhole.consume(request.getFirstHeader("Routing"));
+    blackhole.consume(request.getFirstHeader("Data-Partition"));
+    blackhole.consume(request.getFirstHeader("Authorization"));
+    blackhole.consume(request.getFirstHeader("X-Amzn-Trace-Id"));
+    blackhole.consume(request.getQueryParam("utm_source"));
+    blackhole.consume(request.getQueryParam("utm_medium"));
+    blackhole.consume(request.getQueryParam("utm_campaign"));
+    blackhole.consume(request.getQueryParam("utm_term"));
+    blackhole.consume(request.getQueryParam("utm_content"));
+    blackhole.consume(request.getQueryParam("action"));
+    blackhole.consume(request.getQueryParam("repo"));
+  }
+}
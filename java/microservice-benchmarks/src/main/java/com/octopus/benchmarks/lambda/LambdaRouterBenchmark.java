@@ -0,0 +1,96 @@
+package com.octopus.benchmarks.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.LambdaRouter;
+import com.octopus.lambda.RequestMatcher;
+import com.octopus.lambda.impl.RequestMatcherImpl;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares dispatching a request through the chain of Optional.or calls used by the Lambda entry
+ * points with dispatching it through a LambdaRouter. The routes are those exposed by AuditApi, and
+ * the request path is matched by the first route, the last route, or no route.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LambdaRouterBenchmark {
+
+  private static final Pattern ROOT_RE = Pattern.compile("/api/audits/?");
+  private static final Pattern INDIVIDUAL_RE = Pattern.compile("/api/audits/(?<id>\\d+)");
+  private static final Pattern HEALTH_RE =
+      Pattern.compile("/health/audits/(GET|POST|[A-Za-z0-9]+/(GET|DELETE|PATCH))");
+
+  private final RequestMatcher requestMatcher = new RequestMatcherImpl();
+
+  private final LambdaRouter<String> router = LambdaRouter.<String>builder()
+      .route("GET", "/api/audits", (request, variables) -> "getAll")
+      .route("GET", "/api/audits/{id}", (request, variables) -> variables.get("id"))
+      .route("POST", "/api/audits", (request, variables) -> "create")
+      .route("GET", "/health/audits/GET", (request, variables) -> "health")
+      .route("GET", "/health/audits/POST", (request, variables) -> "health")
+      .route("GET", "/health/audits/{id}/GET", (request, variables) -> "health")
+      .route("GET", "/health/audits/{id}/DELETE", (request, variables) -> "health")
+      .route("GET", "/health/audits/{id}/PATCH", (request, variables) -> "health")
+      .notFound(request -> "notFound")
+      .methodNotAllowed(request -> "methodNotAllowed")
+      .error((e, request) -> "error")
+      .build();
+
+  @Param({"/api/audits", "/health/audits/1/GET", "/api/nope"})
+  public String path;
+
+  private LambdaRequestContext request;
+
+  @Setup
+  public void setup() {
+    request = LambdaRequestContext.fromEvent(new APIGatewayProxyRequestEvent()
+        .withHttpMethod("GET")
+        .withPath(path));
+  }
+
+  /**
+   * The dispatch performed by AuditApi before the router was introduced.
+   */
+  @Benchmark
+  public String optionalChain() {
+    final APIGatewayProxyRequestEvent input = request.getEvent();
+    return match(input, ROOT_RE, "GET", "getAll")
+        .or(() -> match(input, INDIVIDUAL_RE, "GET", "getOne"))
+        .or(() -> match(input, ROOT_RE, "POST", "create"))
+        .or(() -> match(input, HEALTH_RE, "GET", "health"))
+        .orElse("notFound");
+  }
+
+  @Benchmark
+  public String router() {
+    return router.route(request);
+  }
+
+  private Optional<String> match(
+      final APIGatewayProxyRequestEvent input,
+      final Pattern regex,
+      final String method,
+      final String response) {
+    return requestMatcher.requestIsMatch(input, regex, method)
+        ? Optional.of(response)
+        : Optional.empty();
+  }
+}
@@ -1,5 +1,8 @@
 package com.octopus.encryption;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * An interface exposing string decryption methods.
  */
@@ -13,4 +16,17 @@ public interface AsymmetricDecryptor {
    * @return The decrypted value.
    */
   String decrypt(String value, String privateKeyBase64);
+
+  /**
+   * Decrypt a list of values with the same private key.
+   *
+   * @param values           The values to decrypt.
+   * @param privateKeyBase64 The private key to decrypt the values with.
+   * @return The decrypted values, in the same order as the supplied values.
+   */
+  default List<String> decryptAll(final List<String> values, final String privateKeyBase64) {
+    return values.stream()
+        .map(v -> decrypt(v, privateKeyBase64))
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,26 @@
+package com.octopus.encryption;
+
+import java.util.List;
+
+/**
+ * An interface exposing string encryption methods that use a public key loaded when the service
+ * starts.
+ */
+public interface PublicKeyEncryptor {
+
+  /**
+   * Encrypt a value.
+   *
+   * @param value The value to encrypt.
+   * @return The encrypted value.
+   */
+  String encrypt(String value);
+
+  /**
+   * Encrypt a list of values.
+   *
+   * @param values The values to encrypt.
+   * @return The encrypted values, in the same order as the supplied values.
+   */
+  List<String> encryptAll(List<String> values);
+}
@@ -34,6 +34,7 @@ public class AesCryptoUtils implements CryptoUtils {
   private static final int IV_LENGTH_BYTE = 12;
   private static final String ALGORITHM = "AES";
   private static final int MIN_PASSWORD_LENGTH = 32;
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
   /**
    * {@inheritDoc}
@@ -52,9 +53,7 @@ public class AesCryptoUtils implements CryptoUtils {
 
       final byte[] iv = getRandomNonce(IV_LENGTH_BYTE);
       final Cipher cipher = Cipher.getInstance(ENCRYPT_ALGO);
-      final SecretKey secretKey = getAesKeyFromPassword(
-          password.toCharArray(),
-          salt.getBytes(StandardCharsets.UTF_8));
+      final SecretKey secretKey = getAesKeyFromPassword(password, salt);
       cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
       final byte[] cipherText = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
       final byte[] encryptedWithIv = ByteBuffer.allocate(iv.length + cipherText.length)
@@ -88,9 +87,7 @@ public class AesCryptoUtils implements CryptoUtils {
       bb.get(iv);
       final byte[] cipherText = new byte[bb.remaining()];
       bb.get(cipherText);
-      final SecretKey secretKey = getAesKeyFromPassword(
-          password.toCharArray(),
-          salt.getBytes(StandardCharsets.UTF_8));
+      final SecretKey secretKey = getAesKeyFromPassword(password, salt);
       final Cipher cipher = Cipher.getInstance(ENCRYPT_ALGO);
       cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
       return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
@@ -101,16 +98,36 @@ public class AesCryptoUtils implements CryptoUtils {
     }
   }
 
-  private SecretKey getAesKeyFromPassword(final char[] password, final byte[] salt)
+  /**
+   * Derive the AES key from the password and salt. This is an expensive operation, and subclasses
+   * may override it to cache the result.
+   *
+   * @param password The password to derive the key from.
+   * @param salt     The salt used when deriving the key.
+   * @return The AES key.
+   * @throws NoSuchAlgorithmException If the key derivation algorithm is not available.
+   * @throws InvalidKeySpecException  If the key spec is invalid.
+   */
+  protected SecretKey getAesKeyFromPassword(final String password, final String salt)
       throws NoSuchAlgorithmException, InvalidKeySpecException {
     final SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
-    final KeySpec spec = new PBEKeySpec(password, salt, 65536, 256);
+    final KeySpec spec = new PBEKeySpec(
+        password.toCharArray(),
+        salt.getBytes(StandardCharsets.UTF_8),
+        65536,
+        256);
     return new SecretKeySpec(factory.generateSecret(spec).getEncoded(), ALGORITHM);
   }
 
-  private byte[] getRandomNonce(final int numBytes) {
+  /**
+   * Generate a random nonce. The SecureRandom instance is thread safe, so it is shared.
+   *
+   * @param numBytes The length of the nonce.
+   * @return The random nonce.
+   */
+  protected byte[] getRandomNonce(final int numBytes) {
     final byte[] nonce = new byte[numBytes];
-    new SecureRandom().nextBytes(nonce);
+    SECURE_RANDOM.nextBytes(nonce);
     return nonce;
   }
 }
@@ -0,0 +1,75 @@
+package com.octopus.encryption.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.octopus.exceptions.EncryptionException;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.concurrent.ExecutionException;
+import javax.crypto.SecretKey;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * An implementation of AesCryptoUtils that derives the AES key once for each password and salt
+ * pair. Key derivation uses 65536 iterations of PBKDF2, which is far more expensive than the
+ * encryption itself, and the services typically use a single password and salt for the lifetime
+ * of the process.
+ *
+ * <p>The encrypted and decrypted values are identical to those generated by AesCryptoUtils.
+ */
+public class CachingAesCryptoUtils extends AesCryptoUtils {
+
+  private static final int DEFAULT_MAX_KEYS = 16;
+
+  private final Cache<Pair<String, String>, SecretKey> keyCache;
+
+  /**
+   * Constructor.
+   */
+  public CachingAesCryptoUtils() {
+    this(DEFAULT_MAX_KEYS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxKeys The maximum number of derived keys to retain.
+   */
+  public CachingAesCryptoUtils(final int maxKeys) {
+    if (maxKeys <= 0) {
+      throw new IllegalArgumentException("maxKeys must be greater than zero");
+    }
+
+    this.keyCache = CacheBuilder.newBuilder()
+        .maximumSize(maxKeys)
+        .build();
+  }
+
+  /**
+   * Returns the cached AES key, deriving it if this is the first time the password and salt pair
+   * has been seen.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  protected SecretKey getAesKeyFromPassword(final String password, final String salt)
+      throws NoSuchAlgorithmException, InvalidKeySpecException {
+    try {
+      return keyCache.get(
+          Pair.of(password, salt),
+          () -> super.getAesKeyFromPassword(password, salt));
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      throw new EncryptionException(e.getCause());
+    }
+  }
+
+  /**
+   * Returns the number of cached keys.
+   *
+   * @return The number of keys held in the cache.
+   */
+  public long getCachedKeyCount() {
+    return keyCache.size();
+  }
+}
@@ -0,0 +1,166 @@
+package com.octopus.encryption.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.octopus.encryption.AsymmetricEncryptor;
+import com.octopus.exceptions.EncryptionException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import lombok.NonNull;
+
+/**
+ * A thread safe service that can encrypt values with asymmetric key pairs. Public keys are
+ * parsed once and cached against the SHA-256 fingerprint of their base64 encoding, and each thread
+ * is given its own cipher, which is only reinitialized when the thread switches to a different key.
+ *
+ * <p>The encrypted values can be decrypted by RsaCryptoUtilsDecryptor.
+ */
+public class CachingRsaCryptoUtilsEncryptor implements AsymmetricEncryptor {
+
+  private static final String ALGORITHM = "RSA";
+  private static final int DEFAULT_MAX_KEYS = 8;
+
+  private final Cache<String, PublicKey> keyCache;
+  private final ThreadLocal<KeyedCipher> ciphers = ThreadLocal.withInitial(KeyedCipher::new);
+
+  /**
+   * Constructor.
+   */
+  public CachingRsaCryptoUtilsEncryptor()
+      throws NoSuchPaddingException, NoSuchAlgorithmException {
+    this(DEFAULT_MAX_KEYS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxKeys The maximum number of parsed public keys to retain.
+   */
+  public CachingRsaCryptoUtilsEncryptor(final int maxKeys)
+      throws NoSuchPaddingException, NoSuchAlgorithmException {
+    if (maxKeys <= 0) {
+      throw new IllegalArgumentException("maxKeys must be greater than zero");
+    }
+
+    // Fail fast if the platform does not support the cipher
+    Cipher.getInstance(ALGORITHM);
+
+    this.keyCache = CacheBuilder.newBuilder()
+        .maximumSize(maxKeys)
+        .build();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String encrypt(final String value, final String publicKeyBase64) {
+    final Cipher cipher = getCipher(publicKeyBase64);
+    try {
+      return encrypt(value, cipher);
+    } catch (final Exception e) {
+      // Don't reuse a cipher that may have been left in an unknown state
+      ciphers.remove();
+      throw new EncryptionException(e);
+    }
+  }
+
+  /**
+   * Encrypts the values with a single key lookup and cipher initialization.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public List<String> encryptAll(
+      @NonNull final List<String> values,
+      final String publicKeyBase64) {
+    final Cipher cipher = getCipher(publicKeyBase64);
+    try {
+      final List<String> encrypted = new ArrayList<>(values.size());
+      for (final String value : values) {
+        encrypted.add(encrypt(value, cipher));
+      }
+      return encrypted;
+    } catch (final Exception e) {
+      // Don't reuse a cipher that may have been left in an unknown state
+      ciphers.remove();
+      throw new EncryptionException(e);
+    }
+  }
+
+  /**
+   * Returns the number of cached public keys.
+   *
+   * @return The number of keys held in the cache.
+   */
+  public long getCachedKeyCount() {
+    return keyCache.size();
+  }
+
+  private String encrypt(final String value, final Cipher cipher)
+      throws GeneralSecurityException {
+    return Base64.getEncoder().encodeToString(cipher.doFinal(value.getBytes()));
+  }
+
+  private Cipher getCipher(@NonNull final String publicKeyBase64) {
+    try {
+      final PublicKey key = keyCache.get(
+          Hashing.sha256().hashString(publicKeyBase64, StandardCharsets.UTF_8).toString(),
+          () -> getPublic(publicKeyBase64));
+      return ciphers.get().forKey(key);
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      throw new EncryptionException(e.getCause());
+    } catch (final GeneralSecurityException e) {
+      throw new EncryptionException(e);
+    }
+  }
+
+  // https://docs.oracle.com/javase/8/docs/api/java/security/spec/X509EncodedKeySpec.html
+  private PublicKey getPublic(final String key) throws Exception {
+    final byte[] keyBytes = Base64.getDecoder().decode(key);
+    final X509EncodedKeySpec spec = new X509EncodedKeySpec(keyBytes);
+    final KeyFactory kf = KeyFactory.getInstance(ALGORITHM);
+    return kf.generatePublic(spec);
+  }
+
+  /**
+   * A cipher owned by a single thread, along with the key it was last initialized with. A cipher
+   * returns to its initialized state after doFinal, so it only needs to be reinitialized when the
+   * key changes.
+   */
+  private static class KeyedCipher {
+
+    private final Cipher cipher;
+    private PublicKey key;
+
+    KeyedCipher() {
+      try {
+        this.cipher = Cipher.getInstance(ALGORITHM);
+      } catch (final GeneralSecurityException e) {
+        throw new EncryptionException(e);
+      }
+    }
+
+    Cipher forKey(final PublicKey key) throws GeneralSecurityException {
+      if (this.key != key) {
+        // Clear the key so a failed init is not mistaken for an initialized cipher
+        this.key = null;
+        cipher.init(Cipher.ENCRYPT_MODE, key);
+        this.key = key;
+      }
+      return cipher;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.octopus.encryption.impl;
+
+import com.google.common.io.Resources;
+import com.octopus.encryption.AsymmetricEncryptor;
+import com.octopus.encryption.PublicKeyEncryptor;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A PublicKeyEncryptor that holds a single public key, typically the key used to encrypt the email
+ * addresses sent to the audit service. The key is read and parsed once when this class is
+ * constructed rather than with each request.
+ */
+public class PreloadedPublicKeyEncryptor implements PublicKeyEncryptor {
+
+  private final AsymmetricEncryptor asymmetricEncryptor;
+  private final String publicKeyBase64;
+
+  /**
+   * Constructor.
+   *
+   * @param asymmetricEncryptor The encryptor used to encrypt the values.
+   * @param publicKeyBase64     The base64 encoded public key.
+   */
+  public PreloadedPublicKeyEncryptor(
+      @NonNull final AsymmetricEncryptor asymmetricEncryptor,
+      @NonNull final String publicKeyBase64) {
+    this.asymmetricEncryptor = asymmetricEncryptor;
+    this.publicKeyBase64 = publicKeyBase64;
+
+    // Encryptors that cache keys parse the key here, so an invalid key fails at startup
+    asymmetricEncryptor.encryptAll(List.of(), publicKeyBase64);
+  }
+
+  /**
+   * Create an encryptor from a DER encoded public key on the classpath.
+   *
+   * @param asymmetricEncryptor The encryptor used to encrypt the values.
+   * @param resourceName        The name of the classpath resource holding the public key.
+   * @return The PreloadedPublicKeyEncryptor.
+   * @throws IOException if the resource could not be read.
+   */
+  public static PreloadedPublicKeyEncryptor fromResource(
+      @NonNull final AsymmetricEncryptor asymmetricEncryptor,
+      @NonNull final String resourceName) throws IOException {
+    return new PreloadedPublicKeyEncryptor(
+        asymmetricEncryptor,
+        Base64.getEncoder().encodeToString(
+            Resources.toByteArray(Resources.getResource(resourceName))));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String encrypt(@NonNull final String value) {
+    return asymmetricEncryptor.encrypt(value, publicKeyBase64);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<String> encryptAll(@NonNull final List<String> values) {
+    return asymmetricEncryptor.encryptAll(values, publicKeyBase64);
+  }
+}
@@ -14,6 +14,9 @@ import javax.crypto.NoSuchPaddingException;
  * A service that can decrypt values with asymmetric key pairs.
  * https://mkyong.com/java/java-asymmetric-cryptography-example/
  * https://gist.github.com/mcasperson/92e8b9c38793cc830bbbbcf094ce63f6
+ *
+ * <p>Calls are serialized because the cipher is shared. Use CachingRsaCryptoUtilsDecryptor for
+ * concurrent workloads.
  */
 public class RsaCryptoUtilsDecryptor implements AsymmetricDecryptor {
 
@@ -28,7 +31,7 @@ public class RsaCryptoUtilsDecryptor implements AsymmetricDecryptor {
    * {@inheritDoc}
    */
   @Override
-  public String decrypt(final String value, final String privateKeyBase64) {
+  public synchronized String decrypt(final String value, final String privateKeyBase64) {
     try {
       this.cipher.init(Cipher.DECRYPT_MODE, getPrivate(privateKeyBase64));
       return new String(this.cipher.doFinal(Base64.getDecoder().decode(value)));
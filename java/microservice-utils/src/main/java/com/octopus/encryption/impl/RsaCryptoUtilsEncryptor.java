@@ -14,6 +14,9 @@ import javax.crypto.NoSuchPaddingException;
  * A service that can encrypt values with asymmetric key pairs.
  * https://mkyong.com/java/java-asymmetric-cryptography-example/
  * https://gist.github.com/mcasperson/92e8b9c38793cc830bbbbcf094ce63f6
+ *
+ * <p>Calls are serialized because the cipher is shared. Use CachingRsaCryptoUtilsEncryptor for
+ * concurrent workloads.
  */
 public class RsaCryptoUtilsEncryptor implements AsymmetricEncryptor {
 
@@ -28,7 +31,7 @@ public class RsaCryptoUtilsEncryptor implements AsymmetricEncryptor {
    * {@inheritDoc}
    */
   @Override
-  public String encrypt(final String value, final String publicKeyBase64) {
+  public synchronized String encrypt(final String value, final String publicKeyBase64) {
     try {
       this.cipher.init(Cipher.ENCRYPT_MODE, getPublic(publicKeyBase64));
       return Base64.getEncoder().encodeToString(this.cipher.doFinal(value.getBytes()));
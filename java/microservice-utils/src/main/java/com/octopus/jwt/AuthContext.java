@@ -0,0 +1,109 @@
+package com.octopus.jwt;
+
+import com.octopus.Constants;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The identity of the caller making a request, and what it is allowed to do. An AuthContext is
+ * built once per request by an AuthContextFactory, so the tokens passed with the request are
+ * verified once and the result is shared by the authorization and data partition checks.
+ */
+@Getter
+public final class AuthContext {
+
+  /**
+   * true if security has been disabled, in which case every request is authorized.
+   */
+  private final boolean authDisabled;
+  /**
+   * The token from the "Service-Authorization" header, if it was supplied.
+   */
+  private final Optional<String> serviceToken;
+  /**
+   * The token from the "Authorization" header, if it was supplied.
+   */
+  private final Optional<String> userToken;
+  /**
+   * true if the service token was generated by a known app client and grants the admin scope.
+   */
+  private final boolean serviceScopeGranted;
+  /**
+   * true if the user token belongs to a member of the admin group.
+   */
+  private final boolean adminGroupMember;
+  /**
+   * The data partition the request is made under.
+   */
+  private final String dataPartition;
+
+  private AuthContext(
+      final boolean authDisabled,
+      final Optional<String> serviceToken,
+      final Optional<String> userToken,
+      final boolean serviceScopeGranted,
+      final boolean adminGroupMember,
+      final String dataPartition) {
+    this.authDisabled = authDisabled;
+    this.serviceToken = serviceToken;
+    this.userToken = userToken;
+    this.serviceScopeGranted = serviceScopeGranted;
+    this.adminGroupMember = adminGroupMember;
+    this.dataPartition = dataPartition;
+  }
+
+  /**
+   * Build the context of a request made while security is disabled.
+   *
+   * @param dataPartition The data partition requested by the caller.
+   * @return The AuthContext, which authorizes the request.
+   */
+  public static AuthContext authDisabled(@NonNull final String dataPartition) {
+    return new AuthContext(true, Optional.empty(), Optional.empty(), false, false, dataPartition);
+  }
+
+  /**
+   * Build the context of a request from the result of verifying its tokens.
+   *
+   * @param serviceToken        The token from the "Service-Authorization" header.
+   * @param userToken           The token from the "Authorization" header.
+   * @param serviceScopeGranted true if the service token grants the admin scope.
+   * @param adminGroupMember    true if the user token belongs to a member of the admin group.
+   * @param dataPartition       The data partition the request is made under.
+   * @return The AuthContext.
+   */
+  public static AuthContext verified(
+      @NonNull final Optional<String> serviceToken,
+      @NonNull final Optional<String> userToken,
+      final boolean serviceScopeGranted,
+      final boolean adminGroupMember,
+      @NonNull final String dataPartition) {
+    return new AuthContext(
+        false,
+        serviceToken,
+        userToken,
+        serviceScopeGranted,
+        adminGroupMember,
+        dataPartition);
+  }
+
+  /**
+   * Determines if the request is authorized, which is the case if security is disabled, the service
+   * token grants the admin scope, or the user is a member of the admin group.
+   *
+   * @return true if the request is authorized, and false otherwise.
+   */
+  public boolean isAuthorized() {
+    return authDisabled || serviceScopeGranted || adminGroupMember;
+  }
+
+  /**
+   * Determines if the request is made under the default data partition.
+   *
+   * @return true if the request is made under the default data partition.
+   */
+  public boolean isDefaultPartition() {
+    return Constants.DEFAULT_PARTITION.equals(dataPartition);
+  }
+}
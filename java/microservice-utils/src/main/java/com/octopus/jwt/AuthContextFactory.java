@@ -0,0 +1,22 @@
+package com.octopus.jwt;
+
+import java.util.List;
+
+/**
+ * A service that builds the AuthContext of a request.
+ */
+public interface AuthContextFactory {
+
+  /**
+   * Verify the tokens passed with a request and resolve the data partition it is made under.
+   *
+   * @param authorizationHeader        The "Authorization" header.
+   * @param serviceAuthorizationHeader The "Service-Authorization" header.
+   * @param dataPartitionHeaders       The "Data-Partition" headers.
+   * @return The AuthContext of the request.
+   */
+  AuthContext build(
+      String authorizationHeader,
+      String serviceAuthorizationHeader,
+      List<String> dataPartitionHeaders);
+}
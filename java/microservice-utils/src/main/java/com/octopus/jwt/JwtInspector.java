@@ -34,4 +34,13 @@ public interface JwtInspector {
    * @return The claim value, or empty if it doesn't exist.
    */
   Optional<String> getClaim(String jwt, String claim);
+
+  /**
+   * Verifies the JWT and returns its claims. Implementations may cache the result until the
+   * token expires, so repeated checks against the same token during a request are cheap.
+   *
+   * @param jwt The JWT.
+   * @return The verified token, or empty if the token is not valid.
+   */
+  Optional<VerifiedJwt> getVerifiedJwt(String jwt);
 }
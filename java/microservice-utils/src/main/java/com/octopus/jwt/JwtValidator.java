@@ -1,8 +1,11 @@
 package com.octopus.jwt;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSObject;
 import java.io.IOException;
 import java.text.ParseException;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * A service used to validate JWTs.
@@ -21,4 +24,23 @@ public interface JwtValidator {
    */
   boolean jwtIsValid(String jwt, String jwk)
       throws ParseException, IOException, JOSEException;
+
+  /**
+   * Verify the JWT token has the correct signature and is not expired, returning the claims of a
+   * valid token. Implementations should override this to return the claims of the token they
+   * parsed to verify it, rather than parsing the token again.
+   *
+   * @param jwt The JWT.
+   * @param jwk The JWK, base64 encoded.
+   * @return The claims if the JWT is valid, or empty otherwise.
+   * @throws ParseException If the string couldn't be parsed to a JWS object.
+   * @throws IOException    If the input stream couldn't be read.
+   * @throws JOSEException  If the RSA JWK extraction failed.
+   */
+  default Optional<Map<String, Object>> getVerifiedClaims(String jwt, String jwk)
+      throws ParseException, IOException, JOSEException {
+    return jwtIsValid(jwt, jwk)
+        ? Optional.of(JWSObject.parse(jwt).getPayload().toJSONObject())
+        : Optional.empty();
+  }
 }
@@ -0,0 +1,110 @@
+package com.octopus.jwt;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents a JWT whose signature and expiry have been verified. The claims are extracted once
+ * when the token is verified, so checking scopes, groups and the client ID do not require the
+ * token to be parsed again.
+ */
+@Getter
+public final class VerifiedJwt {
+
+  public static final String COGNITO_GROUPS = "cognito:groups";
+  public static final String SCOPE = "scope";
+  public static final String CLIENT_ID = "client_id";
+  public static final String EXPIRY = "exp";
+
+  /**
+   * All the claims in the token payload.
+   */
+  private final Map<String, Object> claims;
+  /**
+   * The space separated values in the "scope" claim.
+   */
+  private final List<String> scopes;
+  /**
+   * The Cognito groups the user belongs to.
+   */
+  private final List<String> groups;
+  /**
+   * The Cognito app client that generated the token.
+   */
+  private final Optional<String> clientId;
+  /**
+   * The time the token expires in milliseconds since the epoch, or zero if the token has no expiry.
+   */
+  private final long expiresAt;
+
+  private VerifiedJwt(
+      final Map<String, Object> claims,
+      final List<String> scopes,
+      final List<String> groups,
+      final Optional<String> clientId,
+      final long expiresAt) {
+    this.claims = claims;
+    this.scopes = scopes;
+    this.groups = groups;
+    this.clientId = clientId;
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * Build a VerifiedJwt from the claims of a token that has already been verified.
+   *
+   * @param claims The token payload.
+   * @return The VerifiedJwt exposing the claims.
+   */
+  public static VerifiedJwt fromClaims(@NonNull final Map<String, Object> claims) {
+    final List<String> scopes = claims.containsKey(SCOPE)
+        ? List.of(claims.get(SCOPE).toString().split(" "))
+        : List.of();
+
+    final List<String> groups = claims.get(COGNITO_GROUPS) instanceof List
+        ? ((List<?>) claims.get(COGNITO_GROUPS)).stream()
+        .map(Object::toString)
+        .collect(Collectors.toUnmodifiableList())
+        : List.of();
+
+    final Optional<String> clientId = claims.containsKey(CLIENT_ID)
+        ? Optional.of(claims.get(CLIENT_ID).toString())
+        : Optional.empty();
+
+    final long expiresAt = claims.get(EXPIRY) instanceof Number
+        ? ((Number) claims.get(EXPIRY)).longValue() * 1000
+        : 0;
+
+    return new VerifiedJwt(
+        Collections.unmodifiableMap(claims),
+        scopes,
+        groups,
+        clientId,
+        expiresAt);
+  }
+
+  /**
+   * Returns the claim if it exists.
+   *
+   * @param claim The name of the claim.
+   * @return The claim value, or empty if it doesn't exist.
+   */
+  public Optional<String> getClaim(@NonNull final String claim) {
+    return Optional.ofNullable(claims.get(claim)).map(Object::toString);
+  }
+
+  /**
+   * Determines if the token has expired.
+   *
+   * @param now The current time in milliseconds since the epoch.
+   * @return true if the token has expired or has no expiry, and false otherwise.
+   */
+  public boolean isExpired(final long now) {
+    return expiresAt <= now;
+  }
+}
@@ -0,0 +1,107 @@
+package com.octopus.jwt.impl;
+
+import com.octopus.Constants;
+import com.octopus.features.AdminJwtClaimFeature;
+import com.octopus.features.AdminJwtGroupFeature;
+import com.octopus.features.DisableSecurityFeature;
+import com.octopus.jwt.AuthContext;
+import com.octopus.jwt.AuthContextFactory;
+import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.JwtUtils;
+import com.octopus.utilties.PartitionIdentifier;
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Builds the AuthContext of a request. Each token is checked once, and the result of the admin
+ * group check is reused to decide if the caller may use data partitions.
+ */
+public class AuthContextFactoryImpl implements AuthContextFactory {
+
+  private final JwtInspector jwtInspector;
+  private final JwtUtils jwtUtils;
+  private final PartitionIdentifier partitionIdentifier;
+  private final AdminJwtClaimFeature adminJwtClaimFeature;
+  private final AdminJwtGroupFeature adminJwtGroupFeature;
+  private final DisableSecurityFeature cognitoDisableAuth;
+  private final String cognitoClientId;
+
+  /**
+   * Constructor.
+   *
+   * @param jwtInspector         The JWT inspector service.
+   * @param jwtUtils             The JWT utilities service.
+   * @param partitionIdentifier  The data partition identifier service.
+   * @param adminJwtClaimFeature The JWT admin claim feature.
+   * @param adminJwtGroupFeature The JWT admin group feature.
+   * @param cognitoDisableAuth   The auth disable feature.
+   * @param cognitoClientId      The client id that must be used to create service tokens.
+   */
+  public AuthContextFactoryImpl(@NonNull final JwtInspector jwtInspector,
+      @NonNull final JwtUtils jwtUtils,
+      @NonNull final PartitionIdentifier partitionIdentifier,
+      @NonNull final AdminJwtClaimFeature adminJwtClaimFeature,
+      @NonNull final AdminJwtGroupFeature adminJwtGroupFeature,
+      @NonNull final DisableSecurityFeature cognitoDisableAuth,
+      final String cognitoClientId) {
+    this.jwtInspector = jwtInspector;
+    this.jwtUtils = jwtUtils;
+    this.partitionIdentifier = partitionIdentifier;
+    this.adminJwtClaimFeature = adminJwtClaimFeature;
+    this.adminJwtGroupFeature = adminJwtGroupFeature;
+    this.cognitoDisableAuth = cognitoDisableAuth;
+    this.cognitoClientId = cognitoClientId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public AuthContext build(final String authorizationHeader,
+      final String serviceAuthorizationHeader,
+      final List<String> dataPartitionHeaders) {
+    if (cognitoDisableAuth.getCognitoAuthDisabled()) {
+      return AuthContext.authDisabled(
+          partitionIdentifier.getPartitionFromHeader(dataPartitionHeaders));
+    }
+
+    final Optional<String> serviceToken =
+        jwtUtils.getJwtFromAuthorizationHeader(serviceAuthorizationHeader);
+    final Optional<String> userToken =
+        jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader);
+
+    /*
+      An admin scope granted to an access token generated by a known client credentials
+      app client is accepted as machine-to-machine communication.
+     */
+    final boolean serviceScopeGranted = adminJwtClaimFeature.getAdminClaim()
+        .flatMap(claim -> serviceToken.map(
+            jwt -> jwtInspector.jwtContainsScope(jwt, claim, cognitoClientId)))
+        .orElse(false);
+
+    /*
+      Anyone assigned to the appropriate group is also granted access.
+     */
+    final boolean adminGroupMember = adminJwtGroupFeature.getAdminGroup()
+        .flatMap(group -> userToken.map(jwt -> jwtInspector.jwtContainsCognitoGroup(jwt, group)))
+        .orElse(false);
+
+    /*
+      The caller must be a member of a known group to make use of data partitions.
+      Everyone else must work in the main partition.
+     */
+    final String dataPartition = adminGroupMember && userToken.filter(StringUtils::isNotBlank)
+        .isPresent()
+        ? partitionIdentifier.getPartitionFromHeader(dataPartitionHeaders)
+        : Constants.DEFAULT_PARTITION;
+
+    return AuthContext.verified(
+        serviceToken,
+        userToken,
+        serviceScopeGranted,
+        adminGroupMember,
+        dataPartition);
+  }
+}
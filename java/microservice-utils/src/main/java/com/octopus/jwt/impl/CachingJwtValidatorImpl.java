@@ -0,0 +1,148 @@
+package com.octopus.jwt.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.octopus.jwt.JwtValidator;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * A service to validate JWT tokens that parses each distinct JWK configuration value once, and
+ * reuses the RSA verifiers built from the keys it contains. The JWK configuration is static for
+ * the lifetime of a service, so the result of each verification is identical to JwtValidatorImpl.
+ */
+public class CachingJwtValidatorImpl implements JwtValidator {
+
+  private static final int DEFAULT_MAX_JWK_SETS = 8;
+
+  private final Cache<String, ParsedJwkSet> jwkSets;
+
+  /**
+   * Constructor.
+   */
+  public CachingJwtValidatorImpl() {
+    this(DEFAULT_MAX_JWK_SETS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxJwkSets The maximum number of distinct JWK configuration values to retain.
+   */
+  public CachingJwtValidatorImpl(final int maxJwkSets) {
+    if (maxJwkSets <= 0) {
+      throw new IllegalArgumentException("maxJwkSets must be greater than zero");
+    }
+
+    this.jwkSets = CacheBuilder.newBuilder()
+        .maximumSize(maxJwkSets)
+        .build();
+  }
+
+  @Override
+  public boolean jwtIsValid(final String jwt, final String jwk)
+      throws ParseException, IOException, JOSEException {
+    return getVerifiedClaims(jwt, jwk).isPresent();
+  }
+
+  @Override
+  public Optional<Map<String, Object>> getVerifiedClaims(final String jwt, final String jwk)
+      throws ParseException, IOException, JOSEException {
+    final JWSObject jwsObject = JWSObject.parse(jwt);
+    final JWSVerifier verifier = getJwkSet(jwk).getVerifier(jwsObject.getHeader().getKeyID());
+    if (verifier != null) {
+      if (jwsObject.verify(verifier)) {
+        final Map<String, Object> payload = jwsObject.getPayload().toJSONObject();
+        if (payload.containsKey("exp")
+            && ((Long) payload.get("exp") * 1000) > new Date().getTime()) {
+          return Optional.of(payload);
+        }
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the number of parsed JWK sets held in the cache.
+   *
+   * @return The number of cached JWK sets.
+   */
+  public long getCachedJwkSetCount() {
+    return jwkSets.size();
+  }
+
+  private ParsedJwkSet getJwkSet(final String jwk) throws ParseException, IOException {
+    try {
+      return jwkSets.get(jwk, () -> new ParsedJwkSet(jwk));
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof ParseException) {
+        throw (ParseException) ex.getCause();
+      }
+      throw (IOException) ex.getCause();
+    } catch (final UncheckedExecutionException ex) {
+      throw (RuntimeException) ex.getCause();
+    }
+  }
+
+  /**
+   * A JWK set indexed by key ID, along with the verifiers created for the keys that have been used.
+   */
+  private static class ParsedJwkSet {
+
+    private final Map<String, JWK> keys = new HashMap<>();
+    private final Map<String, JWSVerifier> verifiers = new ConcurrentHashMap<>();
+
+    ParsedJwkSet(final String jwk) throws ParseException, IOException {
+      final String jwkDecoded = new String(Base64.getDecoder().decode(jwk));
+      final JWKSet publicKeys = JWKSet.load(
+          IOUtils.toInputStream(jwkDecoded, Charset.defaultCharset()));
+      for (final JWK key : publicKeys.getKeys()) {
+        if (key.getKeyID() != null) {
+          // JWKSet.getKeyByKeyId returns the first match, so don't replace existing keys
+          keys.putIfAbsent(key.getKeyID(), key);
+        }
+      }
+    }
+
+    /**
+     * Returns the verifier for the supplied key ID. Verifiers are created on demand so a key that
+     * is not an RSA key fails in the same way it would with JwtValidatorImpl.
+     *
+     * @param keyId The key ID from the JWT header.
+     * @return The verifier, or null if the key ID is not in the JWK set.
+     * @throws JOSEException If the RSA JWK extraction failed.
+     */
+    JWSVerifier getVerifier(final String keyId) throws JOSEException {
+      final JWK key = keyId == null ? null : keys.get(keyId);
+      if (key == null) {
+        return null;
+      }
+
+      final JWSVerifier existing = verifiers.get(keyId);
+      if (existing != null) {
+        return existing;
+      }
+
+      final JWSVerifier verifier = new RSASSAVerifier(key.toRSAKey());
+      verifiers.putIfAbsent(keyId, verifier);
+      return verifier;
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package com.octopus.jwt.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSObject;
 import com.octopus.features.CognitoJwkBase64Feature;
@@ -7,9 +10,11 @@ import com.octopus.features.DisableSecurityFeature;
 import com.octopus.features.MicroserviceNameFeature;
 import com.octopus.jwt.JwtInspector;
 import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.VerifiedJwt;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,13 +29,24 @@ import org.apache.commons.lang3.StringUtils;
 public class JoseJwtInspector implements JwtInspector {
 
   private static Logger LOGGER = Logger.getLogger(JoseJwtInspector.class.getName());
-  private static final String COGNITO_GROUPS = "cognito:groups";
-  private static final String SCOPE = "scope";
-  private static final String CLIENT_ID = "client_id";
+  private static final String COGNITO_GROUPS = VerifiedJwt.COGNITO_GROUPS;
+  /**
+   * The maximum number of verified tokens to cache.
+   */
+  private static final int MAX_CACHED_TOKENS = 1000;
+  /**
+   * Cached tokens are removed when they expire, but Cognito tokens can be configured to live for
+   * up to a day, so tokens are also reverified after an hour.
+   */
+  private static final Duration MAX_CACHE_AGE = Duration.ofHours(1);
   private final CognitoJwkBase64Feature cognitoJwk;
   private final DisableSecurityFeature cognitoDisableAuth;
   private final JwtValidator jwtValidator;
   private final MicroserviceNameFeature microserviceName;
+  private final Cache<String, VerifiedJwt> verifiedJwts = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_TOKENS)
+      .expireAfterWrite(MAX_CACHE_AGE)
+      .build();
 
   /**
    * Constructor.
@@ -61,20 +77,14 @@ public class JoseJwtInspector implements JwtInspector {
     }
 
     try {
-      if (jwtValidator.jwtIsValid(jwt, cognitoJwk.getCognitoJwk().get())) {
-        final JWSObject jwsObject = JWSObject.parse(jwt);
-        final Map<String, Object> payload = jwsObject.getPayload().toJSONObject();
-        if (payload.containsKey(COGNITO_GROUPS)) {
-          if (payload.get(COGNITO_GROUPS) instanceof List) {
-            final boolean valid = ((List) payload.get(COGNITO_GROUPS))
-                .stream().anyMatch(g -> g.toString().equals(group));
-            if (!valid) {
-              LOGGER.log(Level.SEVERE, microserviceName.getMicroserviceName()
-                  + "-Jwt-AuthorizationError Authorization token does not contain the group");
-            }
-            return valid;
-          }
+      final VerifiedJwt verifiedJwt = verify(jwt);
+      if (verifiedJwt != null && verifiedJwt.getClaims().get(COGNITO_GROUPS) instanceof List) {
+        final boolean valid = verifiedJwt.getGroups().contains(group);
+        if (!valid) {
+          LOGGER.log(Level.SEVERE, microserviceName.getMicroserviceName()
+              + "-Jwt-AuthorizationError Authorization token does not contain the group");
         }
+        return valid;
       }
     } catch (final IOException | ParseException | JOSEException e) {
       LOGGER.log(Level.SEVERE,
@@ -94,9 +104,12 @@ public class JoseJwtInspector implements JwtInspector {
     }
 
     try {
-      if (jwtValidator.jwtIsValid(jwt, cognitoJwk.getCognitoJwk().get())) {
-        if (extractScope(jwt).contains(scope)) {
-          final boolean valid = extractClientId(jwt).map(c -> c.equals(clientId)).orElse(false);
+      final VerifiedJwt verifiedJwt = verify(jwt);
+      if (verifiedJwt != null) {
+        if (verifiedJwt.getScopes().contains(scope)) {
+          final boolean valid = verifiedJwt.getClientId()
+              .map(c -> c.equals(clientId))
+              .orElse(false);
           if (!valid) {
             LOGGER.log(Level.SEVERE, microserviceName.getMicroserviceName()
                 + "-Jwt-ServiceAuthorizationError Service-Authorization token does not match the expected Cognito client");
@@ -116,6 +129,25 @@ public class JoseJwtInspector implements JwtInspector {
     return false;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<VerifiedJwt> getVerifiedJwt(@NonNull final String jwt) {
+    if (!configIsValid()) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.ofNullable(verify(jwt));
+    } catch (final IOException | ParseException | JOSEException e) {
+      LOGGER.log(Level.SEVERE,
+          microserviceName.getMicroserviceName() + "-Jwt-ValidationError " + jwt, e);
+    }
+
+    return Optional.empty();
+  }
+
   @Override
   public Optional<String> getClaim(@NonNull final String jwt, @NonNull final String claim) {
     try {
@@ -139,11 +171,7 @@ public class JoseJwtInspector implements JwtInspector {
    * @throws ParseException If the string couldn't be parsed to a JWS object.
    */
   List<String> extractScope(final String jwt) throws ParseException {
-    final Map<String, Object> payload = getPayload(jwt);
-    if (payload.containsKey(SCOPE)) {
-      return Arrays.asList(payload.get(SCOPE).toString().split(" "));
-    }
-    return List.of();
+    return VerifiedJwt.fromClaims(getPayload(jwt)).getScopes();
   }
 
   /**
@@ -154,11 +182,43 @@ public class JoseJwtInspector implements JwtInspector {
    * @throws ParseException If the string couldn't be parsed to a JWS object.
    */
   Optional<String> extractClientId(final String jwt) throws ParseException {
-    final Map<String, Object> payload = getPayload(jwt);
-    if (payload.containsKey(CLIENT_ID)) {
-      return Optional.of(payload.get(CLIENT_ID).toString());
+    return VerifiedJwt.fromClaims(getPayload(jwt)).getClientId();
+  }
+
+  /**
+   * Verifies the JWT, returning the cached result if the same token has already been verified
+   * and has not yet expired. Tokens are cached against a hash of their value, and tokens that
+   * are already expired are never cached.
+   *
+   * @param jwt The JWT.
+   * @return The verified token, or null if the token is not valid.
+   * @throws ParseException If the string couldn't be parsed to a JWS object.
+   * @throws IOException    If the input stream couldn't be read.
+   * @throws JOSEException  If the RSA JWK extraction failed.
+   */
+  VerifiedJwt verify(final String jwt) throws ParseException, IOException, JOSEException {
+    final String key = Hashing.sha256().hashString(jwt, StandardCharsets.UTF_8).toString();
+    final long now = System.currentTimeMillis();
+
+    final VerifiedJwt cached = verifiedJwts.getIfPresent(key);
+    if (cached != null) {
+      if (!cached.isExpired(now)) {
+        return cached;
+      }
+      verifiedJwts.invalidate(key);
     }
-    return Optional.empty();
+
+    final Optional<Map<String, Object>> claims =
+        jwtValidator.getVerifiedClaims(jwt, cognitoJwk.getCognitoJwk().get());
+    if (claims.isEmpty()) {
+      return null;
+    }
+
+    final VerifiedJwt verifiedJwt = VerifiedJwt.fromClaims(claims.get());
+    if (!verifiedJwt.isExpired(now)) {
+      verifiedJwts.put(key, verifiedJwt);
+    }
+    return verifiedJwt;
   }
 
   Map<String, Object> getPayload(final String jwt) throws ParseException {
@@ -0,0 +1,189 @@
+package com.octopus.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The headers, cookies and query params of a Lambda request, indexed once when the request is
+ * received. The single and multi value collections are merged into maps keyed by the lower case
+ * name, so each lookup is a single hash lookup rather than a scan of every entry in the event.
+ *
+ * <p>Values are returned in the same order as the CaseInsensitive extractors: values from the multi
+ * value collection first, followed by values from the single value collection.
+ */
+public final class LambdaRequestContext {
+
+  private static final String COOKIE_HEADER = "cookie";
+
+  /**
+   * The request this context was built from.
+   */
+  @Getter
+  private final APIGatewayProxyRequestEvent event;
+  private final Map<String, List<String>> headers;
+  private final Map<String, List<String>> queryParams;
+  private final Map<String, List<String>> cookies;
+
+  private LambdaRequestContext(
+      final APIGatewayProxyRequestEvent event,
+      final Map<String, List<String>> headers,
+      final Map<String, List<String>> queryParams,
+      final Map<String, List<String>> cookies) {
+    this.event = event;
+    this.headers = headers;
+    this.queryParams = queryParams;
+    this.cookies = cookies;
+  }
+
+  /**
+   * Build the context for a Lambda request. This is expected to be called once per invocation.
+   *
+   * @param input The Lambda request.
+   * @return The context exposing the request headers, cookies and query params.
+   */
+  public static LambdaRequestContext fromEvent(@NonNull final APIGatewayProxyRequestEvent input) {
+    final Map<String, List<String>> headers =
+        index(input.getMultiValueHeaders(), input.getHeaders());
+    final Map<String, List<String>> queryParams = index(
+        input.getMultiValueQueryStringParameters(),
+        input.getQueryStringParameters());
+
+    return new LambdaRequestContext(
+        input,
+        headers,
+        queryParams,
+        parseCookies(headers.getOrDefault(COOKIE_HEADER, List.of())));
+  }
+
+  /**
+   * Get the first header with the supplied name.
+   *
+   * @param name The case insensitive name of the header.
+   * @return The first matching header value, or empty if there was no match.
+   */
+  public Optional<String> getFirstHeader(@NonNull final String name) {
+    return first(headers, name);
+  }
+
+  /**
+   * Get all headers with the supplied name.
+   *
+   * @param name The case insensitive name of the header.
+   * @return All the values that match the name.
+   */
+  public List<String> getAllHeaders(@NonNull final String name) {
+    return all(headers, name);
+  }
+
+  /**
+   * Get the first cookie with the supplied name.
+   *
+   * @param name The case insensitive name of the cookie.
+   * @return The first matching cookie value, or empty if there was no match.
+   */
+  public Optional<String> getCookieValue(@NonNull final String name) {
+    return first(cookies, name);
+  }
+
+  /**
+   * Get all cookies with the supplied name.
+   *
+   * @param name The case insensitive name of the cookie.
+   * @return All the values that match the name.
+   */
+  public List<String> getAllCookieValues(@NonNull final String name) {
+    return all(cookies, name);
+  }
+
+  /**
+   * Get the first query param with the supplied name.
+   *
+   * @param name The case insensitive name of the query param.
+   * @return The first matching query param value, or empty if there was no match.
+   */
+  public Optional<String> getQueryParam(@NonNull final String name) {
+    return first(queryParams, name);
+  }
+
+  /**
+   * Get all query params with the supplied name.
+   *
+   * @param name The case insensitive name of the query param.
+   * @return All the values that match the name.
+   */
+  public List<String> getAllQueryParams(@NonNull final String name) {
+    return all(queryParams, name);
+  }
+
+  private static Optional<String> first(final Map<String, List<String>> values,
+      final String name) {
+    final List<String> matches = values.get(normalize(name));
+    return matches == null ? Optional.empty() : Optional.of(matches.get(0));
+  }
+
+  private static List<String> all(final Map<String, List<String>> values, final String name) {
+    final List<String> matches = values.get(normalize(name));
+    return matches == null ? List.of() : Collections.unmodifiableList(matches);
+  }
+
+  private static Map<String, List<String>> index(
+      final Map<String, List<String>> multiValues,
+      final Map<String, String> singleValues) {
+    final Map<String, List<String>> index = new HashMap<>();
+
+    if (multiValues != null) {
+      multiValues.forEach((key, values) -> {
+        if (values != null) {
+          values.forEach(value -> add(index, key, value));
+        }
+      });
+    }
+
+    if (singleValues != null) {
+      singleValues.forEach((key, value) -> add(index, key, value));
+    }
+
+    return index;
+  }
+
+  /**
+   * Split each Cookie header into the individual cookies. As with CaseInsensitiveCookieExtractor,
+   * the cookie name is everything before the first equals sign, and a cookie without an equals sign
+   * uses the whole string as both the name and value.
+   */
+  private static Map<String, List<String>> parseCookies(final List<String> cookieHeaders) {
+    final Map<String, List<String>> cookies = new HashMap<>();
+    cookieHeaders.stream()
+        .flatMap(h -> Stream.of(h.split(";")))
+        .map(String::trim)
+        .forEach(c -> {
+          final int separator = c.indexOf('=');
+          if (separator == -1) {
+            add(cookies, c, c);
+          } else {
+            add(cookies, c.substring(0, separator), c.substring(separator + 1));
+          }
+        });
+    return cookies;
+  }
+
+  private static void add(final Map<String, List<String>> index, final String key,
+      final String value) {
+    if (key != null && value != null) {
+      index.computeIfAbsent(normalize(key), k -> new ArrayList<>(1)).add(value);
+    }
+  }
+
+  private static String normalize(final String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
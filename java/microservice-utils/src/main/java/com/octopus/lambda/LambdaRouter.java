@@ -0,0 +1,415 @@
+package com.octopus.lambda;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Dispatches Lambda requests to the handler registered against the request method and path.
+ *
+ * <p>Routes are registered once with a path template like "/api/audits/{id}". A segment in braces
+ * matches any single non-empty path segment, and a final segment like "{id+}" matches all the
+ * remaining segments. Literal segments take precedence over variables, and a single trailing slash
+ * in the request path is ignored.
+ *
+ * <p>The templates are compiled into a tree of path segments, so a request is matched by walking
+ * the segments of its path rather than testing a regular expression for each route. Requests that
+ * match no path return the not found response, requests that match a path but not the method
+ * return the method not allowed response, and exceptions thrown by handlers are passed to the first
+ * registered exception mapper that accepts them.
+ *
+ * <p>A router is immutable once built, and can be shared between threads.
+ *
+ * @param <T> The type of the Lambda response.
+ */
+public final class LambdaRouter<T> {
+
+  private final Node<T> root;
+  private final List<ExceptionMapper<T, ?>> exceptionMappers;
+  private final Function<LambdaRequestContext, T> notFound;
+  private final Function<LambdaRequestContext, T> methodNotAllowed;
+  private final BiFunction<Exception, LambdaRequestContext, T> error;
+
+  private LambdaRouter(final Builder<T> builder) {
+    this.root = new Node<>();
+    for (final Route<T> route : builder.routes) {
+      root.add(route, 0);
+    }
+    this.exceptionMappers = List.copyOf(builder.exceptionMappers);
+    this.notFound = builder.notFound;
+    this.methodNotAllowed = builder.methodNotAllowed;
+    this.error = builder.error;
+  }
+
+  /**
+   * Create a builder used to register routes and error responses.
+   *
+   * @param <T> The type of the Lambda response.
+   * @return The new builder.
+   */
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Pass the request to the matching handler, and return the response.
+   *
+   * @param request The Lambda request.
+   * @return The response from the handler, or the response built by the not found, method not
+   *     allowed or exception mappers.
+   */
+  public T route(@NonNull final LambdaRequestContext request) {
+    final RouteMatch<T> match = match(
+        request.getEvent().getHttpMethod(),
+        request.getEvent().getPath());
+
+    if (match.isFound()) {
+      try {
+        return match.getHandler().get().handle(request, match.getPathVariables());
+      } catch (final Exception ex) {
+        return mapException(ex, request);
+      }
+    }
+
+    if (match.isMethodNotAllowed()) {
+      return methodNotAllowed.apply(request);
+    }
+
+    return notFound.apply(request);
+  }
+
+  /**
+   * Find the route matching a method and path.
+   *
+   * @param method The case insensitive HTTP method.
+   * @param path   The request path.
+   * @return The match, which may have found the path and method, just the path, or nothing.
+   */
+  public RouteMatch<T> match(final String method, final String path) {
+    final String[] segments = splitPath(ObjectUtils.defaultIfNull(path, ""));
+    final String normalizedMethod = ObjectUtils.defaultIfNull(method, "").toUpperCase(Locale.ROOT);
+
+    final Captures captures = new Captures();
+    final Node<T> node = root.find(segments, 0, normalizedMethod, captures);
+    if (node != null) {
+      return new RouteMatch<>(
+          node.handlers.get(normalizedMethod),
+          captures.getVariables(),
+          node.allowedMethods);
+    }
+
+    // no route accepts the method, so look for any route with the path to return a 405
+    final Node<T> pathNode = root.find(segments, 0, null, new Captures());
+    return new RouteMatch<>(
+        null,
+        Map.of(),
+        pathNode == null ? Set.of() : pathNode.allowedMethods);
+  }
+
+  private T mapException(final Exception ex, final LambdaRequestContext request) {
+    for (final ExceptionMapper<T, ?> mapper : exceptionMappers) {
+      if (mapper.type.isInstance(ex)) {
+        return mapper.apply(ex, request);
+      }
+    }
+    return error.apply(ex, request);
+  }
+
+  /**
+   * Split a path into segments, ignoring the leading slash and a single trailing slash. This avoids
+   * String.split, as it is called for every request.
+   */
+  private static String[] splitPath(final String path) {
+    final int start = path.startsWith("/") ? 1 : 0;
+    final int end = path.length() > start && path.endsWith("/") ? path.length() - 1 : path.length();
+    if (start >= end) {
+      return new String[0];
+    }
+
+    int count = 1;
+    for (int i = start; i < end; ++i) {
+      if (path.charAt(i) == '/') {
+        ++count;
+      }
+    }
+
+    final String[] segments = new String[count];
+    int segmentStart = start;
+    for (int i = 0; i < count - 1; ++i) {
+      final int separator = path.indexOf('/', segmentStart);
+      segments[i] = path.substring(segmentStart, separator);
+      segmentStart = separator + 1;
+    }
+    segments[count - 1] = path.substring(segmentStart, end);
+    return segments;
+  }
+
+  /**
+   * A node in the tree of path segments. Each node holds the handlers for the path ending at the
+   * node, keyed by the upper case HTTP method.
+   */
+  private static final class Node<T> {
+
+    private final Map<String, Node<T>> literals = new HashMap<>();
+    private final Map<String, RouteHandler<T>> handlers = new HashMap<>();
+    private final Set<String> allowedMethods = Collections.unmodifiableSet(handlers.keySet());
+    private String variableName;
+    private Node<T> variable;
+    private String greedyName;
+    private Node<T> greedy;
+
+    void add(final Route<T> route, final int index) {
+      if (index == route.segments.length) {
+        if (handlers.putIfAbsent(route.method, route.handler) != null) {
+          throw new IllegalArgumentException(
+              "The route " + route.method + " " + route.template + " was registered twice");
+        }
+        return;
+      }
+
+      final String segment = route.segments[index];
+      if (segment.startsWith("{") && segment.endsWith("+}")) {
+        if (index != route.segments.length - 1) {
+          throw new IllegalArgumentException(
+              "The greedy variable in " + route.template + " must be the last segment");
+        }
+        final String name = segment.substring(1, segment.length() - 2);
+        greedyName = checkName(greedyName, name, route);
+        greedy = greedy == null ? new Node<>() : greedy;
+        greedy.add(route, index + 1);
+      } else if (segment.startsWith("{") && segment.endsWith("}")) {
+        final String name = segment.substring(1, segment.length() - 1);
+        variableName = checkName(variableName, name, route);
+        variable = variable == null ? new Node<>() : variable;
+        variable.add(route, index + 1);
+      } else {
+        literals.computeIfAbsent(segment, s -> new Node<>()).add(route, index + 1);
+      }
+    }
+
+    /**
+     * Find the node matching the path segments.
+     *
+     * @param segments  The request path segments.
+     * @param index     The index of the segment to match against this node.
+     * @param method    The method the node must have a handler for, or null to match any method.
+     * @param captures  The path variables captured by the match.
+     * @return The matching node, or null if there was no match.
+     */
+    Node<T> find(
+        final String[] segments,
+        final int index,
+        final String method,
+        final Captures captures) {
+      if (index == segments.length) {
+        return accepts(method) ? this : null;
+      }
+
+      final String segment = segments[index];
+
+      final Node<T> literal = literals.get(segment);
+      if (literal != null) {
+        final Node<T> match = literal.find(segments, index + 1, method, captures);
+        if (match != null) {
+          return match;
+        }
+      }
+
+      if (segment.isEmpty()) {
+        return null;
+      }
+
+      if (variable != null) {
+        final Node<T> match = variable.find(segments, index + 1, method, captures);
+        if (match != null) {
+          captures.put(variableName, segment);
+          return match;
+        }
+      }
+
+      if (greedy != null && greedy.accepts(method)) {
+        captures.put(greedyName,
+            String.join("/", List.of(segments).subList(index, segments.length)));
+        return greedy;
+      }
+
+      return null;
+    }
+
+    private boolean accepts(final String method) {
+      return method == null ? !handlers.isEmpty() : handlers.containsKey(method);
+    }
+
+    private static String checkName(final String existing, final String name,
+        final Route<?> route) {
+      if (name.isEmpty()) {
+        throw new IllegalArgumentException(
+            "The route " + route.template + " has an unnamed variable");
+      }
+      if (existing != null && !existing.equals(name)) {
+        throw new IllegalArgumentException("The route " + route.template + " names the variable "
+            + name + " where another route uses " + existing);
+      }
+      return name;
+    }
+  }
+
+  /**
+   * The path variables captured while matching a request. Most requests match routes without
+   * variables, so the map is only created when a variable is captured.
+   */
+  private static final class Captures {
+
+    private Map<String, String> variables;
+
+    void put(final String name, final String value) {
+      if (variables == null) {
+        variables = new HashMap<>();
+      }
+      variables.put(name, value);
+    }
+
+    Map<String, String> getVariables() {
+      return variables == null ? Map.of() : Collections.unmodifiableMap(variables);
+    }
+  }
+
+  private static final class Route<T> {
+
+    private final String method;
+    private final String template;
+    private final String[] segments;
+    private final RouteHandler<T> handler;
+
+    Route(final String method, final String template, final RouteHandler<T> handler) {
+      this.method = method.toUpperCase(Locale.ROOT);
+      this.template = template;
+      this.segments = splitPath(template);
+      this.handler = handler;
+    }
+  }
+
+  private static final class ExceptionMapper<T, E extends Exception> {
+
+    private final Class<E> type;
+    private final BiFunction<? super E, LambdaRequestContext, T> mapper;
+
+    ExceptionMapper(final Class<E> type,
+        final BiFunction<? super E, LambdaRequestContext, T> mapper) {
+      this.type = type;
+      this.mapper = mapper;
+    }
+
+    T apply(final Exception ex, final LambdaRequestContext request) {
+      return mapper.apply(type.cast(ex), request);
+    }
+  }
+
+  /**
+   * Registers the routes and error responses of a LambdaRouter.
+   *
+   * @param <T> The type of the Lambda response.
+   */
+  public static final class Builder<T> {
+
+    private final List<Route<T>> routes = new ArrayList<>();
+    private final List<ExceptionMapper<T, ?>> exceptionMappers = new ArrayList<>();
+    private Function<LambdaRequestContext, T> notFound;
+    private Function<LambdaRequestContext, T> methodNotAllowed;
+    private BiFunction<Exception, LambdaRequestContext, T> error;
+
+    private Builder() {
+    }
+
+    /**
+     * Register a route.
+     *
+     * @param method   The HTTP method.
+     * @param template The path template, like "/api/audits/{id}".
+     * @param handler  The handler called when a request matches the method and path.
+     * @return This builder.
+     */
+    public Builder<T> route(
+        @NonNull final String method,
+        @NonNull final String template,
+        @NonNull final RouteHandler<T> handler) {
+      routes.add(new Route<>(method, template, handler));
+      return this;
+    }
+
+    /**
+     * Set the response returned when no route matches the request path.
+     *
+     * @param notFound The function building the response.
+     * @return This builder.
+     */
+    public Builder<T> notFound(@NonNull final Function<LambdaRequestContext, T> notFound) {
+      this.notFound = notFound;
+      return this;
+    }
+
+    /**
+     * Set the response returned when a route matches the request path, but not the method.
+     *
+     * @param methodNotAllowed The function building the response.
+     * @return This builder.
+     */
+    public Builder<T> methodNotAllowed(
+        @NonNull final Function<LambdaRequestContext, T> methodNotAllowed) {
+      this.methodNotAllowed = methodNotAllowed;
+      return this;
+    }
+
+    /**
+     * Map an exception thrown by a handler to a response. Mappers are tested in the order they are
+     * registered.
+     *
+     * @param type   The exception type, which includes subclasses.
+     * @param mapper The function building the response.
+     * @param <E>    The exception type.
+     * @return This builder.
+     */
+    public <E extends Exception> Builder<T> exception(
+        @NonNull final Class<E> type,
+        @NonNull final BiFunction<? super E, LambdaRequestContext, T> mapper) {
+      exceptionMappers.add(new ExceptionMapper<>(type, mapper));
+      return this;
+    }
+
+    /**
+     * Set the response returned when an exception is not accepted by any exception mapper.
+     *
+     * @param error The function building the response.
+     * @return This builder.
+     */
+    public Builder<T> error(@NonNull final BiFunction<Exception, LambdaRequestContext, T> error) {
+      this.error = error;
+      return this;
+    }
+
+    /**
+     * Build the router.
+     *
+     * @return The new router.
+     * @throws IllegalStateException    If the not found, method not allowed or error responses have
+     *                                  not been set.
+     * @throws IllegalArgumentException If a route is registered twice, or the path templates are
+     *                                  invalid.
+     */
+    public LambdaRouter<T> build() {
+      if (notFound == null || methodNotAllowed == null || error == null) {
+        throw new IllegalStateException(
+            "The not found, method not allowed and error responses must be set");
+      }
+      return new LambdaRouter<>(this);
+    }
+  }
+}
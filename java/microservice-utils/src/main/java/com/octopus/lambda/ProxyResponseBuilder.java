@@ -39,6 +39,14 @@ public interface ProxyResponseBuilder {
    */
   APIGatewayProxyResponseEvent buildPathNotFound();
 
+  /**
+   * Build a error object for a 405 method not allowed error. This is used to indicate that the path
+   * matched, but the lambda does not accept the HTTP method. https://jsonapi.org/format/#error-objects
+   *
+   * @return The ProxyResponse representing the error.
+   */
+  APIGatewayProxyResponseEvent buildMethodNotAllowed();
+
   /**
    * Build an error object including the exception name. https://jsonapi.org/format/#error-objects
    *
@@ -0,0 +1,22 @@
+package com.octopus.lambda;
+
+import java.util.Map;
+
+/**
+ * A function that responds to a request matched by a LambdaRouter.
+ *
+ * @param <T> The type of the Lambda response.
+ */
+@FunctionalInterface
+public interface RouteHandler<T> {
+
+  /**
+   * Respond to the request.
+   *
+   * @param request       The Lambda request.
+   * @param pathVariables The values of the variables in the route path template.
+   * @return The Lambda response.
+   * @throws Exception Any exception is passed to the exception mappers registered with the router.
+   */
+  T handle(LambdaRequestContext request, Map<String, String> pathVariables) throws Exception;
+}
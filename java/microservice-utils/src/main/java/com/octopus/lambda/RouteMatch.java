@@ -0,0 +1,62 @@
+package com.octopus.lambda;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * The result of looking up a request method and path in a LambdaRouter.
+ *
+ * @param <T> The type of the Lambda response.
+ */
+public final class RouteMatch<T> {
+
+  private final RouteHandler<T> handler;
+  /**
+   * The values of the variables in the matched path template.
+   */
+  @Getter
+  private final Map<String, String> pathVariables;
+  /**
+   * The methods registered against the matched path, or an empty set if no path matched.
+   */
+  @Getter
+  private final Set<String> allowedMethods;
+
+  RouteMatch(
+      final RouteHandler<T> handler,
+      final Map<String, String> pathVariables,
+      final Set<String> allowedMethods) {
+    this.handler = handler;
+    this.pathVariables = pathVariables;
+    this.allowedMethods = allowedMethods;
+  }
+
+  /**
+   * Returns the handler registered against the method and path.
+   *
+   * @return The handler, or empty if no route matched the method and path.
+   */
+  public Optional<RouteHandler<T>> getHandler() {
+    return Optional.ofNullable(handler);
+  }
+
+  /**
+   * Determines if a route matched both the method and path.
+   *
+   * @return true if a route matched, and false otherwise.
+   */
+  public boolean isFound() {
+    return handler != null;
+  }
+
+  /**
+   * Determines if a route matched the path, but not the method.
+   *
+   * @return true if the path matched a route that does not accept the method, and false otherwise.
+   */
+  public boolean isMethodNotAllowed() {
+    return handler == null && !allowedMethods.isEmpty();
+  }
+}
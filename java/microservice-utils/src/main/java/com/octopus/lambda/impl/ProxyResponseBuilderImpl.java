@@ -52,6 +52,13 @@ public class ProxyResponseBuilderImpl implements ProxyResponseBuilder {
         .withBody("{\"errors\": [{\"title\": \"Path not found\"}]}");
   }
 
+  @Override
+  public APIGatewayProxyResponseEvent buildMethodNotAllowed() {
+    return new ApiGatewayProxyResponseEventWithCors()
+        .withStatusCode(405)
+        .withBody("{\"errors\": [{\"title\": \"Method not allowed\"}]}");
+  }
+
   @Override
   public APIGatewayProxyResponseEvent buildBadRequest(@NonNull final Throwable ex) {
     return new ApiGatewayProxyResponseEventWithCors()
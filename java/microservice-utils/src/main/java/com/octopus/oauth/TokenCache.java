@@ -0,0 +1,26 @@
+package com.octopus.oauth;
+
+import io.vavr.control.Try;
+
+/**
+ * Represents a cache of client credentials access tokens, keyed by the client id and scope.
+ */
+public interface TokenCache {
+
+  /**
+   * Return a cached access token, or request a new token if there is no valid cached token.
+   *
+   * @param clientId     The client id.
+   * @param clientSecret The client secret.
+   * @param scope        The OAuth scopes to request.
+   * @return the access token or a wrapped exception.
+   */
+  Try<String> getAccessToken(String clientId, String clientSecret, String scope);
+
+  /**
+   * Return the number of cache hits, misses and refreshes since the cache was created.
+   *
+   * @return The cache statistics.
+   */
+  TokenCacheStats getStats();
+}
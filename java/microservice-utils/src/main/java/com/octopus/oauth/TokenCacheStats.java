@@ -0,0 +1,34 @@
+package com.octopus.oauth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A snapshot of the statistics recorded by a TokenCache.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class TokenCacheStats {
+  /**
+   * The number of requests returned a valid cached token.
+   */
+  private long hits;
+  /**
+   * The number of requests that had to wait for a new token.
+   */
+  private long misses;
+  /**
+   * The number of tokens requested from the authorization server, including background refreshes.
+   */
+  private long requests;
+  /**
+   * The number of background refreshes started before a cached token expired.
+   */
+  private long refreshes;
+  /**
+   * The number of failed token requests.
+   */
+  private long failures;
+}
@@ -0,0 +1,212 @@
+package com.octopus.oauth.impl;
+
+import com.octopus.oauth.Oauth;
+import com.octopus.oauth.OauthClient;
+import com.octopus.oauth.OauthClientCredsAccessor;
+import com.octopus.oauth.TokenCache;
+import com.octopus.oauth.TokenCacheStats;
+import io.vavr.control.Try;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A TokenCache that holds one token for each client id and scope.
+ *
+ * <p>Only one request for a token is made at a time for each client id and scope. Callers that
+ * find no valid token wait for the request that is already in flight rather than making their
+ * own. Once a token is close to expiring, the next caller to use it starts a refresh in the
+ * background and continues to use the cached token, so callers rarely wait for a new token.
+ */
+public class TokenCacheImpl implements TokenCache {
+
+  /**
+   * We can reuse a token until it expires, but we treat it as expired 10 mins before just to be
+   * safe.
+   */
+  private static final long EXPIRY_MARGIN_MILLIS = Duration.ofMinutes(10).toMillis();
+  private static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofMinutes(5);
+
+  private final OauthClient oauthClient;
+  private final long refreshAheadMillis;
+  private final Executor executor;
+  private final ConcurrentHashMap<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<TokenKey, CompletableFuture<String>> inflight =
+      new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  /**
+   * Constructor.
+   *
+   * @param oauthClient The REST interface.
+   */
+  public TokenCacheImpl(@NonNull final OauthClient oauthClient) {
+    this(oauthClient, DEFAULT_REFRESH_AHEAD, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param oauthClient  The REST interface.
+   * @param refreshAhead How long before a token expires to start refreshing it in the background.
+   * @param executor     The executor used to run background refreshes.
+   */
+  public TokenCacheImpl(@NonNull final OauthClient oauthClient,
+      @NonNull final Duration refreshAhead,
+      @NonNull final Executor executor) {
+    if (refreshAhead.isNegative()) {
+      throw new IllegalArgumentException("refreshAhead can not be negative");
+    }
+
+    this.oauthClient = oauthClient;
+    this.refreshAheadMillis = refreshAhead.toMillis();
+    this.executor = executor;
+  }
+
+  @Override
+  public Try<String> getAccessToken(@NonNull final String clientId,
+      @NonNull final String clientSecret,
+      @NonNull final String scope) {
+    final TokenKey key = new TokenKey(clientId, scope);
+    final CachedToken cached = tokens.get(key);
+    final long now = System.currentTimeMillis();
+
+    if (cached != null && now < cached.expiresAt) {
+      hits.increment();
+      if (now >= cached.refreshAt && !inflight.containsKey(key)) {
+        requestToken(key, clientSecret, true);
+      }
+      return Try.success(cached.accessToken);
+    }
+
+    misses.increment();
+    return Try.of(() -> requestToken(key, clientSecret, false).join())
+        .recoverWith(CompletionException.class, ex -> Try.failure(ex.getCause()));
+  }
+
+  @Override
+  public TokenCacheStats getStats() {
+    return TokenCacheStats.builder()
+        .hits(hits.sum())
+        .misses(misses.sum())
+        .requests(requests.sum())
+        .refreshes(refreshes.sum())
+        .failures(failures.sum())
+        .build();
+  }
+
+  /**
+   * Request a new token, or return the request that is already in flight for the key.
+   */
+  private CompletableFuture<String> requestToken(final TokenKey key, final String clientSecret,
+      final boolean background) {
+    final CompletableFuture<String> future = new CompletableFuture<>();
+    final CompletableFuture<String> existing = inflight.putIfAbsent(key, future);
+    if (existing != null) {
+      return existing;
+    }
+
+    if (background) {
+      refreshes.increment();
+      try {
+        executor.execute(() -> completeRequest(key, clientSecret, future));
+      } catch (final RuntimeException ex) {
+        failRequest(key, future, ex);
+      }
+    } else {
+      completeRequest(key, clientSecret, future);
+    }
+
+    return future;
+  }
+
+  private void completeRequest(final TokenKey key, final String clientSecret,
+      final CompletableFuture<String> future) {
+    try {
+      requests.increment();
+      final long requested = System.currentTimeMillis();
+      final Oauth oauth = oauthClient.getToken(
+          "Basic " + Base64.getEncoder().encodeToString(
+              (key.clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8)),
+          OauthClientCredsAccessor.CLIENT_CREDENTIALS,
+          key.clientId,
+          key.scope);
+
+      // We expect to see an access token. Fail if the value is empty.
+      if (oauth == null || StringUtils.isBlank(oauth.getAccessToken())) {
+        throw new IllegalStateException("The OAuth response did not include an access token");
+      }
+
+      final long expiresAt = requested + (long) oauth.getExpiresIn() * 1000 - EXPIRY_MARGIN_MILLIS;
+      tokens.put(key, new CachedToken(
+          oauth.getAccessToken(),
+          expiresAt,
+          expiresAt - refreshAheadMillis));
+      inflight.remove(key, future);
+      future.complete(oauth.getAccessToken());
+    } catch (final Exception ex) {
+      failRequest(key, future, ex);
+    }
+  }
+
+  private void failRequest(final TokenKey key, final CompletableFuture<String> future,
+      final Exception ex) {
+    failures.increment();
+    inflight.remove(key, future);
+    future.completeExceptionally(ex);
+  }
+
+  private static final class TokenKey {
+
+    private final String clientId;
+    private final String scope;
+
+    TokenKey(final String clientId, final String scope) {
+      this.clientId = clientId;
+      this.scope = scope;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof TokenKey)) {
+        return false;
+      }
+      final TokenKey other = (TokenKey) obj;
+      return clientId.equals(other.clientId) && scope.equals(other.scope);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(clientId, scope);
+    }
+  }
+
+  private static final class CachedToken {
+
+    private final String accessToken;
+    private final long expiresAt;
+    private final long refreshAt;
+
+    CachedToken(final String accessToken, final long expiresAt, final long refreshAt) {
+      this.accessToken = accessToken;
+      this.expiresAt = expiresAt;
+      this.refreshAt = refreshAt;
+    }
+  }
+}
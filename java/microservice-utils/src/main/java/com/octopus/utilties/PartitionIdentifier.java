@@ -15,4 +15,14 @@ public interface PartitionIdentifier {
    * @return The partition that the request is made under, defaulting to main.
    */
   String getPartition(List<String> header, String jwt);
+
+  /**
+   * Returns the partition named in the "Data-Partition" header without confirming the caller is
+   * allowed to use data partitions. This is used when the caller has already been verified, for
+   * example by an AuthContextFactory.
+   *
+   * @param header The "Data-Partition" header.
+   * @return The partition named in the header, defaulting to main.
+   */
+  String getPartitionFromHeader(List<String> header);
 }
@@ -50,6 +50,13 @@ public class PartitionIdentifierImpl implements PartitionIdentifier {
       return Constants.DEFAULT_PARTITION;
     }
 
+    return getPartitionFromHeader(header);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getPartitionFromHeader(final List<String> header) {
     if (header == null || header.size() == 0 || header.stream().allMatch(StringUtils::isBlank)) {
       return Constants.DEFAULT_PARTITION;
     }
@@ -0,0 +1,116 @@
+package com.octopus.encryption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.octopus.encryption.impl.AesCryptoUtils;
+import com.octopus.encryption.impl.CachingAesCryptoUtils;
+import com.octopus.exceptions.EncryptionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+
+public class CachingAesCryptoUtilsTest {
+
+  private static final String PASSWORD = RandomStringUtils.random(32, true, true);
+  private static final String SALT = RandomStringUtils.random(32, true, true);
+
+  @Test
+  public void testEncryptionAndDecryption() {
+    final CachingAesCryptoUtils cachingAesCryptoUtils = new CachingAesCryptoUtils();
+    for (int i = 0; i < 100; ++i) {
+      final String generatedString = RandomStringUtils.random(32, true, true);
+      final String encrypted = cachingAesCryptoUtils.encrypt(generatedString, PASSWORD, SALT);
+      final String decrypted = cachingAesCryptoUtils.decrypt(encrypted, PASSWORD, SALT);
+      assertEquals(generatedString, decrypted);
+      assertNotEquals(generatedString, encrypted);
+    }
+    assertEquals(1, cachingAesCryptoUtils.getCachedKeyCount());
+  }
+
+  @Test
+  public void testCompatibleWithAesCryptoUtils() {
+    final AesCryptoUtils aesCryptoUtils = new AesCryptoUtils();
+    final CachingAesCryptoUtils cachingAesCryptoUtils = new CachingAesCryptoUtils();
+    final String generatedString = RandomStringUtils.random(32, true, true);
+
+    assertEquals(generatedString, aesCryptoUtils.decrypt(
+        cachingAesCryptoUtils.encrypt(generatedString, PASSWORD, SALT), PASSWORD, SALT));
+    assertEquals(generatedString, cachingAesCryptoUtils.decrypt(
+        aesCryptoUtils.encrypt(generatedString, PASSWORD, SALT), PASSWORD, SALT));
+  }
+
+  @Test
+  public void testByteIdenticalOutput() {
+    final byte[] nonce = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12};
+    final AesCryptoUtils aesCryptoUtils = new AesCryptoUtils() {
+      @Override
+      protected byte[] getRandomNonce(final int numBytes) {
+        return nonce.clone();
+      }
+    };
+    final CachingAesCryptoUtils cachingAesCryptoUtils = new CachingAesCryptoUtils() {
+      @Override
+      protected byte[] getRandomNonce(final int numBytes) {
+        return nonce.clone();
+      }
+    };
+
+    for (int i = 0; i < 10; ++i) {
+      final String generatedString = RandomStringUtils.random(64, true, true);
+      assertEquals(
+          aesCryptoUtils.encrypt(generatedString, PASSWORD, SALT),
+          cachingAesCryptoUtils.encrypt(generatedString, PASSWORD, SALT));
+    }
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    final CachingAesCryptoUtils cachingAesCryptoUtils = new CachingAesCryptoUtils(2);
+    for (int i = 0; i < 5; ++i) {
+      final String password = RandomStringUtils.random(32, true, true);
+      final String encrypted = cachingAesCryptoUtils.encrypt("value", password, SALT);
+      assertEquals("value", cachingAesCryptoUtils.decrypt(encrypted, password, SALT));
+    }
+    assertEquals(2, cachingAesCryptoUtils.getCachedKeyCount());
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException, ExecutionException {
+    final CachingAesCryptoUtils cachingAesCryptoUtils = new CachingAesCryptoUtils();
+    final ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 64; ++i) {
+        results.add(executorService.submit(() -> {
+          final String generatedString = RandomStringUtils.random(32, true, true);
+          final String encrypted = cachingAesCryptoUtils.encrypt(generatedString, PASSWORD, SALT);
+          return generatedString.equals(cachingAesCryptoUtils.decrypt(encrypted, PASSWORD, SALT));
+        }));
+      }
+
+      for (final Future<Boolean> result : results) {
+        assertEquals(true, result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+    assertEquals(1, cachingAesCryptoUtils.getCachedKeyCount());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    final CachingAesCryptoUtils cachingAesCryptoUtils = new CachingAesCryptoUtils();
+    final String encrypted = cachingAesCryptoUtils.encrypt("value", PASSWORD, SALT);
+
+    assertThrows(IllegalArgumentException.class, () -> new CachingAesCryptoUtils(0));
+    assertThrows(EncryptionException.class, () -> cachingAesCryptoUtils.decrypt(
+        encrypted, RandomStringUtils.random(32, true, true), SALT));
+  }
+}
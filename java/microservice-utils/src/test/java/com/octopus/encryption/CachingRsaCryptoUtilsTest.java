@@ -0,0 +1,180 @@
+package com.octopus.encryption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.io.Resources;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsDecryptor;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsEncryptor;
+import com.octopus.encryption.impl.RsaCryptoUtilsDecryptor;
+import com.octopus.encryption.impl.RsaCryptoUtilsEncryptor;
+import com.octopus.exceptions.EncryptionException;
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.crypto.NoSuchPaddingException;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class CachingRsaCryptoUtilsTest {
+
+  private static final int THREADS = 16;
+  private static final int OPERATIONS_PER_THREAD = 50;
+  private static String privateKeyBase64;
+  private static String publicKeyBase64;
+
+  @BeforeAll
+  public static void init() throws IOException {
+    privateKeyBase64 = Base64.getEncoder().encodeToString(
+        Resources.toByteArray(Resources.getResource("keypair/private_key.der")));
+    publicKeyBase64 = Base64.getEncoder().encodeToString(
+        Resources.toByteArray(Resources.getResource("keypair/public_key.der")));
+  }
+
+  @Test
+  public void verifyEncryptionAndDecryption()
+      throws NoSuchPaddingException, NoSuchAlgorithmException {
+    final CachingRsaCryptoUtilsEncryptor encryptor = new CachingRsaCryptoUtilsEncryptor();
+    final CachingRsaCryptoUtilsDecryptor decryptor = new CachingRsaCryptoUtilsDecryptor();
+    for (int i = 0; i < 100; ++i) {
+      final String generatedString = RandomStringUtils.random(32, true, true);
+      final String encrypted = encryptor.encrypt(generatedString, publicKeyBase64);
+      final String decrypted = decryptor.decrypt(encrypted, privateKeyBase64);
+
+      assertNotEquals(generatedString, encrypted);
+      assertEquals(generatedString, decrypted);
+    }
+    assertEquals(1, encryptor.getCachedKeyCount());
+    assertEquals(1, decryptor.getCachedKeyCount());
+  }
+
+  @Test
+  public void verifyCompatibleWithUncachedImplementations()
+      throws NoSuchPaddingException, NoSuchAlgorithmException {
+    final String generatedString = RandomStringUtils.random(32, true, true);
+
+    assertEquals(generatedString, new RsaCryptoUtilsDecryptor().decrypt(
+        new CachingRsaCryptoUtilsEncryptor().encrypt(generatedString, publicKeyBase64),
+        privateKeyBase64));
+    assertEquals(generatedString, new CachingRsaCryptoUtilsDecryptor().decrypt(
+        new RsaCryptoUtilsEncryptor().encrypt(generatedString, publicKeyBase64),
+        privateKeyBase64));
+  }
+
+  @Test
+  public void verifyBulkEncryptionAndDecryption()
+      throws NoSuchPaddingException, NoSuchAlgorithmException {
+    final List<AsymmetricEncryptor> encryptors = List.of(
+        new CachingRsaCryptoUtilsEncryptor(), new RsaCryptoUtilsEncryptor());
+    final List<AsymmetricDecryptor> decryptors = List.of(
+        new CachingRsaCryptoUtilsDecryptor(), new RsaCryptoUtilsDecryptor());
+    final List<String> values = IntStream.range(0, 20)
+        .mapToObj(i -> RandomStringUtils.random(32, true, true))
+        .collect(Collectors.toList());
+
+    for (final AsymmetricEncryptor encryptor : encryptors) {
+      for (final AsymmetricDecryptor decryptor : decryptors) {
+        final List<String> encrypted = encryptor.encryptAll(values, publicKeyBase64);
+        assertEquals(values.size(), encrypted.size());
+        assertEquals(values, decryptor.decryptAll(encrypted, privateKeyBase64));
+      }
+    }
+
+    assertTrue(encryptors.get(0).encryptAll(List.of(), publicKeyBase64).isEmpty());
+    assertTrue(decryptors.get(0).decryptAll(List.of(), privateKeyBase64).isEmpty());
+  }
+
+  @Test
+  public void verifyMultipleKeys() throws NoSuchPaddingException, NoSuchAlgorithmException {
+    final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    final KeyPair keyPair = generator.generateKeyPair();
+    final String otherPublicKey = Base64.getEncoder().encodeToString(
+        keyPair.getPublic().getEncoded());
+    final String otherPrivateKey = Base64.getEncoder().encodeToString(
+        keyPair.getPrivate().getEncoded());
+
+    final CachingRsaCryptoUtilsEncryptor encryptor = new CachingRsaCryptoUtilsEncryptor(1);
+    final CachingRsaCryptoUtilsDecryptor decryptor = new CachingRsaCryptoUtilsDecryptor(1);
+    for (int i = 0; i < 3; ++i) {
+      assertEquals("first", decryptor.decrypt(
+          encryptor.encrypt("first", publicKeyBase64), privateKeyBase64));
+      assertEquals("second", decryptor.decrypt(
+          encryptor.encrypt("second", otherPublicKey), otherPrivateKey));
+    }
+    assertEquals(1, encryptor.getCachedKeyCount());
+    assertEquals(1, decryptor.getCachedKeyCount());
+
+    final String encrypted = encryptor.encrypt("first", publicKeyBase64);
+    assertThrows(EncryptionException.class, () -> decryptor.decrypt(encrypted, otherPrivateKey));
+    assertThrows(EncryptionException.class,
+        () -> decryptor.decryptAll(List.of(encrypted), otherPrivateKey));
+    // the cipher is still usable after a failure
+    assertEquals("first", decryptor.decrypt(encrypted, privateKeyBase64));
+  }
+
+  @Test
+  public void verifyConcurrentAccess()
+      throws NoSuchPaddingException, NoSuchAlgorithmException, InterruptedException,
+      ExecutionException {
+    final CachingRsaCryptoUtilsEncryptor encryptor = new CachingRsaCryptoUtilsEncryptor();
+    final CachingRsaCryptoUtilsDecryptor decryptor = new CachingRsaCryptoUtilsDecryptor();
+    final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < THREADS; ++i) {
+        results.add(executorService.submit(() -> {
+          int matches = 0;
+          for (int j = 0; j < OPERATIONS_PER_THREAD; ++j) {
+            final String generatedString = RandomStringUtils.random(32, true, true);
+            final String encrypted = encryptor.encrypt(generatedString, publicKeyBase64);
+            if (generatedString.equals(decryptor.decrypt(encrypted, privateKeyBase64))) {
+              ++matches;
+            }
+          }
+          return matches;
+        }));
+      }
+
+      for (final Future<Integer> result : results) {
+        assertEquals(OPERATIONS_PER_THREAD, result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void verifyInvalidArguments() throws NoSuchPaddingException, NoSuchAlgorithmException {
+    final CachingRsaCryptoUtilsEncryptor encryptor = new CachingRsaCryptoUtilsEncryptor();
+    final CachingRsaCryptoUtilsDecryptor decryptor = new CachingRsaCryptoUtilsDecryptor();
+
+    assertThrows(IllegalArgumentException.class, () -> new CachingRsaCryptoUtilsEncryptor(0));
+    assertThrows(IllegalArgumentException.class, () -> new CachingRsaCryptoUtilsDecryptor(0));
+    assertThrows(EncryptionException.class, () -> encryptor.encrypt("value", "!!!"));
+    assertThrows(EncryptionException.class, () -> encryptor.encrypt("value", privateKeyBase64));
+    assertThrows(EncryptionException.class, () -> decryptor.decrypt("value", publicKeyBase64));
+    assertThrows(EncryptionException.class, () -> decryptor.decrypt("!!!", privateKeyBase64));
+    assertThrows(EncryptionException.class, () -> encryptor.encrypt(
+        RandomStringUtils.random(1024, true, true), publicKeyBase64));
+    assertThrows(EncryptionException.class, () -> encryptor.encryptAll(
+        List.of(RandomStringUtils.random(1024, true, true)), publicKeyBase64));
+    assertThrows(NullPointerException.class, () -> encryptor.encrypt("value", null));
+    assertThrows(NullPointerException.class, () -> decryptor.decrypt("value", null));
+    assertThrows(NullPointerException.class, () -> encryptor.encryptAll(null, publicKeyBase64));
+    assertThrows(NullPointerException.class, () -> decryptor.decryptAll(null, privateKeyBase64));
+  }
+}
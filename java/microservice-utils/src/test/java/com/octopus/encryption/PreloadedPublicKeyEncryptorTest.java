@@ -0,0 +1,65 @@
+package com.octopus.encryption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.Resources;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsDecryptor;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsEncryptor;
+import com.octopus.encryption.impl.PreloadedPublicKeyEncryptor;
+import com.octopus.exceptions.EncryptionException;
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.NoSuchPaddingException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class PreloadedPublicKeyEncryptorTest {
+
+  private static final String PUBLIC_KEY = "keypair/public_key.der";
+  private static String privateKeyBase64;
+
+  @BeforeAll
+  public static void init() throws IOException {
+    privateKeyBase64 = Base64.getEncoder().encodeToString(
+        Resources.toByteArray(Resources.getResource("keypair/private_key.der")));
+  }
+
+  @Test
+  public void verifyEncryption()
+      throws NoSuchPaddingException, NoSuchAlgorithmException, IOException {
+    final CachingRsaCryptoUtilsEncryptor asymmetricEncryptor = new CachingRsaCryptoUtilsEncryptor();
+    final PublicKeyEncryptor encryptor =
+        PreloadedPublicKeyEncryptor.fromResource(asymmetricEncryptor, PUBLIC_KEY);
+    final AsymmetricDecryptor decryptor = new CachingRsaCryptoUtilsDecryptor();
+
+    assertEquals(1, asymmetricEncryptor.getCachedKeyCount());
+    assertEquals("a@example.org",
+        decryptor.decrypt(encryptor.encrypt("a@example.org"), privateKeyBase64));
+    assertEquals(List.of("a@example.org", "b@example.org"), decryptor.decryptAll(
+        encryptor.encryptAll(List.of("a@example.org", "b@example.org")), privateKeyBase64));
+    assertEquals(List.of(), encryptor.encryptAll(List.of()));
+  }
+
+  @Test
+  public void verifyInvalidArguments() throws NoSuchPaddingException, NoSuchAlgorithmException {
+    final AsymmetricEncryptor asymmetricEncryptor = new CachingRsaCryptoUtilsEncryptor();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> PreloadedPublicKeyEncryptor.fromResource(asymmetricEncryptor, "missing.der"));
+    assertThrows(EncryptionException.class,
+        () -> new PreloadedPublicKeyEncryptor(asymmetricEncryptor, "notakey"));
+    assertThrows(NullPointerException.class,
+        () -> new PreloadedPublicKeyEncryptor(null, "notakey"));
+    assertThrows(NullPointerException.class,
+        () -> new PreloadedPublicKeyEncryptor(asymmetricEncryptor, null));
+    assertThrows(NullPointerException.class,
+        () -> PreloadedPublicKeyEncryptor.fromResource(asymmetricEncryptor, PUBLIC_KEY)
+            .encryptAll(null));
+    assertThrows(NullPointerException.class,
+        () -> PreloadedPublicKeyEncryptor.fromResource(asymmetricEncryptor, PUBLIC_KEY)
+            .encrypt(null));
+  }
+}
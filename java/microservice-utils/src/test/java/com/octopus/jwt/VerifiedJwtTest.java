@@ -0,0 +1,58 @@
+package com.octopus.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class VerifiedJwtTest {
+
+  @Test
+  public void verifyClaimsExtraction() {
+    final VerifiedJwt verifiedJwt = VerifiedJwt.fromClaims(Map.of(
+        "scope", "openid profile",
+        "cognito:groups", List.of("Developers", 1),
+        "client_id", "client",
+        "exp", 1000L));
+
+    assertEquals(List.of("openid", "profile"), verifiedJwt.getScopes());
+    assertEquals(List.of("Developers", "1"), verifiedJwt.getGroups());
+    assertEquals("client", verifiedJwt.getClientId().get());
+    assertEquals(1000000L, verifiedJwt.getExpiresAt());
+    assertEquals("client", verifiedJwt.getClaim("client_id").get());
+    assertTrue(verifiedJwt.getClaim("blah").isEmpty());
+    assertFalse(verifiedJwt.isExpired(999999L));
+    assertTrue(verifiedJwt.isExpired(1000000L));
+  }
+
+  @Test
+  public void verifyMissingClaims() {
+    final VerifiedJwt verifiedJwt = VerifiedJwt.fromClaims(Map.of(
+        "cognito:groups", "Developers",
+        "exp", "tomorrow"));
+
+    assertTrue(verifiedJwt.getScopes().isEmpty());
+    assertTrue(verifiedJwt.getGroups().isEmpty());
+    assertTrue(verifiedJwt.getClientId().isEmpty());
+    assertEquals(0, verifiedJwt.getExpiresAt());
+    assertTrue(verifiedJwt.isExpired(0));
+  }
+
+  @Test
+  public void verifyClaimsAreImmutable() {
+    final VerifiedJwt verifiedJwt = VerifiedJwt.fromClaims(Map.of("sub", "test"));
+    assertThrows(UnsupportedOperationException.class,
+        () -> verifiedJwt.getClaims().put("sub", "other"));
+  }
+
+  @Test
+  public void verifyNulls() {
+    assertThrows(NullPointerException.class, () -> VerifiedJwt.fromClaims(null));
+    assertThrows(NullPointerException.class,
+        () -> VerifiedJwt.fromClaims(Map.of()).getClaim(null));
+  }
+}
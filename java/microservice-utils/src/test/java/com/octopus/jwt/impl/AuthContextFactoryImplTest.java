@@ -0,0 +1,159 @@
+package com.octopus.jwt.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.octopus.features.AdminJwtClaimFeature;
+import com.octopus.features.AdminJwtGroupFeature;
+import com.octopus.jwt.AuthContext;
+import com.octopus.jwt.AuthContextFactory;
+import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.VerifiedJwt;
+import com.octopus.utilties.impl.PartitionIdentifierImpl;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AuthContextFactoryImplTest {
+
+  private static final List<String> PARTITION = List.of("testing");
+
+  private final AtomicInteger scopeChecks = new AtomicInteger();
+  private final AtomicInteger groupChecks = new AtomicInteger();
+
+  /**
+   * Accepts the "service" token as having the admin scope, and the "admin" token as belonging to
+   * the admin group.
+   */
+  private final JwtInspector jwtInspector = new JwtInspector() {
+    @Override
+    public boolean jwtContainsCognitoGroup(final String jwt, final String group) {
+      groupChecks.incrementAndGet();
+      return "admin".equals(jwt) && "Developers".equals(group);
+    }
+
+    @Override
+    public boolean jwtContainsScope(final String jwt, final String claim, final String clientId) {
+      scopeChecks.incrementAndGet();
+      return "service".equals(jwt) && "admin-scope".equals(claim) && "client".equals(clientId);
+    }
+
+    @Override
+    public Optional<String> getClaim(final String jwt, final String claim) {
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<VerifiedJwt> getVerifiedJwt(final String jwt) {
+      return Optional.empty();
+    }
+  };
+
+  @BeforeEach
+  public void reset() {
+    scopeChecks.set(0);
+    groupChecks.set(0);
+  }
+
+  @Test
+  public void testAuthDisabled() {
+    final AuthContext context = factory(true, () -> Optional.of("admin-scope"),
+        () -> Optional.of("Developers")).build(null, null, PARTITION);
+
+    assertTrue(context.isAuthorized());
+    assertTrue(context.isAuthDisabled());
+    assertEquals("testing", context.getDataPartition());
+    assertFalse(context.isDefaultPartition());
+    assertEquals(0, scopeChecks.get() + groupChecks.get());
+  }
+
+  @Test
+  public void testServiceToken() {
+    final AuthContext context = factory().build(null, "Bearer service", PARTITION);
+
+    assertTrue(context.isAuthorized());
+    assertTrue(context.isServiceScopeGranted());
+    assertFalse(context.isAdminGroupMember());
+    assertEquals(Optional.of("service"), context.getServiceToken());
+    assertEquals(Optional.empty(), context.getUserToken());
+    assertTrue(context.isDefaultPartition());
+  }
+
+  @Test
+  public void testAdminGroupMember() {
+    final AuthContext context = factory().build("Bearer admin", "Bearer service", PARTITION);
+
+    assertTrue(context.isAuthorized());
+    assertTrue(context.isServiceScopeGranted());
+    assertTrue(context.isAdminGroupMember());
+    assertEquals("testing", context.getDataPartition());
+    assertEquals(1, scopeChecks.get());
+    assertEquals(1, groupChecks.get());
+  }
+
+  @Test
+  public void testUnknownTokens() {
+    final AuthContext context = factory().build("Bearer user", "Bearer user", PARTITION);
+
+    assertFalse(context.isAuthorized());
+    assertFalse(context.isAuthDisabled());
+    assertTrue(context.isDefaultPartition());
+    assertEquals(1, scopeChecks.get());
+    assertEquals(1, groupChecks.get());
+  }
+
+  @Test
+  public void testMissingTokens() {
+    final AuthContext context = factory().build(null, "", PARTITION);
+
+    assertFalse(context.isAuthorized());
+    assertTrue(context.isDefaultPartition());
+    assertEquals(0, scopeChecks.get() + groupChecks.get());
+  }
+
+  @Test
+  public void testMissingConfiguration() {
+    final AuthContext context = factory(false, Optional::empty, Optional::empty)
+        .build("Bearer admin", "Bearer service", PARTITION);
+
+    assertFalse(context.isAuthorized());
+    assertTrue(context.isDefaultPartition());
+    assertEquals(0, scopeChecks.get() + groupChecks.get());
+  }
+
+  @Test
+  public void testNullArguments() {
+    assertThrows(NullPointerException.class, () -> AuthContext.authDisabled(null));
+    assertThrows(NullPointerException.class, () -> AuthContext.verified(
+        null, Optional.empty(), false, false, "main"));
+    assertThrows(NullPointerException.class, () -> new AuthContextFactoryImpl(
+        null, new JwtUtilsImpl(), partitionIdentifier(), Optional::empty, Optional::empty,
+        () -> false, "client"));
+  }
+
+  private AuthContextFactory factory() {
+    return factory(false, () -> Optional.of("admin-scope"), () -> Optional.of("Developers"));
+  }
+
+  private AuthContextFactory factory(
+      final boolean authDisabled,
+      final AdminJwtClaimFeature adminJwtClaimFeature,
+      final AdminJwtGroupFeature adminJwtGroupFeature) {
+    return new AuthContextFactoryImpl(
+        jwtInspector,
+        new JwtUtilsImpl(),
+        partitionIdentifier(),
+        adminJwtClaimFeature,
+        adminJwtGroupFeature,
+        () -> authDisabled,
+        "client");
+  }
+
+  private PartitionIdentifierImpl partitionIdentifier() {
+    return new PartitionIdentifierImpl(jwtInspector, Optional::empty, () -> false);
+  }
+}
@@ -0,0 +1,147 @@
+package com.octopus.jwt.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.octopus.jwt.JwtValidator;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class CachingJwtValidatorImplTest {
+
+  private static RSAKey firstKey;
+  private static RSAKey secondKey;
+  private static String jwkBase64;
+
+  @BeforeAll
+  public static void setup() throws JOSEException {
+    firstKey = new RSAKeyGenerator(2048).keyID("first").generate();
+    secondKey = new RSAKeyGenerator(2048).keyID("second").generate();
+    jwkBase64 = toBase64(new JWKSet(List.of(firstKey, secondKey)).toString(true));
+  }
+
+  @Test
+  public void verifyValidToken() throws ParseException, IOException, JOSEException {
+    final CachingJwtValidatorImpl jwtValidator = new CachingJwtValidatorImpl();
+    assertTrue(jwtValidator.jwtIsValid(createJwt(firstKey, "first", 3600), jwkBase64));
+    assertTrue(jwtValidator.jwtIsValid(createJwt(secondKey, "second", 3600), jwkBase64));
+    assertTrue(jwtValidator.jwtIsValid(createJwt(firstKey, "first", 3600), jwkBase64));
+    assertEquals(1, jwtValidator.getCachedJwkSetCount());
+  }
+
+  @Test
+  public void verifyClaimsOfValidToken() throws ParseException, IOException, JOSEException {
+    final JwtValidator jwtValidator = new CachingJwtValidatorImpl();
+    assertEquals("test", jwtValidator.getVerifiedClaims(
+        createJwt(firstKey, "first", 3600), jwkBase64).get().get("sub"));
+    assertTrue(jwtValidator.getVerifiedClaims(
+        createJwt(firstKey, "first", -3600), jwkBase64).isEmpty());
+    assertTrue(jwtValidator.getVerifiedClaims(
+        createJwt(firstKey, "second", 3600), jwkBase64).isEmpty());
+  }
+
+  @Test
+  public void verifyMatchesJwtValidatorImpl() throws ParseException, IOException, JOSEException {
+    final JwtValidator cachingValidator = new CachingJwtValidatorImpl();
+    final JwtValidator validator = new JwtValidatorImpl();
+    final List<String> jwts = List.of(
+        createJwt(firstKey, "first", 3600),
+        createJwt(firstKey, "first", -3600),
+        createJwt(firstKey, "second", 3600),
+        createJwt(firstKey, "unknown", 3600),
+        createJwt(firstKey, null, 3600));
+
+    for (final String jwt : jwts) {
+      assertEquals(
+          validator.jwtIsValid(jwt, jwkBase64),
+          cachingValidator.jwtIsValid(jwt, jwkBase64));
+    }
+  }
+
+  @Test
+  public void verifyTokenExpired() throws ParseException, IOException, JOSEException {
+    final JwtValidator jwtValidator = new CachingJwtValidatorImpl();
+    assertFalse(jwtValidator.jwtIsValid(createJwt(firstKey, "first", -3600), jwkBase64));
+  }
+
+  @Test
+  public void verifyTokenWithoutExpiry() throws ParseException, IOException, JOSEException {
+    final JwtValidator jwtValidator = new CachingJwtValidatorImpl();
+    final JWSObject jwsObject = new JWSObject(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("first").build(),
+        new Payload(Map.of("sub", "test")));
+    jwsObject.sign(new RSASSASigner(firstKey));
+    assertFalse(jwtValidator.jwtIsValid(jwsObject.serialize(), jwkBase64));
+  }
+
+  @Test
+  public void verifyUnknownKeyId() throws ParseException, IOException, JOSEException {
+    final JwtValidator jwtValidator = new CachingJwtValidatorImpl();
+    assertFalse(jwtValidator.jwtIsValid(createJwt(firstKey, "unknown", 3600), jwkBase64));
+    assertFalse(jwtValidator.jwtIsValid(createJwt(firstKey, null, 3600), jwkBase64));
+  }
+
+  @Test
+  public void verifyMismatchedKey() throws ParseException, IOException, JOSEException {
+    final JwtValidator jwtValidator = new CachingJwtValidatorImpl();
+    assertFalse(jwtValidator.jwtIsValid(createJwt(firstKey, "second", 3600), jwkBase64));
+  }
+
+  @Test
+  public void verifyCacheIsBounded() throws ParseException, IOException, JOSEException {
+    final CachingJwtValidatorImpl jwtValidator = new CachingJwtValidatorImpl(1);
+    final String firstJwk = toBase64(new JWKSet(firstKey).toString(true));
+    final String secondJwk = toBase64(new JWKSet(secondKey).toString(true));
+    assertTrue(jwtValidator.jwtIsValid(createJwt(firstKey, "first", 3600), firstJwk));
+    assertTrue(jwtValidator.jwtIsValid(createJwt(secondKey, "second", 3600), secondJwk));
+    assertFalse(jwtValidator.jwtIsValid(createJwt(firstKey, "first", 3600), secondJwk));
+    assertEquals(1, jwtValidator.getCachedJwkSetCount());
+    assertThrows(IllegalArgumentException.class, () -> new CachingJwtValidatorImpl(0));
+  }
+
+  @Test
+  public void verifyInvalidConfig() throws JOSEException {
+    final JwtValidator jwtValidator = new CachingJwtValidatorImpl();
+    final String jwt = createJwt(firstKey, "first", 3600);
+    final String ecJwk = toBase64(new JWKSet(
+        new ECKeyGenerator(Curve.P_256).keyID("first").generate()).toString(true));
+
+    assertThrows(ParseException.class, () -> jwtValidator.jwtIsValid("blah", jwkBase64));
+    assertThrows(ParseException.class, () -> jwtValidator.jwtIsValid(jwt, toBase64("blah")));
+    assertThrows(IllegalArgumentException.class, () -> jwtValidator.jwtIsValid(jwt, "!!!"));
+    assertThrows(ClassCastException.class, () -> jwtValidator.jwtIsValid(jwt, ecJwk));
+  }
+
+  private static String createJwt(final RSAKey key, final String keyId, final long expiresIn)
+      throws JOSEException {
+    final JWSObject jwsObject = new JWSObject(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(keyId).build(),
+        new Payload(Map.of(
+            "sub", "test",
+            "exp", System.currentTimeMillis() / 1000 + expiresIn)));
+    jwsObject.sign(new RSASSASigner(key));
+    return jwsObject.serialize();
+  }
+
+  private static String toBase64(final String value) {
+    return Base64.getEncoder().encodeToString(value.getBytes());
+  }
+}
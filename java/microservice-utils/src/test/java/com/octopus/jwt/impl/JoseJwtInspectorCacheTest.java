@@ -0,0 +1,167 @@
+package com.octopus.jwt.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.VerifiedJwt;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JoseJwtInspectorCacheTest {
+
+  private static final String CLIENT_ID = "710octav2qdu4fjd5v3u3qb1p8";
+  private static final String ADMIN_SCOPE = "audit.content-team/admin";
+  private static RSAKey key;
+  private static String jwkBase64;
+
+  @BeforeAll
+  public static void setup() throws JOSEException {
+    key = new RSAKeyGenerator(2048).keyID("key").generate();
+    jwkBase64 = Base64.getEncoder().encodeToString(
+        new JWKSet(key).toString(true).getBytes());
+  }
+
+  @Test
+  public void verifyTokenIsValidatedOnce() throws JOSEException {
+    final AtomicInteger count = new AtomicInteger();
+    final JoseJwtInspector jwtInspector = createInspector(count, new CachingJwtValidatorImpl());
+    final String jwt = createJwt(3600);
+
+    assertTrue(jwtInspector.jwtContainsCognitoGroup(jwt, "Developers"));
+    assertFalse(jwtInspector.jwtContainsCognitoGroup(jwt, "unknown"));
+    assertTrue(jwtInspector.jwtContainsScope(jwt, ADMIN_SCOPE, CLIENT_ID));
+    assertFalse(jwtInspector.jwtContainsScope(jwt, "unknown", CLIENT_ID));
+    assertSame(jwtInspector.getVerifiedJwt(jwt).get(), jwtInspector.getVerifiedJwt(jwt).get());
+    assertEquals(1, count.get());
+
+    jwtInspector.jwtContainsCognitoGroup(createJwt(3600), "Developers");
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void verifyExpiredTokenIsNotCached() throws JOSEException {
+    final AtomicInteger count = new AtomicInteger();
+    final JoseJwtInspector jwtInspector = createInspector(count, (jwt, jwk) -> true);
+    final String jwt = createJwt(-3600);
+
+    assertTrue(jwtInspector.jwtContainsCognitoGroup(jwt, "Developers"));
+    assertTrue(jwtInspector.getVerifiedJwt(jwt).get().isExpired(System.currentTimeMillis()));
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void verifyTokenIsReverifiedAfterExpiry() throws JOSEException, InterruptedException {
+    final AtomicInteger count = new AtomicInteger();
+    final JoseJwtInspector jwtInspector = createInspector(count, (jwt, jwk) -> true);
+    final String jwt = createJwt(1);
+
+    assertTrue(jwtInspector.getVerifiedJwt(jwt).isPresent());
+    Thread.sleep(2000);
+    assertTrue(jwtInspector.getVerifiedJwt(jwt).isPresent());
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void verifyInvalidToken() throws JOSEException {
+    final AtomicInteger count = new AtomicInteger();
+    final JoseJwtInspector jwtInspector = createInspector(count, (jwt, jwk) -> false);
+    final String jwt = createJwt(3600);
+
+    assertTrue(jwtInspector.getVerifiedJwt(jwt).isEmpty());
+    assertTrue(jwtInspector.getVerifiedJwt(jwt).isEmpty());
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void verifyBadToken() {
+    final JoseJwtInspector jwtInspector =
+        createInspector(new AtomicInteger(), new CachingJwtValidatorImpl());
+    assertTrue(jwtInspector.getVerifiedJwt("blah").isEmpty());
+    assertThrows(NullPointerException.class, () -> jwtInspector.getVerifiedJwt(null));
+  }
+
+  @Test
+  public void verifyVerifiedClaims() throws JOSEException {
+    final JoseJwtInspector jwtInspector =
+        createInspector(new AtomicInteger(), new CachingJwtValidatorImpl());
+    final Optional<VerifiedJwt> verifiedJwt = jwtInspector.getVerifiedJwt(createJwt(3600));
+
+    assertTrue(verifiedJwt.isPresent());
+    assertEquals(List.of("Developers"), verifiedJwt.get().getGroups());
+    assertEquals(List.of(ADMIN_SCOPE), verifiedJwt.get().getScopes());
+    assertEquals(CLIENT_ID, verifiedJwt.get().getClientId().get());
+    assertEquals("test", verifiedJwt.get().getClaim("sub").get());
+  }
+
+  @Test
+  public void verifyClaimsComeFromTheValidator() throws JOSEException {
+    final String jwt = createJwt(3600);
+    final Map<String, Object> claims = Map.of("sub", "validator", "exp", Long.MAX_VALUE / 1000);
+    final JoseJwtInspector jwtInspector = new JoseJwtInspector(
+        () -> Optional.of(jwkBase64),
+        () -> false,
+        new JwtValidator() {
+          @Override
+          public boolean jwtIsValid(final String jwt, final String jwk) {
+            throw new AssertionError("The claims should be returned by getVerifiedClaims");
+          }
+
+          @Override
+          public Optional<Map<String, Object>> getVerifiedClaims(final String jwt,
+              final String jwk) {
+            return Optional.of(claims);
+          }
+        },
+        () -> "test"
+    );
+
+    assertEquals("validator", jwtInspector.getVerifiedJwt(jwt).get().getClaim("sub").get());
+  }
+
+  private static JoseJwtInspector createInspector(
+      final AtomicInteger count,
+      final JwtValidator jwtValidator) {
+    return new JoseJwtInspector(
+        () -> Optional.of(jwkBase64),
+        () -> false,
+        (jwt, jwk) -> {
+          count.incrementAndGet();
+          return jwtValidator.jwtIsValid(jwt, jwk);
+        },
+        () -> "test"
+    );
+  }
+
+  private static String createJwt(final long expiresIn) throws JOSEException {
+    final JWSObject jwsObject = new JWSObject(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("key").build(),
+        new Payload(Map.of(
+            "sub", "test",
+            "cognito:groups", List.of("Developers"),
+            "scope", ADMIN_SCOPE,
+            "client_id", CLIENT_ID,
+            "jti", UUID.randomUUID().toString(),
+            "exp", System.currentTimeMillis() / 1000 + expiresIn)));
+    jwsObject.sign(new RSASSASigner(key));
+    return jwsObject.serialize();
+  }
+}
@@ -38,4 +38,10 @@ public class JoseJwtInspectorNoJwkTest {
     assertFalse(JOSE_JWT_INSPECTOR_NO_JWK.jwtContainsCognitoGroup(EXPIRED_USER_JWT, "Developers"));
     assertFalse(JOSE_JWT_INSPECTOR_EMPTY_JWK.jwtContainsCognitoGroup(EXPIRED_USER_JWT, "Developers"));
   }
+
+  @Test
+  public void verifyVerifiedJwt() {
+    assertFalse(JOSE_JWT_INSPECTOR_NO_JWK.getVerifiedJwt(EXPIRED_USER_JWT).isPresent());
+    assertFalse(JOSE_JWT_INSPECTOR_EMPTY_JWK.getVerifiedJwt(EXPIRED_USER_JWT).isPresent());
+  }
 }
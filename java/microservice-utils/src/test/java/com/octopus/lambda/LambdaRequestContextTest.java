@@ -0,0 +1,170 @@
+package com.octopus.lambda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.octopus.lambda.impl.CaseInsensitiveCookieExtractor;
+import com.octopus.lambda.impl.CaseInsensitiveHttpHeaderExtractor;
+import com.octopus.lambda.impl.CaseInsensitiveLambdaHttpValueExtractor;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class LambdaRequestContextTest {
+
+  private static final LambdaHttpHeaderExtractor HEADER_EXTRACTOR =
+      new CaseInsensitiveHttpHeaderExtractor();
+  private static final LambdaHttpCookieExtractor COOKIE_EXTRACTOR =
+      new CaseInsensitiveCookieExtractor();
+  private static final LambdaHttpValueExtractor VALUE_EXTRACTOR =
+      new CaseInsensitiveLambdaHttpValueExtractor();
+
+  @Test
+  public void getHeaders() {
+    final APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent()
+        .withMultiValueHeaders(new ImmutableMap.Builder<String, List<String>>()
+            .put("Data-Partition", ImmutableList.of("multi1", "multi2"))
+            .put("data-partition", ImmutableList.of("multi3"))
+            .build())
+        .withHeaders(new ImmutableMap.Builder<String, String>()
+            .put("DATA-PARTITION", "single")
+            .put("Authorization", "token")
+            .build());
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(input);
+
+    assertSame(input, request.getEvent());
+    assertEquals("multi1", request.getFirstHeader("data-Partition").get());
+    assertEquals(List.of("multi1", "multi2", "multi3", "single"),
+        request.getAllHeaders("Data-Partition"));
+    assertEquals("token", request.getFirstHeader("authorization").get());
+    assertTrue(request.getFirstHeader("missing").isEmpty());
+    assertEquals(List.of(), request.getAllHeaders("missing"));
+    assertThrows(UnsupportedOperationException.class,
+        () -> request.getAllHeaders("authorization").add("blah"));
+  }
+
+  @Test
+  public void getQueryParams() {
+    final APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent()
+        .withMultiValueQueryStringParameters(new ImmutableMap.Builder<String, List<String>>()
+            .put("page[limit]", ImmutableList.of("10", "20"))
+            .build())
+        .withQueryStringParameters(new ImmutableMap.Builder<String, String>()
+            .put("Page[Limit]", "30")
+            .put("repo", "OctopusSamples/RandomQuotes-Java")
+            .build());
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(input);
+
+    assertEquals("10", request.getQueryParam("PAGE[LIMIT]").get());
+    assertEquals(List.of("10", "20", "30"), request.getAllQueryParams("page[limit]"));
+    assertEquals("OctopusSamples/RandomQuotes-Java", request.getQueryParam("Repo").get());
+    assertTrue(request.getQueryParam("missing").isEmpty());
+    assertEquals(List.of(), request.getAllQueryParams("missing"));
+  }
+
+  @Test
+  public void getCookies() {
+    final APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent()
+        .withMultiValueHeaders(new ImmutableMap.Builder<String, List<String>>()
+            .put("Cookie", ImmutableList.of("session=multi1; other=value", "SESSION=multi2"))
+            .build())
+        .withHeaders(new ImmutableMap.Builder<String, String>()
+            .put("cookie", "Session=single==; flag; =empty")
+            .build());
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(input);
+
+    assertEquals("multi1", request.getCookieValue("Session").get());
+    assertEquals(List.of("multi1", "multi2", "single=="), request.getAllCookieValues("session"));
+    assertEquals("value", request.getCookieValue("OTHER").get());
+    assertEquals("flag", request.getCookieValue("flag").get());
+    assertEquals("empty", request.getCookieValue("").get());
+    assertTrue(request.getCookieValue("missing").isEmpty());
+    assertEquals(List.of(), request.getAllCookieValues("missing"));
+  }
+
+  @Test
+  public void matchesExtractors() {
+    final APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent()
+        .withMultiValueHeaders(new ImmutableMap.Builder<String, List<String>>()
+            .put("Cookie", ImmutableList.of("a=1; b=2", "A=3"))
+            .put("Routing", ImmutableList.of("route1", "route2"))
+            .build())
+        .withHeaders(new ImmutableMap.Builder<String, String>()
+            .put("cookie", "b=4; c")
+            .put("routing", "route3")
+            .build())
+        .withMultiValueQueryStringParameters(new ImmutableMap.Builder<String, List<String>>()
+            .put("filter", ImmutableList.of("id==1"))
+            .build())
+        .withQueryStringParameters(new ImmutableMap.Builder<String, String>()
+            .put("Filter", "id==2")
+            .build());
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(input);
+
+    for (final String name : List.of("a", "B", "c", "d")) {
+      assertEquals(COOKIE_EXTRACTOR.getAllCookieValues(input, name),
+          request.getAllCookieValues(name));
+      assertEquals(COOKIE_EXTRACTOR.getCookieValue(input, name), request.getCookieValue(name));
+    }
+
+    for (final String name : List.of("routing", "Cookie", "missing")) {
+      assertEquals(HEADER_EXTRACTOR.getAllHeaders(input, name), request.getAllHeaders(name));
+      assertEquals(HEADER_EXTRACTOR.getFirstHeader(input, name), request.getFirstHeader(name));
+    }
+
+    for (final String name : List.of("FILTER", "missing")) {
+      assertEquals(VALUE_EXTRACTOR.getAllQueryParams(input, name),
+          request.getAllQueryParams(name));
+      assertEquals(VALUE_EXTRACTOR.getQueryParam(input, name), request.getQueryParam(name));
+    }
+  }
+
+  @Test
+  public void emptyEvent() {
+    final LambdaRequestContext request =
+        LambdaRequestContext.fromEvent(new APIGatewayProxyRequestEvent());
+
+    assertTrue(request.getFirstHeader("Cookie").isEmpty());
+    assertTrue(request.getCookieValue("session").isEmpty());
+    assertTrue(request.getQueryParam("repo").isEmpty());
+  }
+
+  @Test
+  public void nullValuesAreIgnored() {
+    final Map<String, List<String>> multiValues = new HashMap<>();
+    multiValues.put("Routing", null);
+    multiValues.put("Authorization", Arrays.asList(null, "token"));
+    final Map<String, String> singleValues = new HashMap<>();
+    singleValues.put("Routing", null);
+    singleValues.put(null, "value");
+
+    final LambdaRequestContext request = LambdaRequestContext.fromEvent(
+        new APIGatewayProxyRequestEvent()
+            .withMultiValueHeaders(multiValues)
+            .withHeaders(singleValues));
+
+    assertTrue(request.getFirstHeader("routing").isEmpty());
+    assertEquals(List.of("token"), request.getAllHeaders("authorization"));
+  }
+
+  @Test
+  public void nullInputs() {
+    final LambdaRequestContext request =
+        LambdaRequestContext.fromEvent(new APIGatewayProxyRequestEvent());
+
+    assertThrows(NullPointerException.class, () -> LambdaRequestContext.fromEvent(null));
+    assertThrows(NullPointerException.class, () -> request.getFirstHeader(null));
+    assertThrows(NullPointerException.class, () -> request.getAllHeaders(null));
+    assertThrows(NullPointerException.class, () -> request.getCookieValue(null));
+    assertThrows(NullPointerException.class, () -> request.getAllCookieValues(null));
+    assertThrows(NullPointerException.class, () -> request.getQueryParam(null));
+    assertThrows(NullPointerException.class, () -> request.getAllQueryParams(null));
+  }
+}
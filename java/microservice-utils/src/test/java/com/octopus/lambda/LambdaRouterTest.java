@@ -0,0 +1,199 @@
+package com.octopus.lambda;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.octopus.exceptions.EntityNotFoundException;
+import com.octopus.exceptions.InvalidInputException;
+import com.octopus.exceptions.UnauthorizedException;
+import com.octopus.lambda.impl.ProxyResponseBuilderImpl;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class LambdaRouterTest {
+
+  private static final ProxyResponseBuilder PROXY_RESPONSE_BUILDER = new ProxyResponseBuilderImpl();
+
+  private static final LambdaRouter<String> ROUTER = LambdaRouter.<String>builder()
+      .route("GET", "/api/audits", (request, variables) -> "getAll")
+      .route("post", "/api/audits/", (request, variables) -> "create")
+      .route("GET", "/api/audits/{id}", (request, variables) -> "getOne " + variables.get("id"))
+      .route("DELETE", "/api/audits/{id}", (request, variables) -> "delete " + variables.get("id"))
+      .route("GET", "/api/audits/latest", (request, variables) -> "latest")
+      .route("GET", "/api/audits/{id}/events/{event}",
+          (request, variables) -> "event " + variables.get("id") + " " + variables.get("event"))
+      .route("GET", "/api/repos/{id+}", (request, variables) -> "repo " + variables.get("id"))
+      .route("GET", "/api/repos/{id}/runs", (request, variables) -> "runs " + variables.get("id"))
+      .route("GET", "/health/audits/GET", (request, variables) -> "health")
+      .route("GET", "/", (request, variables) -> "root")
+      .route("GET", "/api/fail/{type}", (request, variables) -> {
+        switch (variables.get("type")) {
+          case "unauthorized":
+            throw new UnauthorizedException();
+          case "notfound":
+            throw new EntityNotFoundException();
+          case "invalid":
+            throw new InvalidInputException();
+          default:
+            throw new Exception();
+        }
+      })
+      .exception(UnauthorizedException.class, (e, request) -> "403")
+      .exception(EntityNotFoundException.class, (e, request) -> "404 entity")
+      .exception(RuntimeException.class, (e, request) -> "400 " + e.getClass().getSimpleName())
+      .notFound(request -> "404")
+      .methodNotAllowed(request -> "405")
+      .error((e, request) -> "500 " + request.getEvent().getPath())
+      .build();
+
+  @ParameterizedTest
+  @CsvSource({
+      "GET, /api/audits, getAll",
+      "get, /api/audits/, getAll",
+      "POST, /api/audits, create",
+      "GET, /api/audits/1, getOne 1",
+      "DELETE, /api/audits/1/, delete 1",
+      "GET, /api/audits/latest, latest",
+      "DELETE, /api/audits/latest, delete latest",
+      "GET, /api/audits/1/events/2, event 1 2",
+      "GET, /api/repos/owner, repo owner",
+      "GET, /api/repos/owner/repo, repo owner/repo",
+      "GET, /api/repos/owner/runs, runs owner",
+      "GET, /api/repos/owner/repo/runs, repo owner/repo/runs",
+      "GET, /health/audits/GET, health",
+      "GET, /, root",
+      "GET, '', root",
+      "GET, /api/fail/unauthorized, 403",
+      "GET, /api/fail/notfound, 404 entity",
+      "GET, /api/fail/invalid, 400 InvalidInputException",
+      "GET, /api/fail/other, 500 /api/fail/other",
+      "GET, /api/nope, 404",
+      "GET, /api/audits/1/events, 404",
+      "GET, /api/audits//events/2, 404",
+      "GET, /api/repos, 404",
+      "GET, /health/audits/POST, 404",
+      "PATCH, /api/audits, 405",
+      "POST, /api/audits/1, 405",
+      "POST, /, 405"
+  })
+  public void routeRequests(final String method, final String path, final String expected) {
+    assertEquals(expected, ROUTER.route(request(method, path)));
+  }
+
+  @Test
+  public void routeMissingMethodAndPath() {
+    assertEquals("405", ROUTER.route(request(null, "/api/audits")));
+    assertEquals("405", ROUTER.route(request(null, null)));
+  }
+
+  @Test
+  public void matchRequests() {
+    final RouteMatch<String> found = ROUTER.match("get", "/api/audits/1");
+    assertTrue(found.isFound());
+    assertFalse(found.isMethodNotAllowed());
+    assertTrue(found.getHandler().isPresent());
+    assertEquals(Map.of("id", "1"), found.getPathVariables());
+    assertEquals(Set.of("GET", "DELETE"), found.getAllowedMethods());
+
+    final RouteMatch<String> methodNotAllowed = ROUTER.match("PUT", "/api/audits/1");
+    assertFalse(methodNotAllowed.isFound());
+    assertTrue(methodNotAllowed.isMethodNotAllowed());
+    assertTrue(methodNotAllowed.getHandler().isEmpty());
+    assertEquals(Set.of("GET", "DELETE"), methodNotAllowed.getAllowedMethods());
+
+    final RouteMatch<String> notFound = ROUTER.match("GET", "/api/nope");
+    assertFalse(notFound.isFound());
+    assertFalse(notFound.isMethodNotAllowed());
+    assertEquals(Set.of(), notFound.getAllowedMethods());
+  }
+
+  @Test
+  public void proxyResponses() {
+    final LambdaRouter<APIGatewayProxyResponseEvent> router =
+        LambdaRouter.<APIGatewayProxyResponseEvent>builder()
+            .route("GET", "/api/audits", (request, variables) ->
+                new ApiGatewayProxyResponseEventWithCors().withStatusCode(200))
+            .notFound(request -> PROXY_RESPONSE_BUILDER.buildNotFound())
+            .methodNotAllowed(request -> PROXY_RESPONSE_BUILDER.buildMethodNotAllowed())
+            .error((e, request) -> PROXY_RESPONSE_BUILDER.buildError(e))
+            .build();
+
+    assertEquals(200, router.route(request("GET", "/api/audits")).getStatusCode());
+    assertEquals(404, router.route(request("GET", "/api/nope")).getStatusCode());
+    assertEquals(405, router.route(request("POST", "/api/audits")).getStatusCode());
+  }
+
+  @Test
+  public void invalidRoutes() {
+    assertThrows(IllegalArgumentException.class, () -> builder()
+        .route("GET", "/api/audits", (request, variables) -> "")
+        .route("get", "/api/audits/", (request, variables) -> "")
+        .build());
+    assertThrows(IllegalArgumentException.class, () -> builder()
+        .route("GET", "/api/{id+}/runs", (request, variables) -> "")
+        .build());
+    assertThrows(IllegalArgumentException.class, () -> builder()
+        .route("GET", "/api/{id}", (request, variables) -> "")
+        .route("POST", "/api/{name}", (request, variables) -> "")
+        .build());
+    assertThrows(IllegalArgumentException.class, () -> builder()
+        .route("GET", "/api/{id+}", (request, variables) -> "")
+        .route("POST", "/api/{name+}", (request, variables) -> "")
+        .build());
+    assertThrows(IllegalArgumentException.class, () -> builder()
+        .route("GET", "/api/{}", (request, variables) -> "")
+        .build());
+  }
+
+  @Test
+  public void missingResponses() {
+    assertThrows(IllegalStateException.class, () -> LambdaRouter.<String>builder()
+        .methodNotAllowed(request -> "405")
+        .error((e, request) -> "500")
+        .build());
+    assertThrows(IllegalStateException.class, () -> LambdaRouter.<String>builder()
+        .notFound(request -> "404")
+        .error((e, request) -> "500")
+        .build());
+    assertThrows(IllegalStateException.class, () -> LambdaRouter.<String>builder()
+        .notFound(request -> "404")
+        .methodNotAllowed(request -> "405")
+        .build());
+  }
+
+  @Test
+  public void nullInputs() {
+    final LambdaRouter.Builder<String> builder = LambdaRouter.builder();
+    assertThrows(NullPointerException.class, () -> ROUTER.route(null));
+    assertThrows(NullPointerException.class,
+        () -> builder.route(null, "/", (request, variables) -> ""));
+    assertThrows(NullPointerException.class,
+        () -> builder.route("GET", null, (request, variables) -> ""));
+    assertThrows(NullPointerException.class, () -> builder.route("GET", "/", null));
+    assertThrows(NullPointerException.class, () -> builder.notFound(null));
+    assertThrows(NullPointerException.class, () -> builder.methodNotAllowed(null));
+    assertThrows(NullPointerException.class, () -> builder.error(null));
+    assertThrows(NullPointerException.class, () -> builder.exception(null, (e, r) -> ""));
+    assertThrows(NullPointerException.class, () -> builder.exception(Exception.class, null));
+  }
+
+  private static LambdaRouter.Builder<String> builder() {
+    return LambdaRouter.<String>builder()
+        .notFound(request -> "404")
+        .methodNotAllowed(request -> "405")
+        .error((e, request) -> "500");
+  }
+
+  private static LambdaRequestContext request(final String method, final String path) {
+    return LambdaRequestContext.fromEvent(new APIGatewayProxyRequestEvent()
+        .withHttpMethod(method)
+        .withPath(path));
+  }
+}
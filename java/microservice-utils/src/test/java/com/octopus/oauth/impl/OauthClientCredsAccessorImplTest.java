@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.octopus.features.OauthClientCreds;
 import com.octopus.oauth.Oauth;
 import com.octopus.oauth.OauthClientCredsAccessor;
+import com.octopus.oauth.TokenCache;
 import io.vavr.control.Try;
 import java.util.Optional;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -19,7 +20,7 @@ public class OauthClientCredsAccessorImplTest {
   public void verifyNullHandling() {
     assertThrows(NullPointerException.class, () -> new OauthClientCredsAccessorImpl(
         null,
-        (authorization, grantType, clientId, scope) -> null));
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> null)));
     assertThrows(NullPointerException.class, () -> new OauthClientCredsAccessorImpl(
         new OauthClientCreds() {
           @Override
@@ -45,7 +46,7 @@ public class OauthClientCredsAccessorImplTest {
             return Optional.empty();
           }
         },
-        (authorization, grantType, clientId, scope) -> null)
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> null))
         .getAccessToken(null));
   }
 
@@ -63,12 +64,12 @@ public class OauthClientCredsAccessorImplTest {
             return Optional.of("secret");
           }
         },
-        (authorization, grantType, clientId, scope) -> {
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> {
           final Oauth oAuth = new Oauth();
           oAuth.setAccessToken(RandomStringUtils.random(10, true, true));
           oAuth.setExpiresIn(Integer.MAX_VALUE);
           return oAuth;
-        });
+        }));
 
 
     final Try<String> accessToken = oauthClientCredsAccessor.getAccessToken("scope");
@@ -77,6 +78,36 @@ public class OauthClientCredsAccessorImplTest {
     assertEquals(accessToken.get(), accessToken2.get());
   }
 
+  @Test
+  public void testSharedTokenCache() {
+    final TokenCache tokenCache = new TokenCacheImpl((authorization, grantType, clientId, scope) -> {
+      final Oauth oAuth = new Oauth();
+      oAuth.setAccessToken(RandomStringUtils.random(10, true, true));
+      oAuth.setExpiresIn(Integer.MAX_VALUE);
+      return oAuth;
+    });
+    final OauthClientCreds creds = new OauthClientCreds() {
+      @Override
+      public Optional<String> clientId() {
+        return Optional.of("clientid");
+      }
+
+      @Override
+      public Optional<String> clientSecret() {
+        return Optional.of("secret");
+      }
+    };
+
+    final Try<String> accessToken = new OauthClientCredsAccessorImpl(creds, tokenCache)
+        .getAccessToken("scope");
+    final Try<String> accessToken2 = new OauthClientCredsAccessorImpl(creds, tokenCache)
+        .getAccessToken("scope");
+
+    assertEquals(accessToken.get(), accessToken2.get());
+    assertEquals(accessToken.get(), tokenCache.getAccessToken("clientid", "secret", "scope").get());
+    assertEquals(1, tokenCache.getStats().getRequests());
+  }
+
   @Test
   public void testAccessTokenCacheInvalidation() {
     final OauthClientCredsAccessor oauthClientCredsAccessor = new OauthClientCredsAccessorImpl(
@@ -91,12 +122,12 @@ public class OauthClientCredsAccessorImplTest {
             return Optional.of("secret");
           }
         },
-        (authorization, grantType, clientId, scope) -> {
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> {
           final Oauth oAuth = new Oauth();
           oAuth.setAccessToken(RandomStringUtils.random(10, true, true));
           oAuth.setExpiresIn(Integer.MIN_VALUE);
           return oAuth;
-        });
+        }));
 
 
     final Try<String> accessToken = oauthClientCredsAccessor.getAccessToken("scope");
@@ -119,9 +150,9 @@ public class OauthClientCredsAccessorImplTest {
             return Optional.of("secret");
           }
         },
-        (authorization, grantType, clientId, scope) -> {
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> {
           throw new RuntimeException();
-        });
+        }));
 
     assertTrue(oauthClientCredsAccessor.getAccessToken("scope").isFailure());
   }
@@ -140,12 +171,12 @@ public class OauthClientCredsAccessorImplTest {
             return Optional.of("secret");
           }
         },
-        (authorization, grantType, clientId, scope) -> {
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> {
           final Oauth oAuth = new Oauth();
           oAuth.setAccessToken(" ");
           oAuth.setExpiresIn(Integer.MAX_VALUE);
           return oAuth;
-        });
+        }));
 
     assertTrue(oauthClientCredsAccessor.getAccessToken("scope").isFailure());
   }
@@ -164,9 +195,9 @@ public class OauthClientCredsAccessorImplTest {
             return Optional.of("secret");
           }
         },
-        (authorization, grantType, clientId, scope) -> {
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> {
           throw new RuntimeException();
-        });
+        }));
 
     assertTrue(oauthClientCredsAccessor.getAccessToken("scope").isFailure());
   }
@@ -185,9 +216,9 @@ public class OauthClientCredsAccessorImplTest {
             return Optional.empty();
           }
         },
-        (authorization, grantType, clientId, scope) -> {
+        new TokenCacheImpl((authorization, grantType, clientId, scope) -> {
           throw new RuntimeException();
-        });
+        }));
 
     assertTrue(oauthClientCredsAccessor.getAccessToken("scope").isFailure());
   }
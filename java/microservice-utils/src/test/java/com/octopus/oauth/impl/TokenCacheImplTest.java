@@ -0,0 +1,293 @@
+package com.octopus.oauth.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.octopus.oauth.Oauth;
+import com.octopus.oauth.OauthClient;
+import com.octopus.oauth.TokenCache;
+import com.octopus.oauth.TokenCacheStats;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.vavr.control.Try;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the TokenCacheImpl against a local server standing in for the Cognito token endpoint.
+ */
+public class TokenCacheImplTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+  private static final int ONE_HOUR = 60 * 60;
+
+  private final AtomicInteger tokenRequests = new AtomicInteger();
+  private final List<String> requestBodies = new ArrayList<>();
+  private volatile int expiresIn = ONE_HOUR;
+  private volatile int status = 200;
+  private volatile String accessToken;
+  private volatile long delay;
+
+  private HttpServer server;
+  private OauthClient oauthClient;
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/oauth2/token", this::token);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+    oauthClient = new HttpOauthClient(
+        URI.create("http://localhost:" + server.getAddress().getPort() + "/oauth2/token"));
+  }
+
+  @AfterEach
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testTokensAreCachedPerScope() {
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient);
+
+    final String first = tokenCache.getAccessToken("client", "secret", "first").get();
+    final String second = tokenCache.getAccessToken("client", "secret", "second").get();
+
+    assertNotEquals(first, second);
+    assertEquals(first, tokenCache.getAccessToken("client", "secret", "first").get());
+    assertEquals(second, tokenCache.getAccessToken("client", "secret", "second").get());
+    assertEquals(2, tokenRequests.get());
+    assertEquals(new TokenCacheStats(2, 2, 2, 0, 0), tokenCache.getStats());
+
+    synchronized (requestBodies) {
+      assertTrue(requestBodies.get(0).contains("grant_type=client_credentials"));
+      assertTrue(requestBodies.get(0).contains("client_id=client"));
+      assertTrue(requestBodies.get(0).contains("scope=first"));
+    }
+  }
+
+  @Test
+  public void testTokensAreCachedPerClient() {
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient);
+
+    assertNotEquals(
+        tokenCache.getAccessToken("client", "secret", "scope").get(),
+        tokenCache.getAccessToken("other", "secret", "scope").get());
+    assertEquals(2, tokenRequests.get());
+  }
+
+  @Test
+  public void testConcurrentRequestsAreCoalesced() throws Exception {
+    delay = 500;
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient);
+    final ExecutorService callers = Executors.newFixedThreadPool(8);
+    final CountDownLatch start = new CountDownLatch(1);
+
+    try {
+      final List<Future<Try<String>>> results = new ArrayList<>();
+      for (int i = 0; i < 8; ++i) {
+        results.add(callers.submit(() -> {
+          start.await();
+          return tokenCache.getAccessToken("client", "secret", "scope");
+        }));
+      }
+      start.countDown();
+
+      final String expected = results.get(0).get().get();
+      for (final Future<Try<String>> result : results) {
+        assertEquals(expected, result.get().get());
+      }
+    } finally {
+      callers.shutdownNow();
+    }
+
+    assertEquals(1, tokenRequests.get());
+    assertEquals(1, tokenCache.getStats().getRequests());
+  }
+
+  @Test
+  public void testTokensAreRefreshedBeforeExpiry() {
+    // The token expires 1 minute after the safety margin, so it is inside the refresh window
+    expiresIn = 11 * 60;
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient, REFRESH_AHEAD, Runnable::run);
+
+    final String first = tokenCache.getAccessToken("client", "secret", "scope").get();
+    // The cached token is returned while the refresh is started
+    assertEquals(first, tokenCache.getAccessToken("client", "secret", "scope").get());
+    final String refreshed = tokenCache.getAccessToken("client", "secret", "scope").get();
+
+    assertNotEquals(first, refreshed);
+    final TokenCacheStats stats = tokenCache.getStats();
+    assertEquals(1, stats.getMisses());
+    assertEquals(2, stats.getHits());
+    assertTrue(stats.getRefreshes() >= 1);
+    assertEquals(stats.getRefreshes() + 1, stats.getRequests());
+  }
+
+  @Test
+  public void testExpiredTokensAreRequestedAgain() {
+    expiresIn = Integer.MIN_VALUE;
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient);
+
+    assertNotEquals(
+        tokenCache.getAccessToken("client", "secret", "scope").get(),
+        tokenCache.getAccessToken("client", "secret", "scope").get());
+    assertEquals(new TokenCacheStats(0, 2, 2, 0, 0), tokenCache.getStats());
+  }
+
+  @Test
+  public void testFailedRequests() {
+    status = 500;
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient);
+
+    final Try<String> result = tokenCache.getAccessToken("client", "secret", "scope");
+    assertTrue(result.isFailure());
+    assertTrue(result.getCause() instanceof UncheckedIOException);
+
+    status = 200;
+    assertTrue(tokenCache.getAccessToken("client", "secret", "scope").isSuccess());
+    assertEquals(new TokenCacheStats(0, 2, 2, 0, 1), tokenCache.getStats());
+  }
+
+  @Test
+  public void testBlankAccessToken() {
+    accessToken = " ";
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient);
+
+    assertTrue(tokenCache.getAccessToken("client", "secret", "scope").isFailure());
+    assertEquals(1, tokenCache.getStats().getFailures());
+  }
+
+  @Test
+  public void testRejectedRefresh() {
+    expiresIn = 11 * 60;
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient, REFRESH_AHEAD, command -> {
+      throw new RejectedExecutionException();
+    });
+
+    final String first = tokenCache.getAccessToken("client", "secret", "scope").get();
+    assertEquals(first, tokenCache.getAccessToken("client", "secret", "scope").get());
+    assertEquals(1, tokenCache.getStats().getFailures());
+  }
+
+  @Test
+  public void verifyNullHandling() {
+    final TokenCache tokenCache = new TokenCacheImpl(oauthClient);
+    assertThrows(NullPointerException.class, () -> new TokenCacheImpl(null));
+    assertThrows(NullPointerException.class,
+        () -> new TokenCacheImpl(oauthClient, null, Runnable::run));
+    assertThrows(NullPointerException.class,
+        () -> new TokenCacheImpl(oauthClient, REFRESH_AHEAD, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new TokenCacheImpl(oauthClient, Duration.ofMinutes(-1), Runnable::run));
+    assertThrows(NullPointerException.class,
+        () -> tokenCache.getAccessToken(null, "secret", "scope"));
+    assertThrows(NullPointerException.class,
+        () -> tokenCache.getAccessToken("client", null, "scope"));
+    assertThrows(NullPointerException.class,
+        () -> tokenCache.getAccessToken("client", "secret", null));
+  }
+
+  /**
+   * Responds like the Cognito token endpoint, returning a new token with each request.
+   */
+  private void token(final HttpExchange exchange) throws IOException {
+    final int request = tokenRequests.incrementAndGet();
+    final String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    synchronized (requestBodies) {
+      requestBodies.add(body);
+    }
+
+    final boolean authorized = ("Basic " + Base64.getEncoder().encodeToString(
+        (clientId(body) + ":secret").getBytes(StandardCharsets.UTF_8)))
+        .equals(exchange.getRequestHeaders().getFirst("Authorization"));
+
+    Try.run(() -> Thread.sleep(delay));
+
+    final byte[] response = OBJECT_MAPPER.writeValueAsBytes(Oauth.builder()
+        .accessToken(accessToken == null ? "token" + request : accessToken)
+        .expiresIn(expiresIn)
+        .tokenType("Bearer")
+        .build());
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(authorized ? status : 401, response.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(response);
+    }
+  }
+
+  private static String clientId(final String body) {
+    for (final String param : body.split("&")) {
+      if (param.startsWith("client_id=")) {
+        return param.substring("client_id=".length());
+      }
+    }
+    return "";
+  }
+
+  /**
+   * A minimal OauthClient posting the form encoded token request to the local server.
+   */
+  private static class HttpOauthClient implements OauthClient {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final URI endpoint;
+
+    HttpOauthClient(final URI endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    @Override
+    public Oauth getToken(final String authorization, final String grantType,
+        final String clientId, final String scope) {
+      try {
+        final HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(endpoint)
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("grant_type=" + encode(grantType)
+                    + "&client_id=" + encode(clientId)
+                    + "&scope=" + encode(scope)))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+          throw new IOException("The token endpoint returned " + response.statusCode());
+        }
+        return OBJECT_MAPPER.readValue(response.body(), Oauth.class);
+      } catch (final IOException ex) {
+        throw new UncheckedIOException(ex);
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(ex);
+      }
+    }
+
+    private static String encode(final String value) {
+      return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+  }
+}
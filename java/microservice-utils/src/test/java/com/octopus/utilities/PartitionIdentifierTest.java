@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.VerifiedJwt;
 import com.octopus.jwt.impl.JoseJwtInspector;
 import com.octopus.utilties.PartitionIdentifier;
 import com.octopus.utilties.impl.PartitionIdentifierImpl;
@@ -43,6 +44,11 @@ public class PartitionIdentifierTest {
         public Optional<String> getClaim(String jwt, String claim)  {
           return Optional.empty();
         }
+
+        @Override
+        public Optional<VerifiedJwt> getVerifiedJwt(String jwt) {
+          return Optional.empty();
+        }
       },
       () -> Optional.of("admin"),
       () -> false
@@ -65,6 +71,11 @@ public class PartitionIdentifierTest {
         public Optional<String> getClaim(String jwt, String claim)  {
           return Optional.empty();
         }
+
+        @Override
+        public Optional<VerifiedJwt> getVerifiedJwt(String jwt) {
+          return Optional.empty();
+        }
       },
       () -> Optional.of("admin"),
       () -> false
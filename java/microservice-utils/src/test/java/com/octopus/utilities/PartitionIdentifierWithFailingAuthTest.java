@@ -3,6 +3,7 @@ package com.octopus.utilities;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.octopus.jwt.JwtInspector;
+import com.octopus.jwt.VerifiedJwt;
 import com.octopus.utilties.PartitionIdentifier;
 import com.octopus.utilties.impl.PartitionIdentifierImpl;
 import java.util.ArrayList;
@@ -28,6 +29,11 @@ public class PartitionIdentifierWithFailingAuthTest {
         public Optional<String> getClaim(String jwt, String claim)  {
           return Optional.empty();
         }
+
+        @Override
+        public Optional<VerifiedJwt> getVerifiedJwt(String jwt) {
+          return Optional.empty();
+        }
       },
       Optional::empty,
       () -> false
@@ -70,6 +70,12 @@ public class ProxyResponseBuilderTest {
     assertEquals(404, response.getStatusCode());
   }
 
+  @Test
+  public void testBuildMethodNotAllowed() {
+    final APIGatewayProxyResponseEvent response = PROXY_RESPONSE_BUILDER.buildMethodNotAllowed();
+    assertEquals(405, response.getStatusCode());
+  }
+
   @Test
   public void testBuildUnauthorized() throws JsonProcessingException {
     final APIGatewayProxyResponseEvent response = PROXY_RESPONSE_BUILDER.buildUnauthorizedRequest(new Exception());
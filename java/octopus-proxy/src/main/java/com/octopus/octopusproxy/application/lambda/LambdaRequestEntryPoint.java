@@ -8,10 +8,12 @@ import com.octopus.exceptions.EntityNotFoundException;
 import com.octopus.exceptions.InvalidFilterException;
 import com.octopus.exceptions.UnauthorizedException;
 import com.octopus.features.MicroserviceNameFeature;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.LambdaRouter;
 import com.octopus.lambda.ProxyResponseBuilder;
 import io.quarkus.logging.Log;
-import io.vavr.control.Try;
-import java.util.Optional;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
@@ -36,6 +38,9 @@ public class LambdaRequestEntryPoint implements
   @Inject
   MicroserviceNameFeature microserviceNameFeature;
 
+  private final Supplier<LambdaRouter<APIGatewayProxyResponseEvent>> router =
+      Suppliers.memoize(this::buildRouter);
+
   /**
    * Handle the lambda proxy request.
    *
@@ -46,42 +51,57 @@ public class LambdaRequestEntryPoint implements
   @Override
   public APIGatewayProxyResponseEvent handleRequest(
       @NonNull final APIGatewayProxyRequestEvent input, @NonNull final Context context) {
+    return router.get().route(LambdaRequestContext.fromEvent(input));
+  }
+
+  /**
+   * Lambdas don't enjoy the same middleware and framework support as web servers (although
+   * https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it comes out of
+   * preview), so we are on our own with functionality such as routing requests to handlers. Each
+   * handler registers its routes, and the resulting router is built once with the first request.
+   *
+   * @return The router dispatching requests to the handlers.
+   */
+  private LambdaRouter<APIGatewayProxyResponseEvent> buildRouter() {
+    final LambdaRouter.Builder<APIGatewayProxyResponseEvent> builder = LambdaRouter.builder();
+    handlers.forEach(h -> h.registerRoutes(builder));
 
-    /*
-     Lambdas don't enjoy the same middleware and framework support as web servers (although
-     https://quarkus.io/guides/amazon-lambda-http is looking like a good option when it
-     comes out of preview), so we are on our own with functionality such as routing requests to
-     handlers. This code simply calls each handler to find the first one that responds to the request.
-    */
-    return Try.of(() -> handlers.stream()
-            // handle the request
-            .map(h -> h.handleRequest(input))
-            // we're only interested in populated responses
-            .filter(Optional::isPresent)
-            // get the response
-            .map(Optional::get)
-            // we only expect one of the handlers to provide a response, so get the first one
-            .findFirst()
-            // otherwise nothing handled the response, and we return a 404
-            .orElseGet(() -> proxyResponseBuilder.buildPathNotFound()))
-        /*
-          We don't expect anything other than a 200 OK, even if the result is empty. It is possible that the request
-          was for a missing entity, had a bad filter, or was unauthorized, but if the front end is working as expected,
-          these events should be rare. Log the event so we can track down any issues between the frontend and this service
-          later on.
-         */
-        .onFailure(e -> Log.warn(microserviceNameFeature.getMicroserviceName() + "-General-UnexpectResponse", e))
+    return builder
         // Map a EntityNotFoundException to a "not found" response
-        .recover(EntityNotFoundException.class, proxyResponseBuilder.buildNotFound())
+        .exception(EntityNotFoundException.class, (ex, request) -> {
+          logUnexpectedResponse(ex);
+          return proxyResponseBuilder.buildNotFound();
+        })
         // Map a UnauthorizedException to a "unauthorized" response
-        .recover(UnauthorizedException.class, ex -> proxyResponseBuilder.buildUnauthorizedRequest(ex))
+        .exception(UnauthorizedException.class, (ex, request) -> {
+          logUnexpectedResponse(ex);
+          return proxyResponseBuilder.buildUnauthorizedRequest(ex);
+        })
         // Map the InvalidFilterException to a bad request response
-        .recover(InvalidFilterException.class, ex -> proxyResponseBuilder.buildBadRequest(ex))
-        // Any other failures represent a more significant issue, so log them as an error
-        .onFailure(e -> Log.error(microserviceNameFeature.getMicroserviceName() + "-General-GeneralError", e))
+        .exception(InvalidFilterException.class, (ex, request) -> {
+          logUnexpectedResponse(ex);
+          return proxyResponseBuilder.buildBadRequest(ex);
+        })
+        // Nothing handled the path, so we return a 404
+        .notFound(request -> proxyResponseBuilder.buildPathNotFound())
+        // A handler matched the path, but not the method
+        .methodNotAllowed(request -> proxyResponseBuilder.buildMethodNotAllowed())
         // All other exceptions are treated as server side exceptions
-        .recover(Exception.class, ex -> proxyResponseBuilder.buildError(ex))
-        // Get the result, or rethrow the exception
-        .get();
+        .error((ex, request) -> {
+          // Any other failures represent a more significant issue, so log them as an error
+          Log.error(microserviceNameFeature.getMicroserviceName() + "-General-GeneralError", ex);
+          return proxyResponseBuilder.buildError(ex);
+        })
+        .build();
+  }
+
+  /**
+   * We don't expect anything other than a 200 OK, even if the result is empty. It is possible that
+   * the request was for a missing entity, had a bad filter, or was unauthorized, but if the front
+   * end is working as expected, these events should be rare. Log the event so we can track down any
+   * issues between the frontend and this service later on.
+   */
+  private void logUnexpectedResponse(final Exception ex) {
+    Log.warn(microserviceNameFeature.getMicroserviceName() + "-General-UnexpectResponse", ex);
   }
 }
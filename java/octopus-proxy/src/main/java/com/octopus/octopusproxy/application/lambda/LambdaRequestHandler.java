@@ -1,19 +1,17 @@
 package com.octopus.octopusproxy.application.lambda;
 
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
-import java.util.Optional;
+import com.octopus.lambda.LambdaRouter;
 
 /**
- * Defines a service that can optionally handle a Lambda request.
+ * Defines a service that handles the Lambda requests matching the routes it registers.
  */
 public interface LambdaRequestHandler {
 
   /**
-   * Handle the lambda request.
+   * Register the routes handled by this service.
    *
-   * @param input The request event.
-   * @return A populated response event, or an empty optional if this service did not handle the event.
+   * @param builder The builder of the router used by the Lambda entry point.
    */
-  Optional<APIGatewayProxyResponseEvent> handleRequest(final APIGatewayProxyRequestEvent input);
+  void registerRoutes(final LambdaRouter.Builder<APIGatewayProxyResponseEvent> builder);
 }
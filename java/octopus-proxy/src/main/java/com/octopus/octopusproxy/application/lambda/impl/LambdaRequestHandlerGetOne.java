@@ -1,22 +1,16 @@
 package com.octopus.octopusproxy.application.lambda.impl;
 
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.github.jasminb.jsonapi.exceptions.DocumentSerializationException;
 import com.google.common.net.HttpHeaders;
 import com.octopus.Constants;
-import com.octopus.lambda.LambdaHttpValueExtractor;
+import com.octopus.lambda.LambdaRequestContext;
+import com.octopus.lambda.LambdaRouter;
 import com.octopus.octopusproxy.application.Paths;
 import com.octopus.octopusproxy.application.lambda.LambdaRequestHandler;
 import com.octopus.octopusproxy.domain.handlers.ResourceHandler;
-import com.octopus.exceptions.EntityNotFoundException;
-import com.octopus.exceptions.UnauthorizedException;
 import com.octopus.lambda.ApiGatewayProxyResponseEventWithCors;
-import com.octopus.lambda.LambdaHttpHeaderExtractor;
-import com.octopus.lambda.ProxyResponseBuilder;
-import com.octopus.lambda.RequestMatcher;
-import com.octopus.utilties.RegExUtils;
-import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.Map;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
@@ -27,73 +21,39 @@ import javax.inject.Inject;
 public class LambdaRequestHandlerGetOne implements LambdaRequestHandler {
 
   /**
-   * A regular expression matching a single entity.
+   * The path template matching a single entity. Entity IDs are URLs, so the ID matches the
+   * remainder of the path.
    */
-  public static final Pattern INDIVIDUAL_RE = Pattern.compile(Paths.API_ENDPOINT + "/(?<id>.+)/?");
-
-  @Inject
-  RequestMatcher requestMatcher;
+  public static final String INDIVIDUAL_PATH = Paths.API_ENDPOINT + "/{id+}";
 
   @Inject
   ResourceHandler resourceHandler;
 
-  @Inject
-  LambdaHttpHeaderExtractor lambdaHttpHeaderExtractor;
-
-  @Inject
-  LambdaHttpValueExtractor lambdaHttpValueExtractor;
-
-  @Inject
-  RegExUtils regExUtils;
-
-  @Inject
-  ProxyResponseBuilder proxyResponseBuilder;
+  @Override
+  public void registerRoutes(final LambdaRouter.Builder<APIGatewayProxyResponseEvent> builder) {
+    builder.route(Constants.Http.GET_METHOD, INDIVIDUAL_PATH, this::getOne);
+  }
 
   /**
    * Handle the lambda request.
    *
-   * @param input The request event.
-   * @return A populated response event, or an empty optional if this service did not handle the
-   *     event.
+   * @param request       The request event, along with its indexed headers and query params.
+   * @param pathVariables The variables in the request path.
+   * @return A populated response event.
    */
-  @Override
-  public Optional<APIGatewayProxyResponseEvent> handleRequest(
-      APIGatewayProxyRequestEvent input) {
-    try {
-
-      if (!requestMatcher.requestIsMatch(input, INDIVIDUAL_RE, Constants.Http.GET_METHOD)) {
-        return Optional.empty();
-      }
-
-      final Optional<String> id = regExUtils.getGroup(INDIVIDUAL_RE, input.getPath(), "id");
-
-      if (id.isPresent()) {
-        final String entity =
-            resourceHandler.getOne(
-                id.get(),
-                lambdaHttpValueExtractor.getQueryParam(input, "apiKey").orElse(""),
-                lambdaHttpHeaderExtractor.getAllHeaders(input, Constants.DATA_PARTITION_HEADER),
-                lambdaHttpHeaderExtractor.getFirstHeader(
-                        input,
-                        HttpHeaders.AUTHORIZATION)
-                    .orElse(null),
-                lambdaHttpHeaderExtractor.getFirstHeader(
-                        input,
-                        Constants.SERVICE_AUTHORIZATION_HEADER)
-                    .orElse(null));
-
-        return Optional.of(
-            new ApiGatewayProxyResponseEventWithCors().withStatusCode(200).withBody(entity));
-      }
-      return Optional.of(proxyResponseBuilder.buildNotFound());
-
-    } catch (final UnauthorizedException e) {
-      return Optional.of(proxyResponseBuilder.buildUnauthorizedRequest(e));
-    } catch (final EntityNotFoundException ex) {
-      return Optional.of(proxyResponseBuilder.buildNotFound());
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return Optional.of(proxyResponseBuilder.buildError(e));
-    }
+  private APIGatewayProxyResponseEvent getOne(
+      final LambdaRequestContext request,
+      final Map<String, String> pathVariables) throws DocumentSerializationException {
+    final String entity =
+        resourceHandler.getOne(
+            pathVariables.get("id"),
+            request.getQueryParam("apiKey").orElse(""),
+            request.getAllHeaders(Constants.DATA_PARTITION_HEADER),
+            request.getFirstHeader(HttpHeaders.AUTHORIZATION)
+                .orElse(null),
+            request.getFirstHeader(Constants.SERVICE_AUTHORIZATION_HEADER)
+                .orElse(null));
+
+    return new ApiGatewayProxyResponseEventWithCors().withStatusCode(200).withBody(entity);
   }
 }
@@ -1,17 +1,14 @@
 
 package com.octopus.octopusproxy.application.lambda.impl;
 
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.octopus.Constants;
 import com.octopus.octopusproxy.application.Paths;
 import com.octopus.octopusproxy.application.lambda.LambdaRequestHandler;
 import com.octopus.octopusproxy.domain.handlers.HealthHandler;
 import com.octopus.lambda.ApiGatewayProxyResponseEventWithCors;
-import com.octopus.lambda.ProxyResponseBuilder;
-import com.octopus.lambda.RequestMatcher;
-import java.util.Optional;
-import java.util.regex.Pattern;
+import com.octopus.lambda.LambdaRouter;
+import com.octopus.lambda.RouteHandler;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
@@ -22,20 +19,24 @@ import javax.inject.Inject;
 public class LambdaRequestHandlerHealth implements LambdaRequestHandler {
 
   /**
-   * A regular expression matching a health endpoint.
+   * The path template matching the health of the collection of entities.
    */
-  public static final Pattern HEALTH_RE =
-      Pattern.compile(Paths.HEALTH_ENDPOINT + "/GET|/.+?/GET");
-
-  @Inject
-  RequestMatcher requestMatcher;
-
-  @Inject
-  ProxyResponseBuilder proxyResponseBuilder;
+  public static final String COLLECTION_HEALTH_PATH = Paths.HEALTH_ENDPOINT + "/GET";
+  /**
+   * The path template matching the health of a single entity.
+   */
+  public static final String INDIVIDUAL_HEALTH_PATH = Paths.HEALTH_ENDPOINT + "/{id}/GET";
 
   @Inject
   HealthHandler healthHandler;
 
+  @Override
+  public void registerRoutes(final LambdaRouter.Builder<APIGatewayProxyResponseEvent> builder) {
+    builder
+        .route(Constants.Http.GET_METHOD, COLLECTION_HEALTH_PATH, checkHealth("GET"))
+        .route(Constants.Http.GET_METHOD, INDIVIDUAL_HEALTH_PATH, checkHealth("GET"));
+  }
+
   /**
    * Health checks sit parallel to the /api endpoint under /health. The health endpoints mirror the
    * API, but with an additional path that indicates the http method. So, for example, a GET request
@@ -63,26 +64,19 @@ public class LambdaRequestHandlerHealth implements LambdaRequestHandler {
    * endpoints, but clients can not assume this is always the case, and must check the health of
    * each endpoint to accurately evaluate the health of the service.
    *
-   * @param input The request details
-   * @return The optional proxy response
+   * <p>The health path and method are taken from the matched route rather than the request path,
+   * which may end with a slash.
+   *
+   * @param method The http method whose health is checked
+   * @return The handler for the health endpoint
    */
-  @Override
-  public Optional<APIGatewayProxyResponseEvent> handleRequest(
-      APIGatewayProxyRequestEvent input) {
-    if (!requestMatcher.requestIsMatch(input, HEALTH_RE, Constants.Http.GET_METHOD)) {
-      return Optional.empty();
-    }
-
-    try {
-      return Optional.of(
-          new ApiGatewayProxyResponseEventWithCors()
-              .withStatusCode(200)
-              .withBody(healthHandler.getHealth(
-                  input.getPath().substring(0, input.getPath().lastIndexOf("/")),
-                  input.getPath().substring(input.getPath().lastIndexOf("/")))));
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return Optional.of(proxyResponseBuilder.buildError(e));
-    }
+  private RouteHandler<APIGatewayProxyResponseEvent> checkHealth(final String method) {
+    return (request, pathVariables) -> new ApiGatewayProxyResponseEventWithCors()
+        .withStatusCode(200)
+        .withBody(healthHandler.getHealth(
+            pathVariables.containsKey("id")
+                ? Paths.HEALTH_ENDPOINT + "/" + pathVariables.get("id")
+                : Paths.HEALTH_ENDPOINT,
+            method));
   }
 }
@@ -1,7 +1,8 @@
 package com.octopus.octopusproxy.domain.framework.producers;
 
 import com.octopus.encryption.AsymmetricDecryptor;
-import com.octopus.encryption.impl.RsaCryptoUtilsDecryptor;
+import com.octopus.encryption.impl.CachingRsaCryptoUtilsDecryptor;
+import com.octopus.features.AdminJwtClaimFeature;
 import com.octopus.features.AdminJwtGroupFeature;
 import com.octopus.features.CognitoJwkBase64Feature;
 import com.octopus.features.DisableSecurityFeature;
@@ -10,12 +11,14 @@ import com.octopus.jsonapi.AcceptHeaderVerifier;
 import com.octopus.jsonapi.PagedResultsLinksBuilder;
 import com.octopus.jsonapi.impl.PagedResultsLinksBuilderImpl;
 import com.octopus.jsonapi.impl.VersionOneAcceptHeaderVerifier;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.jwt.JwtInspector;
 import com.octopus.jwt.JwtUtils;
 import com.octopus.jwt.JwtValidator;
+import com.octopus.jwt.impl.AuthContextFactoryImpl;
+import com.octopus.jwt.impl.CachingJwtValidatorImpl;
 import com.octopus.jwt.impl.JoseJwtInspector;
 import com.octopus.jwt.impl.JwtUtilsImpl;
-import com.octopus.jwt.impl.JwtValidatorImpl;
 import com.octopus.lambda.LambdaHttpCookieExtractor;
 import com.octopus.lambda.LambdaHttpHeaderExtractor;
 import com.octopus.lambda.LambdaHttpValueExtractor;
@@ -36,6 +39,7 @@ import java.security.NoSuchAlgorithmException;
 import javax.crypto.NoSuchPaddingException;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /**
  * Produces a number of objects for injection.
@@ -43,6 +47,9 @@ import javax.enterprise.inject.Produces;
 @ApplicationScoped
 public class UtilityProducer {
 
+  @ConfigProperty(name = "cognito.client-id")
+  String cognitoClientId;
+
   /**
    * Produces the Lambda cookie extractor.
    *
@@ -128,7 +135,7 @@ public class UtilityProducer {
   @ApplicationScoped
   @Produces
   public JwtValidator getJwtValidator() {
-    return new JwtValidatorImpl();
+    return new CachingJwtValidatorImpl();
   }
 
   /**
@@ -175,6 +182,30 @@ public class UtilityProducer {
     return new PartitionIdentifierImpl(jwtInspector, adminJwtGroupFeature, disableSecurityFeature);
   }
 
+  /**
+   * Produces the service that builds the authorization context of a request.
+   *
+   * @return An implementation of AuthContextFactory.
+   */
+  @ApplicationScoped
+  @Produces
+  public AuthContextFactory getAuthContextFactory(
+      JwtInspector jwtInspector,
+      JwtUtils jwtUtils,
+      PartitionIdentifier partitionIdentifier,
+      AdminJwtClaimFeature adminJwtClaimFeature,
+      AdminJwtGroupFeature adminJwtGroupFeature,
+      DisableSecurityFeature disableSecurityFeature) {
+    return new AuthContextFactoryImpl(
+        jwtInspector,
+        jwtUtils,
+        partitionIdentifier,
+        adminJwtClaimFeature,
+        adminJwtGroupFeature,
+        disableSecurityFeature,
+        cognitoClientId);
+  }
+
 
 
   /**
@@ -199,16 +230,16 @@ public class UtilityProducer {
    * Produces the AsymmetricDecryptor utils instance.
    *
    * @return An implementation of AsymmetricDecryptor.
-   * @throws NoSuchAlgorithmException if the transformer used by RsaCryptoUtilsDecryptor is an
-   *                                  invalid format, or if no {@code Provider} supports a
+   * @throws NoSuchAlgorithmException if the transformer used by CachingRsaCryptoUtilsDecryptor is
+   *                                  an invalid format, or if no {@code Provider} supports a
    *                                  {@code CipherSpi} implementation for the specified algorithm
-   * @throws NoSuchPaddingException   if the transformer used by RsaCryptoUtilsDecryptor contains a
-   *                                  padding scheme that is not available
+   * @throws NoSuchPaddingException   if the transformer used by CachingRsaCryptoUtilsDecryptor
+   *                                  contains a padding scheme that is not available
    */
   @ApplicationScoped
   @Produces
   public AsymmetricDecryptor getAsymmetricDecryptor()
       throws NoSuchPaddingException, NoSuchAlgorithmException {
-    return new RsaCryptoUtilsDecryptor();
+    return new CachingRsaCryptoUtilsDecryptor();
   }
 }
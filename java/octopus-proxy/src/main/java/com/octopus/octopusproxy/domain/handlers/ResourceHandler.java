@@ -12,15 +12,11 @@ import com.octopus.exceptions.InvalidFilterException;
 import com.octopus.exceptions.JsonSerializationException;
 import com.octopus.exceptions.ServerErrorException;
 import com.octopus.exceptions.UnauthorizedException;
-import com.octopus.features.AdminJwtClaimFeature;
-import com.octopus.features.AdminJwtGroupFeature;
 import com.octopus.features.MicroserviceNameFeature;
-import com.octopus.jwt.JwtInspector;
-import com.octopus.jwt.JwtUtils;
+import com.octopus.jwt.AuthContextFactory;
 import com.octopus.octopusproxy.domain.entities.Space;
 import com.octopus.octopusproxy.domain.entities.SpaceCollection;
 import com.octopus.octopusproxy.domain.features.ClientPrivateKey;
-import com.octopus.octopusproxy.domain.features.impl.DisableSecurityFeatureImpl;
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.Node;
 import io.quarkus.logging.Log;
@@ -42,7 +38,6 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
-import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /**
  * Handlers take the raw input from the upstream service, like Lambda or a web server, convert the
@@ -54,26 +49,11 @@ public class ResourceHandler {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
       .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-  @Inject
-  AdminJwtClaimFeature adminJwtClaimFeature;
-
-  @ConfigProperty(name = "cognito.client-id")
-  String cognitoClientId;
-
-  @Inject
-  DisableSecurityFeatureImpl cognitoDisableAuth;
-
-  @Inject
-  AdminJwtGroupFeature adminJwtGroupFeature;
-
   @Inject
   ResourceConverter resourceConverter;
 
   @Inject
-  JwtInspector jwtInspector;
-
-  @Inject
-  JwtUtils jwtUtils;
+  AuthContextFactory authContextFactory;
 
   @Inject
   ClientPrivateKey clientPrivateKey;
@@ -101,7 +81,10 @@ public class ResourceHandler {
       throws DocumentSerializationException {
     Preconditions.checkArgument(StringUtils.isNotBlank(apiKey), "apiKey can not be a blank string");
 
-    if (!isAuthorized(authorizationHeader, serviceAuthorizationHeader)) {
+    if (!authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        dataPartitionHeaders).isAuthorized()) {
       throw new UnauthorizedException();
     }
 
@@ -170,7 +153,10 @@ public class ResourceHandler {
       throws DocumentSerializationException {
     Preconditions.checkArgument(StringUtils.isNotBlank(apiKey), "apiKey can not be a blank string");
 
-    if (!isAuthorized(authorizationHeader, serviceAuthorizationHeader)) {
+    if (!authContextFactory.build(
+        authorizationHeader,
+        serviceAuthorizationHeader,
+        dataPartitionHeaders).isAuthorized()) {
       throw new UnauthorizedException();
     }
 
@@ -273,50 +259,4 @@ public class ResourceHandler {
     final JSONAPIDocument<List<Space>> document = new JSONAPIDocument<List<Space>>(space);
     return new String(resourceConverter.writeDocumentCollection(document));
   }
-
-  /**
-   * Determines if the supplied token grants the required scopes to execute the operation.
-   *
-   * @param authorizationHeader        The Authorization header.
-   * @param serviceAuthorizationHeader The Service-Authorization header.
-   * @return true if the request is authorized, and false otherwise.
-   */
-  private boolean isAuthorized(
-      final String authorizationHeader,
-      final String serviceAuthorizationHeader) {
-
-    /*
-      This method implements the following logic:
-      * If auth is disabled, return true.
-      * If the Service-Authorization header contains an access token with the correct scope,
-        generated by a known app client, return true.
-      * If the Authorization header contains a known group, return true.
-      * Otherwise, return false.
-     */
-
-    if (cognitoDisableAuth.getCognitoAuthDisabled()) {
-      return true;
-    }
-
-    /*
-      An admin scope granted to an access token generated by a known client credentials
-      app client is accepted as machine-to-machine communication.
-     */
-    if (adminJwtClaimFeature.getAdminClaim().isPresent() && jwtUtils.getJwtFromAuthorizationHeader(
-            serviceAuthorizationHeader)
-        .map(jwt -> jwtInspector.jwtContainsScope(jwt, adminJwtClaimFeature.getAdminClaim().get(),
-            cognitoClientId))
-        .orElse(false)) {
-      return true;
-    }
-
-    /*
-      Anyone assigned to the appropriate group is also granted access.
-     */
-    return adminJwtGroupFeature.getAdminGroup().isPresent()
-        && jwtUtils.getJwtFromAuthorizationHeader(authorizationHeader)
-        .map(jwt -> jwtInspector.jwtContainsCognitoGroup(jwt,
-            adminJwtGroupFeature.getAdminGroup().get()))
-        .orElse(false);
-  }
 }
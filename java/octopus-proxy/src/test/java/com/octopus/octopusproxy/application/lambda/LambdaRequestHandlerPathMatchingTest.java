@@ -1,16 +1,17 @@
 package com.octopus.octopusproxy.application.lambda;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
-import com.octopus.Constants;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.octopus.lambda.LambdaRouter;
 import com.octopus.octopusproxy.application.Paths;
 import com.octopus.octopusproxy.application.lambda.impl.LambdaRequestHandlerGetAll;
 import com.octopus.octopusproxy.application.lambda.impl.LambdaRequestHandlerGetOne;
 import com.octopus.octopusproxy.application.lambda.impl.LambdaRequestHandlerHealth;
-import com.octopus.lambda.RequestMatcher;
-import com.octopus.lambda.impl.RequestMatcherImpl;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -20,55 +21,59 @@ import org.junit.jupiter.params.provider.ValueSource;
  */
 public class LambdaRequestHandlerPathMatchingTest {
 
-  private static final RequestMatcher REQUEST_MATCHER = new RequestMatcherImpl();
+  private static LambdaRouter<APIGatewayProxyResponseEvent> router;
+
+  @BeforeAll
+  public static void setup() {
+    final LambdaRouter.Builder<APIGatewayProxyResponseEvent> builder = LambdaRouter.builder();
+    List.of(
+            new LambdaRequestHandlerGetAll(),
+            new LambdaRequestHandlerGetOne(),
+            new LambdaRequestHandlerHealth())
+        .forEach(h -> h.registerRoutes(builder));
+    router = builder
+        .notFound(request -> null)
+        .methodNotAllowed(request -> null)
+        .error((e, request) -> null)
+        .build();
+  }
 
   @ParameterizedTest
   @ValueSource(strings = {
+      Paths.HEALTH_ENDPOINT + "/GET",
       Paths.HEALTH_ENDPOINT + "/x/GET"})
   public void testHealthRequestMatching(final String path) {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath(path);
-    assertTrue(REQUEST_MATCHER.requestIsMatch(event, LambdaRequestHandlerHealth.HEALTH_RE, Constants.Http.GET_METHOD));
+    assertTrue(router.match("GeT", path).isFound());
   }
 
   @Test
   public void testIndividualRequestMatching() {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath(Paths.API_ENDPOINT + "/https%3A%2F%2Fmattc.octopus.app%2Fapi%2Fspaces%2FSpaces-742");
-    assertTrue(REQUEST_MATCHER.requestIsMatch(event, LambdaRequestHandlerGetOne.INDIVIDUAL_RE, Constants.Http.GET_METHOD));
+    assertEquals(
+        "https%3A%2F%2Fmattc.octopus.app%2Fapi%2Fspaces%2FSpaces-742",
+        router.match("GeT",
+                Paths.API_ENDPOINT + "/https%3A%2F%2Fmattc.octopus.app%2Fapi%2Fspaces%2FSpaces-742")
+            .getPathVariables().get("id"));
   }
 
   @Test
   public void testIndividualWithSlashRequestMatching() {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath(Paths.API_ENDPOINT + "/https%3A%2F%2Fmattc.octopus.app%2Fapi%2Fspaces%2FSpaces-742/");
-    assertTrue(REQUEST_MATCHER.requestIsMatch(event, LambdaRequestHandlerGetOne.INDIVIDUAL_RE, Constants.Http.GET_METHOD));
+    assertEquals(
+        "https%3A%2F%2Fmattc.octopus.app%2Fapi%2Fspaces%2FSpaces-742",
+        router.match("GeT",
+                Paths.API_ENDPOINT + "/https%3A%2F%2Fmattc.octopus.app%2Fapi%2Fspaces%2FSpaces-742/")
+            .getPathVariables().get("id"));
   }
 
   @Test
   public void testCollectionRequestMatching() {
-    final APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
-    event.setHttpMethod("GeT");
-    event.setPath(Paths.API_ENDPOINT + "/");
-    assertTrue(REQUEST_MATCHER.requestIsMatch(event, LambdaRequestHandlerGetAll.COLLECTION_RE, Constants.Http.GET_METHOD));
+    assertTrue(router.match("GeT", Paths.API_ENDPOINT + "/").isFound());
   }
 
   @Test
-  public void testNullParams() {
-    assertThrows(NullPointerException.class, () -> {
-      REQUEST_MATCHER.requestIsMatch(new APIGatewayProxyRequestEvent(),
-          LambdaRequestHandlerGetOne.INDIVIDUAL_RE, null);
-    });
-
-    assertThrows(NullPointerException.class, () -> {
-      REQUEST_MATCHER.requestIsMatch(new APIGatewayProxyRequestEvent(), null, "");
-    });
-
-    assertThrows(NullPointerException.class, () -> {
-      REQUEST_MATCHER.requestIsMatch(null, LambdaRequestHandlerGetOne.INDIVIDUAL_RE, "");
-    });
+  public void testUnmatchedRequests() {
+    assertFalse(router.match("GET", "/api/nope/blah").isFound());
+    assertFalse(router.match("GET", Paths.HEALTH_ENDPOINT + "/x/POST").isFound());
+    assertTrue(router.match("POST", Paths.API_ENDPOINT).isMethodNotAllowed());
+    assertFalse(router.match(null, null).isFound());
   }
 }
@@ -0,0 +1,25 @@
+package com.octopus.builders;
+
+import com.octopus.repoclients.RepoClient;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * A builder that can build a pipeline for a repo, along with what it found in the repo.
+ */
+@Value
+public class DetectedBuilder {
+
+  PipelineBuilder builder;
+  DetectionResult detection;
+
+  /**
+   * Builds the pipeline from the repo that was inspected.
+   *
+   * @param accessor The repo that was passed to the detector.
+   * @return The pipeline generated from the repo.
+   */
+  public String generate(@NonNull final RepoClient accessor) {
+    return builder.generate(accessor, detection);
+  }
+}
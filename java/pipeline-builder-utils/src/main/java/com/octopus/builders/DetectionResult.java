@@ -0,0 +1,76 @@
+package com.octopus.builders;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * The result of a PipelineBuilder inspecting a repo. Builders are shared between requests, so
+ * anything they find while detecting a project, like a wrapper script or the directory holding the
+ * project files, is recorded here and passed to PipelineBuilder.generate() rather than being kept
+ * by the builder.
+ */
+@Value
+@Builder
+public class DetectionResult {
+
+  private static final DetectionResult NOT_BUILDABLE = DetectionResult.builder().build();
+
+  /**
+   * true if the builder can build a pipeline for the repo.
+   */
+  boolean buildable;
+  /**
+   * The names of the optional features found in the repo, like a wrapper script.
+   */
+  @Singular
+  Set<String> features;
+  /**
+   * The values found in the repo, like the directory holding the project files.
+   */
+  @Singular
+  Map<String, String> properties;
+
+  /**
+   * Builds the result returned when a builder can not build a pipeline for the repo.
+   *
+   * @return The detection result.
+   */
+  public static DetectionResult notBuildable() {
+    return NOT_BUILDABLE;
+  }
+
+  /**
+   * Builds the result for a builder that has nothing to record about the repo.
+   *
+   * @param buildable true if the builder can build a pipeline for the repo.
+   * @return The detection result.
+   */
+  public static DetectionResult of(final boolean buildable) {
+    return buildable ? DetectionResult.builder().buildable(true).build() : NOT_BUILDABLE;
+  }
+
+  /**
+   * Determine if a feature was found in the repo.
+   *
+   * @param feature The name of the feature.
+   * @return true if the feature was found, and false otherwise.
+   */
+  public boolean hasFeature(@NonNull final String feature) {
+    return features.contains(feature);
+  }
+
+  /**
+   * Get a value found in the repo.
+   *
+   * @param name The name of the property.
+   * @return The property value, or empty if it was not found.
+   */
+  public Optional<String> getProperty(@NonNull final String name) {
+    return Optional.ofNullable(properties.get(name));
+  }
+}
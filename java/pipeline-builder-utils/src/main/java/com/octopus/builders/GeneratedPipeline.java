@@ -0,0 +1,27 @@
+package com.octopus.builders;
+
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * A pipeline generated for a repo, along with the name of the builder that generated it. The name
+ * is empty if no builder could build a pipeline, in which case the pipeline holds the message
+ * returned to the user.
+ */
+@Value
+public class GeneratedPipeline {
+
+  String builderName;
+  @NonNull
+  String pipeline;
+
+  /**
+   * Returns the name of the builder that generated the pipeline.
+   *
+   * @return The builder name, or empty if no builder was found.
+   */
+  public Optional<String> getBuilderName() {
+    return Optional.ofNullable(builderName);
+  }
+}
@@ -1,10 +1,15 @@
 package com.octopus.builders;
 
 import com.octopus.repoclients.RepoClient;
+import java.util.Set;
 
 /**
  * This interface defines a pipeline builder. Each builder is responsible for detecting files in a
  * repo that indicate that it can build a suitable pipeline.
+ *
+ * <p>Builders are shared between concurrent requests, so implementations must not hold any state
+ * about the repo they inspect. Anything found by canBuild() is returned in the DetectionResult,
+ * which is then passed to generate().
  */
 public interface PipelineBuilder {
 
@@ -18,16 +23,48 @@ public interface PipelineBuilder {
   /**
    * Determine if this builder can build a pipeline for the given repo.
    *
-   * @return true if this builder can build a pipeline, and false otherwise
+   * @return The detection result, which is buildable if this builder can build a pipeline.
    */
-  Boolean canBuild(RepoClient accessor);
+  DetectionResult canBuild(RepoClient accessor);
 
   /**
    * Builds the pipeline from a given repo.
    *
-   * @return The Jenkins pipeline generated from the repo
+   * @param accessor  The repo to build the pipeline for.
+   * @param detection The result returned by canBuild() for the repo.
+   * @return The pipeline generated from the repo
    */
-  String generate(RepoClient accessor);
+  String generate(RepoClient accessor, DetectionResult detection);
+
+  /**
+   * Detects and builds the pipeline from a given repo.
+   *
+   * @return The pipeline generated from the repo
+   */
+  default String generate(final RepoClient accessor) {
+    return generate(accessor, canBuild(accessor));
+  }
+
+  /**
+   * The paths this builder tests for or reads while detecting a project. RepoClients that can look
+   * up many paths at once use this to fetch them all in one request.
+   *
+   * @return The paths this builder probes.
+   */
+  default Set<String> getProbedFiles() {
+    return Set.of();
+  }
+
+  /**
+   * The version of the pipelines generated by this builder. Generated pipelines are cached against
+   * the commit they were generated from and the builder versions, so the version must be changed
+   * whenever a change to the builder changes the pipelines it generates.
+   *
+   * @return The builder version.
+   */
+  default String getVersion() {
+    return "1";
+  }
 
   /**
    * The builder priority. Higher number means this builder will be tested first.
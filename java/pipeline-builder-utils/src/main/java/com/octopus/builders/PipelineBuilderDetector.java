@@ -0,0 +1,21 @@
+package com.octopus.builders;
+
+import com.octopus.repoclients.RepoClient;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Finds the builder to use for a repo.
+ */
+public interface PipelineBuilderDetector {
+
+  /**
+   * Finds the highest priority builder that can build a pipeline for the repo. Builders with the
+   * same priority keep their order in the collection.
+   *
+   * @param builders The builders to test.
+   * @param accessor The repo to inspect.
+   * @return The first matching builder and its detection result, or empty if no builder matched.
+   */
+  Optional<DetectedBuilder> detect(Collection<PipelineBuilder> builders, RepoClient accessor);
+}
@@ -0,0 +1,26 @@
+package com.octopus.builders;
+
+import com.octopus.repoclients.RepoClient;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Represents a cache of generated pipelines. Pipelines are keyed by the repo, the commit at the
+ * head of its default branch, and the versions of the builders, so a pipeline is generated again
+ * once the repo or the builders change.
+ */
+public interface PipelineCache {
+
+  /**
+   * Returns the pipeline cached for the current head commit of the repo. Otherwise the generator
+   * is called, and the result is cached. If the head commit can not be determined, or no builder
+   * was found, the generator is called and the result is not cached.
+   *
+   * @param accessor  The repo to generate the pipeline for.
+   * @param builders  The builders that may generate the pipeline.
+   * @param generator The function that detects the builder and generates the pipeline.
+   * @return The cached or generated pipeline.
+   */
+  GeneratedPipeline get(RepoClient accessor, Collection<PipelineBuilder> builders,
+      Supplier<GeneratedPipeline> generator);
+}
@@ -0,0 +1,125 @@
+package com.octopus.builders.impl;
+
+import static org.jboss.logging.Logger.Level.DEBUG;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.octopus.builders.DetectedBuilder;
+import com.octopus.builders.DetectionResult;
+import com.octopus.builders.PipelineBuilder;
+import com.octopus.builders.PipelineBuilderDetector;
+import com.octopus.repoclients.RepoClient;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.jboss.logging.Logger;
+
+/**
+ * A detector that runs the builders' detections concurrently, so the time taken is closer to that
+ * of the slowest builder that has to be consulted than the sum of them all. The results are read in
+ * priority order.
+ *
+ * <p>Each request runs at most maxConcurrentDetections detections at once, starting the next
+ * builder in priority order as each result is read. Once a match is found, the lower priority
+ * detections that are still queued are removed from the executor, and those that are running are
+ * interrupted. Builders that have not been started by then are never started.
+ */
+public class PipelineBuilderDetectorImpl implements PipelineBuilderDetector {
+
+  private static final Logger LOG = Logger.getLogger(PipelineBuilderDetectorImpl.class.toString());
+  private static final int DEFAULT_THREADS = 32;
+  private static final int DEFAULT_MAX_CONCURRENT_DETECTIONS = 4;
+
+  private final ExecutorService executor;
+  private final int maxConcurrentDetections;
+
+  /**
+   * Constructor using a shared pool of daemon threads.
+   */
+  public PipelineBuilderDetectorImpl() {
+    this(SharedExecutorHolder.EXECUTOR);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param executor The executor used to run the blocking detections.
+   */
+  public PipelineBuilderDetectorImpl(@NonNull final ExecutorService executor) {
+    this(executor, DEFAULT_MAX_CONCURRENT_DETECTIONS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param executor                The executor used to run the blocking detections.
+   * @param maxConcurrentDetections The number of detections each request may run at once.
+   */
+  public PipelineBuilderDetectorImpl(
+      @NonNull final ExecutorService executor,
+      final int maxConcurrentDetections) {
+    if (maxConcurrentDetections < 1) {
+      throw new IllegalArgumentException("maxConcurrentDetections must be at least 1");
+    }
+
+    this.executor = executor;
+    this.maxConcurrentDetections = maxConcurrentDetections;
+  }
+
+  @Override
+  public Optional<DetectedBuilder> detect(
+      @NonNull final Collection<PipelineBuilder> builders,
+      @NonNull final RepoClient accessor) {
+    final List<PipelineBuilder> sorted = builders.stream()
+        .sorted(Comparator.comparing(PipelineBuilder::getPriority).reversed())
+        .collect(Collectors.toList());
+
+    final List<Future<DetectionResult>> detections = new ArrayList<>();
+    try {
+      for (int i = 0; i < sorted.size(); ++i) {
+        // Keep the window of running detections full, starting builders in priority order
+        while (detections.size() < Math.min(sorted.size(), i + maxConcurrentDetections)) {
+          final PipelineBuilder builder = sorted.get(detections.size());
+          detections.add(executor.submit(() -> builder.canBuild(accessor)));
+        }
+
+        final DetectionResult detection = detections.get(i).get();
+        if (detection.isBuildable()) {
+          LOG.log(DEBUG, "Detected builder " + sorted.get(i).getName());
+          return Optional.of(new DetectedBuilder(sorted.get(i), detection));
+        }
+      }
+      return Optional.empty();
+    } catch (final ExecutionException ex) {
+      throw ex.getCause() instanceof RuntimeException
+          ? (RuntimeException) ex.getCause()
+          : new RuntimeException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException("The builder detection was interrupted");
+    } finally {
+      detections.forEach(d -> d.cancel(true));
+    }
+  }
+
+  /**
+   * Creates the shared executor the first time it is used.
+   */
+  private static final class SharedExecutorHolder {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        DEFAULT_THREADS,
+        new ThreadFactoryBuilder()
+            .setNameFormat("pipeline-builder-detector-%d")
+            .setDaemon(true)
+            .build());
+  }
+}
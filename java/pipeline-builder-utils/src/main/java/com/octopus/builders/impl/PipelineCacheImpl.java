@@ -0,0 +1,252 @@
+package com.octopus.builders.impl;
+
+import static org.jboss.logging.Logger.Level.DEBUG;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.octopus.builders.GeneratedPipeline;
+import com.octopus.builders.PipelineBuilder;
+import com.octopus.builders.PipelineCache;
+import com.octopus.repoclients.RepoClient;
+import io.vavr.control.Try;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import org.jboss.logging.Logger;
+
+/**
+ * A PipelineCache held in memory, bounded by both the number of pipelines and the memory they use.
+ *
+ * <p>If a directory is supplied, pipelines are also written to it, one file per pipeline, so they
+ * survive a restart. Once the directory holds more than maxFiles pipelines, the least recently
+ * used files are deleted. Failing to read or write the directory is logged, and the pipeline is
+ * generated as if it was not cached.
+ *
+ * <p>Pipelines are only cached if a builder was found. A repo no builder could build is detected
+ * again on the next request, as the detection may have failed because the repo host could not be
+ * reached.
+ *
+ * <p>The head commit is looked up with the repo's HTTP client, so a commit pushed to a repo may take
+ * as long as that client caches responses to be picked up.
+ */
+public class PipelineCacheImpl implements PipelineCache {
+
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+  public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+  public static final int DEFAULT_MAX_FILES = 10000;
+  private static final Logger LOG = Logger.getLogger(PipelineCacheImpl.class.toString());
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String FILE_EXTENSION = ".json";
+  /**
+   * The approximate bytes used by the cache entry, the pipeline object and the key.
+   */
+  private static final int ENTRY_OVERHEAD = 256;
+
+  private final Cache<String, GeneratedPipeline> entries;
+  private final Optional<Path> directory;
+  private final int maxFiles;
+
+  /**
+   * Constructor using the default limits, holding pipelines in memory only.
+   */
+  public PipelineCacheImpl() {
+    this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Constructor holding pipelines in memory only.
+   *
+   * @param maxEntries The maximum number of pipelines to hold in memory.
+   * @param maxBytes   The approximate maximum number of bytes used by the pipelines in memory.
+   */
+  public PipelineCacheImpl(final int maxEntries, final long maxBytes) {
+    this(maxEntries, maxBytes, Optional.empty(), 0);
+  }
+
+  /**
+   * Constructor holding pipelines in memory and in a directory.
+   *
+   * @param maxEntries The maximum number of pipelines to hold in memory.
+   * @param maxBytes   The approximate maximum number of bytes used by the pipelines in memory.
+   * @param directory  The directory pipelines are written to.
+   * @param maxFiles   The maximum number of pipelines to hold in the directory.
+   */
+  public PipelineCacheImpl(final int maxEntries, final long maxBytes,
+      @NonNull final Path directory, final int maxFiles) {
+    this(maxEntries, maxBytes, Optional.of(directory), maxFiles);
+  }
+
+  private PipelineCacheImpl(final int maxEntries, final long maxBytes,
+      @NonNull final Optional<Path> directory, final int maxFiles) {
+    if (maxEntries <= 0 || maxBytes < maxEntries) {
+      throw new IllegalArgumentException(
+          "maxEntries must be positive, and maxBytes must be at least maxEntries");
+    }
+
+    if (directory.isPresent() && maxFiles <= 0) {
+      throw new IllegalArgumentException("maxFiles must be positive");
+    }
+
+    /*
+      Guava caches can be bounded by weight or by size, but not both. Each entry weighs at least
+      maxBytes / maxEntries, so bounding the weight also bounds the number of entries.
+     */
+    final long minWeight = maxBytes / maxEntries;
+    this.entries = CacheBuilder.newBuilder()
+        .maximumWeight(maxBytes)
+        .<String, GeneratedPipeline>weigher((key, pipeline) -> (int) Math.min(Integer.MAX_VALUE,
+            Math.max(minWeight, 2L * key.length() + weigh(pipeline) + ENTRY_OVERHEAD)))
+        .build();
+    this.directory = directory;
+    this.maxFiles = maxFiles;
+  }
+
+  @Override
+  public GeneratedPipeline get(@NonNull final RepoClient accessor,
+      @NonNull final Collection<PipelineBuilder> builders,
+      @NonNull final Supplier<GeneratedPipeline> generator) {
+    final Try<String> key = accessor.getHeadCommit()
+        .map(c -> generateKey(accessor.getRepo(), c, builders))
+        .onFailure(e -> LOG.log(DEBUG, "Not caching the pipeline for " + accessor.getRepo()
+            + ": " + e));
+
+    if (key.isFailure()) {
+      return generator.get();
+    }
+
+    final GeneratedPipeline cached = entries.getIfPresent(key.get());
+    if (cached != null) {
+      LOG.log(DEBUG, "Found the cached pipeline for " + accessor.getRepo());
+      return cached;
+    }
+
+    final Optional<GeneratedPipeline> persisted = readFile(key.get());
+    if (persisted.isPresent()) {
+      LOG.log(DEBUG, "Found the persisted pipeline for " + accessor.getRepo());
+      entries.put(key.get(), persisted.get());
+      return persisted.get();
+    }
+
+    final GeneratedPipeline pipeline = generator.get();
+
+    /*
+      No builder may have been found because the probes failed, for example because requests were
+      shed or timed out. These results are generated again rather than pinned to the commit.
+     */
+    if (pipeline.getBuilderName().isEmpty()) {
+      return pipeline;
+    }
+
+    entries.put(key.get(), pipeline);
+    writeFile(key.get(), pipeline);
+    return pipeline;
+  }
+
+  /**
+   * The key is hashed, as it is also used as a file name.
+   */
+  private static String generateKey(@NonNull final String repo, @NonNull final String commit,
+      @NonNull final Collection<PipelineBuilder> builders) {
+    final String builderVersions = builders
+        .stream()
+        .map(b -> b.getName() + ":" + b.getVersion())
+        .sorted()
+        .collect(Collectors.joining("\n"));
+    return Hashing.sha256()
+        .hashString(repo + "\n" + commit + "\n" + builderVersions, StandardCharsets.UTF_8)
+        .toString();
+  }
+
+  private static long weigh(@NonNull final GeneratedPipeline pipeline) {
+    return 2L * (pipeline.getPipeline().length()
+        + pipeline.getBuilderName().map(String::length).orElse(0));
+  }
+
+  private Optional<GeneratedPipeline> readFile(@NonNull final String key) {
+    if (directory.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final Path file = directory.get().resolve(key + FILE_EXTENSION);
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+
+    return Try.of(() -> OBJECT_MAPPER.readTree(file.toFile()))
+        .map(this::toPipeline)
+        // The modified time is used to find the least recently used files
+        .andThenTry(p -> Files.setLastModifiedTime(file, FileTime.fromMillis(
+            System.currentTimeMillis())))
+        .onFailure(e -> LOG.log(DEBUG, "Failed to read the cached pipeline " + file + ": " + e))
+        .toJavaOptional();
+  }
+
+  private GeneratedPipeline toPipeline(@NonNull final JsonNode json) {
+    return new GeneratedPipeline(
+        json.hasNonNull("builderName") ? json.get("builderName").asText() : null,
+        json.get("pipeline").asText());
+  }
+
+  private void writeFile(@NonNull final String key, @NonNull final GeneratedPipeline pipeline) {
+    if (directory.isEmpty()) {
+      return;
+    }
+
+    final Map<String, String> json = new HashMap<>();
+    json.put("builderName", pipeline.getBuilderName().orElse(null));
+    json.put("pipeline", pipeline.getPipeline());
+
+    // Write to a temporary file first so a partially written file is never read
+    Try.run(() -> {
+          Files.createDirectories(directory.get());
+          final Path temp = Files.createTempFile(directory.get(), key, ".tmp");
+          try {
+            Files.write(temp, OBJECT_MAPPER.writeValueAsBytes(json));
+            Files.move(temp, directory.get().resolve(key + FILE_EXTENSION),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+          } finally {
+            Files.deleteIfExists(temp);
+          }
+        })
+        .andThenTry(this::pruneFiles)
+        .onFailure(e -> LOG.log(DEBUG, "Failed to write the cached pipeline " + key + ": " + e));
+  }
+
+  /**
+   * Deletes the least recently used files once there are more than maxFiles.
+   */
+  private void pruneFiles() throws IOException {
+    final List<Path> files;
+    try (Stream<Path> list = Files.list(directory.get())) {
+      files = list
+          .filter(f -> f.getFileName().toString().endsWith(FILE_EXTENSION))
+          .collect(Collectors.toList());
+    }
+
+    if (files.size() <= maxFiles) {
+      return;
+    }
+
+    files.stream()
+        .sorted(Comparator.comparing(f -> Try.of(() -> Files.getLastModifiedTime(f))
+            .getOrElse(FileTime.fromMillis(0))))
+        .limit(files.size() - maxFiles)
+        .forEach(f -> Try.run(() -> Files.deleteIfExists(f)));
+  }
+}
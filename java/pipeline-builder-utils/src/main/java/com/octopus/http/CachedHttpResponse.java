@@ -0,0 +1,95 @@
+package com.octopus.http;
+
+import io.vavr.control.Try;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The result of a GET or HEAD request held by a HttpResponseCache. Successful responses keep the
+ * ETag and Last-Modified headers so they can be revalidated with a conditional request once they
+ * are stale.
+ */
+@Value
+@Builder(toBuilder = true)
+public class CachedHttpResponse {
+
+  boolean success;
+  /**
+   * The response body, or an empty string for HEAD requests and failures.
+   */
+  String body;
+  /**
+   * The reason the request failed, or null for successful requests.
+   */
+  Throwable failure;
+  String etag;
+  String lastModified;
+  /**
+   * true if this response was returned because the server responded with 304 Not Modified.
+   */
+  boolean notModified;
+
+  /**
+   * Builds a successful response.
+   *
+   * @param body         The response body.
+   * @param etag         The ETag header, or null if it was not returned.
+   * @param lastModified The Last-Modified header, or null if it was not returned.
+   * @return The cached response.
+   */
+  public static CachedHttpResponse success(@NonNull final String body, final String etag,
+      final String lastModified) {
+    return CachedHttpResponse.builder()
+        .success(true)
+        .body(body)
+        .etag(etag)
+        .lastModified(lastModified)
+        .build();
+  }
+
+  /**
+   * Builds a failed response.
+   *
+   * @param failure The reason the request failed.
+   * @return The cached response.
+   */
+  public static CachedHttpResponse failure(@NonNull final Throwable failure) {
+    return CachedHttpResponse.builder()
+        .success(false)
+        .body("")
+        .failure(failure)
+        .build();
+  }
+
+  /**
+   * Returns a copy of this response marking it as revalidated by a 304 response.
+   *
+   * @return The revalidated response.
+   */
+  public CachedHttpResponse asNotModified() {
+    return toBuilder().notModified(true).build();
+  }
+
+  /**
+   * Returns the body, or the failure, as a Try.
+   *
+   * @return A Try monad that either contains the response body, or an exception.
+   */
+  public Try<String> toTry() {
+    return success ? Try.success(body) : Try.failure(failure);
+  }
+
+  /**
+   * Returns the approximate number of bytes held by this response.
+   *
+   * @return The approximate size of the response.
+   */
+  public long getWeight() {
+    return 2L * (body.length() + length(etag) + length(lastModified));
+  }
+
+  private static int length(final String value) {
+    return value == null ? 0 : value.length();
+  }
+}
@@ -0,0 +1,50 @@
+package com.octopus.http;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The connection pool and timeout settings used to build the HTTP clients that access git repos.
+ */
+@Value
+@Builder
+public class HttpClientSettings {
+
+  /**
+   * The maximum number of open connections.
+   */
+  @Builder.Default
+  int maxConnections = 50;
+  /**
+   * The maximum number of open connections to a single host. Most requests go to GitHub, so this
+   * is most of the pool.
+   */
+  @Builder.Default
+  int maxConnectionsPerRoute = 20;
+  @NonNull
+  @Builder.Default
+  Duration connectTimeout = Duration.ofSeconds(10);
+  @NonNull
+  @Builder.Default
+  Duration readTimeout = Duration.ofSeconds(30);
+  /**
+   * How long to wait for a connection from the pool.
+   */
+  @NonNull
+  @Builder.Default
+  Duration poolTimeout = Duration.ofSeconds(10);
+  /**
+   * How long to keep a connection alive when the server does not specify a keep-alive timeout.
+   */
+  @NonNull
+  @Builder.Default
+  Duration keepAlive = Duration.ofSeconds(30);
+  /**
+   * How long a connection can sit idle in the pool before it is closed.
+   */
+  @NonNull
+  @Builder.Default
+  Duration maxIdleTime = Duration.ofMinutes(1);
+}
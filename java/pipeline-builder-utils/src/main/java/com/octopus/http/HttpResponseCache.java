@@ -0,0 +1,29 @@
+package com.octopus.http;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Represents a cache of responses to GET and HEAD requests.
+ */
+public interface HttpResponseCache {
+
+  /**
+   * Returns the cached response if it is still fresh. Otherwise the fetcher is called to make the
+   * request, and the result is cached. The fetcher is passed any stale response held for the key,
+   * allowing it to be revalidated with a conditional request.
+   *
+   * @param key     The cache key. Keys must not contain credentials.
+   * @param fetcher The function that makes the request.
+   * @return The cached or fetched response.
+   */
+  CachedHttpResponse get(String key,
+      Function<Optional<CachedHttpResponse>, CachedHttpResponse> fetcher);
+
+  /**
+   * Returns the number of cache hits, misses and revalidations since the cache was created.
+   *
+   * @return The cache statistics.
+   */
+  HttpResponseCacheStats getStats();
+}
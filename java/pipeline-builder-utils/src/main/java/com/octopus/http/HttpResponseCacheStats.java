@@ -0,0 +1,35 @@
+package com.octopus.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A snapshot of the statistics recorded by a HttpResponseCache.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class HttpResponseCacheStats {
+  /**
+   * The number of requests answered by a fresh cached response.
+   */
+  private long hits;
+  /**
+   * The number of requests that had no fresh cached response.
+   */
+  private long misses;
+  /**
+   * The number of stale responses that the server confirmed were not modified.
+   */
+  private long revalidations;
+  /**
+   * The number of responses currently held in the cache.
+   */
+  private long size;
+  /**
+   * The number of requests that waited on an identical request already in flight rather than
+   * making their own.
+   */
+  private long coalesced;
+}
@@ -0,0 +1,22 @@
+package com.octopus.http;
+
+/**
+ * The exception returned when a request was not made because it would exceed a rate limit.
+ */
+public class RateLimitExceededException extends RuntimeException {
+  public RateLimitExceededException() {
+    super();
+  }
+
+  public RateLimitExceededException(final Throwable cause) {
+    super(cause);
+  }
+
+  public RateLimitExceededException(final String message) {
+    super(message);
+  }
+
+  public RateLimitExceededException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,44 @@
+package com.octopus.http;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Tracks the rate limit quota of each credential used with an API like GitHub's, which reports
+ * the quota in the X-RateLimit-* headers of each response, and decides whether a request can be
+ * made.
+ */
+public interface RateLimitGovernor {
+
+  /**
+   * Reserves a request against the quota of the credential.
+   *
+   * @param url           The URL of the request.
+   * @param authorization The Authorization header sent with the request, or an empty string for
+   *                      anonymous requests.
+   * @param priority      The request priority.
+   * @return How long to wait before making the request, or empty if the request must not be made.
+   */
+  Optional<Duration> reserve(String url, String authorization, RequestPriority priority);
+
+  /**
+   * Records the quota reported by a response.
+   *
+   * @param url           The URL of the request.
+   * @param authorization The Authorization header sent with the request, or an empty string for
+   *                      anonymous requests.
+   * @param statusCode    The response status code.
+   * @param headers       Returns the value of a response header.
+   */
+  void update(String url, String authorization, int statusCode,
+      Function<String, Optional<String>> headers);
+
+  /**
+   * Returns the quota held for each credential that has been used.
+   *
+   * @return The quota of each credential.
+   */
+  List<RateLimitQuota> getQuotas();
+}
@@ -0,0 +1,40 @@
+package com.octopus.http;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A snapshot of the quota a RateLimitGovernor holds for a credential.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class RateLimitQuota {
+  /**
+   * The host and a hash of the credential. The credential itself is never held.
+   */
+  private String credential;
+  /**
+   * The number of requests allowed in each window.
+   */
+  private long limit;
+  /**
+   * The number of requests remaining in the current window, less the requests reserved since the
+   * last response.
+   */
+  private long remaining;
+  /**
+   * When the current window ends.
+   */
+  private Instant reset;
+  /**
+   * The number of requests that were delayed until the window ended.
+   */
+  private long delayed;
+  /**
+   * The number of requests that were not made to preserve the quota.
+   */
+  private long shed;
+}
@@ -0,0 +1,17 @@
+package com.octopus.http;
+
+/**
+ * The priority of a request made against a rate limited API.
+ */
+public enum RequestPriority {
+  /**
+   * Requests needed to answer the user, like probing a repo for project files. These are made
+   * until the quota is exhausted, and then wait for a short reset.
+   */
+  USER_FACING,
+  /**
+   * Requests that only record details about the user, like looking up their email addresses.
+   * These are shed once the quota runs low, leaving the remaining quota to user facing requests.
+   */
+  TELEMETRY
+}
@@ -0,0 +1,177 @@
+package com.octopus.http.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.octopus.http.CachedHttpResponse;
+import com.octopus.http.HttpResponseCache;
+import com.octopus.http.HttpResponseCacheStats;
+import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * A HttpResponseCache bounded by both the number of responses and the memory they use.
+ *
+ * <p>Successful responses are fresh for the TTL, and failures for the shorter negative TTL, so
+ * failures are retried rather than pinned. Stale responses are retained for a while longer so they
+ * can be revalidated, which means an unchanged resource is confirmed with a 304 response rather
+ * than downloaded again.
+ *
+ * <p>Concurrent requests for the same key share a single request. The first request registers a
+ * future for the key and calls the fetcher, and the requests that arrive while it is in flight
+ * wait on that future. No lock is held while the fetcher runs, and the future is removed as soon
+ * as it completes, so a failed request is not shared with later requests.
+ */
+public class HttpResponseCacheImpl implements HttpResponseCache {
+
+  public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+  public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+  public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+  /**
+   * How long stale responses are kept to be revalidated.
+   */
+  private static final Duration STALE_RETENTION = Duration.ofHours(1);
+  /**
+   * The approximate bytes used by the cache entry, the response object and the key.
+   */
+  private static final int ENTRY_OVERHEAD = 128;
+
+  private final long ttlMillis;
+  private final long negativeTtlMillis;
+  private final Cache<String, Entry> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder revalidations = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final ConcurrentMap<String, CompletableFuture<CachedHttpResponse>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Constructor using the default limits.
+   */
+  public HttpResponseCacheImpl() {
+    this(DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param ttl         How long successful responses are fresh.
+   * @param negativeTtl How long failed responses are fresh.
+   * @param maxEntries  The maximum number of responses to cache.
+   * @param maxBytes    The approximate maximum number of bytes used by cached responses.
+   */
+  public HttpResponseCacheImpl(
+      @NonNull final Duration ttl,
+      @NonNull final Duration negativeTtl,
+      final int maxEntries,
+      final long maxBytes) {
+    if (ttl.isNegative() || negativeTtl.isNegative()) {
+      throw new IllegalArgumentException("ttl and negativeTtl can not be negative");
+    }
+
+    if (maxEntries <= 0 || maxBytes < maxEntries) {
+      throw new IllegalArgumentException(
+          "maxEntries must be positive, and maxBytes must be at least maxEntries");
+    }
+
+    this.ttlMillis = ttl.toMillis();
+    this.negativeTtlMillis = negativeTtl.toMillis();
+
+    /*
+      Guava caches can be bounded by weight or by size, but not both. Each entry weighs at least
+      maxBytes / maxEntries, so bounding the weight also bounds the number of entries.
+     */
+    final long minWeight = maxBytes / maxEntries;
+    this.entries = CacheBuilder.newBuilder()
+        .maximumWeight(maxBytes)
+        .<String, Entry>weigher((key, entry) -> (int) Math.min(Integer.MAX_VALUE,
+            Math.max(minWeight, 2L * key.length() + entry.response.getWeight() + ENTRY_OVERHEAD)))
+        .expireAfterWrite(ttl.compareTo(STALE_RETENTION) > 0 ? ttl : STALE_RETENTION)
+        .build();
+  }
+
+  @Override
+  public CachedHttpResponse get(@NonNull final String key,
+      @NonNull final Function<Optional<CachedHttpResponse>, CachedHttpResponse> fetcher) {
+    final long now = System.currentTimeMillis();
+    final Entry cached = entries.getIfPresent(key);
+
+    if (cached != null && now < cached.expiresAt) {
+      hits.increment();
+      return cached.response;
+    }
+
+    final CompletableFuture<CachedHttpResponse> request = new CompletableFuture<>();
+    final CompletableFuture<CachedHttpResponse> existing = inFlight.putIfAbsent(key, request);
+    if (existing != null) {
+      coalesced.increment();
+      // If the shared request failed, this request is made again rather than failing with it
+      return Try.of(existing::join)
+          .getOrElse(() -> get(key, fetcher));
+    }
+
+    // The request may have completed between checking the cache and registering this request
+    final Entry stored = entries.getIfPresent(key);
+    if (stored != null && now < stored.expiresAt) {
+      inFlight.remove(key, request);
+      request.complete(stored.response);
+      hits.increment();
+      return stored.response;
+    }
+
+    misses.increment();
+    try {
+      final CachedHttpResponse response = store(key, now,
+          fetcher.apply(Optional.ofNullable(cached).map(entry -> entry.response)));
+      request.complete(response);
+      return response;
+    } catch (final RuntimeException ex) {
+      request.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, request);
+    }
+  }
+
+  @Override
+  public HttpResponseCacheStats getStats() {
+    return HttpResponseCacheStats.builder()
+        .hits(hits.sum())
+        .misses(misses.sum())
+        .revalidations(revalidations.sum())
+        .coalesced(coalesced.sum())
+        .size(entries.size())
+        .build();
+  }
+
+  private CachedHttpResponse store(@NonNull final String key, final long requested,
+      @NonNull final CachedHttpResponse response) {
+    if (response.isNotModified()) {
+      revalidations.increment();
+    }
+
+    entries.put(key, new Entry(
+        response,
+        requested + (response.isSuccess() ? ttlMillis : negativeTtlMillis)));
+    return response;
+  }
+
+  private static final class Entry {
+
+    private final CachedHttpResponse response;
+    private final long expiresAt;
+
+    Entry(final CachedHttpResponse response, final long expiresAt) {
+      this.response = response;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
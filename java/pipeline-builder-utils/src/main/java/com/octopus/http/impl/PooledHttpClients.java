@@ -0,0 +1,92 @@
+package com.octopus.http.impl;
+
+import com.octopus.http.HttpClientSettings;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * Builds HTTP clients that keep connections open in a pool, so repeated requests to the same host
+ * reuse the TCP connection and TLS session rather than negotiating new ones.
+ */
+public final class PooledHttpClients {
+
+  private PooledHttpClients() {
+  }
+
+  /**
+   * Returns the client shared by the HTTP clients that are not given their own client.
+   *
+   * @return The shared pooled client.
+   */
+  public static CloseableHttpClient shared() {
+    return SharedClientHolder.CLIENT;
+  }
+
+  /**
+   * Builds a new pooled client. The client owns the pool, so it must be closed once it is no
+   * longer used.
+   *
+   * @param settings The pool and timeout settings.
+   * @return The pooled client.
+   */
+  public static CloseableHttpClient create(@NonNull final HttpClientSettings settings) {
+    return create(settings, SSLConnectionSocketFactory.getSocketFactory());
+  }
+
+  /**
+   * Builds a new pooled client using a custom TLS configuration, for example to trust a server
+   * with a private certificate authority. The client owns the pool, so it must be closed once it
+   * is no longer used.
+   *
+   * @param settings         The pool and timeout settings.
+   * @param sslSocketFactory The factory used to open HTTPS connections.
+   * @return The pooled client.
+   */
+  public static CloseableHttpClient create(
+      @NonNull final HttpClientSettings settings,
+      @NonNull final SSLConnectionSocketFactory sslSocketFactory) {
+    final PoolingHttpClientConnectionManager connectionManager =
+        new PoolingHttpClientConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", sslSocketFactory)
+            .build());
+    connectionManager.setMaxTotal(settings.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
+
+    final long keepAlive = settings.getKeepAlive().toMillis();
+
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectTimeout((int) settings.getConnectTimeout().toMillis())
+            .setSocketTimeout((int) settings.getReadTimeout().toMillis())
+            .setConnectionRequestTimeout((int) settings.getPoolTimeout().toMillis())
+            .build())
+        // Use the keep-alive timeout sent by the server, but no longer than our own limit
+        .setKeepAliveStrategy((response, context) -> {
+          final long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+              .getKeepAliveDuration(response, context);
+          return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+        })
+        .evictExpiredConnections()
+        .evictIdleConnections(settings.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  /**
+   * Creates the shared client the first time it is used.
+   */
+  private static final class SharedClientHolder {
+
+    private static final CloseableHttpClient CLIENT = create(HttpClientSettings.builder().build());
+  }
+}
@@ -0,0 +1,265 @@
+package com.octopus.http.impl;
+
+import static org.jboss.logging.Logger.Level.DEBUG;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.octopus.http.RateLimitGovernor;
+import com.octopus.http.RateLimitQuota;
+import com.octopus.http.RequestPriority;
+import io.vavr.control.Try;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.jboss.logging.Logger;
+
+/**
+ * A RateLimitGovernor that tracks the quota GitHub reports in the X-RateLimit-Limit,
+ * X-RateLimit-Remaining and X-RateLimit-Reset headers, along with the Retry-After header returned
+ * when a secondary rate limit is hit. Quotas are tracked for each host and credential.
+ *
+ * <p>Each request reserves one request from the quota, so concurrent requests don't all see the
+ * same remaining quota. Telemetry requests are shed once the remaining quota falls to
+ * telemetryReserve of the limit. Once the quota is exhausted, user facing requests wait for the
+ * window to end if it ends within maxWait, and are otherwise shed along with telemetry requests.
+ *
+ * <p>Credentials are only held as a hash, and the quotas of credentials that are not used for a
+ * while are discarded.
+ */
+public class RateLimitGovernorImpl implements RateLimitGovernor {
+
+  public static final double DEFAULT_TELEMETRY_RESERVE = 0.2;
+  public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5);
+  private static final Logger LOG = Logger.getLogger(RateLimitGovernorImpl.class.toString());
+  private static final String LIMIT_HEADER = "X-RateLimit-Limit";
+  private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+  private static final String RESET_HEADER = "X-RateLimit-Reset";
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int MAX_CREDENTIALS = 10000;
+  private static final Duration CREDENTIAL_RETENTION = Duration.ofHours(2);
+
+  private final double telemetryReserve;
+  private final long maxWaitMillis;
+  private final Clock clock;
+  private final Cache<String, Quota> quotas = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CREDENTIALS)
+      .expireAfterAccess(CREDENTIAL_RETENTION)
+      .build();
+
+  /**
+   * Constructor using the default limits.
+   */
+  public RateLimitGovernorImpl() {
+    this(DEFAULT_TELEMETRY_RESERVE, DEFAULT_MAX_WAIT, Clock.systemUTC());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param telemetryReserve The fraction of the limit kept for user facing requests.
+   * @param maxWait          The longest a user facing request waits for the quota to reset.
+   * @param clock            The clock used to compare the current time with the reset time.
+   */
+  public RateLimitGovernorImpl(
+      final double telemetryReserve,
+      @NonNull final Duration maxWait,
+      @NonNull final Clock clock) {
+    if (telemetryReserve < 0 || telemetryReserve > 1) {
+      throw new IllegalArgumentException("telemetryReserve must be between 0 and 1");
+    }
+
+    if (maxWait.isNegative()) {
+      throw new IllegalArgumentException("maxWait can not be negative");
+    }
+
+    this.telemetryReserve = telemetryReserve;
+    this.maxWaitMillis = maxWait.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the governor shared by the HTTP clients that are not given their own governor.
+   *
+   * @return The shared governor.
+   */
+  public static RateLimitGovernor shared() {
+    return SharedGovernorHolder.GOVERNOR;
+  }
+
+  @Override
+  public Optional<Duration> reserve(@NonNull final String url, final String authorization,
+      @NonNull final RequestPriority priority) {
+    final Quota quota = quotas.getIfPresent(generateKey(url, authorization));
+    if (quota == null) {
+      return Optional.of(Duration.ZERO);
+    }
+
+    final Optional<Duration> wait = quota.reserve(priority, clock.millis());
+    if (wait.isEmpty()) {
+      LOG.log(DEBUG, "Shed a " + priority + " request to " + url
+          + " to preserve the rate limit quota");
+    }
+    return wait;
+  }
+
+  @Override
+  public void update(@NonNull final String url, final String authorization, final int statusCode,
+      @NonNull final Function<String, Optional<String>> headers) {
+    final Optional<Long> limit = headers.apply(LIMIT_HEADER).flatMap(this::parseLong);
+    final Optional<Long> remaining = headers.apply(REMAINING_HEADER).flatMap(this::parseLong);
+    final Optional<Long> reset = headers.apply(RESET_HEADER).flatMap(this::parseLong);
+    // Retry-After is only respected on responses that indicate a rate limit was hit
+    final Optional<Long> retryAfter = statusCode == HttpStatus.SC_FORBIDDEN
+        || statusCode == TOO_MANY_REQUESTS
+        ? headers.apply(HttpHeaders.RETRY_AFTER).flatMap(this::parseLong)
+        : Optional.empty();
+
+    if (limit.isEmpty() && remaining.isEmpty() && reset.isEmpty() && retryAfter.isEmpty()) {
+      return;
+    }
+
+    final String key = generateKey(url, authorization);
+    Try.of(() -> quotas.get(key, () -> new Quota(key)))
+        .onSuccess(q -> q.update(limit, remaining, reset, retryAfter, clock.millis()));
+  }
+
+  @Override
+  public List<RateLimitQuota> getQuotas() {
+    return quotas.asMap()
+        .values()
+        .stream()
+        .map(Quota::snapshot)
+        .sorted(Comparator.comparing(RateLimitQuota::getCredential))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the Authorization header from a list of request headers.
+   *
+   * @param headers The request headers.
+   * @return The Authorization header value, or an empty string if there is no header.
+   */
+  static String authorization(@NonNull final List<Header> headers) {
+    return headers
+        .stream()
+        .filter(h -> HttpHeaders.AUTHORIZATION.equalsIgnoreCase(h.getName()))
+        .map(Header::getValue)
+        .findFirst()
+        .orElse("");
+  }
+
+  /**
+   * The key is the host and a hash of the credential, as the key is exposed by getQuotas().
+   */
+  private static String generateKey(@NonNull final String url, final String authorization) {
+    final String host = Try.of(() -> URI.create(url).getHost())
+        .filter(StringUtils::isNotBlank)
+        .getOrElse("");
+    if (StringUtils.isBlank(authorization)) {
+      return host + ":anonymous";
+    }
+
+    return host + ":" + Hashing.sha256()
+        .hashString(authorization, StandardCharsets.UTF_8)
+        .toString()
+        .substring(0, 16);
+  }
+
+  private Optional<Long> parseLong(@NonNull final String value) {
+    return Try.of(() -> Long.parseLong(value.trim())).toJavaOptional();
+  }
+
+  /**
+   * The quota of a single credential. A value of -1 means the value is unknown.
+   */
+  private final class Quota {
+
+    private final String credential;
+    private long limit = -1;
+    private long remaining = -1;
+    private long resetAt;
+    private long retryAt;
+    private long delayed;
+    private long shed;
+
+    Quota(final String credential) {
+      this.credential = credential;
+    }
+
+    synchronized Optional<Duration> reserve(@NonNull final RequestPriority priority,
+        final long now) {
+      // A new window starts with the full quota
+      if (resetAt != 0 && resetAt <= now && limit >= 0) {
+        remaining = limit;
+        resetAt = 0;
+      }
+
+      final long blockedUntil = Math.max(retryAt, remaining == 0 ? resetAt : 0);
+      if (blockedUntil > now) {
+        if (priority == RequestPriority.USER_FACING && blockedUntil - now <= maxWaitMillis) {
+          ++delayed;
+          return Optional.of(Duration.ofMillis(blockedUntil - now));
+        }
+
+        ++shed;
+        return Optional.empty();
+      }
+
+      if (priority == RequestPriority.TELEMETRY && limit > 0 && remaining >= 0
+          && remaining <= limit * telemetryReserve) {
+        ++shed;
+        return Optional.empty();
+      }
+
+      if (remaining > 0) {
+        --remaining;
+      }
+      return Optional.of(Duration.ZERO);
+    }
+
+    synchronized void update(@NonNull final Optional<Long> limit,
+        @NonNull final Optional<Long> remaining,
+        @NonNull final Optional<Long> reset,
+        @NonNull final Optional<Long> retryAfter,
+        final long now) {
+      limit.ifPresent(l -> this.limit = l);
+      remaining.ifPresent(r -> this.remaining = r);
+      // The reset header is the time the window ends in seconds since the epoch
+      reset.ifPresent(r -> this.resetAt = r * 1000);
+      // The retry after header is the number of seconds to wait
+      retryAfter.ifPresent(r -> this.retryAt = now + r * 1000);
+    }
+
+    synchronized RateLimitQuota snapshot() {
+      return RateLimitQuota.builder()
+          .credential(credential)
+          .limit(limit)
+          .remaining(remaining)
+          .reset(resetAt == 0 ? null : Instant.ofEpochMilli(resetAt))
+          .delayed(delayed)
+          .shed(shed)
+          .build();
+    }
+  }
+
+  /**
+   * Creates the shared governor the first time it is used.
+   */
+  private static final class SharedGovernorHolder {
+
+    private static final RateLimitGovernor GOVERNOR = new RateLimitGovernorImpl();
+  }
+}
@@ -3,24 +3,32 @@ package com.octopus.http.impl;
 import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 
+import com.google.common.hash.Hashing;
+import com.octopus.http.CachedHttpResponse;
+import com.octopus.http.HttpResponseCache;
+import com.octopus.http.HttpResponseCacheStats;
+import com.octopus.http.RateLimitExceededException;
+import com.octopus.http.RateLimitGovernor;
 import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.http.RequestPriority;
 import io.vavr.control.Try;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NonNull;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
 import org.jboss.logging.Logger;
@@ -30,14 +38,76 @@ import org.jboss.logging.Logger;
  * accessing repos: https://github.com/github/feedback/discussions/7891. So by ensuring we use a
  * client that can only make GET or HEAD calls, we can be sure we don't make any unwanted
  * modifications. All GET and HEAD requests are cached to help prevent GitHub API rate limit
- * issues.
+ * issues. Stale responses are revalidated with conditional requests, and GitHub does not count
+ * the resulting 304 responses against the rate limit. Requests are made through a pooled client
+ * so that connections to GitHub are reused between requests.
+ *
+ * <p>Requests are user facing, and are reserved against the rate limit quota tracked by a
+ * RateLimitGovernor. A request the governor sheds is not made, and a stale cached response is
+ * returned in its place if there is one. Otherwise a GET request fails with a
+ * RateLimitExceededException, and a HEAD request, which can only report whether it succeeded,
+ * throws it.
  */
 public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
 
   private static final Logger LOG = Logger.getLogger(
       ReadOnlyHttpClientImpl.class.toString());
-  private static final Map<String, Boolean> CACHED_BOOLEAN_RESULTS = new ConcurrentHashMap<>();
-  private static final Map<String, Try<String>> CACHED_STRING_RESULTS = new ConcurrentHashMap<>();
+  /**
+   * The cache shared by clients that are not given their own cache.
+   */
+  private static final HttpResponseCache SHARED_CACHE = new HttpResponseCacheImpl();
+  private static final String GET = "GET";
+  private static final String HEAD = "HEAD";
+
+  private final HttpResponseCache responseCache;
+  private final CloseableHttpClient httpClient;
+  private final RateLimitGovernor rateLimitGovernor;
+
+  /**
+   * Constructor using the shared response cache and pooled client.
+   */
+  public ReadOnlyHttpClientImpl() {
+    this(SHARED_CACHE);
+  }
+
+  /**
+   * Constructor using the shared pooled client.
+   *
+   * @param responseCache The cache used to hold the responses to GET and HEAD requests.
+   */
+  public ReadOnlyHttpClientImpl(@NonNull final HttpResponseCache responseCache) {
+    this(responseCache, PooledHttpClients.shared());
+  }
+
+  /**
+   * Constructor using the shared rate limit governor.
+   *
+   * @param responseCache The cache used to hold the responses to GET and HEAD requests.
+   * @param httpClient    The client used to make requests. The client is not closed after each
+   *                      request, so it is expected to pool connections.
+   */
+  public ReadOnlyHttpClientImpl(
+      @NonNull final HttpResponseCache responseCache,
+      @NonNull final CloseableHttpClient httpClient) {
+    this(responseCache, httpClient, RateLimitGovernorImpl.shared());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param responseCache     The cache used to hold the responses to GET and HEAD requests.
+   * @param httpClient        The client used to make requests. The client is not closed after
+   *                          each request, so it is expected to pool connections.
+   * @param rateLimitGovernor The governor tracking the rate limit quota of each credential.
+   */
+  public ReadOnlyHttpClientImpl(
+      @NonNull final HttpResponseCache responseCache,
+      @NonNull final CloseableHttpClient httpClient,
+      @NonNull final RateLimitGovernor rateLimitGovernor) {
+    this.responseCache = responseCache;
+    this.httpClient = httpClient;
+    this.rateLimitGovernor = rateLimitGovernor;
+  }
 
   /**
    * Performs a HTTP GET request.
@@ -49,15 +119,9 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
     LOG.log(DEBUG, "StringHttpClient.get(String)");
     LOG.log(DEBUG, "url: " + url);
 
-    return CACHED_STRING_RESULTS.computeIfAbsent(
-        generateCacheKey("GET", url, null),
-        s ->
-            getClient()
-                .of(httpClient -> getResponse(httpClient, url, List.of())
-                    .of(response -> EntityUtils.toString(checkSuccess(response).getEntity()))
-                    .get())
-                .onSuccess(c -> LOG.log(DEBUG, "HTTP GET response body: " + c))
-                .onFailure(e -> LOG.log(DEBUG, "Exception message: " + e.toString())));
+    return cachedRequest(GET, url, List.of())
+        .onSuccess(c -> LOG.log(DEBUG, "HTTP GET response body: " + c))
+        .onFailure(e -> LOG.log(DEBUG, "Exception message: " + e.toString()));
   }
 
   @Override
@@ -88,18 +152,9 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
         ? List.of(new BasicHeader("Authorization", "token " + accessToken))
         : buildHeaders(username, password);
 
-    return CACHED_STRING_RESULTS.computeIfAbsent(
-        generateCacheKey("GET", url, headers),
-        s ->
-            getClient()
-                .of(httpClient -> getResponse(
-                    httpClient,
-                    url,
-                    headers)
-                    .of(response -> EntityUtils.toString(checkSuccess(response).getEntity()))
-                    .get())
-                .onSuccess(c -> LOG.log(DEBUG, "HTTP GET response body: " + c))
-                .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString())));
+    return cachedRequest(GET, url, headers)
+        .onSuccess(c -> LOG.log(DEBUG, "HTTP GET response body: " + c))
+        .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString()));
   }
 
   @Override
@@ -110,17 +165,9 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
     LOG.log(DEBUG, "url: " + url);
     LOG.log(DEBUG, "headers: " + headers);
 
-    return CACHED_STRING_RESULTS.computeIfAbsent(
-        generateCacheKey("GET", url, headers),
-        s ->
-            getClient()
-                .of(httpClient -> getResponse(
-                    httpClient, url,
-                    headers)
-                    .of(response -> EntityUtils.toString(checkSuccess(response).getEntity()))
-                    .get())
-                .onSuccess(c -> LOG.log(DEBUG, "HTTP GET response body: " + c))
-                .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString())));
+    return cachedRequest(GET, url, headers)
+        .onSuccess(c -> LOG.log(DEBUG, "HTTP GET response body: " + c))
+        .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString()));
   }
 
   /**
@@ -133,15 +180,9 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
     LOG.log(DEBUG, "StringHttpClient.head(String)");
     LOG.log(DEBUG, "url: " + url);
 
-    return CACHED_BOOLEAN_RESULTS.computeIfAbsent(
-        generateCacheKey("HEAD", url, null),
-        s ->
-            getClient()
-                .of(httpClient -> headResponse(httpClient, url, List.of()).of(this::checkSuccess)
-                    .get())
-                .onSuccess(c -> LOG.log(DEBUG, "HTTP HEAD request was successful."))
-                .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString()))
-                .isSuccess());
+    return succeeded(cachedRequest(HEAD, url, List.of())
+        .onSuccess(c -> LOG.log(DEBUG, "HTTP HEAD request was successful."))
+        .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString())));
   }
 
   @Override
@@ -156,18 +197,7 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
         ? List.of(new BasicHeader("Authorization", "token " + accessToken))
         : buildHeaders(username, password);
 
-    return CACHED_BOOLEAN_RESULTS.computeIfAbsent(
-        generateCacheKey("HEAD", url, headers),
-        s ->
-            getClient()
-                .of(httpClient -> headResponse(
-                    httpClient,
-                    url,
-                    headers)
-                    .of(this::checkSuccess)
-                    .get())
-                .isSuccess()
-    );
+    return succeeded(cachedRequest(HEAD, url, headers));
   }
 
   @Override
@@ -179,17 +209,9 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
     LOG.log(DEBUG, "url: " + url);
     LOG.log(DEBUG, "username: " + username);
 
-    return CACHED_BOOLEAN_RESULTS.computeIfAbsent(
-        generateCacheKey("HEAD", url, null),
-        s ->
-            getClient()
-                .of(httpClient -> headResponse(
-                    httpClient, url,
-                    buildHeaders(username, password))
-                    .of(this::checkSuccess).get())
-                .onSuccess(c -> LOG.log(DEBUG, "HTTP HEAD request was successful."))
-                .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString()))
-                .isSuccess());
+    return succeeded(cachedRequest(HEAD, url, buildHeaders(username, password))
+        .onSuccess(c -> LOG.log(DEBUG, "HTTP HEAD request was successful."))
+        .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString())));
   }
 
   @Override
@@ -198,17 +220,18 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
     LOG.log(DEBUG, "url: " + url);
     LOG.log(DEBUG, "headers: " + headers);
 
-    return CACHED_BOOLEAN_RESULTS.computeIfAbsent(
-        generateCacheKey("HEAD", url, headers),
-        s ->
-            getClient()
-                .of(httpClient -> headResponse(
-                    httpClient, url,
-                    headers)
-                    .of(this::checkSuccess).get())
-                .onSuccess(c -> LOG.log(DEBUG, "HTTP HEAD request was successful."))
-                .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString()))
-                .isSuccess());
+    return succeeded(cachedRequest(HEAD, url, headers)
+        .onSuccess(c -> LOG.log(DEBUG, "HTTP HEAD request was successful."))
+        .onFailure(e -> LOG.log(ERROR, "Exception message: " + e.toString())));
+  }
+
+  /**
+   * Returns the statistics of the cache holding the responses to GET and HEAD requests.
+   *
+   * @return The cache statistics.
+   */
+  public HttpResponseCacheStats getCacheStats() {
+    return responseCache.getStats();
   }
 
   protected List<Header> buildHeaders(final String username, final String password) {
@@ -228,22 +251,121 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
         "Basic " + Base64.encodeBase64((username + ":" + password).getBytes())));
   }
 
-  protected Try.WithResources1<CloseableHttpClient> getClient() {
-    return Try.withResources(HttpClients::createDefault);
+  protected Try<CloseableHttpClient> getClient() {
+    return Try.success(httpClient);
   }
 
-  private Try.WithResources1<CloseableHttpResponse> getResponse(
-      @NonNull final CloseableHttpClient httpClient,
-      @NonNull final String path,
+  /**
+   * Returns the cached response to the request, making the request if there is no fresh cached
+   * response.
+   */
+  private Try<String> cachedRequest(
+      @NonNull final String method,
+      @NonNull final String url,
       @NonNull final List<Header> headers) {
-    return Try.withResources(() -> httpClient.execute(getRequest(path, headers)));
+    return responseCache.get(
+            generateCacheKey(method, url, headers),
+            stale -> fetch(method, url, headers, stale))
+        .toTry();
   }
 
-  private Try.WithResources1<CloseableHttpResponse> headResponse(
-      @NonNull final CloseableHttpClient httpClient,
-      @NonNull final String path,
-      @NonNull final List<Header> headers) {
-    return Try.withResources(() -> httpClient.execute(headRequest(path, headers)));
+  /**
+   * Returns whether the request succeeded, throwing the exception of a request that was shed by
+   * the rate limit governor, as it says nothing about whether the resource exists.
+   */
+  private static boolean succeeded(@NonNull final Try<String> response) {
+    if (response.isFailure() && response.getCause() instanceof RateLimitExceededException) {
+      throw (RateLimitExceededException) response.getCause();
+    }
+    return response.isSuccess();
+  }
+
+  /**
+   * Makes the request. A stale response is revalidated by sending its ETag and Last-Modified
+   * values, and is returned again if the server responds with 304 Not Modified.
+   */
+  private CachedHttpResponse fetch(
+      @NonNull final String method,
+      @NonNull final String url,
+      @NonNull final List<Header> headers,
+      @NonNull final Optional<CachedHttpResponse> stale) {
+    final String authorization = RateLimitGovernorImpl.authorization(headers);
+    final Optional<Duration> wait =
+        rateLimitGovernor.reserve(url, authorization, RequestPriority.USER_FACING);
+    if (wait.isEmpty() || !sleep(wait.get())) {
+      return stale.filter(CachedHttpResponse::isSuccess)
+          .orElseGet(() -> CachedHttpResponse.failure(new RateLimitExceededException(
+              "The request to " + url + " was not made as the rate limit was exceeded")));
+    }
+
+    final HttpRequestBase request = HEAD.equals(method)
+        ? headRequest(url, headers)
+        : getRequest(url, headers);
+
+    stale.filter(CachedHttpResponse::isSuccess).ifPresent(response -> {
+      if (StringUtils.isNotBlank(response.getEtag())) {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, response.getEtag());
+      }
+      if (StringUtils.isNotBlank(response.getLastModified())) {
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, response.getLastModified());
+      }
+    });
+
+    return getClient()
+        .mapTry(client -> Try.withResources(() -> client.execute(request))
+            .of(response -> {
+              rateLimitGovernor.update(url, authorization,
+                  response.getStatusLine().getStatusCode(),
+                  name -> Optional.ofNullable(headerValue(response, name)));
+              return toCachedResponse(method, response, stale);
+            })
+            .get())
+        .recover(CachedHttpResponse::failure)
+        .get();
+  }
+
+  /**
+   * Waits before a request delayed by the rate limit governor.
+   *
+   * @return false if the thread was interrupted.
+   */
+  private boolean sleep(@NonNull final Duration wait) {
+    if (wait.isZero()) {
+      return true;
+    }
+
+    try {
+      LOG.log(DEBUG, "Waiting " + wait.toMillis() + "ms for the rate limit to reset");
+      Thread.sleep(wait.toMillis());
+      return true;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private CachedHttpResponse toCachedResponse(
+      @NonNull final String method,
+      @NonNull final CloseableHttpResponse response,
+      @NonNull final Optional<CachedHttpResponse> stale) throws Exception {
+    if (response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_MODIFIED
+        && stale.isPresent()) {
+      LOG.log(DEBUG, "Response code 304 indicated the cached response is still valid");
+      return stale.get().asNotModified();
+    }
+
+    checkSuccess(response);
+    return CachedHttpResponse.success(
+        HEAD.equals(method) ? "" : EntityUtils.toString(response.getEntity()),
+        headerValue(response, HttpHeaders.ETAG),
+        headerValue(response, HttpHeaders.LAST_MODIFIED));
+  }
+
+  private String headerValue(
+      @NonNull final CloseableHttpResponse response,
+      @NonNull final String name) {
+    final Header header = response.getFirstHeader(name);
+    return header == null ? null : header.getValue();
   }
 
   private HttpRequestBase headRequest(
@@ -262,16 +384,21 @@ public class ReadOnlyHttpClientImpl implements ReadOnlyHttpClient {
     return request;
   }
 
+  /**
+   * Generates the cache key for a request. The headers include credentials, so they are hashed
+   * rather than kept in the key.
+   */
   private String generateCacheKey(@NonNull final String method, @NonNull final String url,
-      final List<Header> headers) {
+      @NonNull final List<Header> headers) {
     final StringBuilder sb = new StringBuilder(method + "\n" + url);
-    if (headers != null) {
+    if (!headers.isEmpty()) {
       sb.append("\n");
-      sb.append(headers
-          .stream()
-          .map(h -> h.getName() + ":" + h.getValue())
-          .sorted()
-          .collect(Collectors.joining("\n")));
+      sb.append(Hashing.sha256().hashString(headers
+              .stream()
+              .map(h -> h.getName() + ":" + h.getValue())
+              .sorted()
+              .collect(Collectors.joining("\n")),
+          StandardCharsets.UTF_8));
     }
     return sb.toString();
   }
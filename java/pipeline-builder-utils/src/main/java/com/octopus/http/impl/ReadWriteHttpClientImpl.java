@@ -3,6 +3,7 @@ package com.octopus.http.impl;
 import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 
+import com.octopus.http.HttpResponseCache;
 import io.vavr.control.Try;
 import java.util.List;
 import lombok.NonNull;
@@ -22,6 +23,25 @@ import org.jboss.logging.Logger;
 public class ReadWriteHttpClientImpl extends ReadOnlyHttpClientImpl {
   private static final Logger LOG = Logger.getLogger(ReadWriteHttpClientImpl.class.toString());
 
+  /**
+   * Constructor using the shared response cache and pooled client.
+   */
+  public ReadWriteHttpClientImpl() {
+    super();
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param responseCache The cache used to hold the responses to GET and HEAD requests.
+   * @param httpClient    The pooled client used to make requests.
+   */
+  public ReadWriteHttpClientImpl(
+      @NonNull final HttpResponseCache responseCache,
+      @NonNull final CloseableHttpClient httpClient) {
+    super(responseCache, httpClient);
+  }
+
   /**
    * Performs a HTTP POST request.
    *
@@ -36,7 +56,7 @@ public class ReadWriteHttpClientImpl extends ReadOnlyHttpClientImpl {
     LOG.log(DEBUG, "body: " + body);
 
     return getClient()
-        .of(httpClient -> postResponse(httpClient, url, body, List.of())
+        .mapTry(httpClient -> postResponse(httpClient, url, body, List.of())
             .of(response -> EntityUtils.toString(checkSuccess(response).getEntity()))
             .get())
         .onSuccess(c -> LOG.log(DEBUG, "HTTP POST response body: " + c))
@@ -61,7 +81,7 @@ public class ReadWriteHttpClientImpl extends ReadOnlyHttpClientImpl {
     LOG.log(DEBUG, "headers: " + headers);
 
     return getClient()
-        .of(httpClient -> postResponse(
+        .mapTry(httpClient -> postResponse(
             httpClient,
             url,
             body,
@@ -92,7 +112,7 @@ public class ReadWriteHttpClientImpl extends ReadOnlyHttpClientImpl {
     LOG.log(DEBUG, "username: " + username);
 
     return getClient()
-        .of(httpClient -> postResponse(
+        .mapTry(httpClient -> postResponse(
             httpClient,
             url,
             body,
@@ -117,7 +137,7 @@ public class ReadWriteHttpClientImpl extends ReadOnlyHttpClientImpl {
     LOG.log(DEBUG, "body: " + body);
 
     return getClient()
-        .of(httpClient -> putResponse(httpClient, url, body, List.of())
+        .mapTry(httpClient -> putResponse(httpClient, url, body, List.of())
             .of(response -> EntityUtils.toString(checkSuccess(response).getEntity()))
             .get())
         .onSuccess(c -> LOG.log(DEBUG, "HTTP PUT response body: " + c))
@@ -142,7 +162,7 @@ public class ReadWriteHttpClientImpl extends ReadOnlyHttpClientImpl {
     LOG.log(DEBUG, "headers: " + headers);
 
     return getClient()
-        .of(httpClient -> putResponse(
+        .mapTry(httpClient -> putResponse(
             httpClient,
             url,
             body,
@@ -173,7 +193,7 @@ public class ReadWriteHttpClientImpl extends ReadOnlyHttpClientImpl {
     LOG.log(DEBUG, "username: " + username);
 
     return getClient()
-        .of(httpClient -> postResponse(
+        .mapTry(httpClient -> postResponse(
             httpClient,
             url,
             body,
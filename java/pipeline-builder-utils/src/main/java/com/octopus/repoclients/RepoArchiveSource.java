@@ -0,0 +1,20 @@
+package com.octopus.repoclients;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Opens an archive holding the files in a repo.
+ */
+@FunctionalInterface
+public interface RepoArchiveSource {
+
+  /**
+   * Opens the archive. The caller closes the stream.
+   *
+   * @return A stream of the zip archive of the repo. The archive is expected to hold a single
+   *     directory containing the repo files, as the archives downloaded from GitHub do.
+   * @throws IOException if the archive could not be opened.
+   */
+  InputStream open() throws IOException;
+}
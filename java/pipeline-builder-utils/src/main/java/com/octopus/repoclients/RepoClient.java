@@ -78,6 +78,16 @@ public interface RepoClient {
    */
   Try<String> getRepoName();
 
+  /**
+   * Returns the SHA of the commit at the head of the default branch. Clients that can't look up
+   * the commit return a failure.
+   *
+   * @return The SHA of the head commit.
+   */
+  default Try<String> getHeadCommit() {
+    return Try.failure(new Exception("The head commit of " + getRepo() + " can not be determined"));
+  }
+
   /**
    * Tests the supplied url.
    *
@@ -0,0 +1,248 @@
+package com.octopus.repoclients.impl;
+
+import static org.jboss.logging.Logger.Level.DEBUG;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.octopus.repoclients.RepoArchiveSource;
+import com.octopus.repoclients.RepoClient;
+import io.vavr.Lazy;
+import io.vavr.control.Try;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shiro.util.AntPathMatcher;
+import org.apache.shiro.util.PatternMatcher;
+import org.jboss.logging.Logger;
+
+/**
+ * A RepoClient that downloads an archive of the repo once, and then answers file and wildcard
+ * queries from the archive without contacting the repo host. Downloading the archive costs more
+ * than a few probes, so the first probeThreshold probes are passed to the wrapped client, and the
+ * archive is only downloaded once a request makes more probes than that.
+ *
+ * <p>The archive is streamed into an in memory index of the paths it holds, along with the
+ * contents of the files no larger than maxFileSize, up to maxContentSize in total. Larger files
+ * are read with the wrapped client. If the archive is larger than maxArchiveSize, or could not be
+ * read, all queries are passed to the wrapped client.
+ */
+@Builder
+public class ArchiveRepoClient implements RepoClient {
+
+  private static final Logger LOG = Logger.getLogger(ArchiveRepoClient.class.toString());
+  private static final PatternMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+  private static final long DEFAULT_MAX_ARCHIVE_SIZE = 50L * 1024 * 1024;
+  private static final int DEFAULT_MAX_FILE_SIZE = 256 * 1024;
+  private static final long DEFAULT_MAX_CONTENT_SIZE = 16L * 1024 * 1024;
+
+  @NonNull
+  private RepoClient repoClient;
+
+  @NonNull
+  private RepoArchiveSource archiveSource;
+
+  /**
+   * The number of probes passed to the wrapped client before the archive is downloaded.
+   */
+  private int probeThreshold;
+
+  @Builder.Default
+  private long maxArchiveSize = DEFAULT_MAX_ARCHIVE_SIZE;
+
+  @Builder.Default
+  private int maxFileSize = DEFAULT_MAX_FILE_SIZE;
+
+  @Builder.Default
+  private long maxContentSize = DEFAULT_MAX_CONTENT_SIZE;
+
+  private final AtomicInteger probes = new AtomicInteger();
+
+  private final Lazy<Try<ArchiveIndex>> index = Lazy.of(this::loadIndex);
+
+  @Override
+  public String getRepo() {
+    return repoClient.getRepo();
+  }
+
+  @Override
+  public boolean hasAccessToken() {
+    return repoClient.hasAccessToken();
+  }
+
+  @Override
+  public Try<String> getFile(@NonNull final String path) {
+    LOG.log(DEBUG, "ArchiveRepoClient.getFile(String)");
+
+    final Optional<ArchiveIndex> archive = archive();
+    if (archive.isEmpty()) {
+      return repoClient.getFile(path);
+    }
+
+    if (!archive.get().getPaths().contains(path)) {
+      return Try.failure(new Exception("The file " + path + " does not exist."));
+    }
+
+    return Optional.ofNullable(archive.get().getContents().get(path))
+        .map(Try::success)
+        .orElseGet(() -> repoClient.getFile(path));
+  }
+
+  @Override
+  public boolean testFile(@NonNull final String path) {
+    LOG.log(DEBUG, "ArchiveRepoClient.testFile(String)");
+
+    return archive()
+        .map(a -> a.getPaths().contains(path))
+        .orElseGet(() -> repoClient.testFile(path));
+  }
+
+  @Override
+  public Try<List<String>> getWildcardFiles(@NonNull final String path, final int limit) {
+    LOG.log(DEBUG, "ArchiveRepoClient.getWildcardFiles(String)");
+
+    return archive()
+        .map(a -> Try.success(a.getPaths()
+            .stream()
+            .filter(f -> ANT_PATH_MATCHER.matches(path, f))
+            .limit(limit)
+            .collect(Collectors.toList())))
+        .orElseGet(() -> repoClient.getWildcardFiles(path, limit));
+  }
+
+  @Override
+  public Try<Boolean> wildCardFileExist(@NonNull final String path) {
+    LOG.log(DEBUG, "ArchiveRepoClient.wildCardFileExist(String)");
+
+    return archive()
+        .map(a -> Try.success(a.getPaths()
+            .stream()
+            .anyMatch(f -> ANT_PATH_MATCHER.matches(path, f))))
+        .orElseGet(() -> repoClient.wildCardFileExist(path));
+  }
+
+  @Override
+  public String getRepoPath() {
+    return repoClient.getRepoPath();
+  }
+
+  @Override
+  public List<String> getDefaultBranches() {
+    return repoClient.getDefaultBranches();
+  }
+
+  @Override
+  public Try<String> getRepoName() {
+    return repoClient.getRepoName();
+  }
+
+  @Override
+  public Try<String> getHeadCommit() {
+    return repoClient.getHeadCommit();
+  }
+
+  @Override
+  public boolean testRepo() {
+    return repoClient.testRepo();
+  }
+
+  /**
+   * Counts the probe, and returns the archive index once the threshold has been passed and the
+   * archive could be read.
+   */
+  private Optional<ArchiveIndex> archive() {
+    if (!index.isEvaluated() && probes.incrementAndGet() <= probeThreshold) {
+      return Optional.empty();
+    }
+
+    return index.get().toJavaOptional();
+  }
+
+  private Try<ArchiveIndex> loadIndex() {
+    return Try.withResources(archiveSource::open)
+        .of(this::readArchive)
+        .onSuccess(i -> LOG.log(DEBUG, "Indexed " + i.getPaths().size() + " paths in "
+            + getRepo()))
+        .onFailure(e -> LOG.log(DEBUG, "Failed to index the archive of " + getRepo() + ": " + e));
+  }
+
+  private ArchiveIndex readArchive(@NonNull final InputStream archive) throws IOException {
+    final CountingInputStream counted =
+        new CountingInputStream(ByteStreams.limit(archive, maxArchiveSize + 1));
+    final Set<String> paths = new LinkedHashSet<>();
+    final Map<String, String> contents = new HashMap<>();
+    long contentSize = 0;
+
+    try (ZipInputStream zip = new ZipInputStream(counted)) {
+      for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        checkArchiveSize(counted);
+
+        final String path = stripArchiveRoot(entry.getName());
+        if (path.isEmpty()) {
+          continue;
+        }
+
+        addWithParents(paths, path);
+        if (entry.isDirectory()) {
+          continue;
+        }
+
+        final byte[] data = ByteStreams.toByteArray(ByteStreams.limit(zip, maxFileSize + 1L));
+        if (data.length <= maxFileSize && contentSize + data.length <= maxContentSize) {
+          contents.put(path, new String(data, StandardCharsets.UTF_8));
+          contentSize += data.length;
+        }
+      }
+    }
+
+    checkArchiveSize(counted);
+    return new ArchiveIndex(paths, contents);
+  }
+
+  private void checkArchiveSize(@NonNull final CountingInputStream counted) throws IOException {
+    if (counted.getCount() > maxArchiveSize) {
+      throw new IOException("The archive is larger than " + maxArchiveSize + " bytes");
+    }
+  }
+
+  /**
+   * Archives hold a single directory named after the repo and commit, which is removed from the
+   * path, along with the trailing slash of directories.
+   */
+  private static String stripArchiveRoot(@NonNull final String entryName) {
+    return StringUtils.removeEnd(StringUtils.substringAfter(entryName, "/"), "/");
+  }
+
+  /**
+   * Archives don't have to hold entries for directories, so the parents of each path are added.
+   */
+  private static void addWithParents(@NonNull final Set<String> paths, @NonNull final String path) {
+    for (int slash = path.indexOf('/'); slash != -1; slash = path.indexOf('/', slash + 1)) {
+      paths.add(path.substring(0, slash));
+    }
+    paths.add(path);
+  }
+
+  /**
+   * The paths held by the archive, and the contents of the files small enough to keep.
+   */
+  @Value
+  private static class ArchiveIndex {
+
+    Set<String> paths;
+    Map<String, String> contents;
+  }
+}
@@ -1,12 +1,21 @@
 package com.octopus.repoclients.impl;
 
+import com.octopus.http.RateLimitGovernor;
 import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.http.impl.PooledHttpClients;
+import com.octopus.http.impl.RateLimitGovernorImpl;
+import com.octopus.http.impl.ReadWriteHttpClientImpl;
+import com.octopus.repoclients.RepoArchiveSource;
 import com.octopus.repoclients.RepoClient;
 import com.octopus.repoclients.RepoClientFactory;
+import java.util.Set;
+import java.util.function.Function;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import lombok.Singular;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * An implementation of RepoClientFactory that creates GithubRepoClients.
@@ -14,6 +23,8 @@ import lombok.Setter;
 @Builder
 public class GitHubRepoClientFactory implements RepoClientFactory {
 
+  private static final int DEFAULT_ARCHIVE_PROBE_THRESHOLD = 30;
+
   @Getter
   @Setter
   private ReadOnlyHttpClient readOnlyHttpClient;
@@ -27,9 +38,80 @@ public class GitHubRepoClientFactory implements RepoClientFactory {
   private String password;
 
   /**
-   * {@inheritDoc}
+   * The client used to make GraphQL queries. If this is not set, files are only queried with the
+   * REST API.
+   */
+  @Getter
+  @Setter
+  private ReadWriteHttpClientImpl graphQlHttpClient;
+
+  /**
+   * The paths looked up in the first GraphQL query made for a repo.
+   */
+  @Getter
+  @Singular
+  private Set<String> prefetchPaths;
+
+  /**
+   * The number of probes made for a repo before the repo archive is downloaded and used to answer
+   * the remaining probes. Set this to Integer.MAX_VALUE to never download the archive.
+   */
+  @Getter
+  @Setter
+  @Builder.Default
+  private int archiveProbeThreshold = DEFAULT_ARCHIVE_PROBE_THRESHOLD;
+
+  /**
+   * Creates the source of the archive of a repo from the REST client for the repo. If this is not
+   * set, the zipball is downloaded from GitHub.
+   */
+  @Getter
+  @Setter
+  private Function<GithubRepoClient, RepoArchiveSource> archiveSourceFactory;
+
+  /**
+   * The governor the zipball download is reserved against. This is the shared governor unless it
+   * is set, matching the default of ReadOnlyHttpClientImpl.
+   */
+  @Getter
+  @Setter
+  @Builder.Default
+  private RateLimitGovernor rateLimitGovernor = RateLimitGovernorImpl.shared();
+
+  /**
+   * {@inheritDoc} The client lists the repo once, and answers file and wildcard queries from the
+   * list. If there is an access token and a GraphQL client, the remaining file queries are batched
+   * into GraphQL queries. Requests that make more than archiveProbeThreshold probes the list can
+   * not answer download the repo archive and answer the rest of the probes from it.
    */
   public RepoClient buildRepoClient(@NonNull final String repo, final String accessToken) {
-    return new GithubRepoClient(repo, readOnlyHttpClient, username, password, accessToken);
+    final GithubRepoClient restClient = GithubRepoClient.builder()
+        .repo(repo)
+        .readOnlyHttpClient(readOnlyHttpClient)
+        .username(username)
+        .password(password)
+        .accessToken(accessToken)
+        .build();
+
+    final RepoClient fileClient = graphQlHttpClient == null || StringUtils.isBlank(accessToken)
+        ? restClient
+        : GithubGraphQlRepoClient.builder()
+            .restClient(restClient)
+            .httpClient(graphQlHttpClient)
+            .accessToken(accessToken)
+            .prefetchPaths(prefetchPaths)
+            .build();
+
+    final RepoArchiveSource archiveSource = archiveSourceFactory == null
+        ? new GithubArchiveSource(restClient, username, password, accessToken,
+            PooledHttpClients.shared(), rateLimitGovernor)
+        : archiveSourceFactory.apply(restClient);
+
+    // The archive sits below the snapshot, so it only counts the probes that reach the repo host
+    return new SnapshotRepoClient(ArchiveRepoClient.builder()
+        .repoClient(fileClient)
+        .archiveSource(archiveSource)
+        .probeThreshold(archiveProbeThreshold)
+        .build());
   }
 }
@@ -0,0 +1,152 @@
+package com.octopus.repoclients.impl;
+
+import static org.jboss.logging.Logger.Level.DEBUG;
+
+import com.octopus.http.RateLimitExceededException;
+import com.octopus.http.RateLimitGovernor;
+import com.octopus.http.RequestPriority;
+import com.octopus.http.impl.PooledHttpClients;
+import com.octopus.http.impl.RateLimitGovernorImpl;
+import com.octopus.repoclients.RepoArchiveSource;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.NonNull;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.jboss.logging.Logger;
+
+/**
+ * Downloads the zipball of the default branch of a GitHub repo. GitHub redirects the request to a
+ * download URL, which is followed by the client.
+ *
+ * <p>The download is reserved against the rate limit quota tracked by the RateLimitGovernor, like
+ * any other request made to the repo host. A download the governor sheds is not made, leaving the
+ * probes to be answered by the wrapped client.
+ */
+public class GithubArchiveSource implements RepoArchiveSource {
+
+  private static final Logger LOG = Logger.getLogger(GithubArchiveSource.class.toString());
+  private static final String API_URL = "https://api.github.com/repos/";
+
+  private final GithubRepoClient repoClient;
+  private final String username;
+  private final String password;
+  private final String accessToken;
+  private final CloseableHttpClient httpClient;
+  private final RateLimitGovernor rateLimitGovernor;
+
+  /**
+   * Constructor using the shared pooled client and the shared rate limit governor.
+   *
+   * @param repoClient  The client for the repo to download.
+   * @param username    The optional username for basic authentication.
+   * @param password    The optional password for basic authentication.
+   * @param accessToken The optional access token, which takes priority over the username and
+   *                    password.
+   */
+  public GithubArchiveSource(
+      @NonNull final GithubRepoClient repoClient,
+      final String username,
+      final String password,
+      final String accessToken) {
+    this(repoClient, username, password, accessToken, PooledHttpClients.shared(),
+        RateLimitGovernorImpl.shared());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param repoClient        The client for the repo to download.
+   * @param username          The optional username for basic authentication.
+   * @param password          The optional password for basic authentication.
+   * @param accessToken       The optional access token, which takes priority over the username
+   *                          and password.
+   * @param httpClient        The client used to download the archive.
+   * @param rateLimitGovernor The governor tracking the rate limit quota of each credential.
+   */
+  public GithubArchiveSource(
+      @NonNull final GithubRepoClient repoClient,
+      final String username,
+      final String password,
+      final String accessToken,
+      @NonNull final CloseableHttpClient httpClient,
+      @NonNull final RateLimitGovernor rateLimitGovernor) {
+    this.repoClient = repoClient;
+    this.username = username;
+    this.password = password;
+    this.accessToken = accessToken;
+    this.httpClient = httpClient;
+    this.rateLimitGovernor = rateLimitGovernor;
+  }
+
+  @Override
+  public InputStream open() throws IOException {
+    final GithubRepoDetails details = repoClient.getDetails()
+        .getOrElseThrow(e -> new IOException("Could not determine the repo to download", e));
+    final String url = API_URL + details.getUsername() + "/" + details.getRepository()
+        + "/zipball";
+    LOG.log(DEBUG, "Downloading " + url);
+
+    final HttpGet request = new HttpGet(url);
+    if (StringUtils.isNotBlank(accessToken)) {
+      request.addHeader(HttpHeaders.AUTHORIZATION, "token " + accessToken);
+    } else if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(password)) {
+      request.addHeader(HttpHeaders.AUTHORIZATION,
+          "Basic " + Base64.encodeBase64String((username + ":" + password).getBytes()));
+    }
+
+    final String authorization = Optional.ofNullable(
+            request.getFirstHeader(HttpHeaders.AUTHORIZATION))
+        .map(Header::getValue)
+        .orElse("");
+    final Duration wait = rateLimitGovernor
+        .reserve(url, authorization, RequestPriority.USER_FACING)
+        .orElseThrow(() -> new RateLimitExceededException(
+            "The request to " + url + " was not made as the rate limit was exceeded"));
+    sleep(wait);
+
+    final CloseableHttpResponse response = httpClient.execute(request);
+    final int statusCode = response.getStatusLine().getStatusCode();
+    rateLimitGovernor.update(url, authorization, statusCode,
+        name -> Optional.ofNullable(response.getFirstHeader(name)).map(Header::getValue));
+
+    if (statusCode < 200 || statusCode > 299 || response.getEntity() == null) {
+      response.close();
+      throw new IOException("Response code " + statusCode + " did not indicate success");
+    }
+
+    // Closing the response rather than the entity stream drops the connection instead of reading
+    // the rest of an archive that was abandoned, for example because it was too large
+    return new FilterInputStream(response.getEntity().getContent()) {
+      @Override
+      public void close() throws IOException {
+        response.close();
+      }
+    };
+  }
+
+  /**
+   * Waits before a download delayed by the rate limit governor.
+   */
+  private void sleep(@NonNull final Duration wait) throws IOException {
+    if (wait.isZero()) {
+      return;
+    }
+
+    try {
+      LOG.log(DEBUG, "Waiting " + wait.toMillis() + "ms for the rate limit to reset");
+      Thread.sleep(wait.toMillis());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("The download was interrupted", ex);
+    }
+  }
+}
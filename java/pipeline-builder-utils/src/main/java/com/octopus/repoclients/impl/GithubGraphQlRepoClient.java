@@ -0,0 +1,232 @@
+package com.octopus.repoclients.impl;
+
+import static org.jboss.logging.Logger.Level.DEBUG;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.octopus.http.impl.ReadWriteHttpClientImpl;
+import com.octopus.repoclients.RepoClient;
+import io.vavr.control.Try;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpHeaders;
+import org.apache.http.message.BasicHeader;
+import org.jboss.logging.Logger;
+
+/**
+ * A RepoClient that answers file queries with the GitHub GraphQL API, which can look up many paths
+ * in one request. The REST API used by GithubRepoClient needs a request for each path and branch.
+ *
+ * <p>The first time a path is queried, the path and all the prefetchPaths that have not already
+ * been looked up are resolved in a single query. Each path is an aliased
+ * object(expression: "HEAD:path") field, which also returns the contents of text files no larger
+ * than maxContentSize, so reading a prefetched file needs no further requests.
+ *
+ * <p>The GraphQL API requires an access token. Without one, or if a query fails, the queries are
+ * passed to the REST client.
+ */
+@Builder
+public class GithubGraphQlRepoClient implements RepoClient {
+
+  private static final Logger LOG = Logger.getLogger(GithubGraphQlRepoClient.class.toString());
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String DEFAULT_GRAPHQL_URL = "https://api.github.com/graphql";
+  private static final int DEFAULT_MAX_CONTENT_SIZE = 64 * 1024;
+  private static final String OBJECT_FIELDS =
+      "{ __typename ... on Blob { byteSize isBinary text } }";
+
+  @NonNull
+  private GithubRepoClient restClient;
+
+  @NonNull
+  private ReadWriteHttpClientImpl httpClient;
+
+  private String accessToken;
+
+  @Builder.Default
+  private String graphQlUrl = DEFAULT_GRAPHQL_URL;
+
+  @Builder.Default
+  private int maxContentSize = DEFAULT_MAX_CONTENT_SIZE;
+
+  @Singular
+  private Set<String> prefetchPaths;
+
+  private final Map<String, PathDetails> paths = new ConcurrentHashMap<>();
+
+  private final AtomicBoolean graphQlFailed = new AtomicBoolean();
+
+  @Override
+  public String getRepo() {
+    return restClient.getRepo();
+  }
+
+  @Override
+  public boolean hasAccessToken() {
+    return restClient.hasAccessToken();
+  }
+
+  @Override
+  public Try<String> getFile(@NonNull final String path) {
+    LOG.log(DEBUG, "GithubGraphQlRepoClient.getFile(String)");
+
+    final Optional<PathDetails> details = lookup(path);
+    if (details.isPresent() && !details.get().isExists()) {
+      return Try.failure(new Exception("The file " + path + " does not exist."));
+    }
+
+    return details
+        .map(PathDetails::getContent)
+        .map(Try::success)
+        .orElseGet(() -> restClient.getFile(path));
+  }
+
+  @Override
+  public boolean testFile(@NonNull final String path) {
+    LOG.log(DEBUG, "GithubGraphQlRepoClient.testFile(String)");
+
+    return lookup(path)
+        .map(PathDetails::isExists)
+        .orElseGet(() -> restClient.testFile(path));
+  }
+
+  @Override
+  public Try<List<String>> getWildcardFiles(@NonNull final String path, final int limit) {
+    return restClient.getWildcardFiles(path, limit);
+  }
+
+  @Override
+  public Try<Boolean> wildCardFileExist(@NonNull final String path) {
+    return restClient.wildCardFileExist(path);
+  }
+
+  @Override
+  public String getRepoPath() {
+    return restClient.getRepoPath();
+  }
+
+  @Override
+  public List<String> getDefaultBranches() {
+    return restClient.getDefaultBranches();
+  }
+
+  @Override
+  public Try<String> getRepoName() {
+    return restClient.getRepoName();
+  }
+
+  @Override
+  public Try<String> getHeadCommit() {
+    return restClient.getHeadCommit();
+  }
+
+  @Override
+  public boolean testRepo() {
+    return restClient.testRepo();
+  }
+
+  /**
+   * Returns what GraphQL reported for the path, or empty if GraphQL is unavailable.
+   */
+  private Optional<PathDetails> lookup(@NonNull final String path) {
+    if (StringUtils.isBlank(accessToken) || graphQlFailed.get()) {
+      return Optional.empty();
+    }
+
+    if (!paths.containsKey(path)) {
+      resolve(path);
+    }
+
+    return Optional.ofNullable(paths.get(path));
+  }
+
+  private synchronized void resolve(@NonNull final String path) {
+    if (paths.containsKey(path) || graphQlFailed.get()) {
+      return;
+    }
+
+    final List<String> batch = Stream.concat(Stream.of(path), prefetchPaths.stream())
+        .distinct()
+        .filter(p -> !paths.containsKey(p))
+        .collect(Collectors.toList());
+
+    restClient.getDetails()
+        .mapTry(d -> buildQuery(d, batch))
+        .flatMap(q -> httpClient.post(graphQlUrl, q, List.of(
+            new BasicHeader(HttpHeaders.AUTHORIZATION, "bearer " + accessToken),
+            new BasicHeader(HttpHeaders.CONTENT_TYPE, "application/json"))))
+        .mapTry(r -> parseResponse(r, batch))
+        .onSuccess(r -> LOG.log(DEBUG, "Resolved " + r.size() + " paths in " + getRepo()))
+        .onSuccess(paths::putAll)
+        .onFailure(e -> LOG.log(DEBUG, "GraphQL query failed, falling back to REST: " + e))
+        .onFailure(e -> graphQlFailed.set(true));
+  }
+
+  private String buildQuery(@NonNull final GithubRepoDetails details,
+      @NonNull final List<String> batch) throws Exception {
+    final StringBuilder variables = new StringBuilder("$owner: String!, $name: String!");
+    final StringBuilder fields = new StringBuilder();
+    final Map<String, String> values = new HashMap<>();
+    values.put("owner", details.getUsername());
+    values.put("name", details.getRepository());
+
+    for (int i = 0; i < batch.size(); ++i) {
+      variables.append(", $p").append(i).append(": String!");
+      fields.append(" p").append(i).append(": object(expression: $p").append(i).append(") ")
+          .append(OBJECT_FIELDS);
+      values.put("p" + i, "HEAD:" + batch.get(i));
+    }
+
+    final String query = "query(" + variables + ") { repository(owner: $owner, name: $name) {"
+        + fields + " } }";
+    return OBJECT_MAPPER.writeValueAsString(Map.of("query", query, "variables", values));
+  }
+
+  private Map<String, PathDetails> parseResponse(@NonNull final String response,
+      @NonNull final List<String> batch) throws Exception {
+    final JsonNode root = OBJECT_MAPPER.readTree(response);
+    final JsonNode repository = root.path("data").path("repository");
+    if (!repository.isObject()) {
+      throw new Exception("The GraphQL response did not include the repository: "
+          + root.path("errors"));
+    }
+
+    final Map<String, PathDetails> results = new HashMap<>();
+    for (int i = 0; i < batch.size(); ++i) {
+      final JsonNode object = repository.path("p" + i);
+      results.put(batch.get(i), new PathDetails(
+          object.isObject(),
+          isSmallTextFile(object) ? object.get("text").asText() : null));
+    }
+    return results;
+  }
+
+  private boolean isSmallTextFile(@NonNull final JsonNode object) {
+    return "Blob".equals(object.path("__typename").asText())
+        && !object.path("isBinary").asBoolean(true)
+        && object.path("byteSize").asInt(Integer.MAX_VALUE) <= maxContentSize
+        && object.hasNonNull("text");
+  }
+
+  /**
+   * Whether a path exists, and the contents of the path if it is a small text file.
+   */
+  @Value
+  private static class PathDetails {
+
+    boolean exists;
+    String content;
+  }
+}
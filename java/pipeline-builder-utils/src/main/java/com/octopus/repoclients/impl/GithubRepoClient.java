@@ -3,8 +3,10 @@ package com.octopus.repoclients.impl;
 import static org.jboss.logging.Logger.Level.DEBUG;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.octopus.http.RateLimitExceededException;
 import com.octopus.http.ReadOnlyHttpClient;
 import com.octopus.repoclients.RepoClient;
+import io.vavr.Lazy;
 import io.vavr.control.Try;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +25,9 @@ import org.jboss.logging.Logger;
 
 /**
  * An accessor that is configured to work with GitHub.
+ *
+ * <p>A request that was shed by the rate limit governor says nothing about the repo, so rather
+ * than reporting a missing file, the RateLimitExceededException is thrown.
  */
 @Builder
 public class GithubRepoClient implements RepoClient {
@@ -34,6 +39,7 @@ public class GithubRepoClient implements RepoClient {
   private static final Pattern GITHUB_PATTERN = Pattern.compile(GITHUB_REGEX);
   private static final String GITHUB_CLIENT_ID_ENV_VAR = "GITHUB_CLIENT_ID";
   private static final String GITHUB_CLIENT_SECRET_ENV_VAR = "GITHUB_CLIENT_SECRET";
+  private static final List<String> FALLBACK_BRANCHES = List.of("main", "master");
 
   @Getter
   private String repo;
@@ -46,6 +52,11 @@ public class GithubRepoClient implements RepoClient {
 
   private String accessToken;
 
+  /**
+   * The default branch is looked up once for each client.
+   */
+  private final Lazy<List<String>> defaultBranches = Lazy.of(this::lookupDefaultBranches);
+
   @Override
   public boolean hasAccessToken() {
     return StringUtils.isNotBlank(accessToken);
@@ -55,7 +66,7 @@ public class GithubRepoClient implements RepoClient {
   public Try<String> getFile(@NonNull final String path) {
     LOG.debug("GithubRepoClient.getFile(String)");
 
-    return getDetails()
+    return throwIfShed(getDetails()
         .flatMap(d -> getDefaultBranches().stream().map(b -> readOnlyHttpClient.get(
                 "https://api.github.com/repos/" + d.getUsername() + "/" + d.getRepository()
                     + "/contents/" + path + "?ref=" + b,
@@ -65,9 +76,9 @@ public class GithubRepoClient implements RepoClient {
                 .mapTry(r -> OBJECT_MAPPER.readValue(r, HashMap.class))
                 .mapTry(m -> m.get("content").toString())
                 .mapTry(c -> new String(new Base64().decode(c))))
-            .filter(Try::isSuccess)
+            .filter(t -> t.isSuccess() || isShed(t))
             .findFirst()
-            .orElse(Try.failure(new Exception("All attempts to find a file failed."))));
+            .orElse(Try.failure(new Exception("All attempts to find a file failed.")))));
   }
 
   @Override
@@ -90,7 +101,7 @@ public class GithubRepoClient implements RepoClient {
   public Try<List<String>> getWildcardFiles(@NonNull final String path, int limit) {
     LOG.debug("GithubRepoClient.getWildcardFiles(String)");
 
-    return getDetails()
+    return throwIfShed(getDetails()
         // Get the repository tree list
         .flatMap(d -> getDefaultBranches()
             .stream()
@@ -100,7 +111,7 @@ public class GithubRepoClient implements RepoClient {
                 username,
                 password,
                 accessToken))
-            .filter(Try::isSuccess)
+            .filter(t -> t.isSuccess() || isShed(t))
             .findFirst()
             .orElse(Try.failure(new Exception("Could not contact any of the branches"))))
         // Convert the resulting JSON into a map
@@ -113,14 +124,14 @@ public class GithubRepoClient implements RepoClient {
             .map(u -> u.get("path").toString())
             .filter(p -> ANT_PATH_MATCHER.matches(path, p))
             .limit(limit)
-            .collect(Collectors.toList()));
+            .collect(Collectors.toList())));
   }
 
   @Override
   public Try<Boolean> wildCardFileExist(@NonNull final String path) {
     LOG.debug("GithubRepoClient.getWildcardFiles(String)");
 
-    return getDetails()
+    return throwIfShed(getDetails()
         // Get the repository tree list
         .flatMap(d -> getDefaultBranches()
             .stream()
@@ -130,7 +141,7 @@ public class GithubRepoClient implements RepoClient {
                 username,
                 password,
                 accessToken))
-            .filter(Try::isSuccess)
+            .filter(t -> t.isSuccess() || isShed(t))
             .findFirst()
             .orElse(Try.failure(new Exception("Could not contact any of the branches"))))
         // Convert the resulting JSON into a map
@@ -141,7 +152,7 @@ public class GithubRepoClient implements RepoClient {
         .mapTry(t -> t
             .stream()
             .map(u -> u.get("path").toString())
-            .anyMatch(p -> ANT_PATH_MATCHER.matches(path, p)));
+            .anyMatch(p -> ANT_PATH_MATCHER.matches(path, p))));
   }
 
   @Override
@@ -162,6 +173,10 @@ public class GithubRepoClient implements RepoClient {
   public List<String> getDefaultBranches() {
     LOG.debug("GithubRepoClient.getDefaultBranches()");
 
+    return defaultBranches.get();
+  }
+
+  private List<String> lookupDefaultBranches() {
     return getDetails()
         // Get the repository details: https://docs.github.com/en/rest/reference/repos#get-a-repository
         .flatMap(d -> readOnlyHttpClient.get(
@@ -177,7 +192,7 @@ public class GithubRepoClient implements RepoClient {
         .map(d -> List.of(d.toString()))
         // If there was a failure, assume the default branch is main or master.
         // We may also fall back to this if Github adds any rate limiting
-        .getOrElse(List.of("main", "master"));
+        .getOrElse(FALLBACK_BRANCHES);
   }
 
   @Override
@@ -185,14 +200,31 @@ public class GithubRepoClient implements RepoClient {
     return getDetails().map(GithubRepoDetails::getRepository);
   }
 
+  @Override
+  public Try<String> getHeadCommit() {
+    LOG.log(DEBUG, "GithubRepoClient.getHeadCommit()");
+
+    return throwIfShed(getDetails()
+        // List the most recent commit on the default branch: https://docs.github.com/en/rest/commits/commits#list-commits
+        .flatMap(d -> readOnlyHttpClient.get(
+            "https://api.github.com/repos/" + d.getUsername() + "/" + d.getRepository()
+                + "/commits?per_page=1",
+            username,
+            password,
+            accessToken))
+        .mapTry(j -> OBJECT_MAPPER.readValue(j, List.class))
+        .filter(c -> !c.isEmpty(), () -> new Exception("The repo has no commits"))
+        .map(c -> ((Map<Object, Object>) c.get(0)).get("sha").toString()));
+  }
+
   @Override
   public boolean testRepo() {
-    return getDetails()
+    return throwIfShed(getDetails()
         .flatMap(d -> readOnlyHttpClient.get(
             "https://api.github.com/repos/" + d.getUsername() + "/" + d.getRepository(),
             username,
             password,
-            accessToken))
+            accessToken)))
         .isSuccess();
   }
 
@@ -217,4 +249,15 @@ public class GithubRepoClient implements RepoClient {
     }
     return Try.failure(new Exception("Failed to extract values from URL"));
   }
+
+  private static boolean isShed(@NonNull final Try<?> result) {
+    return result.isFailure() && result.getCause() instanceof RateLimitExceededException;
+  }
+
+  private static <T> Try<T> throwIfShed(@NonNull final Try<T> result) {
+    if (isShed(result)) {
+      throw (RateLimitExceededException) result.getCause();
+    }
+    return result;
+  }
 }
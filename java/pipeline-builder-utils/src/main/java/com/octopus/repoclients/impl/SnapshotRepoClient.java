@@ -0,0 +1,133 @@
+package com.octopus.repoclients.impl;
+
+import static org.jboss.logging.Logger.Level.DEBUG;
+
+import com.octopus.repoclients.RepoClient;
+import io.vavr.Lazy;
+import io.vavr.control.Try;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.apache.shiro.util.AntPathMatcher;
+import org.apache.shiro.util.PatternMatcher;
+import org.jboss.logging.Logger;
+
+/**
+ * A RepoClient that lists the files in the repo once, and then answers file and wildcard queries
+ * from that list. Builders probe for many files while detecting a project type, and without a
+ * snapshot each probe is a request to the repo host. Only the contents of files are requested
+ * from the wrapped client.
+ *
+ * <p>The list is whatever the wrapped client returns for the "**" wildcard. A path that is not in
+ * the list and is nested in a directory may just not have been listed, so it is passed to the
+ * wrapped client. If the list could not be retrieved, all queries are passed to the wrapped
+ * client.
+ */
+public class SnapshotRepoClient implements RepoClient {
+
+  private static final Logger LOG = Logger.getLogger(SnapshotRepoClient.class.toString());
+  private static final PatternMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+  private static final String ALL_FILES = "**";
+
+  private final RepoClient repoClient;
+  private final Lazy<List<String>> defaultBranches;
+  private final Lazy<Try<Set<String>>> paths;
+
+  /**
+   * Constructor.
+   *
+   * @param repoClient The client used to list the repo and read files.
+   */
+  public SnapshotRepoClient(@NonNull final RepoClient repoClient) {
+    this.repoClient = repoClient;
+    this.defaultBranches = Lazy.of(repoClient::getDefaultBranches);
+    this.paths = Lazy.of(() -> repoClient.getWildcardFiles(ALL_FILES, Integer.MAX_VALUE)
+        .<Set<String>>map(LinkedHashSet::new)
+        .onSuccess(p -> LOG.log(DEBUG, "Indexed " + p.size() + " paths in " + getRepo()))
+        .onFailure(e -> LOG.log(DEBUG, "Failed to index " + getRepo() + ": " + e)));
+  }
+
+  @Override
+  public String getRepo() {
+    return repoClient.getRepo();
+  }
+
+  @Override
+  public boolean hasAccessToken() {
+    return repoClient.hasAccessToken();
+  }
+
+  @Override
+  public Try<String> getFile(@NonNull final String path) {
+    return repoClient.getFile(path);
+  }
+
+  @Override
+  public boolean testFile(@NonNull final String path) {
+    LOG.log(DEBUG, "SnapshotRepoClient.testFile(String)");
+
+    final Try<Set<String>> snapshot = paths.get();
+    if (snapshot.isSuccess() && (snapshot.get().contains(path) || !path.contains("/"))) {
+      return snapshot.get().contains(path);
+    }
+
+    return repoClient.testFile(path);
+  }
+
+  @Override
+  public Try<List<String>> getWildcardFiles(@NonNull final String path, final int limit) {
+    LOG.log(DEBUG, "SnapshotRepoClient.getWildcardFiles(String)");
+
+    final Try<Set<String>> snapshot = paths.get();
+    if (snapshot.isFailure()) {
+      return repoClient.getWildcardFiles(path, limit);
+    }
+
+    return snapshot.map(p -> p
+        .stream()
+        .filter(f -> ANT_PATH_MATCHER.matches(path, f))
+        .limit(limit)
+        .collect(Collectors.toList()));
+  }
+
+  @Override
+  public Try<Boolean> wildCardFileExist(@NonNull final String path) {
+    LOG.log(DEBUG, "SnapshotRepoClient.wildCardFileExist(String)");
+
+    final Try<Set<String>> snapshot = paths.get();
+    if (snapshot.isFailure()) {
+      return repoClient.wildCardFileExist(path);
+    }
+
+    return snapshot.map(p -> p
+        .stream()
+        .anyMatch(f -> ANT_PATH_MATCHER.matches(path, f)));
+  }
+
+  @Override
+  public String getRepoPath() {
+    return repoClient.getRepoPath();
+  }
+
+  @Override
+  public List<String> getDefaultBranches() {
+    return defaultBranches.get();
+  }
+
+  @Override
+  public Try<String> getRepoName() {
+    return repoClient.getRepoName();
+  }
+
+  @Override
+  public Try<String> getHeadCommit() {
+    return repoClient.getHeadCommit();
+  }
+
+  @Override
+  public boolean testRepo() {
+    return repoClient.testRepo();
+  }
+}
@@ -0,0 +1,181 @@
+package com.octopus.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.octopus.builders.impl.PipelineBuilderDetectorImpl;
+import com.octopus.repoclients.RepoClient;
+import com.octopus.repoclients.impl.GithubRepoClient;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PipelineBuilderDetectorTest {
+
+  private static final RepoClient REPO = GithubRepoClient.builder()
+      .repo("https://github.com/owner/repo")
+      .build();
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+  private final PipelineBuilderDetector detector = new PipelineBuilderDetectorImpl(executor);
+
+  @AfterEach
+  public void stopExecutor() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testHighestPriorityMatchWins() {
+    final CountDownLatch lowPriorityDone = new CountDownLatch(2);
+    final PipelineBuilder slow = new StubBuilder("slow", 10, true, () -> {
+      // The high priority builder is the slowest, and must still win
+      lowPriorityDone.await(10, TimeUnit.SECONDS);
+    });
+    final PipelineBuilder fast = new StubBuilder("fast", 0, true, lowPriorityDone::countDown);
+    final PipelineBuilder other = new StubBuilder("other", 0, true, lowPriorityDone::countDown);
+
+    final Optional<DetectedBuilder> detected = detector.detect(List.of(fast, other, slow), REPO);
+    assertEquals("slow", detected.get().getBuilder().getName());
+    assertEquals("slow", detected.get().generate(REPO));
+
+    // Builders with the same priority keep their order
+    assertEquals("fast", detector.detect(List.of(fast, other), REPO).get().generate(REPO));
+    assertEquals("other", detector.detect(List.of(other, fast), REPO).get().generate(REPO));
+  }
+
+  @Test
+  public void testNoMatch() {
+    final PipelineBuilder first = new StubBuilder("a", 1, false, () -> {});
+    final PipelineBuilder second = new StubBuilder("b", 0, false, () -> {});
+    assertFalse(detector.detect(List.of(first, second), REPO).isPresent());
+    assertFalse(detector.detect(List.of(), REPO).isPresent());
+  }
+
+  @Test
+  public void testQueuedDetectionsAreCancelled() {
+    final AtomicInteger started = new AtomicInteger();
+    final ExecutorService single = Executors.newSingleThreadExecutor();
+    try {
+      final PipelineBuilderDetector serial = new PipelineBuilderDetectorImpl(single);
+      final PipelineBuilder first = new StubBuilder("first", 10, true, started::incrementAndGet);
+      final CountDownLatch release = new CountDownLatch(1);
+      final PipelineBuilder blocked = new StubBuilder("blocked", 5, false, release::await);
+      final PipelineBuilder queued = new StubBuilder("queued", 0, true, started::incrementAndGet);
+
+      // The executor runs one detection at a time, so the lowest priority builder is queued behind
+      // the blocked one, and is cancelled once the first builder matches
+      assertEquals("first",
+          serial.detect(List.of(queued, blocked, first), REPO).get().generate(REPO));
+      release.countDown();
+      single.shutdown();
+      assertTrue(single.awaitTermination(10, TimeUnit.SECONDS));
+      assertEquals(1, started.get());
+    } catch (final InterruptedException ex) {
+      throw new RuntimeException(ex);
+    } finally {
+      single.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testRunningDetectionsAreInterrupted() throws InterruptedException {
+    final CountDownLatch running = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final PipelineBuilder first = new StubBuilder("first", 10, true, running::await);
+    final PipelineBuilder blocked = new StubBuilder("blocked", 0, false, () -> {
+      running.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      } catch (final InterruptedException ex) {
+        interrupted.countDown();
+      }
+    });
+
+    assertEquals("first", detector.detect(List.of(blocked, first), REPO).get().generate(REPO));
+    assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testConcurrentDetectionsAreBounded() {
+    final AtomicInteger started = new AtomicInteger();
+    final PipelineBuilderDetector bounded = new PipelineBuilderDetectorImpl(executor, 2);
+    final PipelineBuilder first = new StubBuilder("first", 10, false, started::incrementAndGet);
+    final PipelineBuilder second = new StubBuilder("second", 5, true, started::incrementAndGet);
+    final PipelineBuilder third = new StubBuilder("third", 1, true, started::incrementAndGet);
+    final PipelineBuilder fourth = new StubBuilder("fourth", 0, true, started::incrementAndGet);
+
+    // Only the first two builders are started before the second one matches, and the third is
+    // started once the first result is read
+    assertEquals("second",
+        bounded.detect(List.of(fourth, third, second, first), REPO).get().generate(REPO));
+    assertTrue(started.get() <= 3);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new PipelineBuilderDetectorImpl(executor, 0));
+  }
+
+  @Test
+  public void testExceptionsArePropagated() {
+    final PipelineBuilder broken = new StubBuilder("broken", 0, true, () -> {
+      throw new IllegalStateException("broken");
+    });
+    assertThrows(IllegalStateException.class, () -> detector.detect(List.of(broken), REPO));
+  }
+
+  @FunctionalInterface
+  private interface Probe {
+
+    void run() throws Exception;
+  }
+
+  private static class StubBuilder implements PipelineBuilder {
+
+    private final String name;
+    private final int priority;
+    private final boolean buildable;
+    private final Probe probe;
+
+    StubBuilder(final String name, final int priority, final boolean buildable,
+        final Probe probe) {
+      this.name = name;
+      this.priority = priority;
+      this.buildable = buildable;
+      this.probe = probe;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public DetectionResult canBuild(final RepoClient accessor) {
+      try {
+        probe.run();
+      } catch (final RuntimeException ex) {
+        throw ex;
+      } catch (final Exception ex) {
+        throw new RuntimeException(ex);
+      }
+      return DetectionResult.of(buildable);
+    }
+
+    @Override
+    public String generate(final RepoClient accessor, final DetectionResult detection) {
+      return name;
+    }
+
+    @Override
+    public Integer getPriority() {
+      return priority;
+    }
+  }
+}
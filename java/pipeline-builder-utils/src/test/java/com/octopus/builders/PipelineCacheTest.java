@@ -0,0 +1,156 @@
+package com.octopus.builders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.octopus.builders.impl.PipelineCacheImpl;
+import com.octopus.repoclients.RepoClient;
+import com.octopus.test.repoclients.MavenTestRepoClient;
+import io.vavr.control.Try;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PipelineCacheTest {
+
+  private final AtomicReference<String> headCommit = new AtomicReference<>("abc123");
+  private final AtomicInteger generated = new AtomicInteger();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void testPipelinesAreCachedByCommitAndBuilderVersion() {
+    final PipelineCache cache = new PipelineCacheImpl();
+    final RepoClient repo = buildRepoClient("https://github.com/owner/repo");
+    final List<PipelineBuilder> builders = List.of(new StubBuilder("Maven", "1"));
+
+    assertEquals("pipeline 1", cache.get(repo, builders, generator()).getPipeline());
+    assertEquals("pipeline 1", cache.get(repo, builders, generator()).getPipeline());
+    assertEquals(1, generated.get());
+
+    // A new commit generates a new pipeline
+    headCommit.set("def456");
+    assertEquals("pipeline 2", cache.get(repo, builders, generator()).getPipeline());
+
+    // As does a new builder version
+    assertEquals("pipeline 3",
+        cache.get(repo, List.of(new StubBuilder("Maven", "2")), generator()).getPipeline());
+
+    // As does a different repo
+    assertEquals("pipeline 4",
+        cache.get(buildRepoClient("https://github.com/owner/other"), builders, generator())
+            .getPipeline());
+    assertEquals(4, generated.get());
+  }
+
+  @Test
+  public void testPipelinesAreNotCachedWithoutTheHeadCommit() {
+    final PipelineCache cache = new PipelineCacheImpl();
+    final RepoClient repo = new MavenTestRepoClient("https://github.com/owner/repo", false);
+
+    cache.get(repo, List.of(), generator());
+    cache.get(repo, List.of(), generator());
+    assertEquals(2, generated.get());
+  }
+
+  @Test
+  public void testPipelinesArePersisted() {
+    final RepoClient repo = buildRepoClient("https://github.com/owner/repo");
+
+    new PipelineCacheImpl(10, 1024, directory, 10).get(repo, List.of(), generator());
+
+    final GeneratedPipeline persisted =
+        new PipelineCacheImpl(10, 1024, directory, 10).get(repo, List.of(), generator());
+    assertEquals("pipeline 1", persisted.getPipeline());
+    assertEquals("Maven", persisted.getBuilderName().get());
+    assertEquals(1, generated.get());
+  }
+
+  @Test
+  public void testPipelinesWithoutABuilderAreNotCached() throws IOException {
+    final PipelineCache cache = new PipelineCacheImpl(10, 1024, directory, 10);
+    final RepoClient repo = buildRepoClient("https://github.com/owner/repo");
+    final Supplier<GeneratedPipeline> noBuilder = () -> {
+      generated.incrementAndGet();
+      return new GeneratedPipeline(null, "No suitable builders were found.");
+    };
+
+    // Detection failed, for example because the repo host was unavailable
+    assertFalse(cache.get(repo, List.of(), noBuilder).getBuilderName().isPresent());
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+
+    // The next request detects the builder again
+    assertEquals("pipeline 2", cache.get(repo, List.of(), generator()).getPipeline());
+    assertEquals("pipeline 2", cache.get(repo, List.of(), generator()).getPipeline());
+    assertEquals(2, generated.get());
+  }
+
+  @Test
+  public void testPersistedPipelinesAreBounded() throws IOException {
+    final PipelineCache cache = new PipelineCacheImpl(10, 1024, directory, 2);
+    final RepoClient repo = buildRepoClient("https://github.com/owner/repo");
+
+    for (int i = 0; i < 5; ++i) {
+      headCommit.set("commit" + i);
+      cache.get(repo, List.of(), generator());
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(2, files.count());
+    }
+  }
+
+  private RepoClient buildRepoClient(final String url) {
+    return new MavenTestRepoClient(url, false) {
+      @Override
+      public Try<String> getHeadCommit() {
+        return Try.success(headCommit.get());
+      }
+    };
+  }
+
+  private Supplier<GeneratedPipeline> generator() {
+    return () -> new GeneratedPipeline("Maven", "pipeline " + generated.incrementAndGet());
+  }
+
+  private static class StubBuilder implements PipelineBuilder {
+
+    private final String name;
+    private final String version;
+
+    StubBuilder(final String name, final String version) {
+      this.name = name;
+      this.version = version;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public String getVersion() {
+      return version;
+    }
+
+    @Override
+    public DetectionResult canBuild(final RepoClient accessor) {
+      return DetectionResult.notBuildable();
+    }
+
+    @Override
+    public String generate(final RepoClient accessor, final DetectionResult detection) {
+      return name;
+    }
+  }
+}
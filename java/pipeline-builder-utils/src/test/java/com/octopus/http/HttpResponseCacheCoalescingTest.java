@@ -0,0 +1,120 @@
+package com.octopus.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.octopus.http.impl.HttpResponseCacheImpl;
+import com.octopus.http.impl.ReadOnlyHttpClientImpl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that concurrent requests for the same URL share a single request to a slow local server.
+ */
+public class HttpResponseCacheCoalescingTest {
+
+  private static final int THREADS = 32;
+  private static final int URLS = 4;
+  private static final int REQUESTS_PER_THREAD = 20;
+  private static final long SERVER_DELAY_MILLIS = 200;
+
+  private final AtomicInteger requests = new AtomicInteger();
+  private HttpServer server;
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", this::respond);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+    executor = Executors.newFixedThreadPool(THREADS);
+  }
+
+  @AfterEach
+  public void stopServer() {
+    executor.shutdownNow();
+    server.stop(0);
+  }
+
+  @Test
+  public void testConcurrentRequestsShareOneRequest() throws Exception {
+    final HttpResponseCache cache = new HttpResponseCacheImpl();
+    final ReadOnlyHttpClient client = new ReadOnlyHttpClientImpl(cache);
+    final CountDownLatch start = new CountDownLatch(1);
+
+    final List<Future<Long>> results = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; ++thread) {
+      final int offset = thread;
+      results.add(executor.submit(() -> {
+        start.await();
+        long slowest = 0;
+        for (int i = 0; i < REQUESTS_PER_THREAD; ++i) {
+          final String path = "/file" + ((offset + i) % URLS);
+          final long requested = System.nanoTime();
+          assertEquals(path, client.get(url(path)).get());
+          slowest = Math.max(slowest, System.nanoTime() - requested);
+        }
+        return slowest;
+      }));
+    }
+
+    start.countDown();
+    long slowest = 0;
+    for (final Future<Long> result : results) {
+      slowest = Math.max(slowest, result.get(30, TimeUnit.SECONDS));
+    }
+
+    assertEquals(URLS, requests.get());
+    assertTrue(cache.getStats().getCoalesced() > 0);
+    // No request waits on more than the one server request for its own URL
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(slowest) < SERVER_DELAY_MILLIS * 5,
+        "The slowest request took " + TimeUnit.NANOSECONDS.toMillis(slowest) + "ms");
+  }
+
+  @Test
+  public void testFailedRequestsAreNotShared() {
+    final HttpResponseCache cache = new HttpResponseCacheImpl();
+
+    assertThrows(IllegalStateException.class, () -> cache.get("key", previous -> {
+      throw new IllegalStateException("failed");
+    }));
+    assertEquals("body",
+        cache.get("key", previous -> CachedHttpResponse.success("body", null, null)).getBody());
+  }
+
+  private String url(final String path) {
+    return "http://localhost:" + server.getAddress().getPort() + path;
+  }
+
+  private void respond(final HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    try {
+      Thread.sleep(SERVER_DELAY_MILLIS);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+
+    final byte[] response = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(200, response.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(response);
+    }
+  }
+}
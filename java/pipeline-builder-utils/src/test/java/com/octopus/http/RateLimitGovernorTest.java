@@ -0,0 +1,193 @@
+package com.octopus.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.octopus.http.impl.HttpResponseCacheImpl;
+import com.octopus.http.impl.PooledHttpClients;
+import com.octopus.http.impl.RateLimitGovernorImpl;
+import com.octopus.http.impl.ReadOnlyHttpClientImpl;
+import io.vavr.control.Try;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the rate limit governor against a WireMock server returning GitHub's rate limit headers.
+ */
+public class RateLimitGovernorTest {
+
+  private static final String TOKEN = "token secret";
+
+  private final RateLimitGovernor governor = new RateLimitGovernorImpl();
+  private WireMockServer server;
+  private ReadOnlyHttpClient client;
+
+  @BeforeEach
+  public void startServer() {
+    server = new WireMockServer(options().dynamicPort());
+    server.start();
+    // Responses are immediately stale, so each request reaches the governor
+    client = new ReadOnlyHttpClientImpl(
+        new HttpResponseCacheImpl(Duration.ZERO, Duration.ZERO, 100, 1024 * 1024),
+        PooledHttpClients.shared(),
+        governor);
+  }
+
+  @AfterEach
+  public void stopServer() {
+    server.stop();
+  }
+
+  @Test
+  public void testRequestsAreShedOnceTheQuotaIsExhausted() {
+    server.stubFor(get("/first").willReturn(rateLimited("first", 5000, 0, resetIn(3600))));
+    server.stubFor(get("/second").willReturn(aResponse().withBody("second")));
+
+    assertEquals("first", client.get(url("/first"), null, null, "secret").get());
+    final Try<String> shed = client.get(url("/second"), null, null, "secret");
+    assertTrue(shed.isFailure());
+    assertInstanceOf(RateLimitExceededException.class, shed.getCause());
+    server.verify(0, getRequestedFor(urlEqualTo("/second")));
+
+    // Other credentials have their own quota
+    assertEquals("second", client.get(url("/second"), null, null, "other").get());
+  }
+
+  @Test
+  public void testStaleResponsesAreReturnedWhenShed() {
+    server.stubFor(get("/file").willReturn(rateLimited("file", 5000, 0, resetIn(3600))));
+
+    assertEquals("file", client.get(url("/file"), null, null, "secret").get());
+    assertEquals("file", client.get(url("/file"), null, null, "secret").get());
+    server.verify(1, getRequestedFor(urlEqualTo("/file")));
+  }
+
+  @Test
+  public void testTelemetryIsShedWhenTheQuotaRunsLow() {
+    server.stubFor(get("/file").willReturn(rateLimited("file", 100, 50, resetIn(3600))));
+    client.get(url("/file"), null, null, "secret");
+    assertTrue(governor.reserve(url("/user"), TOKEN, RequestPriority.TELEMETRY).isPresent());
+
+    server.stubFor(get("/file").willReturn(rateLimited("file", 100, 15, resetIn(3600))));
+    client.get(url("/file"), null, null, "secret");
+    assertFalse(governor.reserve(url("/user"), TOKEN, RequestPriority.TELEMETRY).isPresent());
+    assertEquals(Optional.of(Duration.ZERO),
+        governor.reserve(url("/user"), TOKEN, RequestPriority.USER_FACING));
+
+    final List<RateLimitQuota> quotas = governor.getQuotas();
+    assertEquals(1, quotas.size());
+    assertEquals(100, quotas.get(0).getLimit());
+    assertEquals(14, quotas.get(0).getRemaining());
+    assertEquals(1, quotas.get(0).getShed());
+    assertFalse(quotas.get(0).getCredential().contains("secret"));
+  }
+
+  @Test
+  public void testUserFacingRequestsWaitForRetryAfter() {
+    server.stubFor(get("/file").inScenario("retry").whenScenarioStateIs(STARTED)
+        .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "1"))
+        .willSetStateTo("recovered"));
+    server.stubFor(get("/file").inScenario("retry").whenScenarioStateIs("recovered")
+        .willReturn(aResponse().withBody("file")));
+
+    assertTrue(client.get(url("/file"), null, null, "secret").isFailure());
+
+    final long start = System.currentTimeMillis();
+    assertEquals("file", client.get(url("/file"), null, null, "secret").get());
+    assertTrue(System.currentTimeMillis() - start >= 900);
+  }
+
+  @Test
+  public void testQuotaIsRestoredWhenTheWindowEnds() {
+    final Instant now = Instant.ofEpochSecond(1_000_000);
+    final MutableClock clock = new MutableClock(now);
+    final RateLimitGovernor governor =
+        new RateLimitGovernorImpl(0.2, Duration.ofSeconds(5), clock);
+    governor.update("https://api.github.com/user", TOKEN, 200, headers(Map.of(
+        "X-RateLimit-Limit", "60",
+        "X-RateLimit-Remaining", "0",
+        "X-RateLimit-Reset", String.valueOf(now.getEpochSecond() + 10))));
+
+    // The window ends too far away to wait
+    assertFalse(governor.reserve("https://api.github.com/user", TOKEN,
+        RequestPriority.USER_FACING).isPresent());
+
+    // The window ends soon enough to wait for user facing requests only
+    clock.instant = now.plusSeconds(6);
+    assertEquals(Optional.of(Duration.ofSeconds(4)), governor.reserve(
+        "https://api.github.com/user", TOKEN, RequestPriority.USER_FACING));
+    assertFalse(governor.reserve("https://api.github.com/user", TOKEN,
+        RequestPriority.TELEMETRY).isPresent());
+
+    // A new window has the full quota
+    clock.instant = now.plusSeconds(11);
+    assertEquals(Optional.of(Duration.ZERO), governor.reserve(
+        "https://api.github.com/user", TOKEN, RequestPriority.TELEMETRY));
+    assertEquals(59, governor.getQuotas().get(0).getRemaining());
+  }
+
+  private String url(final String path) {
+    return "http://localhost:" + server.port() + path;
+  }
+
+  private static long resetIn(final long seconds) {
+    return Instant.now().getEpochSecond() + seconds;
+  }
+
+  private static ResponseDefinitionBuilder rateLimited(final String body, final long limit,
+      final long remaining, final long reset) {
+    return aResponse()
+        .withHeader("X-RateLimit-Limit", String.valueOf(limit))
+        .withHeader("X-RateLimit-Remaining", String.valueOf(remaining))
+        .withHeader("X-RateLimit-Reset", String.valueOf(reset))
+        .withBody(body);
+  }
+
+  private static Function<String, Optional<String>> headers(final Map<String, String> headers) {
+    return name -> Optional.ofNullable(headers.get(name));
+  }
+
+  private static class MutableClock extends Clock {
+
+    private volatile Instant instant;
+
+    MutableClock(final Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.octopus.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.octopus.http.impl.HttpResponseCacheImpl;
+import com.octopus.http.impl.ReadOnlyHttpClientImpl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.message.BasicHeader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the caching of ReadOnlyHttpClientImpl against a local server.
+ */
+public class ReadOnlyHttpClientCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicInteger notModified = new AtomicInteger();
+  private volatile int status = 200;
+  private volatile String etag = "\"v1\"";
+  private volatile String body = "content";
+
+  private HttpServer server;
+  private String url;
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", this::respond);
+    server.start();
+    url = "http://localhost:" + server.getAddress().getPort() + "/file";
+  }
+
+  @AfterEach
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testFreshResponsesAreCached() {
+    final HttpResponseCache cache = new HttpResponseCacheImpl();
+    final ReadOnlyHttpClientImpl client = new ReadOnlyHttpClientImpl(cache);
+
+    assertEquals("content", client.get(url).get());
+    assertEquals("content", client.get(url).get());
+    assertTrue(client.head(url));
+    assertTrue(client.head(url));
+
+    assertEquals(2, requests.get());
+    assertEquals(new HttpResponseCacheStats(2, 2, 0, 2, 0), client.getCacheStats());
+  }
+
+  @Test
+  public void testStaleResponsesAreRevalidated() {
+    final ReadOnlyHttpClientImpl client = new ReadOnlyHttpClientImpl(
+        new HttpResponseCacheImpl(Duration.ZERO, Duration.ZERO, 10, 1024 * 1024));
+
+    assertEquals("content", client.get(url).get());
+    assertEquals("content", client.get(url).get());
+    assertEquals(1, notModified.get());
+    assertEquals(1, client.getCacheStats().getRevalidations());
+
+    etag = "\"v2\"";
+    body = "changed";
+    assertEquals("changed", client.get(url).get());
+    assertEquals(3, requests.get());
+    assertEquals(1, notModified.get());
+  }
+
+  @Test
+  public void testFailuresExpireAfterTheNegativeTtl() {
+    status = 500;
+    final ReadOnlyHttpClientImpl pinned = new ReadOnlyHttpClientImpl(
+        new HttpResponseCacheImpl(TTL, TTL, 10, 1024 * 1024));
+    final ReadOnlyHttpClientImpl retried = new ReadOnlyHttpClientImpl(
+        new HttpResponseCacheImpl(TTL, Duration.ZERO, 10, 1024 * 1024));
+
+    assertTrue(pinned.get(url).isFailure());
+    assertTrue(retried.get(url).isFailure());
+    assertFalse(retried.head(url));
+
+    status = 200;
+    assertTrue(pinned.get(url).isFailure());
+    assertTrue(retried.get(url).isSuccess());
+    assertTrue(retried.head(url));
+  }
+
+  @Test
+  public void testCredentialsAreHashedOutOfKeys() {
+    final List<String> keys = new ArrayList<>();
+    final HttpResponseCache cache = new HttpResponseCacheImpl();
+    final ReadOnlyHttpClientImpl client = new ReadOnlyHttpClientImpl(
+        new HttpResponseCache() {
+          @Override
+          public CachedHttpResponse get(final String key,
+              final Function<Optional<CachedHttpResponse>, CachedHttpResponse> fetcher) {
+            keys.add(key);
+            return cache.get(key, fetcher);
+          }
+
+          @Override
+          public HttpResponseCacheStats getStats() {
+            return cache.getStats();
+          }
+        });
+
+    client.get(url, null, null, "secret-token");
+    client.get(url, null, null, "other-token");
+    client.get(url, List.of(new BasicHeader("Authorization", "token secret-token")));
+    client.head(url, "user", "secret-password");
+
+    assertEquals(3, requests.get());
+    assertEquals(keys.get(0), keys.get(2));
+    assertNotEquals(keys.get(0), keys.get(1));
+    keys.forEach(key -> {
+      assertFalse(key.contains("secret"));
+      assertTrue(key.contains(url));
+    });
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    final HttpResponseCache cache = new HttpResponseCacheImpl(TTL, TTL, 2, 1024 * 1024);
+    final ReadOnlyHttpClientImpl client = new ReadOnlyHttpClientImpl(cache);
+    for (int i = 0; i < 10; ++i) {
+      client.get(url + i);
+    }
+    assertTrue(cache.getStats().getSize() <= 2);
+
+    body = StringUtils.repeat('a', 1024 * 1024);
+    final HttpResponseCache small = new HttpResponseCacheImpl(TTL, TTL, 10, 64 * 1024);
+    new ReadOnlyHttpClientImpl(small).get(url);
+    assertEquals(0, small.getStats().getSize());
+  }
+
+  @Test
+  public void verifyInvalidLimits() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new HttpResponseCacheImpl(Duration.ofSeconds(-1), TTL, 10, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new HttpResponseCacheImpl(TTL, Duration.ofSeconds(-1), 10, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new HttpResponseCacheImpl(TTL, TTL, 0, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new HttpResponseCacheImpl(TTL, TTL, 10, 1));
+  }
+
+  private void respond(final HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    exchange.getResponseHeaders().add("ETag", etag);
+
+    if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      notModified.incrementAndGet();
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+
+    final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+    if ("HEAD".equals(exchange.getRequestMethod())) {
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+      return;
+    }
+
+    exchange.sendResponseHeaders(status, response.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(response);
+    }
+  }
+}
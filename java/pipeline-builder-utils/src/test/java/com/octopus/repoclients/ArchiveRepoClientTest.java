@@ -0,0 +1,206 @@
+package com.octopus.repoclients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.octopus.repoclients.impl.ArchiveRepoClient;
+import io.vavr.control.Try;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+public class ArchiveRepoClientTest {
+
+  private static final String ROOT = "owner-repo-abc123/";
+
+  private final StubRepoClient repoClient = new StubRepoClient();
+  private final AtomicInteger downloads = new AtomicInteger();
+
+  @Test
+  public void testProbesAreAnsweredFromTheArchive() throws IOException {
+    final RepoClient client = buildRepoClient(createArchive(), 0, 1024);
+
+    assertTrue(client.testFile("App.sln"));
+    assertTrue(client.testFile("src"));
+    assertTrue(client.testFile("src/App/App.csproj"));
+    assertFalse(client.testFile("pom.xml"));
+    assertEquals("<Project Sdk=\"Microsoft.NET.Sdk\"/>",
+        client.getFile("src/App/App.csproj").get());
+    assertTrue(client.getFile("pom.xml").isFailure());
+    assertEquals(List.of("src/App/App.csproj"),
+        client.getWildcardFiles("**/*.csproj", 10).get());
+    assertEquals(List.of("App.sln"), client.getWildcardFiles("*.sln", 1).get());
+    assertTrue(client.wildCardFileExist("**/*.csproj").get());
+    assertFalse(client.wildCardFileExist("*.gemspec").get());
+
+    assertEquals(1, downloads.get());
+    assertTrue(repoClient.calls.isEmpty());
+  }
+
+  @Test
+  public void testArchiveIsDownloadedAfterTheThreshold() throws IOException {
+    final RepoClient client = buildRepoClient(createArchive(), 2, 1024);
+
+    assertFalse(client.testFile("App.sln"));
+    assertFalse(client.wildCardFileExist("*.sln").get());
+    assertEquals(0, downloads.get());
+
+    assertTrue(client.testFile("App.sln"));
+    assertTrue(client.wildCardFileExist("*.sln").get());
+    assertEquals(1, downloads.get());
+    assertEquals(List.of("testFile App.sln", "wildCardFileExist *.sln"), repoClient.calls);
+  }
+
+  @Test
+  public void testLargeFilesAreReadFromTheRepoClient() throws IOException {
+    final RepoClient client = buildRepoClient(createArchive(), 0, 8);
+
+    assertTrue(client.testFile("README.md"));
+    assertEquals("stub", client.getFile("README.md").get());
+    assertEquals("App", client.getFile("App.sln").get());
+    assertEquals(List.of("getFile README.md"), repoClient.calls);
+  }
+
+  @Test
+  public void testOversizedArchivesAreNotUsed() throws IOException {
+    final byte[] archive = createArchive();
+    final RepoClient client = ArchiveRepoClient.builder()
+        .repoClient(repoClient)
+        .archiveSource(() -> {
+          downloads.incrementAndGet();
+          return new ByteArrayInputStream(archive);
+        })
+        .maxArchiveSize(archive.length / 2)
+        .build();
+
+    assertFalse(client.testFile("App.sln"));
+    assertFalse(client.testFile("src"));
+    assertEquals(1, downloads.get());
+    assertEquals(List.of("testFile App.sln", "testFile src"), repoClient.calls);
+  }
+
+  @Test
+  public void testUnreadableArchivesAreNotUsed() {
+    final RepoClient client = ArchiveRepoClient.builder()
+        .repoClient(repoClient)
+        .archiveSource(() -> {
+          throw new IOException("Response code 404 did not indicate success");
+        })
+        .build();
+
+    assertFalse(client.testFile("App.sln"));
+    assertEquals("stub", client.getFile("App.sln").get());
+    assertEquals(List.of("testFile App.sln", "getFile App.sln"), repoClient.calls);
+  }
+
+  private RepoClient buildRepoClient(final byte[] archive, final int probeThreshold,
+      final int maxFileSize) {
+    return ArchiveRepoClient.builder()
+        .repoClient(repoClient)
+        .archiveSource(() -> {
+          downloads.incrementAndGet();
+          return new ByteArrayInputStream(archive);
+        })
+        .probeThreshold(probeThreshold)
+        .maxFileSize(maxFileSize)
+        .build();
+  }
+
+  /**
+   * Builds an archive laid out like a GitHub zipball. The directory holding the project file has
+   * no entry of its own.
+   */
+  private byte[] createArchive() throws IOException {
+    final Map<String, String> entries = new LinkedHashMap<>();
+    entries.put(ROOT, null);
+    entries.put(ROOT + "App.sln", "App");
+    entries.put(ROOT + "README.md", StringUtils.repeat("readme ", 100));
+    entries.put(ROOT + "src/", null);
+    entries.put(ROOT + "src/App/App.csproj", "<Project Sdk=\"Microsoft.NET.Sdk\"/>");
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+      for (final Map.Entry<String, String> entry : entries.entrySet()) {
+        zip.putNextEntry(new ZipEntry(entry.getKey()));
+        if (entry.getValue() != null) {
+          zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        zip.closeEntry();
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Records the queries passed to the wrapped client, which finds no files.
+   */
+  private static class StubRepoClient implements RepoClient {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @Override
+    public String getRepo() {
+      return "https://github.com/owner/repo";
+    }
+
+    @Override
+    public boolean hasAccessToken() {
+      return false;
+    }
+
+    @Override
+    public Try<String> getFile(final String path) {
+      calls.add("getFile " + path);
+      return Try.success("stub");
+    }
+
+    @Override
+    public boolean testFile(final String path) {
+      calls.add("testFile " + path);
+      return false;
+    }
+
+    @Override
+    public Try<List<String>> getWildcardFiles(final String path, final int limit) {
+      calls.add("getWildcardFiles " + path);
+      return Try.success(List.of());
+    }
+
+    @Override
+    public Try<Boolean> wildCardFileExist(final String path) {
+      calls.add("wildCardFileExist " + path);
+      return Try.success(false);
+    }
+
+    @Override
+    public String getRepoPath() {
+      return getRepo() + ".git";
+    }
+
+    @Override
+    public List<String> getDefaultBranches() {
+      return List.of("main");
+    }
+
+    @Override
+    public Try<String> getRepoName() {
+      return Try.success("repo");
+    }
+
+    @Override
+    public boolean testRepo() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.octopus.repoclients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.octopus.http.RateLimitExceededException;
+import com.octopus.http.RateLimitGovernor;
+import com.octopus.http.RateLimitQuota;
+import com.octopus.http.RequestPriority;
+import com.octopus.repoclients.impl.GithubArchiveSource;
+import com.octopus.repoclients.impl.GithubRepoClient;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.junit.jupiter.api.Test;
+
+public class GithubArchiveSourceTest {
+
+  private static final GithubRepoClient REPO_CLIENT = GithubRepoClient.builder()
+      .repo("https://github.com/owner/repo")
+      .build();
+
+  private final StubHttpClient httpClient = new StubHttpClient();
+  private final RecordingGovernor governor = new RecordingGovernor();
+
+  @Test
+  public void testShedDownloadIsNotMade() {
+    governor.shed = true;
+    final GithubArchiveSource source =
+        new GithubArchiveSource(REPO_CLIENT, null, null, "token", httpClient, governor);
+
+    assertThrows(RateLimitExceededException.class, source::open);
+    assertEquals(List.of("https://api.github.com/repos/owner/repo/zipball"), governor.reserved);
+    assertEquals(0, httpClient.requests.get());
+    assertEquals(0, governor.updates.size());
+  }
+
+  @Test
+  public void testDownloadUpdatesTheQuota() throws IOException {
+    final GithubArchiveSource source =
+        new GithubArchiveSource(REPO_CLIENT, null, null, "token", httpClient, governor);
+
+    try (InputStream archive = source.open()) {
+      assertEquals("archive", new String(archive.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    assertEquals(1, httpClient.requests.get());
+    assertEquals(List.of("200 token token 4999"), governor.updates);
+  }
+
+  @Test
+  public void testFailedDownloadUpdatesTheQuota() {
+    httpClient.statusCode = HttpStatus.SC_FORBIDDEN;
+    final GithubArchiveSource source =
+        new GithubArchiveSource(REPO_CLIENT, null, null, "token", httpClient, governor);
+
+    assertThrows(IOException.class, source::open);
+    assertEquals(List.of("403 token token 4999"), governor.updates);
+  }
+
+  private static class RecordingGovernor implements RateLimitGovernor {
+
+    private final List<String> reserved = new ArrayList<>();
+    private final List<String> updates = new ArrayList<>();
+    private boolean shed;
+
+    @Override
+    public Optional<Duration> reserve(final String url, final String authorization,
+        final RequestPriority priority) {
+      reserved.add(url);
+      return shed ? Optional.empty() : Optional.of(Duration.ZERO);
+    }
+
+    @Override
+    public void update(final String url, final String authorization, final int statusCode,
+        final Function<String, Optional<String>> headers) {
+      updates.add(statusCode + " " + authorization + " "
+          + headers.apply("X-RateLimit-Remaining").orElse(""));
+    }
+
+    @Override
+    public List<RateLimitQuota> getQuotas() {
+      return List.of();
+    }
+  }
+
+  private static class StubHttpClient extends CloseableHttpClient {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private int statusCode = HttpStatus.SC_OK;
+
+    @Override
+    protected CloseableHttpResponse doExecute(final HttpHost target, final HttpRequest request,
+        final HttpContext context) {
+      requests.incrementAndGet();
+      final StubResponse response = new StubResponse(statusCode);
+      response.addHeader("X-RateLimit-Remaining", "4999");
+      response.setEntity(new StringEntity("archive", StandardCharsets.UTF_8));
+      return response;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static class StubResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+    StubResponse(final int statusCode) {
+      super(HttpVersion.HTTP_1_1, statusCode, "");
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
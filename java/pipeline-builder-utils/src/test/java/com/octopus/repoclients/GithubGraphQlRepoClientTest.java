@@ -0,0 +1,203 @@
+package com.octopus.repoclients;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.http.impl.ReadWriteHttpClientImpl;
+import com.octopus.repoclients.impl.GithubGraphQlRepoClient;
+import com.octopus.repoclients.impl.GithubRepoClient;
+import io.vavr.control.Try;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.apache.http.Header;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests GithubGraphQlRepoClient against a WireMock stand-in for the GitHub GraphQL API.
+ */
+public class GithubGraphQlRepoClientTest {
+
+  private static final String API = "https://api.github.com/repos/owner/repo";
+  private static final String GRAPHQL = "/graphql";
+
+  private WireMockServer server;
+  private StubRestClient restHttpClient;
+
+  @BeforeEach
+  public void startServer() {
+    server = new WireMockServer(options().dynamicPort());
+    server.start();
+    restHttpClient = new StubRestClient(Map.of(
+        API, "{\"default_branch\":\"main\"}",
+        API + "/contents/big.json?ref=main", "{\"content\":\""
+            + Base64.getEncoder().encodeToString("{}".getBytes()) + "\"}"));
+  }
+
+  @AfterEach
+  public void stopServer() {
+    server.stop();
+  }
+
+  @Test
+  public void testPathsAreResolvedInOneQuery() {
+    server.stubFor(post(GRAPHQL).willReturn(aResponse().withBody("{\"data\":{\"repository\":{"
+        + "\"p0\":{\"__typename\":\"Blob\",\"byteSize\":10,\"isBinary\":false,\"text\":\"flask\"},"
+        + "\"p1\":null,"
+        + "\"p2\":{\"__typename\":\"Blob\",\"byteSize\":100000,\"isBinary\":false,\"text\":\"{}\"},"
+        + "\"p3\":{\"__typename\":\"Tree\"}}}}")));
+    final RepoClient repoClient = buildRepoClient("token");
+
+    assertTrue(repoClient.testFile("requirements.txt"));
+    assertFalse(repoClient.testFile("setup.py"));
+    assertTrue(repoClient.testFile("src"));
+    assertEquals("flask", repoClient.getFile("requirements.txt").get());
+    assertTrue(repoClient.getFile("setup.py").isFailure());
+
+    // Large files are only reported as existing, and are read with REST
+    assertTrue(repoClient.testFile("big.json"));
+    assertEquals("{}", repoClient.getFile("big.json").get());
+
+    server.verify(1, postRequestedFor(urlEqualTo(GRAPHQL))
+        .withHeader("Authorization", equalTo("bearer token"))
+        .withRequestBody(matchingJsonPath("$.variables.owner", equalTo("owner")))
+        .withRequestBody(matchingJsonPath("$.variables.name", equalTo("repo")))
+        .withRequestBody(matchingJsonPath("$.variables.p0", equalTo("HEAD:requirements.txt")))
+        .withRequestBody(matchingJsonPath("$.variables.p1", equalTo("HEAD:setup.py")))
+        .withRequestBody(matchingJsonPath("$.variables.p2", equalTo("HEAD:big.json")))
+        .withRequestBody(matchingJsonPath("$.variables.p3", equalTo("HEAD:src")))
+        .withRequestBody(containing("p3: object(expression: $p3)")));
+    assertEquals(List.of(API, API + "/contents/big.json?ref=main"), restHttpClient.requests);
+  }
+
+  @Test
+  public void testPathsOutsideTheBatchAreQueriedSeparately() {
+    server.stubFor(post(GRAPHQL).willReturn(aResponse().withBody("{\"data\":{\"repository\":{"
+        + "\"p0\":{\"__typename\":\"Blob\",\"byteSize\":1,\"isBinary\":false,\"text\":\"a\"}}}}")));
+    final RepoClient repoClient = buildRepoClient("token");
+
+    // The first query holds the prefetched paths, and the second holds just the Gemfile
+    assertTrue(repoClient.testFile("requirements.txt"));
+    assertFalse(repoClient.testFile("setup.py"));
+    assertTrue(repoClient.testFile("Gemfile"));
+    assertTrue(repoClient.testFile("Gemfile"));
+
+    server.verify(2, postRequestedFor(urlEqualTo(GRAPHQL)));
+    server.verify(1, postRequestedFor(urlEqualTo(GRAPHQL))
+        .withRequestBody(matchingJsonPath("$.variables.p0", equalTo("HEAD:Gemfile"))));
+    assertTrue(restHttpClient.requests.isEmpty());
+  }
+
+  @Test
+  public void testFailedQueriesFallBackToRest() {
+    server.stubFor(post(GRAPHQL).willReturn(aResponse().withStatus(200)
+        .withBody("{\"errors\":[{\"message\":\"Could not resolve to a Repository\"}]}")));
+    final RepoClient repoClient = buildRepoClient("token");
+
+    assertFalse(repoClient.testFile("requirements.txt"));
+    assertFalse(repoClient.testFile("setup.py"));
+    assertEquals("{}", repoClient.getFile("big.json").get());
+
+    server.verify(1, postRequestedFor(urlEqualTo(GRAPHQL)));
+    assertEquals(List.of(
+        API,
+        API + "/contents/requirements.txt?ref=main",
+        API + "/contents/setup.py?ref=main",
+        API + "/contents/big.json?ref=main"), restHttpClient.requests);
+  }
+
+  @Test
+  public void testRestIsUsedWithoutAnAccessToken() {
+    final RepoClient repoClient = buildRepoClient(null);
+
+    assertFalse(repoClient.testFile("requirements.txt"));
+    server.verify(0, postRequestedFor(urlEqualTo(GRAPHQL)));
+    assertEquals(List.of(API, API + "/contents/requirements.txt?ref=main"),
+        restHttpClient.requests);
+  }
+
+  private RepoClient buildRepoClient(final String accessToken) {
+    return GithubGraphQlRepoClient.builder()
+        .restClient(GithubRepoClient.builder()
+            .repo("https://github.com/owner/repo")
+            .readOnlyHttpClient(restHttpClient)
+            .accessToken(accessToken)
+            .build())
+        .httpClient(new ReadWriteHttpClientImpl())
+        .accessToken(accessToken)
+        .graphQlUrl(server.baseUrl() + GRAPHQL)
+        .maxContentSize(1024)
+        .prefetchPath("requirements.txt")
+        .prefetchPath("setup.py")
+        .prefetchPath("big.json")
+        .prefetchPath("src")
+        .build();
+  }
+
+  /**
+   * Returns canned responses to REST requests and records the requested URLs.
+   */
+  private static class StubRestClient implements ReadOnlyHttpClient {
+
+    private final Map<String, String> responses;
+    private final List<String> requests = new ArrayList<>();
+
+    StubRestClient(final Map<String, String> responses) {
+      this.responses = responses;
+    }
+
+    @Override
+    public Try<String> get(final String url) {
+      requests.add(url);
+      return responses.containsKey(url)
+          ? Try.success(responses.get(url))
+          : Try.failure(new Exception("Response code 404 did not indicate success"));
+    }
+
+    @Override
+    public Try<String> get(final String url, final String username, final String password,
+        final String accessToken) {
+      return get(url);
+    }
+
+    @Override
+    public Try<String> get(final String url, final List<Header> headers) {
+      return get(url);
+    }
+
+    @Override
+    public boolean head(final String url) {
+      return get(url).isSuccess();
+    }
+
+    @Override
+    public boolean head(final String url, final String username, final String password,
+        final String accessToken) {
+      return head(url);
+    }
+
+    @Override
+    public boolean head(final String url, final String username, final String password) {
+      return head(url);
+    }
+
+    @Override
+    public boolean head(final String url, final List<Header> headers) {
+      return head(url);
+    }
+  }
+}
@@ -1,14 +1,25 @@
 package com.octopus.repoclients;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.octopus.http.RateLimitExceededException;
+import com.octopus.http.RateLimitGovernor;
+import com.octopus.http.RateLimitQuota;
 import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.http.RequestPriority;
+import com.octopus.http.impl.HttpResponseCacheImpl;
+import com.octopus.http.impl.PooledHttpClients;
 import com.octopus.http.impl.ReadOnlyHttpClientImpl;
+import com.octopus.repoclients.impl.GitHubRepoClientFactory;
 import com.octopus.repoclients.impl.GithubRepoClient;
 import com.octopus.repoclients.impl.GithubRepoDetails;
 import io.vavr.control.Try;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
@@ -19,6 +30,10 @@ import org.junit.jupiter.params.provider.CsvSource;
 public class GithubRepoClientTest {
 
   private static final ReadOnlyHttpClient HTTP_CLIENT = new ReadOnlyHttpClientImpl();
+  private static final ReadOnlyHttpClient SHEDDING_HTTP_CLIENT = new ReadOnlyHttpClientImpl(
+      new HttpResponseCacheImpl(),
+      PooledHttpClients.shared(),
+      new SheddingGovernor());
 
   @ParameterizedTest
   @CsvSource({
@@ -74,4 +89,52 @@ public class GithubRepoClientTest {
     assertEquals(username, details.get().getUsername());
     assertEquals(repo, details.get().getRepository());
   }
+
+  @Test
+  public void testShedRequestsAreThrown() {
+    final GithubRepoClient repoClient = GithubRepoClient.builder()
+        .readOnlyHttpClient(SHEDDING_HTTP_CLIENT)
+        .repo("https://github.com/OctopusSamples/RandomQuotes")
+        .build();
+
+    assertThrows(RateLimitExceededException.class, repoClient::testRepo);
+    assertThrows(RateLimitExceededException.class, () -> repoClient.testFile("pom.xml"));
+    assertThrows(RateLimitExceededException.class, () -> repoClient.getFile("pom.xml"));
+    assertThrows(RateLimitExceededException.class, () -> repoClient.getWildcardFiles("*.sln", 1));
+    assertThrows(RateLimitExceededException.class, () -> repoClient.wildCardFileExist("*.sln"));
+    assertThrows(RateLimitExceededException.class, repoClient::getHeadCommit);
+  }
+
+  @Test
+  public void testShedRequestsAreThrownFromTheFactoryClient() {
+    final RepoClient repoClient = GitHubRepoClientFactory.builder()
+        .readOnlyHttpClient(SHEDDING_HTTP_CLIENT)
+        .build()
+        .buildRepoClient("https://github.com/OctopusSamples/RandomQuotes", "");
+
+    assertThrows(RateLimitExceededException.class, () -> repoClient.testFile("pom.xml"));
+    assertThrows(RateLimitExceededException.class, () -> repoClient.getWildcardFiles("*.sln", 1));
+  }
+
+  /**
+   * A governor that sheds every request, as if the quota was exhausted.
+   */
+  private static class SheddingGovernor implements RateLimitGovernor {
+
+    @Override
+    public Optional<Duration> reserve(final String url, final String authorization,
+        final RequestPriority priority) {
+      return Optional.empty();
+    }
+
+    @Override
+    public void update(final String url, final String authorization, final int statusCode,
+        final Function<String, Optional<String>> headers) {
+    }
+
+    @Override
+    public List<RateLimitQuota> getQuotas() {
+      return List.of();
+    }
+  }
 }
@@ -0,0 +1,199 @@
+package com.octopus.repoclients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.octopus.http.ReadOnlyHttpClient;
+import com.octopus.repoclients.impl.GitHubRepoClientFactory;
+import io.vavr.control.Try;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.Header;
+import org.junit.jupiter.api.Test;
+
+public class SnapshotRepoClientTest {
+
+  private static final String API = "https://api.github.com/repos/owner/repo";
+  private static final String TREE = "{\"sha\":\"abc\",\"truncated\":false,\"tree\":["
+      + "{\"path\":\".github\",\"type\":\"tree\"},"
+      + "{\"path\":\"pom.xml\",\"type\":\"blob\"},"
+      + "{\"path\":\"mvnw\",\"type\":\"blob\"},"
+      + "{\"path\":\"App.sln\",\"type\":\"blob\"},"
+      + "{\"path\":\"src\",\"type\":\"tree\"}]}";
+
+  @Test
+  public void testBuilderDetectionUsesTheSnapshot() {
+    final StubHttpClient httpClient = new StubHttpClient(Map.of(
+        API, "{\"default_branch\":\"main\"}",
+        API + "/git/trees/main?recursive=0", TREE));
+    final RepoClient repoClient = buildRepoClient(httpClient);
+
+    // The probes made by the builders while detecting a project type
+    assertTrue(repoClient.testFile("pom.xml"));
+    assertTrue(repoClient.testFile("mvnw"));
+    assertTrue(repoClient.testFile(".github"));
+    for (final String file : List.of("gradlew", "package.json", "yarn.lock", "package-lock.json",
+        "composer.json", "go.mod", "Gemfile", "requirements.txt", "setup.py")) {
+      assertFalse(repoClient.testFile(file));
+    }
+    assertEquals(List.of("App.sln"), repoClient.getWildcardFiles("**/*.sln", 1).get());
+    assertEquals(List.of("App.sln"), repoClient.getWildcardFiles("*.sln", 1).get());
+    assertEquals(List.of(), repoClient.getWildcardFiles("**/*.csproj", 1).get());
+    assertEquals(List.of(), repoClient.getWildcardFiles("*.go", 1).get());
+    assertEquals(List.of(".github", "pom.xml"), repoClient.getWildcardFiles("*", 2).get());
+    assertTrue(repoClient.wildCardFileExist("*.xml").get());
+    assertFalse(repoClient.wildCardFileExist("*.gemspec").get());
+    assertEquals(List.of("main"), repoClient.getDefaultBranches());
+
+    assertEquals(List.of(API, API + "/git/trees/main?recursive=0"), httpClient.requests);
+  }
+
+  @Test
+  public void testNestedPathsAreTestedDirectly() {
+    final StubHttpClient httpClient = new StubHttpClient(Map.of(
+        API, "{\"default_branch\":\"main\"}",
+        API + "/git/trees/main?recursive=0", TREE));
+    final RepoClient repoClient = buildRepoClient(httpClient);
+
+    assertFalse(repoClient.testFile("src/main/App.java"));
+    assertTrue(httpClient.requests.contains(API + "/contents/src/main/App.java?ref=main"));
+  }
+
+  @Test
+  public void testFailedSnapshotFallsBackToTheRepoClient() {
+    final StubHttpClient httpClient = new StubHttpClient(Map.of(
+        API, "{\"default_branch\":\"main\"}"));
+    final RepoClient repoClient = buildRepoClient(httpClient);
+
+    assertFalse(repoClient.testFile("pom.xml"));
+    assertTrue(repoClient.getWildcardFiles("*.sln", 1).isFailure());
+    assertTrue(repoClient.wildCardFileExist("*.sln").isFailure());
+    assertTrue(httpClient.requests.contains(API + "/contents/pom.xml?ref=main"));
+  }
+
+  @Test
+  public void testDetectionDoesNotDownloadTheArchive() {
+    final StubHttpClient httpClient = new StubHttpClient(Map.of(
+        API, "{\"default_branch\":\"main\"}",
+        API + "/git/trees/main?recursive=0", TREE));
+    final AtomicInteger downloads = new AtomicInteger();
+    final RepoClient repoClient = buildRepoClient(httpClient, downloads);
+
+    // More probes than the archive threshold, all answered by the snapshot
+    for (int i = 0; i < 50; ++i) {
+      assertFalse(repoClient.testFile("file" + i + ".txt"));
+      assertFalse(repoClient.wildCardFileExist("*.ext" + i).get());
+    }
+    assertEquals(List.of(), repoClient.getWildcardFiles("**/*.csproj", 1).get());
+
+    assertEquals(0, downloads.get());
+    assertEquals(List.of(API, API + "/git/trees/main?recursive=0"), httpClient.requests);
+  }
+
+  @Test
+  public void testFailedSnapshotDownloadsTheArchive() {
+    final StubHttpClient httpClient = new StubHttpClient(Map.of(
+        API, "{\"default_branch\":\"main\"}"));
+    final AtomicInteger downloads = new AtomicInteger();
+    final RepoClient repoClient = buildRepoClient(httpClient, downloads);
+
+    for (int i = 0; i < 50; ++i) {
+      assertFalse(repoClient.testFile("file" + i + ".txt"));
+    }
+
+    assertEquals(1, downloads.get());
+  }
+
+  @Test
+  public void testFilesAreReadFromTheRepoClient() {
+    final StubHttpClient httpClient = new StubHttpClient(Map.of(
+        API, "{\"default_branch\":\"main\"}",
+        API + "/contents/pom.xml?ref=main", "{\"content\":\""
+            + Base64.getEncoder().encodeToString("<project/>".getBytes()) + "\"}"));
+    final RepoClient repoClient = buildRepoClient(httpClient);
+
+    assertEquals("<project/>", repoClient.getFile("pom.xml").get());
+    assertEquals("https://github.com/owner/repo", repoClient.getRepo());
+    assertEquals("https://github.com/owner/repo.git", repoClient.getRepoPath());
+    assertEquals("repo", repoClient.getRepoName().get());
+    assertTrue(repoClient.testRepo());
+    assertFalse(repoClient.hasAccessToken());
+  }
+
+  private RepoClient buildRepoClient(final ReadOnlyHttpClient httpClient) {
+    return GitHubRepoClientFactory.builder()
+        .readOnlyHttpClient(httpClient)
+        .build()
+        .buildRepoClient("https://github.com/owner/repo", null);
+  }
+
+  private RepoClient buildRepoClient(final ReadOnlyHttpClient httpClient,
+      final AtomicInteger downloads) {
+    return GitHubRepoClientFactory.builder()
+        .readOnlyHttpClient(httpClient)
+        .archiveSourceFactory(restClient -> () -> {
+          downloads.incrementAndGet();
+          return new ByteArrayInputStream(new byte[0]);
+        })
+        .build()
+        .buildRepoClient("https://github.com/owner/repo", null);
+  }
+
+  /**
+   * Returns canned responses and records the requested URLs.
+   */
+  private static class StubHttpClient implements ReadOnlyHttpClient {
+
+    private final Map<String, String> responses;
+    private final List<String> requests = new ArrayList<>();
+
+    StubHttpClient(final Map<String, String> responses) {
+      this.responses = responses;
+    }
+
+    @Override
+    public Try<String> get(final String url) {
+      requests.add(url);
+      return responses.containsKey(url)
+          ? Try.success(responses.get(url))
+          : Try.failure(new Exception("Response code 404 did not indicate success"));
+    }
+
+    @Override
+    public Try<String> get(final String url, final String username, final String password,
+        final String accessToken) {
+      return get(url);
+    }
+
+    @Override
+    public Try<String> get(final String url, final List<Header> headers) {
+      return get(url);
+    }
+
+    @Override
+    public boolean head(final String url) {
+      return get(url).isSuccess();
+    }
+
+    @Override
+    public boolean head(final String url, final String username, final String password,
+        final String accessToken) {
+      return head(url);
+    }
+
+    @Override
+    public boolean head(final String url, final String username, final String password) {
+      return head(url);
+    }
+
+    @Override
+    public boolean head(final String url, final List<Header> headers) {
+      return head(url);
+    }
+  }
+}